@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.cache.CacheBuilder;
+import net.openhft.chronicle.map.ChronicleMapBuilder;
+import org.cache2k.Cache2kBuilder;
+import wtf.metio.memoization.core.ConcurrentMaps;
+import wtf.metio.memoization.offheap.OffHeapMaps;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The cache backends that memoizers are benchmarked with. These match the backends used by the tests of each facade.
+ */
+public enum Backend {
+
+    CONCURRENT_HASH_MAP {
+        @Override
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return new ConcurrentHashMap<>();
+        }
+    },
+
+    BOUNDED {
+        @Override
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return ConcurrentMaps.bounded(CAPACITY);
+        }
+    },
+
+    CAFFEINE {
+        @Override
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return Caffeine.newBuilder().maximumSize(CAPACITY).<KEY, VALUE>build().asMap();
+        }
+    },
+
+    CACHE2K {
+        @Override
+        @SuppressWarnings("unchecked")
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return (ConcurrentMap<KEY, VALUE>) Cache2kBuilder.of(Object.class, Object.class)
+                    .entryCapacity(CAPACITY)
+                    .build()
+                    .asMap();
+        }
+    },
+
+    CHRONICLE_MAP {
+        @Override
+        @SuppressWarnings("unchecked")
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return (ConcurrentMap<KEY, VALUE>) ChronicleMapBuilder.of(Object.class, Object.class)
+                    .entries(CAPACITY)
+                    .averageKeySize(128)
+                    .averageValueSize(128)
+                    .create();
+        }
+    },
+
+    ECLIPSE {
+        @Override
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return org.eclipse.collections.impl.map.mutable.ConcurrentHashMap.newMap();
+        }
+    },
+
+    GUAVA {
+        @Override
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return CacheBuilder.newBuilder().maximumSize(CAPACITY).<KEY, VALUE>build().asMap();
+        }
+    },
+
+    OFF_HEAP {
+        @Override
+        <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+            return OffHeapMaps.create();
+        }
+    };
+
+    /**
+     * Large enough to hold every key used by the benchmarks, thus bounded backends never evict.
+     */
+    static final int CAPACITY = 16 * Keys.COUNT;
+
+    abstract <KEY, VALUE> ConcurrentMap<KEY, VALUE> create();
+
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import wtf.metio.memoization.jdk.Memoize;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the hit throughput of a memoized {@link Function} against calling
+ * {@link ConcurrentMap#computeIfAbsent(Object, Function)} for each lookup. Run {@link #main(String[])} to measure both
+ * with 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheHitBenchmark {
+
+    private static final int KEYS = 1024;
+    private static final int MASK = KEYS - 1;
+
+    private ConcurrentMap<Integer, Integer> cache;
+    private Function<Integer, Integer> memoized;
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        cache = new ConcurrentHashMap<>();
+        keys = new Integer[KEYS];
+        for (int index = 0; index < KEYS; index++) {
+            keys[index] = index;
+            cache.put(index, index);
+        }
+        memoized = Memoize.function(Function.identity(), cache);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position;
+
+        int next() {
+            return position++ & MASK;
+        }
+    }
+
+    @Benchmark
+    public Integer computeIfAbsent(final Cursor cursor) {
+        return cache.computeIfAbsent(keys[cursor.next()], Function.identity());
+    }
+
+    @Benchmark
+    public Integer memoizedFunction(final Cursor cursor) {
+        return memoized.apply(keys[cursor.next()]);
+    }
+
+    public static void main(final String[] arguments) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            new Runner(new OptionsBuilder()
+                    .include(CacheHitBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+                    .run();
+        }
+    }
+
+}
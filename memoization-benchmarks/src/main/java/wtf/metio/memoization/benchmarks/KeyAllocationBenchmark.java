@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import org.jooq.lambda.function.Function16;
+import org.jooq.lambda.function.Function3;
+import org.jooq.lambda.tuple.Tuple;
+import org.openjdk.jmh.annotations.*;
+import wtf.metio.memoization.core.MemoizationDefaults;
+import wtf.metio.memoization.jool.MemoizeJool;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cache keys that {@link MemoizeJool} can use for functions with many parameters. The varargs based
+ * {@link MemoizationDefaults#hashCodes(Object...)} allocates an array for each call and maps distinct inputs to the
+ * same key, while {@link MemoizationDefaults} composite keys and jOOλ tuples allocate a single key object that
+ * compares all inputs. Run with {@code -prof gc} to report the bytes allocated per call
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyAllocationBenchmark {
+
+    private Function3<Integer, Integer, Integer, Integer> function3HashCodes;
+    private Function3<Integer, Integer, Integer, Integer> function3CompositeKey;
+    private Function3<Integer, Integer, Integer, Integer> function3Tuple;
+    private Function16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function16HashCodes;
+    private Function16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function16CompositeKey;
+    private Function16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function16Tuple;
+
+    @Setup
+    public void setup() {
+        final Function3<Integer, Integer, Integer, Integer> function3 = (v1, v2, v3) -> v1;
+        final Function16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function16 =
+                (v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16) -> v1;
+        function3HashCodes = MemoizeJool.function3(function3,
+                (v1, v2, v3) -> MemoizationDefaults.hashCodes(v1, v2, v3), new ConcurrentHashMap<>());
+        function3CompositeKey = MemoizeJool.function3(function3, new ConcurrentHashMap<>());
+        function3Tuple = MemoizeJool.function3(function3, Tuple::tuple, new ConcurrentHashMap<>());
+        function16HashCodes = MemoizeJool.function16(function16,
+                (v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16) ->
+                        MemoizationDefaults.hashCodes(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16),
+                new ConcurrentHashMap<>());
+        function16CompositeKey = MemoizeJool.function16(function16, new ConcurrentHashMap<>());
+        function16Tuple = MemoizeJool.function16(function16, Tuple::tuple, new ConcurrentHashMap<>());
+        for (final Integer key : Keys.VALUES) {
+            function3HashCodes.apply(key, key, key);
+            function3CompositeKey.apply(key, key, key);
+            function3Tuple.apply(key, key, key);
+            function16HashCodes.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+            function16CompositeKey.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+            function16Tuple.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer function3HashCodesHit(final Keys keys) {
+        final Integer key = keys.next();
+        return function3HashCodes.apply(key, key, key);
+    }
+
+    @Benchmark
+    public Integer function3CompositeKeyHit(final Keys keys) {
+        final Integer key = keys.next();
+        return function3CompositeKey.apply(key, key, key);
+    }
+
+    @Benchmark
+    public Integer function3TupleHit(final Keys keys) {
+        final Integer key = keys.next();
+        return function3Tuple.apply(key, key, key);
+    }
+
+    @Benchmark
+    public Integer function16HashCodesHit(final Keys keys) {
+        final Integer key = keys.next();
+        return function16HashCodes.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+    }
+
+    @Benchmark
+    public Integer function16CompositeKeyHit(final Keys keys) {
+        final Integer key = keys.next();
+        return function16CompositeKey.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+    }
+
+    @Benchmark
+    public Integer function16TupleHit(final Keys keys) {
+        final Integer key = keys.next();
+        return function16Tuple.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+    }
+
+}
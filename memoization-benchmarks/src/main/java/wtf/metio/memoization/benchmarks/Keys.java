@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread cursor over a fixed set of pre-allocated keys, thus benchmarks neither box nor allocate keys themselves.
+ */
+@State(Scope.Thread)
+public class Keys {
+
+    static final int COUNT = 1024;
+    static final Integer[] VALUES = new Integer[COUNT];
+
+    static {
+        for (int index = 0; index < COUNT; index++) {
+            VALUES[index] = index;
+        }
+    }
+
+    private int position;
+
+    Integer next() {
+        return VALUES[position++ & (COUNT - 1)];
+    }
+
+}
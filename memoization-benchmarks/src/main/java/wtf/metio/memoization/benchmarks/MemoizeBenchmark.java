@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import wtf.metio.memoization.core.CompositeKey;
+import wtf.metio.memoization.core.MemoizationDefaults;
+import wtf.metio.memoization.jdk.Memoize;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Measures hits and misses of memoizers created by {@link Memoize} for each {@link Backend}. Misses remove the key
+ * right before each lookup, thus they include the cost of {@link ConcurrentMap#remove(Object)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizeBenchmark {
+
+    @Param
+    public Backend backend;
+
+    private ConcurrentMap<Integer, Integer> functionCache;
+    private Function<Integer, Integer> function;
+    private ConcurrentMap<CompositeKey, Integer> biFunctionCache;
+    private BiFunction<Integer, Integer, Integer> biFunction;
+    private ConcurrentMap<Integer, Integer> intUnaryOperatorCache;
+    private IntUnaryOperator intUnaryOperator;
+    private Supplier<Integer> supplier;
+
+    @Setup
+    public void setup() {
+        functionCache = backend.create();
+        function = Memoize.function(Function.identity(), functionCache);
+        biFunctionCache = backend.create();
+        biFunction = Memoize.biFunction(Integer::sum, biFunctionCache);
+        intUnaryOperatorCache = backend.create();
+        intUnaryOperator = Memoize.intUnaryOperator(operand -> operand, intUnaryOperatorCache);
+        supplier = Memoize.supplier(() -> 1, backend.create());
+        for (final Integer key : Keys.VALUES) {
+            function.apply(key);
+            biFunction.apply(key, key);
+            intUnaryOperator.applyAsInt(key);
+        }
+        supplier.get();
+    }
+
+    @Benchmark
+    public Integer functionHit(final Keys keys) {
+        return function.apply(keys.next());
+    }
+
+    @Benchmark
+    public Integer functionMiss(final Keys keys) {
+        final Integer key = keys.next();
+        functionCache.remove(key);
+        return function.apply(key);
+    }
+
+    @Benchmark
+    public Integer biFunctionHit(final Keys keys) {
+        final Integer key = keys.next();
+        return biFunction.apply(key, key);
+    }
+
+    @Benchmark
+    public Integer biFunctionMiss(final Keys keys) {
+        final Integer key = keys.next();
+        biFunctionCache.remove(MemoizationDefaults.compositeKey(key, key));
+        return biFunction.apply(key, key);
+    }
+
+    @Benchmark
+    public int intUnaryOperatorHit(final Keys keys) {
+        return intUnaryOperator.applyAsInt(keys.next());
+    }
+
+    @Benchmark
+    public int intUnaryOperatorMiss(final Keys keys) {
+        final Integer key = keys.next();
+        intUnaryOperatorCache.remove(key);
+        return intUnaryOperator.applyAsInt(key);
+    }
+
+    @Benchmark
+    public Integer supplierHit() {
+        return supplier.get();
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.jooq.lambda.function.Function1;
+import org.jooq.lambda.function.Function2;
+import wtf.metio.memoization.core.CompositeKey;
+import wtf.metio.memoization.core.MemoizationDefaults;
+import wtf.metio.memoization.jool.MemoizeJool;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hits and misses of memoizers created by {@link MemoizeJool} for each {@link Backend}. Misses remove the key
+ * right before each lookup, thus they include the cost of {@link ConcurrentMap#remove(Object)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizeJoolBenchmark {
+
+    @Param
+    public Backend backend;
+
+    private ConcurrentMap<Integer, Integer> function1Cache;
+    private Function1<Integer, Integer> function1;
+    private ConcurrentMap<CompositeKey, Integer> function2Cache;
+    private Function2<Integer, Integer, Integer> function2;
+
+    @Setup
+    public void setup() {
+        function1Cache = backend.create();
+        function1 = MemoizeJool.function1(input -> input, function1Cache);
+        function2Cache = backend.create();
+        function2 = MemoizeJool.function2(Integer::sum, function2Cache);
+        for (final Integer key : Keys.VALUES) {
+            function1.apply(key);
+            function2.apply(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer function1Hit(final Keys keys) {
+        return function1.apply(keys.next());
+    }
+
+    @Benchmark
+    public Integer function1Miss(final Keys keys) {
+        final Integer key = keys.next();
+        function1Cache.remove(key);
+        return function1.apply(key);
+    }
+
+    @Benchmark
+    public Integer function2Hit(final Keys keys) {
+        final Integer key = keys.next();
+        return function2.apply(key, key);
+    }
+
+    @Benchmark
+    public Integer function2Miss(final Keys keys) {
+        final Integer key = keys.next();
+        function2Cache.remove(MemoizationDefaults.compositeKey(key, key));
+        return function2.apply(key, key);
+    }
+
+}
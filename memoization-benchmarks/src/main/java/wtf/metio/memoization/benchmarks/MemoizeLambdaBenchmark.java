@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import org.openjdk.jmh.annotations.*;
+import wtf.metio.memoization.core.CompositeKey;
+import wtf.metio.memoization.core.MemoizationDefaults;
+import wtf.metio.memoization.lambda.MemoizeLambda;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hits and misses of memoizers created by {@link MemoizeLambda} for each {@link Backend}. Misses remove the key
+ * right before each lookup, thus they include the cost of {@link ConcurrentMap#remove(Object)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizeLambdaBenchmark {
+
+    @Param
+    public Backend backend;
+
+    private ConcurrentMap<Integer, Integer> fn1Cache;
+    private Fn1<Integer, Integer> fn1;
+    private ConcurrentMap<CompositeKey, Integer> fn2Cache;
+    private Fn2<Integer, Integer, Integer> fn2;
+
+    @Setup
+    public void setup() {
+        fn1Cache = backend.create();
+        fn1 = MemoizeLambda.fn1(input -> input, fn1Cache);
+        fn2Cache = backend.create();
+        fn2 = MemoizeLambda.fn2(Integer::sum, fn2Cache);
+        for (final Integer key : Keys.VALUES) {
+            fn1.apply(key);
+            fn2.apply(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer fn1Hit(final Keys keys) {
+        return fn1.apply(keys.next());
+    }
+
+    @Benchmark
+    public Integer fn1Miss(final Keys keys) {
+        final Integer key = keys.next();
+        fn1Cache.remove(key);
+        return fn1.apply(key);
+    }
+
+    @Benchmark
+    public Integer fn2Hit(final Keys keys) {
+        final Integer key = keys.next();
+        return fn2.apply(key, key);
+    }
+
+    @Benchmark
+    public Integer fn2Miss(final Keys keys) {
+        final Integer key = keys.next();
+        fn2Cache.remove(MemoizationDefaults.compositeKey(key, key));
+        return fn2.apply(key, key);
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import io.reactivex.rxjava3.functions.BiFunction;
+import io.reactivex.rxjava3.functions.Function;
+import org.openjdk.jmh.annotations.*;
+import wtf.metio.memoization.core.CompositeKey;
+import wtf.metio.memoization.core.MemoizationDefaults;
+import wtf.metio.memoization.rxjava.MemoizeRx;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hits and misses of memoizers created by {@link MemoizeRx} for each {@link Backend}. Misses remove the key
+ * right before each lookup, thus they include the cost of {@link ConcurrentMap#remove(Object)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizeRxBenchmark {
+
+    @Param
+    public Backend backend;
+
+    private ConcurrentMap<Integer, Integer> functionCache;
+    private Function<Integer, Integer> function;
+    private ConcurrentMap<CompositeKey, Integer> biFunctionCache;
+    private BiFunction<Integer, Integer, Integer> biFunction;
+
+    @Setup
+    public void setup() throws Throwable {
+        functionCache = backend.create();
+        function = MemoizeRx.function(input -> input, functionCache);
+        biFunctionCache = backend.create();
+        biFunction = MemoizeRx.biFunction(Integer::sum, biFunctionCache);
+        for (final Integer key : Keys.VALUES) {
+            function.apply(key);
+            biFunction.apply(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer functionHit(final Keys keys) throws Throwable {
+        return function.apply(keys.next());
+    }
+
+    @Benchmark
+    public Integer functionMiss(final Keys keys) throws Throwable {
+        final Integer key = keys.next();
+        functionCache.remove(key);
+        return function.apply(key);
+    }
+
+    @Benchmark
+    public Integer biFunctionHit(final Keys keys) throws Throwable {
+        final Integer key = keys.next();
+        return biFunction.apply(key, key);
+    }
+
+    @Benchmark
+    public Integer biFunctionMiss(final Keys keys) throws Throwable {
+        final Integer key = keys.next();
+        biFunctionCache.remove(MemoizationDefaults.compositeKey(key, key));
+        return biFunction.apply(key, key);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.benchmarks;
+
+import net.openhft.chronicle.map.ChronicleMapBuilder;
+import org.openjdk.jmh.annotations.*;
+import wtf.metio.memoization.jdk.Memoize;
+import wtf.metio.memoization.offheap.OffHeapMaps;
+import wtf.metio.memoization.offheap.Serializers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the file-backed maps that processes on the same host can share. Each map is opened twice on the same file:
+ * the first handle memoizes a {@link Function} and fills the map, the second one reads what the first one wrote just
+ * like another process would. Only hits are measured, since both maps hold a fixed number of entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedMapBenchmark {
+
+    public enum SharedBackend {
+
+        SHARED_FILE {
+            @Override
+            ConcurrentMap<Integer, Integer> open(final Path file) throws IOException {
+                return OffHeapMaps.shared(file, Backend.CAPACITY, 64, Serializers.integers(), Serializers.integers());
+            }
+        },
+
+        CHRONICLE_MAP {
+            @Override
+            ConcurrentMap<Integer, Integer> open(final Path file) throws IOException {
+                return ChronicleMapBuilder.of(Integer.class, Integer.class)
+                        .entries(Backend.CAPACITY)
+                        .createPersistedTo(file.toFile());
+            }
+        };
+
+        abstract ConcurrentMap<Integer, Integer> open(Path file) throws IOException;
+
+    }
+
+    @Param
+    public SharedBackend backend;
+
+    private Path file;
+    private Function<Integer, Integer> function;
+    private ConcurrentMap<Integer, Integer> otherProcess;
+
+    @Setup
+    public void setup() throws IOException {
+        final Path directory = Files.createTempDirectory("memoization");
+        file = directory.resolve("shared.map");
+        function = Memoize.function(Function.identity(), backend.open(file));
+        otherProcess = backend.open(file);
+        for (final Integer key : Keys.VALUES) {
+            function.apply(key);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.getParent());
+    }
+
+    @Benchmark
+    public Integer functionHit(final Keys keys) {
+        return function.apply(keys.next());
+    }
+
+    @Benchmark
+    public Integer otherProcessHit(final Keys keys) {
+        return otherProcess.get(keys.next());
+    }
+
+}
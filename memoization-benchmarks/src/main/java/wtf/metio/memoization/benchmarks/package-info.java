@@ -0,0 +1,10 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+/**
+ * JMH benchmarks for the hot paths of memoization.java.
+ *
+ * @see <a href="https://openjdk.org/projects/code-tools/jmh/">JMH</a>
+ */
+package wtf.metio.memoization.benchmarks;
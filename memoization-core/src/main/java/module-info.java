@@ -9,6 +9,7 @@
 module wtf.metio.memoization.core {
 
     requires com.github.spotbugs.annotations;
+    requires static jdk.jfr;
     requires org.jspecify;
 
     exports wtf.metio.memoization.core;
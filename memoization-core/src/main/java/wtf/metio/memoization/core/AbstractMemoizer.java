@@ -5,6 +5,7 @@
 package wtf.metio.memoization.core;
 
 import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+import org.jspecify.annotations.Nullable;
 
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
@@ -15,11 +16,98 @@ public abstract class AbstractMemoizer<KEY, VALUE> {
 
     protected AbstractMemoizer(final ConcurrentMap<KEY, VALUE> cache) {
         this.cache = cache;
+        FlightRecorderEvents.register(this, cache);
     }
 
+    ConcurrentMap<KEY, VALUE> cache() {
+        return cache;
+    }
+
+    /**
+     * Looks up the value for the given key and only falls back to {@link ConcurrentMap#computeIfAbsent} in case the
+     * key is not yet present. Reads are lock-free for most {@link ConcurrentMap} implementations, thus a cache hit
+     * never has to pay for the locking and bookkeeping done by {@link ConcurrentMap#computeIfAbsent}. Misses emit a
+     * flight recorder event in case their computation takes longer than the configured threshold.
+     *
+     * @param key             The key to look up.
+     * @param mappingFunction The function to compute the value in case it is absent.
+     * @return The current (existing or computed) value associated with the given key.
+     */
     @CheckReturnValue
     protected final VALUE computeIfAbsent(final KEY key, final Function<KEY, VALUE> mappingFunction) {
-        return cache.computeIfAbsent(key, mappingFunction);
+        final VALUE value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        return FlightRecorderEvents.load(this, cache, key, mappingFunction);
+    }
+
+    /**
+     * Computes the value for the given key without going through {@link ConcurrentMap#computeIfAbsent}, e.g. because
+     * the computation updates the cache itself. Records the miss in the statistics of the cache and emits the same
+     * flight recorder event as {@link #computeIfAbsent(Object, Function)}, while storing the computed value is left to
+     * the caller.
+     *
+     * @param key         The key to compute the value for.
+     * @param computation The function to compute the value.
+     * @return The computed value.
+     */
+    protected final VALUE load(final KEY key, final Function<KEY, VALUE> computation) {
+        final StatisticsConcurrentMap<?, ?> statistics = StatisticsConcurrentMap.of(cache);
+        if (statistics == null) {
+            return FlightRecorderEvents.compute(this, cache, key, computation);
+        }
+        final long start = System.nanoTime();
+        try {
+            final VALUE value = FlightRecorderEvents.compute(this, cache, key, computation);
+            statistics.recorder().recordMiss();
+            if (value == null) {
+                statistics.recorder().recordLoadFailure(System.nanoTime() - start);
+            } else {
+                statistics.recorder().recordLoadSuccess(System.nanoTime() - start);
+            }
+            return value;
+        } catch (final RuntimeException | Error exception) {
+            statistics.recorder().recordMiss();
+            statistics.recorder().recordLoadFailure(System.nanoTime() - start);
+            throw exception;
+        }
+    }
+
+    /**
+     * Looks up the value for the given key without computing it in case it is absent.
+     *
+     * @param key The key to look up.
+     * @return The value associated with the given key or {@code null} in case there is none.
+     */
+    @CheckReturnValue
+    protected final @Nullable VALUE lookup(final KEY key) {
+        return cache.get(key);
+    }
+
+    /**
+     * Stores the given value unless the given key is already associated with a value. Memoizers use this for values
+     * that were computed outside the cache, e.g. by a single call that loaded many keys at once.
+     *
+     * @param key   The key to store.
+     * @param value The value to store.
+     * @return The current (existing or given) value associated with the given key.
+     */
+    protected final VALUE store(final KEY key, final VALUE value) {
+        final VALUE existing = cache.putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * Removes the given key from the cache in case it is still associated with the given value. Memoizers use this to
+     * forget values that turned out to be unusable after they were cached, e.g. futures that completed exceptionally.
+     *
+     * @param key   The key to remove.
+     * @param value The value that the key must still be associated with.
+     * @return Whether the key was removed.
+     */
+    protected final boolean invalidate(final KEY key, final VALUE value) {
+        return cache.remove(key, value);
     }
 
 }
@@ -0,0 +1,170 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Decides whether a memoizer should use its cache at all. Memoizing a cheap function may cost more than calling it,
+ * since creating the cache key and looking it up take longer than the computation itself. Memoizers therefore sample
+ * about one in {@value #SAMPLE_RATE} requests and measure how long the lookup took, whether it was a hit and how long
+ * the computation took in case of a miss. Once the expected cost of a memoized request exceeds the cost of the
+ * computation by a quarter, memoizers call their function directly until the estimates show that memoizing saves
+ * time again.
+ * </p>
+ * <p>
+ * Sampled requests always use the cache, thus the estimated hit ratio stays meaningful while memoizers bypass their
+ * cache. Each switch between both modes is reported to caches created by
+ * {@link ConcurrentMaps#recordStatistics(Map)}, see {@link CacheStatistics#bypassEnabledCount()} and
+ * {@link CacheStatistics#bypassDisabledCount()}.
+ * </p>
+ */
+public final class AdaptiveBypass {
+
+    static final int SAMPLE_RATE = 64;
+    static final int WARMUP = 32;
+
+    private static final double WEIGHT = 1.0 / 16;
+    private static final double ENABLE_THRESHOLD = 1.25;
+    private static final double DISABLE_THRESHOLD = 0.8;
+
+    private final @Nullable StatisticsRecorder recorder;
+    private final LongSupplier ticker;
+    private final int sampleMask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean bypassing;
+
+    // guarded by the lock
+    private long samples;
+    private long computations;
+    private double hitRate;
+    private double lookupNanos;
+    private double computeNanos;
+
+    /**
+     * @param cache The cache used by the memoizer, switches are reported in case it records statistics.
+     */
+    public AdaptiveBypass(final Map<?, ?> cache) {
+        this(cache, System::nanoTime, SAMPLE_RATE - 1);
+    }
+
+    AdaptiveBypass(final Map<?, ?> cache, final LongSupplier ticker, final int sampleMask) {
+        requireNonNull(cache, "Provide the cache of the memoizer.");
+        final StatisticsConcurrentMap<?, ?> statistics = StatisticsConcurrentMap.of(cache);
+        this.recorder = statistics == null ? null : statistics.recorder();
+        this.ticker = requireNonNull(ticker);
+        this.sampleMask = sampleMask;
+    }
+
+    /**
+     * @return Whether the memoizer should currently call its function directly instead of using its cache.
+     */
+    @CheckReturnValue
+    public boolean bypassing() {
+        return bypassing;
+    }
+
+    /**
+     * Decides whether the current request is sampled. Sampled requests must use the cache, compute absent values with
+     * {@link Sample#compute(Supplier)} and call {@link Sample#finish()} once they are done.
+     *
+     * @return The sample to record the current request with or {@code null} in case it is not sampled.
+     */
+    @CheckReturnValue
+    public @Nullable Sample sample() {
+        if ((ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return null;
+        }
+        return new Sample(ticker.getAsLong());
+    }
+
+    private void record(final long requestNanos, final long computationNanos) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            final boolean hit = computationNanos < 0;
+            samples++;
+            hitRate = average(hitRate, hit ? 1.0 : 0.0, samples);
+            lookupNanos = average(lookupNanos, hit ? requestNanos : requestNanos - computationNanos, samples);
+            if (!hit) {
+                computations++;
+                computeNanos = average(computeNanos, computationNanos, computations);
+            }
+            // without a single computation there is nothing to compare the lookups with
+            if (samples >= WARMUP && computations > 0) {
+                decide();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static double average(final double current, final double sample, final long count) {
+        return count == 1 ? sample : current + WEIGHT * (sample - current);
+    }
+
+    private void decide() {
+        final double memoizedNanos = lookupNanos + (1.0 - hitRate) * computeNanos;
+        if (!bypassing && memoizedNanos > computeNanos * ENABLE_THRESHOLD) {
+            switchTo(true);
+        } else if (bypassing && memoizedNanos < computeNanos * DISABLE_THRESHOLD) {
+            switchTo(false);
+        }
+    }
+
+    private void switchTo(final boolean bypass) {
+        bypassing = bypass;
+        if (recorder != null) {
+            recorder.recordBypass(bypass);
+        }
+    }
+
+    /**
+     * Measures a single sampled request.
+     */
+    public final class Sample {
+
+        private final long start;
+        private long computationNanos = -1L;
+
+        private Sample(final long start) {
+            this.start = start;
+        }
+
+        /**
+         * Computes an absent value and measures how long that took.
+         *
+         * @param computation The computation of the absent value.
+         * @param <VALUE>     The type of the value.
+         * @return The computed value.
+         */
+        public <VALUE> VALUE compute(final Supplier<VALUE> computation) {
+            final long computationStart = ticker.getAsLong();
+            final VALUE value = computation.get();
+            computationNanos = Math.max(0L, ticker.getAsLong() - computationStart);
+            return value;
+        }
+
+        /**
+         * Records this sample once the request is done.
+         */
+        public void finish() {
+            record(Math.max(0L, ticker.getAsLong() - start), computationNanos);
+        }
+
+    }
+
+}
@@ -0,0 +1,453 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} that holds entries up to a maximum weight and evicts entries according to the W-TinyLFU policy.
+ * New entries enter a small LRU window. Entries leaving the window compete with the least recently used entry of the
+ * main space, and only the one that was used more frequently according to a {@link FrequencySketch} stays. The main
+ * space is a segmented LRU with a probation and a protected segment.
+ * </p>
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}, thus reads and writes are as concurrent as in a plain
+ * {@link ConcurrentHashMap}. The eviction policy is guarded by a single lock. Writes always update the policy, while
+ * reads only do so in case the lock is currently available. Losing some reads under contention does not change the
+ * policy noticeably, but keeps the lock off the read path.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class BoundedConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE>
+        implements ConcurrentMap<KEY, VALUE>, EvictionListeners {
+
+    private static final int UNLINKED = 0;
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+
+    private final ConcurrentHashMap<KEY, Node<KEY, VALUE>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final List<Runnable> evictionListeners = new CopyOnWriteArrayList<>();
+    private final AccessOrder<KEY, VALUE> window = new AccessOrder<>();
+    private final AccessOrder<KEY, VALUE> probation = new AccessOrder<>();
+    private final AccessOrder<KEY, VALUE> protectedSegment = new AccessOrder<>();
+    private final FrequencySketch sketch;
+    private final ToLongBiFunction<? super KEY, ? super VALUE> weigher;
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private long totalWeight;
+    private long windowWeight;
+    private long protectedWeight;
+
+    BoundedConcurrentMap(final long maximumWeight, final ToLongBiFunction<? super KEY, ? super VALUE> weigher) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Cannot bound a cache with a negative maximum - use at least 0.");
+        }
+        this.weigher = requireNonNull(weigher, "Provide a weigher or use a maximum size instead.");
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = maximumWeight / 100;
+        this.protectedMaximum = (maximumWeight - windowMaximum) * 4 / 5;
+        this.sketch = new FrequencySketch(maximumWeight);
+    }
+
+    @Override
+    public void addEvictionListener(final Runnable listener) {
+        evictionListeners.add(requireNonNull(listener));
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public @Nullable VALUE get(final Object key) {
+        final Node<KEY, VALUE> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        final Node<KEY, VALUE> node = newNode(key, value);
+        final Node<KEY, VALUE> previous = data.put(key, node);
+        afterWrite(previous, node);
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        final Node<KEY, VALUE> node = newNode(key, value);
+        final Node<KEY, VALUE> existing = data.putIfAbsent(key, node);
+        if (existing == null) {
+            afterWrite(null, node);
+            return null;
+        }
+        afterRead(existing);
+        return existing.value;
+    }
+
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final Node<KEY, VALUE> existing = data.get(key);
+        if (existing != null) {
+            afterRead(existing);
+            return existing.value;
+        }
+        final Node<KEY, VALUE> node = data.computeIfAbsent(key, newKey -> {
+            final VALUE value = mappingFunction.apply(newKey);
+            return value == null ? null : newNode(newKey, value);
+        });
+        if (node == null) {
+            return null;
+        }
+        // links the new node, or records an access in case another thread won the race
+        afterWrite(null, node);
+        return node.value;
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        final Node<KEY, VALUE> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        afterRemoval(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        Node<KEY, VALUE> node;
+        while ((node = data.get(key)) != null && node.value.equals(value)) {
+            if (data.remove(key, node)) {
+                afterRemoval(node);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        Node<KEY, VALUE> node;
+        while ((node = data.get(key)) != null && node.value.equals(oldValue)) {
+            final Node<KEY, VALUE> replacement = newNode(key, newValue);
+            if (data.replace(key, node, replacement)) {
+                afterWrite(node, replacement);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        Node<KEY, VALUE> node;
+        while ((node = data.get(key)) != null) {
+            final Node<KEY, VALUE> replacement = newNode(key, value);
+            if (data.replace(key, node, replacement)) {
+                afterWrite(node, replacement);
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        for (final KEY key : data.keySet()) {
+            remove(key);
+        }
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return new EntrySet();
+    }
+
+    private Node<KEY, VALUE> newNode(final KEY key, final VALUE value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        final long weight = weigher.applyAsLong(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Cannot store an entry with a negative weight - fix your weigher.");
+        }
+        return new Node<>(key, value, weight);
+    }
+
+    private void afterRead(final Node<KEY, VALUE> node) {
+        if (evictionLock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(final @Nullable Node<KEY, VALUE> previous, final Node<KEY, VALUE> node) {
+        evictionLock.lock();
+        try {
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (node.queue == UNLINKED && !node.retired) {
+                sketch.ensureCapacity(data.size());
+                sketch.increment(node.key);
+                window.addLast(node);
+                node.queue = WINDOW;
+                windowWeight += node.weight;
+                totalWeight += node.weight;
+                evict();
+            } else {
+                onAccess(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterRemoval(final Node<KEY, VALUE> node) {
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void onAccess(final Node<KEY, VALUE> node) {
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                protectedSegment.addLast(node);
+                node.queue = PROTECTED;
+                protectedWeight += node.weight;
+                while (protectedWeight > protectedMaximum && protectedSegment.first() != null) {
+                    final Node<KEY, VALUE> demoted = protectedSegment.removeFirst();
+                    protectedWeight -= demoted.weight;
+                    probation.addLast(demoted);
+                    demoted.queue = PROBATION;
+                }
+            }
+            case PROTECTED -> protectedSegment.moveToLast(node);
+            default -> {
+                // node was already evicted or has not been linked yet
+            }
+        }
+    }
+
+    private void evict() {
+        while (windowWeight > windowMaximum && window.first() != null) {
+            final Node<KEY, VALUE> candidate = window.removeFirst();
+            windowWeight -= candidate.weight;
+            probation.addLast(candidate);
+            candidate.queue = PROBATION;
+        }
+        while (totalWeight > maximumWeight) {
+            final Node<KEY, VALUE> victim = probation.first();
+            final Node<KEY, VALUE> candidate = probation.last();
+            if (victim == null || candidate == null) {
+                final Node<KEY, VALUE> fallback = protectedSegment.first() != null
+                        ? protectedSegment.first() : window.first();
+                if (fallback == null) {
+                    return;
+                }
+                evictEntry(fallback);
+            } else if (victim == candidate || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                evictEntry(candidate);
+            } else {
+                evictEntry(victim);
+            }
+        }
+    }
+
+    private void evictEntry(final Node<KEY, VALUE> node) {
+        if (data.remove(node.key, node)) {
+            evictionListeners.forEach(Runnable::run);
+        }
+        unlink(node);
+    }
+
+    private void unlink(final Node<KEY, VALUE> node) {
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> {
+                protectedSegment.remove(node);
+                protectedWeight -= node.weight;
+            }
+            default -> {
+                // node was never linked, therefore it must not be linked later on
+            }
+        }
+        if (node.queue != UNLINKED) {
+            totalWeight -= node.weight;
+        }
+        node.queue = UNLINKED;
+        node.retired = true;
+    }
+
+    private static final class Node<KEY, VALUE> {
+
+        private final KEY key;
+        private final VALUE value;
+        private final long weight;
+
+        // guarded by the eviction lock
+        private int queue = UNLINKED;
+        private boolean retired;
+        private @Nullable Node<KEY, VALUE> previous;
+        private @Nullable Node<KEY, VALUE> next;
+
+        private Node(final KEY key, final VALUE value, final long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+    private static final class AccessOrder<KEY, VALUE> {
+
+        private @Nullable Node<KEY, VALUE> head;
+        private @Nullable Node<KEY, VALUE> tail;
+
+        private @Nullable Node<KEY, VALUE> first() {
+            return head;
+        }
+
+        private @Nullable Node<KEY, VALUE> last() {
+            return tail;
+        }
+
+        private void addLast(final Node<KEY, VALUE> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        private Node<KEY, VALUE> removeFirst() {
+            final Node<KEY, VALUE> node = requireNonNull(head);
+            remove(node);
+            return node;
+        }
+
+        private void remove(final Node<KEY, VALUE> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+
+        private void moveToLast(final Node<KEY, VALUE> node) {
+            if (tail != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<KEY, VALUE>> {
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public Iterator<Entry<KEY, VALUE>> iterator() {
+            final Iterator<Node<KEY, VALUE>> nodes = data.values().iterator();
+            return new Iterator<>() {
+
+                private @Nullable Node<KEY, VALUE> current;
+
+                @Override
+                public boolean hasNext() {
+                    return nodes.hasNext();
+                }
+
+                @Override
+                public Entry<KEY, VALUE> next() {
+                    final Node<KEY, VALUE> node = nodes.next();
+                    current = node;
+                    return new SimpleImmutableEntry<>(node.key, node.value);
+                }
+
+                @Override
+                public void remove() {
+                    final Node<KEY, VALUE> node = current;
+                    if (node == null) {
+                        throw new IllegalStateException();
+                    }
+                    current = null;
+                    if (data.remove(node.key, node)) {
+                        afterRemoval(node);
+                    }
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Immutable snapshot of the statistics of a cache created by {@link ConcurrentMaps#recordStatistics(Map)}. Each
+ * request of a memoizer is counted once - either as a hit in case its value was cached already or as a miss in case
+ * its value had to be loaded. Evictions are only counted for the caches created by {@link ConcurrentMaps}, other
+ * cache implementations remove entries without telling anyone. Memoizers that decide on their own whether to use their
+ * cache at all additionally report each switch between both modes.
+ * </p>
+ * <p>
+ * Load times are additionally kept in a histogram whose bucket {@code i} counts the loads that took at least
+ * {@code 2^(i-1)} and less than {@code 2^i} nanoseconds, thus {@link #loadTimePercentile(double)} is exact up to a
+ * factor of two.
+ * </p>
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+    private final long bypassEnabledCount;
+    private final long bypassDisabledCount;
+    private final long[] loadTimeHistogram;
+
+    CacheStatistics(
+            final long hitCount,
+            final long missCount,
+            final long loadSuccessCount,
+            final long loadFailureCount,
+            final long totalLoadTime,
+            final long evictionCount,
+            final long bypassEnabledCount,
+            final long bypassDisabledCount,
+            final long[] loadTimeHistogram) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.bypassEnabledCount = bypassEnabledCount;
+        this.bypassDisabledCount = bypassDisabledCount;
+        this.loadTimeHistogram = loadTimeHistogram;
+    }
+
+    /**
+     * Takes a snapshot of the statistics of a memoizer or cache. Memoizers only record statistics in case they use a
+     * cache created by {@link ConcurrentMaps#recordStatistics(Map)}, which may wrap or be
+     * wrapped by {@link ConcurrentMaps#singleFlight(Map)}.
+     *
+     * @param memoizerOrCache A memoized function as returned by one of the facades, or its cache.
+     * @return The current statistics or nothing in case the given object does not record any.
+     */
+    @CheckReturnValue
+    public static Optional<CacheStatistics> of(final Object memoizerOrCache) {
+        Object cache = memoizerOrCache;
+        if (memoizerOrCache instanceof AbstractMemoizer<?, ?> memoizer) {
+            cache = memoizer.cache();
+        }
+        return Optional.ofNullable(StatisticsConcurrentMap.of(cache)).map(StatisticsConcurrentMap::snapshot);
+    }
+
+    /**
+     * @return The number of requests that were answered by the cache.
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return The number of requests that had to load their value.
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * @return The number of requests.
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return The ratio of hits to requests, or {@code 1.0} in case there were no requests yet.
+     */
+    public double hitRate() {
+        final long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return The ratio of misses to requests, or {@code 0.0} in case there were no requests yet.
+     */
+    public double missRate() {
+        final long requests = requestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+    /**
+     * @return The number of loads that produced a (non-null) value.
+     */
+    public long loadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * @return The number of loads that threw an exception or produced {@code null}.
+     */
+    public long loadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return The time spent loading values in total.
+     */
+    public Duration totalLoadTime() {
+        return Duration.ofNanos(totalLoadTime);
+    }
+
+    /**
+     * @return The average time spent loading a single value.
+     */
+    public Duration averageLoadPenalty() {
+        final long loads = loadSuccessCount + loadFailureCount;
+        return loads == 0 ? Duration.ZERO : Duration.ofNanos(totalLoadTime / loads);
+    }
+
+    /**
+     * @return The number of entries that were evicted or that expired.
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return The number of times an adaptive memoizer switched to calling its function directly, because memoizing
+     * cost more time than it saved.
+     * @see AdaptiveBypass
+     */
+    public long bypassEnabledCount() {
+        return bypassEnabledCount;
+    }
+
+    /**
+     * @return The number of times an adaptive memoizer switched back to using its cache, because memoizing saved time
+     * again.
+     * @see AdaptiveBypass
+     */
+    public long bypassDisabledCount() {
+        return bypassDisabledCount;
+    }
+
+    /**
+     * @return The number of loads per histogram bucket, see the class documentation for the bucket boundaries.
+     */
+    public long[] loadTimeHistogram() {
+        return loadTimeHistogram.clone();
+    }
+
+    /**
+     * @param percentile The percentile to look up, between {@code 0.0} and {@code 100.0}.
+     * @return The upper bound of the load time that the given percentage of loads did not exceed.
+     */
+    public Duration loadTimePercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Cannot look up a percentile outside of [0, 100] - use for example 99.0.");
+        }
+        final long loads = Arrays.stream(loadTimeHistogram).sum();
+        if (loads == 0) {
+            return Duration.ZERO;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(loads * percentile / 100.0));
+        long seen = 0;
+        for (int index = 0; index < loadTimeHistogram.length; index++) {
+            seen += loadTimeHistogram[index];
+            if (seen >= rank) {
+                return Duration.ofNanos((1L << index) - 1);
+            }
+        }
+        return Duration.ofNanos(Long.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{"
+                + "hitCount=" + hitCount
+                + ", missCount=" + missCount
+                + ", loadSuccessCount=" + loadSuccessCount
+                + ", loadFailureCount=" + loadFailureCount
+                + ", totalLoadTime=" + totalLoadTime
+                + ", evictionCount=" + evictionCount
+                + ", bypassEnabledCount=" + bypassEnabledCount
+                + ", bypassDisabledCount=" + bypassDisabledCount
+                + '}';
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Cache key composed of multiple values. Two composite keys are equal in case all of their values are equal, thus
+ * different argument tuples never share a cached result. The hash code is computed once on construction. Use the
+ * {@code compositeKey} methods in {@link MemoizationDefaults} to create instances.
+ */
+public abstract class CompositeKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6394051723460823016L;
+
+    private final int hash;
+
+    CompositeKey(final int hash) {
+        this.hash = hash;
+    }
+
+    static int hash(final int hash, final Object value) {
+        return 31 * hash + (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public abstract boolean equals(Object object);
+
+}
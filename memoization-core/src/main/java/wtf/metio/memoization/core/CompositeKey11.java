@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import java.io.Serial;
+import java.util.Objects;
+
+final class CompositeKey11 extends CompositeKey {
+
+    @Serial
+    private static final long serialVersionUID = 5641369577242833675L;
+
+    private final Object v1;
+    private final Object v2;
+    private final Object v3;
+    private final Object v4;
+    private final Object v5;
+    private final Object v6;
+    private final Object v7;
+    private final Object v8;
+    private final Object v9;
+    private final Object v10;
+    private final Object v11;
+
+    CompositeKey11(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11) {
+        super(hashOf(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11));
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+        this.v4 = v4;
+        this.v5 = v5;
+        this.v6 = v6;
+        this.v7 = v7;
+        this.v8 = v8;
+        this.v9 = v9;
+        this.v10 = v10;
+        this.v11 = v11;
+    }
+
+    private static int hashOf(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11) {
+        int hash = 1;
+        hash = hash(hash, v1);
+        hash = hash(hash, v2);
+        hash = hash(hash, v3);
+        hash = hash(hash, v4);
+        hash = hash(hash, v5);
+        hash = hash(hash, v6);
+        hash = hash(hash, v7);
+        hash = hash(hash, v8);
+        hash = hash(hash, v9);
+        hash = hash(hash, v10);
+        hash = hash(hash, v11);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CompositeKey11 other)) {
+            return false;
+        }
+        return hashCode() == other.hashCode()
+                && Objects.equals(v1, other.v1)
+                && Objects.equals(v2, other.v2)
+                && Objects.equals(v3, other.v3)
+                && Objects.equals(v4, other.v4)
+                && Objects.equals(v5, other.v5)
+                && Objects.equals(v6, other.v6)
+                && Objects.equals(v7, other.v7)
+                && Objects.equals(v8, other.v8)
+                && Objects.equals(v9, other.v9)
+                && Objects.equals(v10, other.v10)
+                && Objects.equals(v11, other.v11);
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeKey[" + v1 + ", " + v2 + ", " + v3 + ", " + v4 + ", " + v5 + ", " + v6 + ", " + v7 + ", " + v8 + ", " + v9 + ", " + v10 + ", " + v11 + "]";
+    }
+
+}
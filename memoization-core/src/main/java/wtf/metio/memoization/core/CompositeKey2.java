@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import java.io.Serial;
+import java.util.Objects;
+
+final class CompositeKey2 extends CompositeKey {
+
+    @Serial
+    private static final long serialVersionUID = -7169676182496904803L;
+
+    private final Object v1;
+    private final Object v2;
+
+    CompositeKey2(final Object v1, final Object v2) {
+        super(hashOf(v1, v2));
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    private static int hashOf(final Object v1, final Object v2) {
+        int hash = 1;
+        hash = hash(hash, v1);
+        hash = hash(hash, v2);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CompositeKey2 other)) {
+            return false;
+        }
+        return hashCode() == other.hashCode()
+                && Objects.equals(v1, other.v1)
+                && Objects.equals(v2, other.v2);
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeKey[" + v1 + ", " + v2 + "]";
+    }
+
+}
@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implemented by the {@link java.util.concurrent.ConcurrentMap}s of this package that weigh entries by how long their
+ * values took to compute, thus decorators that compute values on their own can pass on the measured time.
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+interface ComputationCosts<KEY, VALUE> {
+
+    /**
+     * Stores the given value unless the given key is already present, just like
+     * {@link java.util.concurrent.ConcurrentMap#putIfAbsent(Object, Object)}.
+     *
+     * @param key       The key to store.
+     * @param value     The value to store.
+     * @param costNanos The number of nanoseconds it took to compute the given value.
+     * @return The previous value associated with the given key or {@code null} in case there was none.
+     */
+    @Nullable VALUE putIfAbsent(KEY key, VALUE value, long costNanos);
+
+}
@@ -0,0 +1,373 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * <p>
+ * Concurrent open-addressing table that maps one or two primitive {@code long} keys to a primitive {@code long} value.
+ * Smaller primitives are widened, {@code double} values are stored as their bits. Neither keys nor values are ever
+ * boxed, thus lookups do not allocate - no matter whether they hit or miss.
+ * </p>
+ * <p>
+ * Reads are lock-free. A miss claims an empty slot for its key with a compare-and-set, computes the value without
+ * holding any lock and publishes the result afterwards. Misses of different keys only share the read side of a
+ * {@link StampedLock}, whose write side is taken while the table grows or drops the slots of failed computations.
+ * Neither the lock nor waiting for a concurrent computation uses object monitors, thus virtual threads never pin their
+ * carrier thread. Concurrent callers asking for the same key wait for that result, thus each value is computed at most
+ * once. Waiters spin briefly and then block until the computation publishes its value or fails, thus long-running
+ * computations do not keep other threads busy. A failed computation releases its slot again so that the next (or any
+ * waiting) caller retries. Released slots are compacted once they take up an eighth of the table.
+ * </p>
+ * <p>
+ * Computations emit the same flight recorder event as misses of memoizers that use a {@link java.util.Map}.
+ * </p>
+ */
+public final class ConcurrentLongTable {
+
+    private static final int EMPTY = 0;
+    private static final int LOADING = 1;
+    private static final int PRESENT = 2;
+    private static final int REMOVED = 3;
+    private static final int CLAIMED = 4;
+
+    private static final int ABSENT = -1;
+    private static final int LOADED_ELSEWHERE = -2;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int SPINS = 64;
+
+    private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final Class<?> memoizer;
+    private final StampedLock resizing = new StampedLock();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition loaded = lock.newCondition();
+    private volatile int waiters;
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    /**
+     * Creates a table whose flight recorder events name the table itself as their memoizer.
+     */
+    public ConcurrentLongTable() {
+        this(ConcurrentLongTable.class);
+    }
+
+    /**
+     * Creates a table whose flight recorder events name the given memoizer.
+     *
+     * @param memoizer The type of the memoizer that stores its values in this table.
+     */
+    public ConcurrentLongTable(final Class<?> memoizer) {
+        this.memoizer = memoizer;
+    }
+
+    /**
+     * Returns the value associated with the given key or computes and stores it in case it is absent.
+     *
+     * @param key             The key to look up.
+     * @param mappingFunction The function to compute the value, called with the given key.
+     * @return The current (existing or computed) value associated with the given key.
+     */
+    @CheckReturnValue
+    public long computeIfAbsent(final long key, final LongUnaryOperator mappingFunction) {
+        final int hash = hash(key, 0L);
+        for (int round = 0; ; round++) {
+            final Table current = table;
+            final int index = current.find(key, 0L, hash);
+            if (index >= 0) {
+                return current.values[index];
+            }
+            if (index == ABSENT && claim(key, 0L, hash)) {
+                final Object event = FlightRecorderEvents.beginLoad();
+                boolean failed = true;
+                final long value;
+                try {
+                    value = mappingFunction.applyAsLong(key);
+                    failed = false;
+                } catch (final RuntimeException | Error exception) {
+                    release(key, 0L, hash);
+                    throw exception;
+                } finally {
+                    FlightRecorderEvents.endLoad(event, memoizer, long.class, ConcurrentLongTable.class, failed);
+                }
+                return publish(key, 0L, hash, value);
+            }
+            backOff(round, key, 0L, hash);
+        }
+    }
+
+    /**
+     * Returns the value associated with the given pair of keys or computes and stores it in case it is absent.
+     *
+     * @param first           The first key to look up.
+     * @param second          The second key to look up.
+     * @param mappingFunction The function to compute the value, called with both given keys.
+     * @return The current (existing or computed) value associated with the given pair of keys.
+     */
+    @CheckReturnValue
+    public long computeIfAbsent(final long first, final long second, final LongBinaryOperator mappingFunction) {
+        final int hash = hash(first, second);
+        for (int round = 0; ; round++) {
+            final Table current = table;
+            final int index = current.find(first, second, hash);
+            if (index >= 0) {
+                return current.values[index];
+            }
+            if (index == ABSENT && claim(first, second, hash)) {
+                final Object event = FlightRecorderEvents.beginLoad();
+                boolean failed = true;
+                final long value;
+                try {
+                    value = mappingFunction.applyAsLong(first, second);
+                    failed = false;
+                } catch (final RuntimeException | Error exception) {
+                    release(first, second, hash);
+                    throw exception;
+                } finally {
+                    FlightRecorderEvents.endLoad(event, memoizer, long.class, ConcurrentLongTable.class, failed);
+                }
+                return publish(first, second, hash, value);
+            }
+            backOff(round, first, second, hash);
+        }
+    }
+
+    /**
+     * @return The number of values currently stored in this table.
+     */
+    @CheckReturnValue
+    public int size() {
+        return table.present.get();
+    }
+
+    private boolean claim(final long first, final long second, final int hash) {
+        for (; ; ) {
+            final Table current;
+            final long stamp = resizing.readLock();
+            try {
+                current = table;
+                // reserve a slot first, thus concurrent claims never fill the table beyond its threshold
+                if (current.used.incrementAndGet() <= current.threshold) {
+                    final boolean claimed = current.claim(first, second, hash);
+                    if (!claimed) {
+                        current.used.decrementAndGet();
+                    }
+                    return claimed;
+                }
+                current.used.decrementAndGet();
+            } finally {
+                resizing.unlockRead(stamp);
+            }
+            resize(current);
+        }
+    }
+
+    private long publish(final long first, final long second, final int hash, final long value) {
+        final long stamp = resizing.readLock();
+        try {
+            final Table current = table;
+            final int index = current.slot(first, second, hash);
+            current.values[index] = value;
+            current.present.incrementAndGet();
+            STATES.setRelease(current.states, index, PRESENT);
+        } finally {
+            resizing.unlockRead(stamp);
+        }
+        wakeUp();
+        return value;
+    }
+
+    private void release(final long first, final long second, final int hash) {
+        final Table current;
+        final boolean compact;
+        final long stamp = resizing.readLock();
+        try {
+            current = table;
+            STATES.setRelease(current.states, current.slot(first, second, hash), REMOVED);
+            compact = current.removed.incrementAndGet() > current.tombstones;
+        } finally {
+            resizing.unlockRead(stamp);
+        }
+        if (compact) {
+            resize(current);
+        }
+        wakeUp();
+    }
+
+    private void resize(final Table expected) {
+        final long stamp = resizing.writeLock();
+        try {
+            if (table == expected) {
+                table = expected.resize();
+            }
+        } finally {
+            resizing.unlockWrite(stamp);
+        }
+    }
+
+    private void backOff(final int round, final long first, final long second, final int hash) {
+        if (round < SPINS) {
+            Thread.onSpinWait();
+        } else if (round < 2 * SPINS) {
+            Thread.yield();
+        } else {
+            await(first, second, hash);
+        }
+    }
+
+    private void await(final long first, final long second, final int hash) {
+        lock.lock();
+        try {
+            waiters++;
+            // pairs with the fence in wakeUp: either the waiter sees the new state or the publisher sees the waiter
+            VarHandle.fullFence();
+            while (table.find(first, second, hash) == LOADED_ELSEWHERE) {
+                loaded.awaitUninterruptibly();
+            }
+        } finally {
+            waiters--;
+            lock.unlock();
+        }
+    }
+
+    private void wakeUp() {
+        VarHandle.fullFence();
+        if (waiters > 0) {
+            lock.lock();
+            try {
+                loaded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static int hash(final long first, final long second) {
+        long hash = first * 0x9E3779B97F4A7C15L + second;
+        hash = (hash ^ (hash >>> 32)) * 0xD6E8FEB86659FD93L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final long[] values;
+        private final int[] states;
+        private final int mask;
+        private final int threshold;
+        private final int tombstones;
+        private final AtomicInteger used = new AtomicInteger();
+        private final AtomicInteger present = new AtomicInteger();
+        private final AtomicInteger removed = new AtomicInteger();
+
+        private Table(final int capacity) {
+            keys = new long[2 * capacity];
+            values = new long[capacity];
+            states = new int[capacity];
+            mask = capacity - 1;
+            threshold = capacity / 2;
+            tombstones = capacity / 8;
+        }
+
+        private int find(final long first, final long second, final int hash) {
+            for (int index = hash & mask; ; index = (index + 1) & mask) {
+                final int state = settled(index);
+                if (state == EMPTY) {
+                    return ABSENT;
+                }
+                if (state != REMOVED && keys[2 * index] == first && keys[2 * index + 1] == second) {
+                    return state == PRESENT ? index : LOADED_ELSEWHERE;
+                }
+            }
+        }
+
+        /**
+         * Claims the first empty slot in the probe sequence of the given keys, unless the keys are found before. Claims
+         * only ever turn empty slots into used ones, thus concurrent claims of the same keys meet at the same slot.
+         */
+        private boolean claim(final long first, final long second, final int hash) {
+            for (int index = hash & mask; ; index = (index + 1) & mask) {
+                int state = settled(index);
+                if (state == EMPTY) {
+                    if (STATES.compareAndSet(states, index, EMPTY, CLAIMED)) {
+                        keys[2 * index] = first;
+                        keys[2 * index + 1] = second;
+                        STATES.setRelease(states, index, LOADING);
+                        return true;
+                    }
+                    state = settled(index);
+                }
+                if (state != REMOVED && keys[2 * index] == first && keys[2 * index + 1] == second) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * @return The state of the given slot once its keys are written.
+         */
+        private int settled(final int index) {
+            int state = (int) STATES.getAcquire(states, index);
+            while (state == CLAIMED) {
+                Thread.onSpinWait();
+                state = (int) STATES.getAcquire(states, index);
+            }
+            return state;
+        }
+
+        private int slot(final long first, final long second, final int hash) {
+            for (int index = hash & mask; ; index = (index + 1) & mask) {
+                if ((int) STATES.getAcquire(states, index) == LOADING
+                        && keys[2 * index] == first && keys[2 * index + 1] == second) {
+                    return index;
+                }
+            }
+        }
+
+        private Table resize() {
+            int live = 0;
+            for (final int state : states) {
+                if (state == LOADING || state == PRESENT) {
+                    live++;
+                }
+            }
+            final int capacity = states.length;
+            final Table resized = new Table(live + 1 > capacity / 4 ? 2 * capacity : capacity);
+            for (int index = 0; index < capacity; index++) {
+                final int state = states[index];
+                if (state == LOADING || state == PRESENT) {
+                    final long first = keys[2 * index];
+                    final long second = keys[2 * index + 1];
+                    int target = hash(first, second) & resized.mask;
+                    while (resized.states[target] != EMPTY) {
+                        target = (target + 1) & resized.mask;
+                    }
+                    resized.keys[2 * target] = first;
+                    resized.keys[2 * target + 1] = second;
+                    resized.values[target] = values[index];
+                    resized.states[target] = state;
+                    resized.used.incrementAndGet();
+                    if (state == PRESENT) {
+                        resized.present.incrementAndGet();
+                    }
+                }
+            }
+            return resized;
+        }
+
+    }
+
+}
@@ -6,10 +6,13 @@ package wtf.metio.memoization.core;
 
 import edu.umd.cs.findbugs.annotations.CheckReturnValue;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.ToLongBiFunction;
 
 /**
  * Utility class that helps with handling {@link ConcurrentMap}s.
@@ -37,4 +40,182 @@ public final class ConcurrentMaps {
         return new ConcurrentHashMap<>(map);
     }
 
+    /**
+     * Creates the cache used by memoizers that are not given a custom cache. Values are computed outside any lock, and
+     * callers waiting for a concurrent computation of the same key park instead of blocking inside a
+     * {@code synchronized} block. Memoized functions may therefore block (e.g. on I/O) without pinning the carrier
+     * thread of a virtual thread.
+     *
+     * @param <KEY>   The key type of the map.
+     * @param <VALUE> The value type of the map.
+     * @return A new unbounded map.
+     * @see #singleFlight(Map)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> defaultCache() {
+        return new SingleFlightConcurrentMap<>(new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Creates a new {@link ConcurrentMap} that holds at most the given number of entries. Once full, entries are
+     * evicted according to the W-TinyLFU policy which keeps the entries that were used most frequently recently.
+     * Absent values are computed outside any lock, just like in {@link #defaultCache()}.
+     *
+     * @param maximumSize The maximum number of entries to hold.
+     * @param <KEY>       The key type of the map.
+     * @param <VALUE>     The value type of the map.
+     * @return A new bounded map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> bounded(final long maximumSize) {
+        return new SingleFlightConcurrentMap<>(new BoundedConcurrentMap<>(maximumSize, (key, value) -> 1L));
+    }
+
+    /**
+     * Creates a new {@link ConcurrentMap} that holds entries up to the given total weight. Once full, entries are
+     * evicted according to the W-TinyLFU policy which keeps the entries that were used most frequently recently.
+     * Absent values are computed outside any lock, just like in {@link #defaultCache()}.
+     *
+     * @param maximumWeight The maximum total weight of all entries.
+     * @param weigher       The function that calculates the (non-negative) weight of a single entry.
+     * @param <KEY>         The key type of the map.
+     * @param <VALUE>       The value type of the map.
+     * @return A new bounded map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> bounded(
+            final long maximumWeight,
+            final ToLongBiFunction<? super KEY, ? super VALUE> weigher) {
+        return new SingleFlightConcurrentMap<>(new BoundedConcurrentMap<>(maximumWeight, weigher));
+    }
+
+    /**
+     * Creates a new {@link ConcurrentMap} that holds at most the given number of entries. Once full, entries are
+     * evicted according to the GreedyDual-Size policy which keeps the entries whose values took longest to compute,
+     * while entries that were not used for a long time eventually age out. Absent values are computed outside any lock,
+     * just like in {@link #defaultCache()}, and the time it took to compute them is recorded alongside each entry.
+     *
+     * @param maximumSize The maximum number of entries to hold.
+     * @param <KEY>       The key type of the map.
+     * @param <VALUE>     The value type of the map.
+     * @return A new cost-aware map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> costAware(final long maximumSize) {
+        return costAware(maximumSize, (key, value) -> 1L);
+    }
+
+    /**
+     * Creates a new {@link ConcurrentMap} that holds entries up to the given total weight. Once full, entries are
+     * evicted according to the GreedyDual-Size policy which keeps the entries that save the most computation time per
+     * unit of weight, while entries that were not used for a long time eventually age out. Absent values are computed
+     * outside any lock, just like in {@link #defaultCache()}, and the time it took to compute them is recorded
+     * alongside each entry.
+     *
+     * @param maximumWeight The maximum total weight of all entries, e.g. their size in bytes.
+     * @param weigher       The function that calculates the (non-negative) weight of a single entry.
+     * @param <KEY>         The key type of the map.
+     * @param <VALUE>       The value type of the map.
+     * @return A new cost-aware map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> costAware(
+            final long maximumWeight,
+            final ToLongBiFunction<? super KEY, ? super VALUE> weigher) {
+        return new SingleFlightConcurrentMap<>(new GreedyDualConcurrentMap<>(maximumWeight, weigher, System::nanoTime));
+    }
+
+    /**
+     * Creates a new {@link ConcurrentMap} whose entries expire once the given duration has passed since they were
+     * written.
+     *
+     * @param timeToLive The duration after which entries expire.
+     * @param <KEY>      The key type of the map.
+     * @param <VALUE>    The value type of the map.
+     * @return A new expiring map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> expireAfterWrite(final Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "Provide a duration after which entries expire.");
+        return new ExpiringConcurrentMap<>(timeToLive.toNanos(), ExpiringConcurrentMap.NEVER,
+                ExpiringConcurrentMap.NEVER, null, System::nanoTime);
+    }
+
+    /**
+     * Creates a new {@link ConcurrentMap} whose entries expire once the given duration has passed since they were
+     * last read or written.
+     *
+     * @param timeToIdle The duration after which unused entries expire.
+     * @param <KEY>      The key type of the map.
+     * @param <VALUE>    The value type of the map.
+     * @return A new expiring map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> expireAfterAccess(final Duration timeToIdle) {
+        Objects.requireNonNull(timeToIdle, "Provide a duration after which unused entries expire.");
+        return new ExpiringConcurrentMap<>(ExpiringConcurrentMap.NEVER, timeToIdle.toNanos(),
+                ExpiringConcurrentMap.NEVER, null, System::nanoTime);
+    }
+
+    /**
+     * Creates a new {@link ConcurrentMap} that recomputes entries ahead of time. The first read of an entry that is
+     * older than the given interval recomputes its value asynchronously with the given {@link Executor} and keeps
+     * returning the current value until the new one is available. Entries still expire once the given time to live
+     * has passed since they were written, thus values whose refresh keeps failing are recomputed by the next caller
+     * instead of being served forever. Only entries created by {@link ConcurrentMap#computeIfAbsent} can be
+     * refreshed, which includes every entry created by a memoizer.
+     *
+     * @param refreshInterval The duration after which entries are recomputed, shorter than the time to live.
+     * @param timeToLive      The duration after which entries expire.
+     * @param executor        The executor to recompute entries with.
+     * @param <KEY>           The key type of the map.
+     * @param <VALUE>         The value type of the map.
+     * @return A new refreshing map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> refreshAfterWrite(
+            final Duration refreshInterval,
+            final Duration timeToLive,
+            final Executor executor) {
+        Objects.requireNonNull(refreshInterval, "Provide a duration after which entries are recomputed.");
+        Objects.requireNonNull(timeToLive, "Provide a duration after which entries expire.");
+        Objects.requireNonNull(executor, "Provide an executor to recompute entries with.");
+        return new ExpiringConcurrentMap<>(timeToLive.toNanos(), ExpiringConcurrentMap.NEVER,
+                refreshInterval.toNanos(), executor, System::nanoTime);
+    }
+
+    /**
+     * Wraps a given {@link Map} so that its {@link ConcurrentMap#computeIfAbsent} computes values outside any lock of
+     * the map. Concurrent computations of the same key wait for the first one, while computations of other keys never
+     * block each other. The mapping function may therefore use the map (or the memoizer using it) for other keys.
+     *
+     * @param map     The map that stores the computed values.
+     * @param <KEY>   The key type of the map.
+     * @param <VALUE> The value type of the map.
+     * @return The wrapped map.
+     * @see #asConcurrentMap(Map)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> singleFlight(final Map<KEY, VALUE> map) {
+        return new SingleFlightConcurrentMap<>(asConcurrentMap(map));
+    }
+
+    /**
+     * Wraps a given {@link Map} so that it records hits, misses, load times and evictions. Use
+     * {@link CacheStatistics#of(Object)} with either the returned map or a memoizer using it to take a snapshot of the
+     * recorded statistics. Counters are striped, thus recording adds little overhead even under contention. The
+     * returned map may wrap or be wrapped by {@link #singleFlight(Map)}, both orders count every request of a memoizer
+     * exactly once.
+     *
+     * @param map     The map that stores the computed values.
+     * @param <KEY>   The key type of the map.
+     * @param <VALUE> The value type of the map.
+     * @return The wrapped map.
+     * @see #asConcurrentMap(Map)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> recordStatistics(final Map<KEY, VALUE> map) {
+        return new StatisticsConcurrentMap<>(asConcurrentMap(map));
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+
+import java.util.function.LongPredicate;
+
+/**
+ * <p>
+ * Concurrent table that maps every {@code long} key of a fixed range to a {@code boolean} value. Each key occupies two
+ * bits which encode both whether its value is present and the value itself, thus hits are a single acquiring load -
+ * there is neither hashing nor boxing involved. Smaller primitive keys are widened.
+ * </p>
+ * <p>
+ * Reads are wait-free. A miss claims its key with a compare-and-set, computes the value without holding any lock and
+ * publishes the result afterwards. Concurrent callers asking for the same key wait for that result, thus each value is
+ * computed at most once. A failed computation releases its key again so that the next (or any waiting) caller retries.
+ * </p>
+ */
+public final class DenseBooleanTable {
+
+    private final long fromInclusive;
+    private final int size;
+    private final DenseStates states;
+
+    /**
+     * @param fromInclusive The smallest key of this table.
+     * @param toExclusive   The first key after the largest key of this table.
+     */
+    public DenseBooleanTable(final long fromInclusive, final long toExclusive) {
+        this.size = DenseStates.size(fromInclusive, toExclusive);
+        this.fromInclusive = fromInclusive;
+        this.states = new DenseStates(size);
+    }
+
+    /**
+     * @param key The key to check.
+     * @return Whether the given key is part of the range of this table.
+     */
+    @CheckReturnValue
+    public boolean contains(final long key) {
+        return Long.compareUnsigned(key - fromInclusive, size) < 0;
+    }
+
+    /**
+     * Returns the value associated with the given key or computes and stores it in case it is absent.
+     *
+     * @param key             The key to look up, must be {@link #contains(long) contained} in this table.
+     * @param mappingFunction The function to compute the value, called with the given key.
+     * @return The current (existing or computed) value associated with the given key.
+     */
+    @CheckReturnValue
+    public boolean computeIfAbsent(final long key, final LongPredicate mappingFunction) {
+        final int index = (int) (key - fromInclusive);
+        for (int round = 0; ; round++) {
+            final int state = states.get(index);
+            if (state >= DenseStates.PRESENT) {
+                return state == DenseStates.PRESENT_TRUE;
+            }
+            if (state == DenseStates.EMPTY && states.claim(index)) {
+                final boolean value;
+                try {
+                    value = mappingFunction.test(key);
+                } catch (final RuntimeException | Error exception) {
+                    states.release(index);
+                    throw exception;
+                }
+                states.publish(index, value ? DenseStates.PRESENT_TRUE : DenseStates.PRESENT);
+                return value;
+            }
+            states.backOff(index, round);
+        }
+    }
+
+    /**
+     * @return The number of values currently stored in this table.
+     */
+    @CheckReturnValue
+    public int size() {
+        return states.count(DenseStates.PRESENT) + states.count(DenseStates.PRESENT_TRUE);
+    }
+
+}
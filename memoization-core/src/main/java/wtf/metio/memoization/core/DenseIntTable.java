@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <p>
+ * Concurrent table that maps every {@code int} key of a fixed range to a primitive {@code int} value. Values are stored
+ * in a flat array indexed by the key itself, accompanied by two bits of state per key. Hits are a single acquiring
+ * load of the state plus a single array load - there is neither hashing nor boxing involved.
+ * </p>
+ * <p>
+ * Reads are wait-free. A miss claims its key with a compare-and-set, computes the value without holding any lock and
+ * publishes the result afterwards. Concurrent callers asking for the same key wait for that result, thus each value is
+ * computed at most once. A failed computation releases its key again so that the next (or any waiting) caller retries.
+ * </p>
+ */
+public final class DenseIntTable {
+
+    private final int fromInclusive;
+    private final int[] values;
+    private final DenseStates states;
+
+    /**
+     * @param fromInclusive The smallest key of this table.
+     * @param toExclusive   The first key after the largest key of this table.
+     */
+    public DenseIntTable(final int fromInclusive, final int toExclusive) {
+        final int size = DenseStates.size(fromInclusive, toExclusive);
+        this.fromInclusive = fromInclusive;
+        this.values = new int[size];
+        this.states = new DenseStates(size);
+    }
+
+    /**
+     * @param key The key to check.
+     * @return Whether the given key is part of the range of this table.
+     */
+    @CheckReturnValue
+    public boolean contains(final int key) {
+        return Integer.toUnsignedLong(key - fromInclusive) < values.length;
+    }
+
+    /**
+     * Returns the value associated with the given key or computes and stores it in case it is absent.
+     *
+     * @param key             The key to look up, must be {@link #contains(int) contained} in this table.
+     * @param mappingFunction The function to compute the value, called with the given key.
+     * @return The current (existing or computed) value associated with the given key.
+     */
+    @CheckReturnValue
+    public int computeIfAbsent(final int key, final IntUnaryOperator mappingFunction) {
+        final int index = key - fromInclusive;
+        for (int round = 0; ; round++) {
+            final int state = states.get(index);
+            if (state == DenseStates.PRESENT) {
+                return values[index];
+            }
+            if (state == DenseStates.EMPTY && states.claim(index)) {
+                final int value;
+                try {
+                    value = mappingFunction.applyAsInt(key);
+                } catch (final RuntimeException | Error exception) {
+                    states.release(index);
+                    throw exception;
+                }
+                values[index] = value;
+                states.publish(index, DenseStates.PRESENT);
+                return value;
+            }
+            states.backOff(index, round);
+        }
+    }
+
+    /**
+     * @return The number of values currently stored in this table.
+     */
+    @CheckReturnValue
+    public int size() {
+        return states.count(DenseStates.PRESENT);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Two bits of state per index, packed 32 to a {@code long} word. Reads use a single acquiring load, writes use
+ * compare-and-set on the containing word, thus neither reads nor writes ever lock. Callers waiting for a loading index
+ * spin briefly and then block on a condition that is signalled once any index stops loading - publishing only takes
+ * the lock while somebody waits.
+ */
+final class DenseStates {
+
+    static final int EMPTY = 0;
+    static final int LOADING = 1;
+    static final int PRESENT = 2;
+    static final int PRESENT_TRUE = 3;
+
+    private static final int SPINS = 64;
+    private static final long MASK = 3L;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition loaded = lock.newCondition();
+    private volatile int waiters;
+
+    DenseStates(final int size) {
+        words = new long[(int) ((size + 31L) >>> 5)];
+    }
+
+    int get(final int index) {
+        final long word = (long) WORDS.getAcquire(words, index >>> 5);
+        return (int) ((word >>> shift(index)) & MASK);
+    }
+
+    boolean claim(final int index) {
+        return update(index, EMPTY, LOADING);
+    }
+
+    void publish(final int index, final int state) {
+        update(index, LOADING, state);
+        wakeUp();
+    }
+
+    void release(final int index) {
+        update(index, LOADING, EMPTY);
+        wakeUp();
+    }
+
+    void backOff(final int index, final int round) {
+        if (round < SPINS) {
+            Thread.onSpinWait();
+        } else if (round < 2 * SPINS) {
+            Thread.yield();
+        } else {
+            await(index);
+        }
+    }
+
+    int count(final int state) {
+        int count = 0;
+        for (int word = 0; word < words.length; word++) {
+            final long current = (long) WORDS.getAcquire(words, word);
+            for (int shift = 0; shift < Long.SIZE; shift += 2) {
+                if (((current >>> shift) & MASK) == state) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean update(final int index, final int expected, final int state) {
+        final int word = index >>> 5;
+        final int shift = shift(index);
+        for (; ; ) {
+            final long current = (long) WORDS.getVolatile(words, word);
+            if (((current >>> shift) & MASK) != expected) {
+                return false;
+            }
+            final long next = (current & ~(MASK << shift)) | ((long) state << shift);
+            if (WORDS.weakCompareAndSetRelease(words, word, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private void await(final int index) {
+        lock.lock();
+        try {
+            waiters++;
+            // pairs with the fence in wakeUp: either the waiter sees the new state or the publisher sees the waiter
+            VarHandle.fullFence();
+            while (get(index) == LOADING) {
+                loaded.awaitUninterruptibly();
+            }
+        } finally {
+            waiters--;
+            lock.unlock();
+        }
+    }
+
+    private void wakeUp() {
+        VarHandle.fullFence();
+        if (waiters > 0) {
+            lock.lock();
+            try {
+                loaded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    static int size(final long fromInclusive, final long toExclusive) {
+        final long size = toExclusive - fromInclusive;
+        if (toExclusive <= fromInclusive || size <= 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot create a dense table for the range [%d, %d) - provide a non-empty range of at most %d keys to fix this.",
+                    fromInclusive, toExclusive, Integer.MAX_VALUE));
+        }
+        return (int) size;
+    }
+
+    private static int shift(final int index) {
+        return (index & 31) << 1;
+    }
+
+}
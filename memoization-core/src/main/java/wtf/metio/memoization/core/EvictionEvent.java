@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a single entry that was evicted from, or expired in, the cache of a memoizer. Only caches
+ * created by {@link ConcurrentMaps} report their evictions.
+ */
+@Name(EvictionEvent.NAME)
+@Label("Memoization Eviction")
+@Category("Memoization")
+@Description("Entry that was evicted from or expired in the cache of a memoizer")
+@StackTrace(false)
+final class EvictionEvent extends Event {
+
+    static final String NAME = "wtf.metio.memoization.Eviction";
+
+    @Label("Memoizer")
+    Class<?> memoizer;
+
+    @Label("Cache Type")
+    Class<?> cacheType;
+
+}
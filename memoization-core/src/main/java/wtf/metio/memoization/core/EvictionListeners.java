@@ -0,0 +1,21 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+/**
+ * Implemented by the {@link java.util.concurrent.ConcurrentMap}s of this package that remove entries on their own,
+ * thus decorators can observe evictions that never pass through them.
+ */
+interface EvictionListeners {
+
+    /**
+     * Registers a listener that runs once for every entry that was evicted or removed because it expired. Listeners
+     * run on the thread that removed the entry and must therefore be cheap.
+     *
+     * @param listener The listener to add.
+     */
+    void addEvictionListener(Runnable listener);
+
+}
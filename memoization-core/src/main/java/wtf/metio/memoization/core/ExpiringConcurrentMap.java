@@ -0,0 +1,394 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} whose entries expire a fixed duration after they were written or last accessed. Expired entries
+ * are invisible to all operations and are removed lazily whenever they are encountered as well as by a periodic sweep
+ * that piggybacks on writes. Asking for the size removes all expired entries first, thus it never counts them.
+ * </p>
+ * <p>
+ * Entries that were created by {@link #computeIfAbsent(Object, Function)} - or stored together with their mapping
+ * function by a {@link SingleFlightConcurrentMap} that decorates this map - remember their mapping function and can be
+ * refreshed ahead of time: once an entry is older than the refresh interval, the next read schedules a recomputation
+ * on the configured {@link Executor} and keeps serving the current value until the new one is available. A failed
+ * refresh keeps the current value and is retried by a subsequent read until the entry expires. The refresh interval
+ * must be shorter than the time to live, otherwise entries would expire before they are ever refreshed. Values are computed outside of any lock, thus
+ * concurrent callers for the same absent key may compute it more than once unless this map is decorated by
+ * {@link ConcurrentMaps#singleFlight(java.util.Map)}.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class ExpiringConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE>
+        implements ConcurrentMap<KEY, VALUE>, EvictionListeners, MappingFunctions<KEY, VALUE> {
+
+    static final long NEVER = Long.MAX_VALUE;
+
+    private final ConcurrentHashMap<KEY, Timed<KEY, VALUE>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    private final List<Runnable> evictionListeners = new CopyOnWriteArrayList<>();
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final long refreshAfterWriteNanos;
+    private final long sweepIntervalNanos;
+    private final @Nullable Executor executor;
+    private final LongSupplier ticker;
+    private volatile long lastSweep;
+
+    ExpiringConcurrentMap(
+            final long expireAfterWriteNanos,
+            final long expireAfterAccessNanos,
+            final long refreshAfterWriteNanos,
+            final @Nullable Executor executor,
+            final LongSupplier ticker) {
+        if (expireAfterWriteNanos <= 0 || expireAfterAccessNanos <= 0 || refreshAfterWriteNanos <= 0) {
+            throw new IllegalArgumentException("Cannot expire entries with a non-positive duration - use at least 1ns.");
+        }
+        if (refreshAfterWriteNanos != NEVER && refreshAfterWriteNanos >= expireAfterWriteNanos) {
+            throw new IllegalArgumentException("Cannot refresh entries that expire before their refresh - use a refresh "
+                    + "interval shorter than the time to live.");
+        }
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.refreshAfterWriteNanos = refreshAfterWriteNanos;
+        this.sweepIntervalNanos = Math.min(expireAfterWriteNanos, expireAfterAccessNanos);
+        this.executor = executor;
+        this.ticker = requireNonNull(ticker, "Provide a ticker to read the current time.");
+        this.lastSweep = ticker.getAsLong();
+    }
+
+    @Override
+    public void addEvictionListener(final Runnable listener) {
+        evictionListeners.add(requireNonNull(listener));
+    }
+
+    @Override
+    public int size() {
+        purge(ticker.getAsLong());
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        requireNonNull(value);
+        final long now = ticker.getAsLong();
+        for (final Timed<KEY, VALUE> timed : data.values()) {
+            if (!isExpired(timed, now) && timed.value.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @Nullable VALUE get(final Object key) {
+        final Timed<KEY, VALUE> timed = data.get(key);
+        if (timed == null) {
+            return null;
+        }
+        final long now = ticker.getAsLong();
+        if (isExpired(timed, now)) {
+            expire(timed);
+            return null;
+        }
+        afterRead(timed, now);
+        return timed.value;
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        final long now = ticker.getAsLong();
+        final Timed<KEY, VALUE> previous = data.put(key, new Timed<>(key, value, now, null));
+        afterWrite(now);
+        return previous == null || isExpired(previous, now) ? null : previous.value;
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        return insert(key, value, null);
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(
+            final KEY key,
+            final VALUE value,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        return insert(key, value, requireNonNull(mappingFunction));
+    }
+
+    private @Nullable VALUE insert(
+            final KEY key,
+            final VALUE value,
+            final @Nullable Function<? super KEY, ? extends VALUE> mappingFunction) {
+        final long now = ticker.getAsLong();
+        final Timed<KEY, VALUE> created = new Timed<>(key, value, now, mappingFunction);
+        final Timed<KEY, VALUE> current = data.compute(key, (ignored, existing) ->
+                existing == null || isExpired(existing, now) ? created : existing);
+        afterWrite(now);
+        if (current == created) {
+            return null;
+        }
+        afterRead(current, now);
+        return current.value;
+    }
+
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final VALUE existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        // computed outside of the backing map, thus the mapping function may use this map for other keys
+        final VALUE value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        final VALUE previous = insert(key, value, mappingFunction);
+        return previous == null ? value : previous;
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        final Timed<KEY, VALUE> previous = data.remove(key);
+        return previous == null || isExpired(previous, ticker.getAsLong()) ? null : previous.value;
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final Timed<KEY, VALUE> timed = data.get(key);
+        return timed != null
+                && timed.value.equals(value)
+                && !isExpired(timed, ticker.getAsLong())
+                && data.remove(key, timed);
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        requireNonNull(newValue);
+        final long now = ticker.getAsLong();
+        final Timed<KEY, VALUE> timed = data.get(key);
+        return timed != null
+                && timed.value.equals(oldValue)
+                && !isExpired(timed, now)
+                && data.replace(key, timed, new Timed<>(key, newValue, now, timed.loader));
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        requireNonNull(value);
+        final long now = ticker.getAsLong();
+        final Timed<KEY, VALUE> timed = data.get(key);
+        if (timed != null
+                && !isExpired(timed, now)
+                && data.replace(key, timed, new Timed<>(key, value, now, timed.loader))) {
+            return timed.value;
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        data.clear();
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return new EntrySet();
+    }
+
+    private boolean isExpired(final Timed<KEY, VALUE> timed, final long now) {
+        return now - timed.writeTime >= expireAfterWriteNanos || now - timed.accessTime >= expireAfterAccessNanos;
+    }
+
+    private void afterRead(final Timed<KEY, VALUE> timed, final long now) {
+        if (expireAfterAccessNanos != NEVER && timed.accessTime != now) {
+            timed.accessTime = now;
+        }
+        if (executor != null
+                && timed.loader != null
+                && now - timed.writeTime >= refreshAfterWriteNanos
+                && timed.startRefresh()) {
+            refresh(timed);
+        }
+    }
+
+    private void refresh(final Timed<KEY, VALUE> timed) {
+        try {
+            requireNonNull(executor).execute(() -> {
+                boolean replaced = false;
+                try {
+                    final VALUE value = requireNonNull(timed.loader).apply(timed.key);
+                    replaced = value != null && data.replace(timed.key, timed,
+                            new Timed<>(timed.key, value, ticker.getAsLong(), timed.loader));
+                } catch (final RuntimeException exception) {
+                    // keep serving the current value, a later read retries the refresh
+                } finally {
+                    if (!replaced) {
+                        timed.refreshing = 0;
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            timed.refreshing = 0;
+        }
+    }
+
+    private void expire(final Timed<KEY, VALUE> timed) {
+        if (data.remove(timed.key, timed)) {
+            evictionListeners.forEach(Runnable::run);
+        }
+    }
+
+    private void afterWrite(final long now) {
+        if (sweepIntervalNanos != NEVER && now - lastSweep >= sweepIntervalNanos && sweepLock.tryLock()) {
+            try {
+                lastSweep = now;
+                purge(now);
+            } finally {
+                sweepLock.unlock();
+            }
+        }
+    }
+
+    private void purge(final long now) {
+        for (final Timed<KEY, VALUE> timed : data.values()) {
+            if (isExpired(timed, now)) {
+                expire(timed);
+            }
+        }
+    }
+
+    private static final class Timed<KEY, VALUE> {
+
+        private static final VarHandle REFRESHING;
+
+        static {
+            try {
+                REFRESHING = MethodHandles.lookup().findVarHandle(Timed.class, "refreshing", int.class);
+            } catch (final ReflectiveOperationException exception) {
+                throw new ExceptionInInitializerError(exception);
+            }
+        }
+
+        private final KEY key;
+        private final VALUE value;
+        private final long writeTime;
+        private final @Nullable Function<? super KEY, ? extends VALUE> loader;
+        private volatile long accessTime;
+        private volatile int refreshing;
+
+        private Timed(
+                final KEY key,
+                final VALUE value,
+                final long writeTime,
+                final @Nullable Function<? super KEY, ? extends VALUE> loader) {
+            this.key = requireNonNull(key);
+            this.value = requireNonNull(value);
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+            this.loader = loader;
+        }
+
+        private boolean startRefresh() {
+            return refreshing == 0 && REFRESHING.compareAndSet(this, 0, 1);
+        }
+
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<KEY, VALUE>> {
+
+        @Override
+        public int size() {
+            return ExpiringConcurrentMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<KEY, VALUE>> iterator() {
+            final Iterator<Timed<KEY, VALUE>> values = data.values().iterator();
+            final long now = ticker.getAsLong();
+            return new Iterator<>() {
+
+                private @Nullable Timed<KEY, VALUE> next = advance();
+                private @Nullable Timed<KEY, VALUE> current;
+
+                private @Nullable Timed<KEY, VALUE> advance() {
+                    while (values.hasNext()) {
+                        final Timed<KEY, VALUE> candidate = values.next();
+                        if (!isExpired(candidate, now)) {
+                            return candidate;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Entry<KEY, VALUE> next() {
+                    final Timed<KEY, VALUE> timed = next;
+                    if (timed == null) {
+                        throw new NoSuchElementException();
+                    }
+                    current = timed;
+                    next = advance();
+                    return new SimpleImmutableEntry<>(timed.key, timed.value);
+                }
+
+                @Override
+                public void remove() {
+                    final Timed<KEY, VALUE> timed = current;
+                    if (timed == null) {
+                        throw new IllegalStateException();
+                    }
+                    current = null;
+                    data.remove(timed.key, timed);
+                }
+
+            };
+        }
+
+    }
+
+}
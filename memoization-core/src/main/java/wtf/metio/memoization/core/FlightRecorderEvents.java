@@ -0,0 +1,241 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Emits the flight recorder events of memoizers. Each event is created first and only filled in case it is enabled,
+ * thus memoizers pay for a single check per miss while no recording is running. Hits never emit events. The
+ * {@code jdk.jfr} module is optional, thus all of its types are used by nested classes only, which are never loaded
+ * in case the module is absent at runtime.
+ */
+final class FlightRecorderEvents {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private FlightRecorderEvents() {
+        // utility class
+    }
+
+    /**
+     * Computes an absent value through the given cache and records how long the computation took. Each call of the
+     * mapping function creates its own event, since caches may keep the function to call it again later on, e.g. to
+     * refresh their entries.
+     */
+    static <KEY, VALUE> VALUE load(
+            final AbstractMemoizer<KEY, VALUE> memoizer,
+            final ConcurrentMap<KEY, VALUE> cache,
+            final KEY key,
+            final Function<KEY, VALUE> mappingFunction) {
+        if (!AVAILABLE) {
+            return cache.computeIfAbsent(key, mappingFunction);
+        }
+        return cache.computeIfAbsent(key, absentKey -> Loads.compute(memoizer, cache, absentKey, mappingFunction));
+    }
+
+    /**
+     * Computes an absent value outside the given cache and records how long the computation took. The caller stores
+     * the computed value itself.
+     */
+    static <KEY, VALUE> VALUE compute(
+            final AbstractMemoizer<KEY, VALUE> memoizer,
+            final ConcurrentMap<KEY, VALUE> cache,
+            final KEY key,
+            final Function<KEY, VALUE> computation) {
+        if (!AVAILABLE) {
+            return computation.apply(key);
+        }
+        return Loads.compute(memoizer, cache, key, computation);
+    }
+
+    /**
+     * Starts the event of a computation whose value is stored outside any map, e.g. in a {@link ConcurrentLongTable}.
+     *
+     * @return The started event or {@code null} in case no recording asks for it.
+     */
+    static @Nullable Object beginLoad() {
+        return AVAILABLE ? Loads.begin() : null;
+    }
+
+    /**
+     * Ends and commits an event started by {@link #beginLoad()}.
+     */
+    static void endLoad(
+            final @Nullable Object event,
+            final Class<?> memoizer,
+            final Class<?> keyType,
+            final Class<?> cacheType,
+            final boolean failed) {
+        if (event != null) {
+            Loads.end(event, memoizer, keyType, cacheType, failed);
+        }
+    }
+
+    /**
+     * Registers the given memoizer for eviction and hit ratio events, depending on what its cache reports. Eviction
+     * listeners are only added once the flight recorder is initialized, thus caches of memoizers created beforehand
+     * call no listener while no recording ever started.
+     */
+    static void register(final AbstractMemoizer<?, ?> memoizer, final ConcurrentMap<?, ?> cache) {
+        if (!AVAILABLE) {
+            return;
+        }
+        if (cache instanceof EvictionListeners) {
+            Evictions.register(memoizer);
+        }
+        if (StatisticsConcurrentMap.of(cache) != null) {
+            HitRatios.MEMOIZERS.add(memoizer);
+        }
+    }
+
+    private static final class Loads {
+
+        private static <KEY, VALUE> VALUE compute(
+                final AbstractMemoizer<KEY, VALUE> memoizer,
+                final ConcurrentMap<KEY, VALUE> cache,
+                final KEY key,
+                final Function<KEY, VALUE> computation) {
+            final LoadEvent event = begin();
+            if (event == null) {
+                return computation.apply(key);
+            }
+            boolean failed = true;
+            try {
+                final VALUE value = computation.apply(key);
+                failed = false;
+                return value;
+            } finally {
+                end(event, memoizer.getClass(), key.getClass(), cache.getClass(), failed);
+            }
+        }
+
+        private static @Nullable LoadEvent begin() {
+            final LoadEvent event = new LoadEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        private static void end(
+                final Object started,
+                final Class<?> memoizer,
+                final Class<?> keyType,
+                final Class<?> cacheType,
+                final boolean failed) {
+            final LoadEvent event = (LoadEvent) started;
+            event.end();
+            if (event.shouldCommit()) {
+                event.memoizer = memoizer;
+                event.keyType = keyType;
+                event.cacheType = cacheType;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+
+    }
+
+    /**
+     * Memoizers whose caches report evictions, but were created before the flight recorder was initialized. Holds its
+     * memoizers weakly, thus it never keeps a memoizer alive.
+     */
+    private static final class Evictions {
+
+        private static final Set<AbstractMemoizer<?, ?>> PENDING =
+                Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+        static {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(final FlightRecorder recorder) {
+                    final List<AbstractMemoizer<?, ?>> memoizers;
+                    synchronized (PENDING) {
+                        memoizers = new ArrayList<>(PENDING);
+                        PENDING.clear();
+                    }
+                    memoizers.forEach(Evictions::listen);
+                }
+            });
+        }
+
+        private static void register(final AbstractMemoizer<?, ?> memoizer) {
+            if (FlightRecorder.isInitialized()) {
+                listen(memoizer);
+                return;
+            }
+            PENDING.add(memoizer);
+            // the recorder might have been initialized in the meantime, without seeing the memoizer added above
+            if (FlightRecorder.isInitialized() && PENDING.remove(memoizer)) {
+                listen(memoizer);
+            }
+        }
+
+        private static void listen(final AbstractMemoizer<?, ?> memoizer) {
+            if (memoizer.cache() instanceof EvictionListeners evicting) {
+                final Class<?> memoizerType = memoizer.getClass();
+                final Class<?> cacheType = memoizer.cache().getClass();
+                evicting.addEvictionListener(() -> {
+                    final EvictionEvent event = new EvictionEvent();
+                    if (event.shouldCommit()) {
+                        event.memoizer = memoizerType;
+                        event.cacheType = cacheType;
+                        event.commit();
+                    }
+                });
+            }
+        }
+
+    }
+
+    /**
+     * Memoizers whose statistics are emitted periodically. Holds its memoizers weakly, thus it never keeps a memoizer
+     * alive. The periodic event is registered once the first memoizer that records statistics is created.
+     */
+    private static final class HitRatios {
+
+        private static final Set<AbstractMemoizer<?, ?>> MEMOIZERS =
+                Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+        static {
+            FlightRecorder.addPeriodicEvent(HitRatioEvent.class, HitRatios::emit);
+        }
+
+        private static void emit() {
+            final List<AbstractMemoizer<?, ?>> memoizers;
+            synchronized (MEMOIZERS) {
+                memoizers = new ArrayList<>(MEMOIZERS);
+            }
+            for (final AbstractMemoizer<?, ?> memoizer : memoizers) {
+                final StatisticsConcurrentMap<?, ?> statistics = StatisticsConcurrentMap.of(memoizer.cache());
+                if (statistics != null) {
+                    final CacheStatistics snapshot = statistics.snapshot();
+                    final HitRatioEvent event = new HitRatioEvent();
+                    event.memoizer = memoizer.getClass();
+                    event.hitCount = snapshot.hitCount();
+                    event.missCount = snapshot.missCount();
+                    event.hitRatio = snapshot.hitRate();
+                    event.evictionCount = snapshot.evictionCount();
+                    event.averageLoadPenalty = snapshot.averageLoadPenalty().toNanos();
+                    event.commit();
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+/**
+ * <p>
+ * Count-min sketch that estimates how often a key was seen recently. Each key maps to four 4-bit counters, thus each
+ * estimate saturates at 15. Once the number of recorded keys reaches ten times the width of the sketch all counters are
+ * halved, so that the estimates favor recent popularity over historic popularity.
+ * </p>
+ * <p>
+ * The sketch starts small and grows with the number of entries of its cache, up to the width required by the expected
+ * maximum size. Thus caches with a large bound that never fill up do not pay for a large table.
+ * </p>
+ * <p>
+ * Instances are not thread-safe and must be guarded by the caller.
+ * </p>
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MINIMUM_WIDTH = 16;
+    private static final int MAXIMUM_WIDTH = 1 << 20;
+
+    private final int maximumWidth;
+    private long[] table;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch(final long maximumSize) {
+        maximumWidth = widthOf(maximumSize);
+        table = new long[MINIMUM_WIDTH];
+        sampleSize = 10 * MINIMUM_WIDTH;
+    }
+
+    /**
+     * Grows the sketch so that it can tell the given number of entries apart. Each counter of the grown table starts
+     * with the value of the counter it was split from, thus estimates recorded so far are kept.
+     *
+     * @param entries The current number of entries in the cache.
+     */
+    void ensureCapacity(final long entries) {
+        if (table.length == maximumWidth || entries <= table.length) {
+            return;
+        }
+        final int width = Math.min(widthOf(entries), maximumWidth);
+        if (width > table.length) {
+            final long[] grown = new long[width];
+            for (int index = 0; index < width; index++) {
+                grown[index] = table[index & (table.length - 1)];
+            }
+            table = grown;
+            sampleSize = 10 * width;
+        }
+    }
+
+    int frequency(final Object key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int depth = 0; depth < 4; depth++) {
+            final int offset = (start + depth) << 2;
+            final int count = (int) ((table[indexOf(hash, depth)] >>> offset) & 0xFL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(final Object key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int depth = 0; depth < 4; depth++) {
+            added |= incrementAt(indexOf(hash, depth), start + depth);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(final int index, final int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xFL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int index = 0; index < table.length; index++) {
+            odd += Long.bitCount(table[index] & ONE_MASK);
+            table[index] = (table[index] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+
+    private int indexOf(final int hash, final int depth) {
+        long index = (hash + SEEDS[depth]) * SEEDS[depth];
+        index += index >>> 32;
+        return (int) index & (table.length - 1);
+    }
+
+    private static int widthOf(final long entries) {
+        return Integer.highestOneBit((int) Math.min(Math.max(entries, MINIMUM_WIDTH), MAXIMUM_WIDTH) * 2 - 1);
+    }
+
+    private static int spread(final int hashCode) {
+        int hash = ((hashCode >>> 16) ^ hashCode) * 0x45D9F3B;
+        hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+        return (hash >>> 16) ^ hash;
+    }
+
+}
@@ -0,0 +1,413 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} that holds entries up to a maximum weight and evicts entries according to the GreedyDual-Size
+ * policy. Each entry has a priority of {@code L + cost / weight}, where cost is the number of nanoseconds it took to
+ * compute its value and {@code L} is an inflation value that starts at zero. Once full, the entry with the lowest
+ * priority is evicted and {@code L} rises to its priority. Reading an entry restores its priority relative to the
+ * current {@code L}, thus entries that are cheap to recompute or heavy leave first while expensive entries stay as long
+ * as they are used now and then. The policy therefore maximizes the computation time saved per unit of weight instead
+ * of the number of hits.
+ * </p>
+ * <p>
+ * Costs are measured around the mapping function of {@link #computeIfAbsent(Object, Function)}. Entries written with
+ * {@link #put(Object, Object)} and friends have no known cost and are evicted first. Entries are stored in a
+ * {@link ConcurrentHashMap}, while the priority queue is guarded by a single lock. Writes always update the queue,
+ * reads only do so in case the lock is currently available.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class GreedyDualConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE>
+        implements ConcurrentMap<KEY, VALUE>, EvictionListeners, ComputationCosts<KEY, VALUE> {
+
+    private static final int UNLINKED = -1;
+    private static final long UNKNOWN_COST = 0L;
+
+    private final ConcurrentHashMap<KEY, Node<KEY, VALUE>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final List<Runnable> evictionListeners = new CopyOnWriteArrayList<>();
+    private final ToLongBiFunction<? super KEY, ? super VALUE> weigher;
+    private final LongSupplier ticker;
+    private final long maximumWeight;
+
+    // guarded by the eviction lock
+    @SuppressWarnings("unchecked")
+    private Node<KEY, VALUE>[] heap = new Node[16];
+    private int heapSize;
+    private long totalWeight;
+    private double inflation;
+
+    GreedyDualConcurrentMap(
+            final long maximumWeight,
+            final ToLongBiFunction<? super KEY, ? super VALUE> weigher,
+            final LongSupplier ticker) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Cannot bound a cache with a negative maximum - use at least 0.");
+        }
+        this.weigher = requireNonNull(weigher, "Provide a weigher or use a maximum size instead.");
+        this.ticker = requireNonNull(ticker, "Provide a ticker to measure computation times with.");
+        this.maximumWeight = maximumWeight;
+    }
+
+    @Override
+    public void addEvictionListener(final Runnable listener) {
+        evictionListeners.add(requireNonNull(listener));
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public @Nullable VALUE get(final Object key) {
+        final Node<KEY, VALUE> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        final Node<KEY, VALUE> node = newNode(key, value, UNKNOWN_COST);
+        final Node<KEY, VALUE> previous = data.put(key, node);
+        afterWrite(previous, node);
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        return putIfAbsent(key, value, UNKNOWN_COST);
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value, final long costNanos) {
+        final Node<KEY, VALUE> node = newNode(key, value, costNanos);
+        final Node<KEY, VALUE> existing = data.putIfAbsent(key, node);
+        if (existing == null) {
+            afterWrite(null, node);
+            return null;
+        }
+        afterRead(existing);
+        return existing.value;
+    }
+
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final Node<KEY, VALUE> existing = data.get(key);
+        if (existing != null) {
+            afterRead(existing);
+            return existing.value;
+        }
+        final Node<KEY, VALUE> node = data.computeIfAbsent(key, newKey -> {
+            final long start = ticker.getAsLong();
+            final VALUE value = mappingFunction.apply(newKey);
+            return value == null ? null : newNode(newKey, value, ticker.getAsLong() - start);
+        });
+        if (node == null) {
+            return null;
+        }
+        // links the new node, or records an access in case another thread won the race
+        afterWrite(null, node);
+        return node.value;
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        final Node<KEY, VALUE> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        afterRemoval(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        Node<KEY, VALUE> node;
+        while ((node = data.get(key)) != null && node.value.equals(value)) {
+            if (data.remove(key, node)) {
+                afterRemoval(node);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        Node<KEY, VALUE> node;
+        while ((node = data.get(key)) != null && node.value.equals(oldValue)) {
+            final Node<KEY, VALUE> replacement = newNode(key, newValue, node.cost);
+            if (data.replace(key, node, replacement)) {
+                afterWrite(node, replacement);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        Node<KEY, VALUE> node;
+        while ((node = data.get(key)) != null) {
+            final Node<KEY, VALUE> replacement = newNode(key, value, node.cost);
+            if (data.replace(key, node, replacement)) {
+                afterWrite(node, replacement);
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        for (final KEY key : data.keySet()) {
+            remove(key);
+        }
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return new EntrySet();
+    }
+
+    private Node<KEY, VALUE> newNode(final KEY key, final VALUE value, final long cost) {
+        requireNonNull(key);
+        requireNonNull(value);
+        final long weight = weigher.applyAsLong(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Cannot store an entry with a negative weight - fix your weigher.");
+        }
+        return new Node<>(key, value, weight, Math.max(cost, UNKNOWN_COST));
+    }
+
+    private void afterRead(final Node<KEY, VALUE> node) {
+        if (evictionLock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(final @Nullable Node<KEY, VALUE> previous, final Node<KEY, VALUE> node) {
+        evictionLock.lock();
+        try {
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (node.index == UNLINKED && !node.retired) {
+                link(node);
+                evict();
+            } else {
+                onAccess(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterRemoval(final Node<KEY, VALUE> node) {
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void onAccess(final Node<KEY, VALUE> node) {
+        if (node.index != UNLINKED) {
+            node.priority = priority(node);
+            siftDown(node.index);
+        }
+    }
+
+    private void evict() {
+        while (totalWeight > maximumWeight && heapSize > 0) {
+            final Node<KEY, VALUE> victim = heap[0];
+            inflation = victim.priority;
+            if (data.remove(victim.key, victim)) {
+                evictionListeners.forEach(Runnable::run);
+            }
+            unlink(victim);
+        }
+    }
+
+    private double priority(final Node<KEY, VALUE> node) {
+        return inflation + (double) node.cost / Math.max(node.weight, 1L);
+    }
+
+    private void link(final Node<KEY, VALUE> node) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+        }
+        node.priority = priority(node);
+        node.index = heapSize;
+        heap[heapSize++] = node;
+        siftUp(node.index);
+        totalWeight += node.weight;
+    }
+
+    private void unlink(final Node<KEY, VALUE> node) {
+        final int index = node.index;
+        if (index != UNLINKED) {
+            final Node<KEY, VALUE> last = heap[--heapSize];
+            heap[heapSize] = null;
+            if (last != node) {
+                heap[index] = last;
+                last.index = index;
+                siftDown(index);
+                siftUp(last.index);
+            }
+            totalWeight -= node.weight;
+        }
+        node.index = UNLINKED;
+        node.retired = true;
+    }
+
+    private void siftUp(final int start) {
+        int index = start;
+        final Node<KEY, VALUE> node = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heap[parent].priority <= node.priority) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heap[index].index = index;
+            index = parent;
+        }
+        heap[index] = node;
+        node.index = index;
+    }
+
+    private void siftDown(final int start) {
+        int index = start;
+        final Node<KEY, VALUE> node = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1].priority < heap[child].priority) {
+                child++;
+            }
+            if (node.priority <= heap[child].priority) {
+                break;
+            }
+            heap[index] = heap[child];
+            heap[index].index = index;
+            index = child;
+        }
+        heap[index] = node;
+        node.index = index;
+    }
+
+    private static final class Node<KEY, VALUE> {
+
+        private final KEY key;
+        private final VALUE value;
+        private final long weight;
+        private final long cost;
+
+        // guarded by the eviction lock
+        private int index = UNLINKED;
+        private boolean retired;
+        private double priority;
+
+        private Node(final KEY key, final VALUE value, final long weight, final long cost) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.cost = cost;
+        }
+
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<KEY, VALUE>> {
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public Iterator<Entry<KEY, VALUE>> iterator() {
+            final Iterator<Node<KEY, VALUE>> nodes = data.values().iterator();
+            return new Iterator<>() {
+
+                private @Nullable Node<KEY, VALUE> current;
+
+                @Override
+                public boolean hasNext() {
+                    return nodes.hasNext();
+                }
+
+                @Override
+                public Entry<KEY, VALUE> next() {
+                    final Node<KEY, VALUE> node = nodes.next();
+                    current = node;
+                    return new SimpleImmutableEntry<>(node.key, node.value);
+                }
+
+                @Override
+                public void remove() {
+                    final Node<KEY, VALUE> node = current;
+                    if (node == null) {
+                        throw new IllegalStateException();
+                    }
+                    current = null;
+                    if (data.remove(node.key, node)) {
+                        afterRemoval(node);
+                    }
+                }
+
+            };
+        }
+
+    }
+
+}
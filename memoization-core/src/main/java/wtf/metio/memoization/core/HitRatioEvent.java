@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.Map;
+
+/**
+ * Periodic flight recorder event with the statistics of a single memoizer. Only memoizers whose cache was created by
+ * {@link ConcurrentMaps#recordStatistics(Map)} are reported, since other memoizers do not count their hits.
+ */
+@Name(HitRatioEvent.NAME)
+@Label("Memoization Hit Ratio")
+@Category("Memoization")
+@Description("Statistics of a memoizer whose cache records statistics")
+@Period("60 s")
+@StackTrace(false)
+final class HitRatioEvent extends Event {
+
+    static final String NAME = "wtf.metio.memoization.HitRatio";
+
+    @Label("Memoizer")
+    Class<?> memoizer;
+
+    @Label("Hit Count")
+    long hitCount;
+
+    @Label("Miss Count")
+    long missCount;
+
+    @Label("Hit Ratio")
+    @Percentage
+    double hitRatio;
+
+    @Label("Eviction Count")
+    long evictionCount;
+
+    @Label("Average Load Penalty")
+    @Timespan
+    long averageLoadPenalty;
+
+}
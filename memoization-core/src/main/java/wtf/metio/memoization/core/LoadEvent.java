@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for a single computation of a memoized value. Only computations that take longer than the
+ * configured threshold are recorded, thus recordings show slow memoized functions next to the rest of the latency data.
+ */
+@Name(LoadEvent.NAME)
+@Label("Memoization Load")
+@Category("Memoization")
+@Description("Computation of a value that was absent from the cache of a memoizer")
+@Threshold("20 ms")
+@StackTrace
+final class LoadEvent extends Event {
+
+    static final String NAME = "wtf.metio.memoization.Load";
+
+    @Label("Memoizer")
+    Class<?> memoizer;
+
+    @Label("Key Type")
+    Class<?> keyType;
+
+    @Label("Cache Type")
+    Class<?> cacheType;
+
+    @Label("Failed")
+    @Description("Whether the computation threw an exception or produced no value")
+    boolean failed;
+
+}
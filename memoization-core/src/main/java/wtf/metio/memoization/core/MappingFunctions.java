@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * Implemented by the {@link java.util.concurrent.ConcurrentMap}s of this package that remember how their values were
+ * computed in order to refresh them later on, thus decorators that compute values on their own can pass on the mapping
+ * function they used.
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+interface MappingFunctions<KEY, VALUE> {
+
+    /**
+     * Stores the given value unless the given key is already present, just like
+     * {@link java.util.concurrent.ConcurrentMap#putIfAbsent(Object, Object)}.
+     *
+     * @param key             The key to store.
+     * @param value           The value to store.
+     * @param mappingFunction The function that computed the given value.
+     * @return The previous value associated with the given key or {@code null} in case there was none.
+     */
+    @Nullable VALUE putIfAbsent(KEY key, VALUE value, Function<? super KEY, ? extends VALUE> mappingFunction);
+
+}
@@ -29,7 +29,9 @@ public final class MemoizationDefaults {
     }
 
     /**
-     * Generic cache key function that uses the hash codes of its given arguments to construct a cache key.
+     * Generic cache key function that uses the hash codes of its given arguments to construct a cache key. Different
+     * arguments might produce the same hash code and therefore share a cache key - consider using one of the
+     * {@code compositeKey} methods instead.
      *
      * @param values The values to use.
      * @return The constructed cache key.
@@ -39,4 +41,415 @@ public final class MemoizationDefaults {
         return Arrays.hashCode(values);
     }
 
+    /**
+     * Cache key function that combines 2 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(final Object v1, final Object v2) {
+        return new CompositeKey2(v1, v2);
+    }
+
+    /**
+     * Cache key function that combines 3 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @param v3 The third value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(final Object v1, final Object v2, final Object v3) {
+        return new CompositeKey3(v1, v2, v3);
+    }
+
+    /**
+     * Cache key function that combines 4 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @param v3 The third value to use.
+     * @param v4 The fourth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(final Object v1, final Object v2, final Object v3, final Object v4) {
+        return new CompositeKey4(v1, v2, v3, v4);
+    }
+
+    /**
+     * Cache key function that combines 5 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @param v3 The third value to use.
+     * @param v4 The fourth value to use.
+     * @param v5 The fifth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5) {
+        return new CompositeKey5(v1, v2, v3, v4, v5);
+    }
+
+    /**
+     * Cache key function that combines 6 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @param v3 The third value to use.
+     * @param v4 The fourth value to use.
+     * @param v5 The fifth value to use.
+     * @param v6 The sixth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6) {
+        return new CompositeKey6(v1, v2, v3, v4, v5, v6);
+    }
+
+    /**
+     * Cache key function that combines 7 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @param v3 The third value to use.
+     * @param v4 The fourth value to use.
+     * @param v5 The fifth value to use.
+     * @param v6 The sixth value to use.
+     * @param v7 The seventh value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7) {
+        return new CompositeKey7(v1, v2, v3, v4, v5, v6, v7);
+    }
+
+    /**
+     * Cache key function that combines 8 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @param v3 The third value to use.
+     * @param v4 The fourth value to use.
+     * @param v5 The fifth value to use.
+     * @param v6 The sixth value to use.
+     * @param v7 The seventh value to use.
+     * @param v8 The eighth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8) {
+        return new CompositeKey8(v1, v2, v3, v4, v5, v6, v7, v8);
+    }
+
+    /**
+     * Cache key function that combines 9 values into a {@link CompositeKey}.
+     *
+     * @param v1 The first value to use.
+     * @param v2 The second value to use.
+     * @param v3 The third value to use.
+     * @param v4 The fourth value to use.
+     * @param v5 The fifth value to use.
+     * @param v6 The sixth value to use.
+     * @param v7 The seventh value to use.
+     * @param v8 The eighth value to use.
+     * @param v9 The ninth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9) {
+        return new CompositeKey9(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+    }
+
+    /**
+     * Cache key function that combines 10 values into a {@link CompositeKey}.
+     *
+     * @param v1  The first value to use.
+     * @param v2  The second value to use.
+     * @param v3  The third value to use.
+     * @param v4  The fourth value to use.
+     * @param v5  The fifth value to use.
+     * @param v6  The sixth value to use.
+     * @param v7  The seventh value to use.
+     * @param v8  The eighth value to use.
+     * @param v9  The ninth value to use.
+     * @param v10 The tenth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10) {
+        return new CompositeKey10(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+    }
+
+    /**
+     * Cache key function that combines 11 values into a {@link CompositeKey}.
+     *
+     * @param v1  The first value to use.
+     * @param v2  The second value to use.
+     * @param v3  The third value to use.
+     * @param v4  The fourth value to use.
+     * @param v5  The fifth value to use.
+     * @param v6  The sixth value to use.
+     * @param v7  The seventh value to use.
+     * @param v8  The eighth value to use.
+     * @param v9  The ninth value to use.
+     * @param v10 The tenth value to use.
+     * @param v11 The eleventh value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11) {
+        return new CompositeKey11(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+    }
+
+    /**
+     * Cache key function that combines 12 values into a {@link CompositeKey}.
+     *
+     * @param v1  The first value to use.
+     * @param v2  The second value to use.
+     * @param v3  The third value to use.
+     * @param v4  The fourth value to use.
+     * @param v5  The fifth value to use.
+     * @param v6  The sixth value to use.
+     * @param v7  The seventh value to use.
+     * @param v8  The eighth value to use.
+     * @param v9  The ninth value to use.
+     * @param v10 The tenth value to use.
+     * @param v11 The eleventh value to use.
+     * @param v12 The twelfth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11,
+            final Object v12) {
+        return new CompositeKey12(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12);
+    }
+
+    /**
+     * Cache key function that combines 13 values into a {@link CompositeKey}.
+     *
+     * @param v1  The first value to use.
+     * @param v2  The second value to use.
+     * @param v3  The third value to use.
+     * @param v4  The fourth value to use.
+     * @param v5  The fifth value to use.
+     * @param v6  The sixth value to use.
+     * @param v7  The seventh value to use.
+     * @param v8  The eighth value to use.
+     * @param v9  The ninth value to use.
+     * @param v10 The tenth value to use.
+     * @param v11 The eleventh value to use.
+     * @param v12 The twelfth value to use.
+     * @param v13 The thirteenth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11,
+            final Object v12,
+            final Object v13) {
+        return new CompositeKey13(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13);
+    }
+
+    /**
+     * Cache key function that combines 14 values into a {@link CompositeKey}.
+     *
+     * @param v1  The first value to use.
+     * @param v2  The second value to use.
+     * @param v3  The third value to use.
+     * @param v4  The fourth value to use.
+     * @param v5  The fifth value to use.
+     * @param v6  The sixth value to use.
+     * @param v7  The seventh value to use.
+     * @param v8  The eighth value to use.
+     * @param v9  The ninth value to use.
+     * @param v10 The tenth value to use.
+     * @param v11 The eleventh value to use.
+     * @param v12 The twelfth value to use.
+     * @param v13 The thirteenth value to use.
+     * @param v14 The fourteenth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11,
+            final Object v12,
+            final Object v13,
+            final Object v14) {
+        return new CompositeKey14(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14);
+    }
+
+    /**
+     * Cache key function that combines 15 values into a {@link CompositeKey}.
+     *
+     * @param v1  The first value to use.
+     * @param v2  The second value to use.
+     * @param v3  The third value to use.
+     * @param v4  The fourth value to use.
+     * @param v5  The fifth value to use.
+     * @param v6  The sixth value to use.
+     * @param v7  The seventh value to use.
+     * @param v8  The eighth value to use.
+     * @param v9  The ninth value to use.
+     * @param v10 The tenth value to use.
+     * @param v11 The eleventh value to use.
+     * @param v12 The twelfth value to use.
+     * @param v13 The thirteenth value to use.
+     * @param v14 The fourteenth value to use.
+     * @param v15 The fifteenth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11,
+            final Object v12,
+            final Object v13,
+            final Object v14,
+            final Object v15) {
+        return new CompositeKey15(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15);
+    }
+
+    /**
+     * Cache key function that combines 16 values into a {@link CompositeKey}.
+     *
+     * @param v1  The first value to use.
+     * @param v2  The second value to use.
+     * @param v3  The third value to use.
+     * @param v4  The fourth value to use.
+     * @param v5  The fifth value to use.
+     * @param v6  The sixth value to use.
+     * @param v7  The seventh value to use.
+     * @param v8  The eighth value to use.
+     * @param v9  The ninth value to use.
+     * @param v10 The tenth value to use.
+     * @param v11 The eleventh value to use.
+     * @param v12 The twelfth value to use.
+     * @param v13 The thirteenth value to use.
+     * @param v14 The fourteenth value to use.
+     * @param v15 The fifteenth value to use.
+     * @param v16 The sixteenth value to use.
+     * @return The constructed cache key.
+     */
+    @CheckReturnValue
+    public static CompositeKey compositeKey(
+            final Object v1,
+            final Object v2,
+            final Object v3,
+            final Object v4,
+            final Object v5,
+            final Object v6,
+            final Object v7,
+            final Object v8,
+            final Object v9,
+            final Object v10,
+            final Object v11,
+            final Object v12,
+            final Object v13,
+            final Object v14,
+            final Object v15,
+            final Object v16) {
+        return new CompositeKey16(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16);
+    }
+
 }
@@ -0,0 +1,252 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} decorator that computes absent values outside any lock of the decorated map. The first caller
+ * for a missing key registers an in-flight marker, computes the value without holding a lock and publishes it with
+ * {@link ConcurrentMap#putIfAbsent}. Concurrent callers for the same key wait for that marker instead of computing the
+ * value again, while callers for unrelated keys never wait - not even if their keys share a hash bin.
+ * </p>
+ * <p>
+ * Since the mapping function runs outside the decorated map, it may use the map (or the memoizer using it) for other
+ * keys. Asking for the same key again from within its own computation is reported with an
+ * {@link IllegalStateException} instead of dead-locking.
+ * </p>
+ * <p>
+ * Decorated maps that implement {@link ComputationCosts} are told how long each value took to compute, thus they can
+ * weigh entries by their cost even though the computation happens outside of them. Likewise, decorated maps that
+ * implement {@link MappingFunctions} receive the mapping function of each value, thus they can refresh entries ahead of
+ * their expiration.
+ * </p>
+ * <p>
+ * Decorated maps created by {@link ConcurrentMaps#recordStatistics(Map)} never see the computations of this map, thus
+ * it records their misses, load times and the hits of waiting callers itself. Their decorated map receives the costs
+ * and mapping functions in that case.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class SingleFlightConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE>
+        implements ConcurrentMap<KEY, VALUE>, EvictionListeners {
+
+    private final ConcurrentMap<KEY, VALUE> delegate;
+    private final @Nullable ComputationCosts<KEY, VALUE> costs;
+    private final @Nullable MappingFunctions<KEY, VALUE> mappingFunctions;
+    private final @Nullable StatisticsRecorder recorder;
+    private final ConcurrentHashMap<KEY, InFlight<VALUE>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    SingleFlightConcurrentMap(final ConcurrentMap<KEY, VALUE> delegate) {
+        this.delegate = requireNonNull(delegate, "Provide a map to store computed values in.");
+        final StatisticsConcurrentMap<KEY, VALUE> statistics =
+                delegate instanceof StatisticsConcurrentMap<KEY, VALUE> recording ? recording : null;
+        final ConcurrentMap<KEY, VALUE> store = statistics != null ? statistics.delegate() : delegate;
+        this.costs = store instanceof ComputationCosts ? (ComputationCosts<KEY, VALUE>) store : null;
+        this.mappingFunctions = store instanceof MappingFunctions ? (MappingFunctions<KEY, VALUE>) store : null;
+        this.recorder = statistics != null ? statistics.recorder() : null;
+    }
+
+    ConcurrentMap<KEY, VALUE> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void addEvictionListener(final Runnable listener) {
+        if (delegate instanceof EvictionListeners evicting) {
+            evicting.addEvictionListener(listener);
+        }
+    }
+
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final VALUE existing = delegate.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final InFlight<VALUE> flight = new InFlight<>(Thread.currentThread());
+        final InFlight<VALUE> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            final VALUE value = await(running);
+            if (recorder != null && value != null) {
+                recorder.recordHit();
+            }
+            return value;
+        }
+        boolean loading = false;
+        long start = 0L;
+        try {
+            VALUE value = delegate.get(key);
+            if (value == null) {
+                loading = true;
+                start = System.nanoTime();
+                value = mappingFunction.apply(key);
+                final long costNanos = System.nanoTime() - start;
+                if (value != null) {
+                    final VALUE previous = store(key, value, mappingFunction, costNanos);
+                    if (previous != null) {
+                        value = previous;
+                    }
+                }
+                if (recorder != null) {
+                    recorder.recordMiss();
+                    if (value == null) {
+                        recorder.recordLoadFailure(costNanos);
+                    } else {
+                        recorder.recordLoadSuccess(costNanos);
+                    }
+                }
+            }
+            flight.complete(value);
+            return value;
+        } catch (final RuntimeException | Error exception) {
+            if (recorder != null && loading) {
+                recorder.recordMiss();
+                recorder.recordLoadFailure(System.nanoTime() - start);
+            }
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private @Nullable VALUE store(
+            final KEY key,
+            final VALUE value,
+            final Function<? super KEY, ? extends VALUE> mappingFunction,
+            final long costNanos) {
+        if (mappingFunctions != null) {
+            return mappingFunctions.putIfAbsent(key, value, mappingFunction);
+        }
+        if (costs != null) {
+            return costs.putIfAbsent(key, value, costNanos);
+        }
+        return delegate.putIfAbsent(key, value);
+    }
+
+    private static <VALUE> @Nullable VALUE await(final InFlight<VALUE> flight) {
+        if (flight.owner == Thread.currentThread()) {
+            throw new IllegalStateException("Recursive computation of the same key - the value depends on itself.");
+        }
+        try {
+            return flight.join();
+        } catch (final CompletionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public @Nullable VALUE get(final Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        return delegate.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        return delegate.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        return delegate.replace(key, value);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Set<KEY> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Collection<VALUE> values() {
+        return delegate.values();
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return delegate.entrySet();
+    }
+
+    private static final class InFlight<VALUE> extends CompletableFuture<VALUE> {
+
+        private final Thread owner;
+
+        private InFlight(final Thread owner) {
+            this.owner = owner;
+        }
+
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} decorator that records hits, misses, load times and evictions of the decorated map. Reads that
+ * find a value count as hits. Reads that find nothing are not counted, since memoizers follow them up with
+ * {@link #computeIfAbsent(Object, Function)} which counts a miss in case it has to load the value or a hit in case
+ * another thread loaded it in the meantime. Thus, every request of a memoizer is counted exactly once.
+ * </p>
+ * <p>
+ * Maps created by {@link ConcurrentMaps#singleFlight(Map)} that wrap this map compute values without calling
+ * {@link #computeIfAbsent(Object, Function)}, thus they record misses and load times of their computations themselves.
+ * </p>
+ * <p>
+ * Evictions are recorded for decorated maps that report them, which are the maps created by {@link ConcurrentMaps}.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class StatisticsConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE>
+        implements ConcurrentMap<KEY, VALUE>, EvictionListeners {
+
+    private final ConcurrentMap<KEY, VALUE> delegate;
+    private final StatisticsRecorder recorder = new StatisticsRecorder();
+
+    StatisticsConcurrentMap(final ConcurrentMap<KEY, VALUE> delegate) {
+        this.delegate = requireNonNull(delegate, "Provide a map to record statistics for.");
+        if (delegate instanceof EvictionListeners evicting) {
+            evicting.addEvictionListener(recorder::recordEviction);
+        }
+    }
+
+    /**
+     * Finds the statistics recorded for the given cache, looking through the decorators of this package that may wrap
+     * the recording map.
+     *
+     * @param cache The cache to inspect.
+     * @return The recording map or {@code null} in case the given cache does not record statistics.
+     */
+    static @Nullable StatisticsConcurrentMap<?, ?> of(final @Nullable Object cache) {
+        Object current = cache;
+        while (current instanceof SingleFlightConcurrentMap<?, ?> singleFlight) {
+            current = singleFlight.delegate();
+        }
+        return current instanceof StatisticsConcurrentMap<?, ?> statistics ? statistics : null;
+    }
+
+    ConcurrentMap<KEY, VALUE> delegate() {
+        return delegate;
+    }
+
+    CacheStatistics snapshot() {
+        return recorder.snapshot();
+    }
+
+    StatisticsRecorder recorder() {
+        return recorder;
+    }
+
+    @Override
+    public void addEvictionListener(final Runnable listener) {
+        if (delegate instanceof EvictionListeners evicting) {
+            evicting.addEvictionListener(listener);
+        }
+    }
+
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final Load<KEY, VALUE> load = new Load<>(mappingFunction);
+        final long start = System.nanoTime();
+        try {
+            final VALUE value = delegate.computeIfAbsent(key, load);
+            if (!load.called) {
+                recorder.recordHit();
+            } else if (value == null) {
+                recorder.recordMiss();
+                recorder.recordLoadFailure(System.nanoTime() - start);
+            } else {
+                recorder.recordMiss();
+                recorder.recordLoadSuccess(System.nanoTime() - start);
+            }
+            return value;
+        } catch (final RuntimeException | Error exception) {
+            recorder.recordMiss();
+            recorder.recordLoadFailure(System.nanoTime() - start);
+            throw exception;
+        }
+    }
+
+    @Override
+    public @Nullable VALUE get(final Object key) {
+        final VALUE value = delegate.get(key);
+        if (value != null) {
+            recorder.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        return delegate.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        return delegate.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        return delegate.replace(key, value);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Set<KEY> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Collection<VALUE> values() {
+        return delegate.values();
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return delegate.entrySet();
+    }
+
+    /**
+     * Remembers whether the decorated map actually called the mapping function. Maps call it on the calling thread,
+     * refreshing maps may call it again later on, which is not counted as a load.
+     */
+    private static final class Load<KEY, VALUE> implements Function<KEY, VALUE> {
+
+        private final Function<? super KEY, ? extends VALUE> mappingFunction;
+        private boolean called;
+
+        private Load(final Function<? super KEY, ? extends VALUE> mappingFunction) {
+            this.mappingFunction = mappingFunction;
+        }
+
+        @Override
+        public VALUE apply(final KEY key) {
+            called = true;
+            return mappingFunction.apply(key);
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records cache statistics with striped {@link LongAdder}s, thus concurrent memoizers do not contend on a single
+ * counter. Load times are additionally recorded in a histogram with one bucket per power of two nanoseconds.
+ */
+final class StatisticsRecorder {
+
+    static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bypassesEnabled = new LongAdder();
+    private final LongAdder bypassesDisabled = new LongAdder();
+    private final LongAdder[] loadTimes = new LongAdder[BUCKETS];
+
+    StatisticsRecorder() {
+        for (int index = 0; index < BUCKETS; index++) {
+            loadTimes[index] = new LongAdder();
+        }
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordLoadSuccess(final long loadTime) {
+        loadSuccesses.increment();
+        recordLoadTime(loadTime);
+    }
+
+    void recordLoadFailure(final long loadTime) {
+        loadFailures.increment();
+        recordLoadTime(loadTime);
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordBypass(final boolean enabled) {
+        (enabled ? bypassesEnabled : bypassesDisabled).increment();
+    }
+
+    CacheStatistics snapshot() {
+        final long[] histogram = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            histogram[index] = loadTimes[index].sum();
+        }
+        return new CacheStatistics(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(),
+                totalLoadTime.sum(), evictions.sum(), bypassesEnabled.sum(), bypassesDisabled.sum(), histogram);
+    }
+
+    private void recordLoadTime(final long loadTime) {
+        final long nanos = Math.max(0L, loadTime);
+        totalLoadTime.add(nanos);
+        loadTimes[bucket(nanos)].increment();
+    }
+
+    /**
+     * @param nanos A non-negative duration in nanoseconds.
+     * @return The index of the histogram bucket that counts the given duration.
+     */
+    static int bucket(final long nanos) {
+        return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+}
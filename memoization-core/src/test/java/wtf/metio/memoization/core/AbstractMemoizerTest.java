@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+class AbstractMemoizerTest {
+
+    @Test
+    void shouldNotCallComputeIfAbsentOnHit() {
+        // given
+        final CountingMap cache = new CountingMap();
+        cache.put("key", "value");
+        final TestMemoizer memoizer = new TestMemoizer(cache);
+
+        // when
+        final String value = memoizer.get("key");
+
+        // then
+        Assertions.assertEquals("value", value);
+        Assertions.assertEquals(0, cache.computations);
+    }
+
+    @Test
+    void shouldCallComputeIfAbsentOnMiss() {
+        // given
+        final CountingMap cache = new CountingMap();
+        final TestMemoizer memoizer = new TestMemoizer(cache);
+
+        // when
+        final String value = memoizer.get("key");
+
+        // then
+        Assertions.assertEquals("KEY", value);
+        Assertions.assertEquals(1, cache.computations);
+    }
+
+    private static final class TestMemoizer extends AbstractMemoizer<String, String> {
+
+        private TestMemoizer(final CountingMap cache) {
+            super(cache);
+        }
+
+        private String get(final String key) {
+            return computeIfAbsent(key, String::toUpperCase);
+        }
+
+    }
+
+    private static final class CountingMap extends ConcurrentHashMap<String, String> {
+
+        private int computations;
+
+        @Override
+        public String computeIfAbsent(final String key, final Function<? super String, ? extends String> function) {
+            computations++;
+            return super.computeIfAbsent(key, function);
+        }
+
+    }
+
+}
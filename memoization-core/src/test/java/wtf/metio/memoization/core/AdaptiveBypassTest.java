@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+class AdaptiveBypassTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    void shouldMemoizeInitially() {
+        // given
+        final AdaptiveBypass bypass = new AdaptiveBypass(new ConcurrentHashMap<>());
+
+        // when
+        // then
+        Assertions.assertFalse(bypass.bypassing());
+    }
+
+    @Test
+    void shouldBypassCheapComputations() {
+        // given
+        final AdaptiveBypass bypass = bypass(new ConcurrentHashMap<>());
+
+        // when
+        request(bypass, 100L, 10L, 1);
+        requests(bypass, 100L, AdaptiveBypass.WARMUP);
+
+        // then
+        Assertions.assertTrue(bypass.bypassing());
+    }
+
+    @Test
+    void shouldMemoizeExpensiveComputations() {
+        // given
+        final AdaptiveBypass bypass = bypass(new ConcurrentHashMap<>());
+
+        // when
+        request(bypass, 100L, 10_000L, 1);
+        requests(bypass, 100L, AdaptiveBypass.WARMUP);
+
+        // then
+        Assertions.assertFalse(bypass.bypassing());
+    }
+
+    @Test
+    void shouldBypassOnLowHitRates() {
+        // given
+        final AdaptiveBypass bypass = bypass(new ConcurrentHashMap<>());
+
+        // when
+        request(bypass, 100L, 200L, AdaptiveBypass.WARMUP);
+
+        // then
+        Assertions.assertTrue(bypass.bypassing());
+    }
+
+    @Test
+    void shouldSwitchBackOnceMemoizingPaysOff() {
+        // given
+        final AdaptiveBypass bypass = bypass(new ConcurrentHashMap<>());
+        request(bypass, 100L, 10L, 1);
+        requests(bypass, 100L, AdaptiveBypass.WARMUP);
+
+        // when
+        request(bypass, 100L, 10_000L, 4);
+        requests(bypass, 100L, AdaptiveBypass.WARMUP);
+
+        // then
+        Assertions.assertFalse(bypass.bypassing());
+    }
+
+    @Test
+    void shouldWaitForComputationsBeforeDeciding() {
+        // given
+        final AdaptiveBypass bypass = bypass(new ConcurrentHashMap<>());
+
+        // when
+        requests(bypass, 100L, 2 * AdaptiveBypass.WARMUP);
+
+        // then
+        Assertions.assertFalse(bypass.bypassing());
+    }
+
+    @Test
+    void shouldReportSwitches() {
+        // given
+        final ConcurrentMap<String, String> cache = ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>());
+        final AdaptiveBypass bypass = bypass(cache);
+
+        // when
+        request(bypass, 100L, 10L, 1);
+        requests(bypass, 100L, AdaptiveBypass.WARMUP);
+        request(bypass, 100L, 10_000L, 4);
+        requests(bypass, 100L, AdaptiveBypass.WARMUP);
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(cache).orElseThrow();
+        Assertions.assertEquals(1, statistics.bypassEnabledCount());
+        Assertions.assertEquals(1, statistics.bypassDisabledCount());
+    }
+
+    @Test
+    void shouldSampleAboutOneInSixtyFourRequests() {
+        // given
+        final AdaptiveBypass bypass = new AdaptiveBypass(new ConcurrentHashMap<>());
+
+        // when
+        int samples = 0;
+        for (int request = 0; request < 64_000; request++) {
+            if (bypass.sample() != null) {
+                samples++;
+            }
+        }
+
+        // then
+        Assertions.assertTrue(samples > 500 && samples < 1_500, "samples: " + samples);
+    }
+
+    private AdaptiveBypass bypass(final ConcurrentMap<?, ?> cache) {
+        return new AdaptiveBypass(cache, ticker::get, 0);
+    }
+
+    // hits that take the given number of nanoseconds
+    private void requests(final AdaptiveBypass bypass, final long lookupNanos, final int count) {
+        for (int request = 0; request < count; request++) {
+            final AdaptiveBypass.Sample sample = bypass.sample();
+            Assertions.assertNotNull(sample);
+            ticker.addAndGet(lookupNanos);
+            sample.finish();
+        }
+    }
+
+    // misses that take the given number of nanoseconds for their lookup and their computation
+    private void request(final AdaptiveBypass bypass, final long lookupNanos, final long computeNanos, final int count) {
+        for (int request = 0; request < count; request++) {
+            final AdaptiveBypass.Sample sample = bypass.sample();
+            Assertions.assertNotNull(sample);
+            ticker.addAndGet(lookupNanos);
+            sample.compute(() -> ticker.addAndGet(computeNanos));
+            sample.finish();
+        }
+    }
+
+}
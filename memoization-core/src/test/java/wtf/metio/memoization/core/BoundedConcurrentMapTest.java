@@ -0,0 +1,158 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentMap;
+
+class BoundedConcurrentMapTest {
+
+    @Test
+    void shouldStoreValues() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.bounded(10);
+
+        // when
+        map.put("key", "value");
+
+        // then
+        Assertions.assertEquals("value", map.get("key"));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldNotExceedMaximumSize() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = ConcurrentMaps.bounded(100);
+
+        // when
+        for (int key = 0; key < 10_000; key++) {
+            map.put(key, key);
+        }
+
+        // then
+        Assertions.assertEquals(100, map.size());
+    }
+
+    @Test
+    void shouldNotExceedMaximumWeight() {
+        // given
+        final ConcurrentMap<Integer, String> map = ConcurrentMaps.bounded(100, (key, value) -> value.length());
+
+        // when
+        for (int key = 0; key < 1_000; key++) {
+            map.put(key, "0123456789");
+        }
+
+        // then
+        Assertions.assertEquals(10, map.size());
+    }
+
+    @Test
+    void shouldKeepFrequentlyUsedEntries() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = ConcurrentMaps.bounded(100);
+        for (int key = 0; key < 10; key++) {
+            map.put(key, key);
+        }
+
+        // when
+        for (int round = 0; round < 10; round++) {
+            for (int key = 0; key < 10; key++) {
+                map.get(key);
+            }
+        }
+        for (int key = 1_000; key < 2_000; key++) {
+            map.put(key, key);
+        }
+
+        // then
+        for (int key = 0; key < 10; key++) {
+            Assertions.assertEquals(key, map.get(key));
+        }
+    }
+
+    @Test
+    void shouldComputeAbsentValues() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.bounded(10);
+
+        // when
+        final String value = map.computeIfAbsent("key", String::toUpperCase);
+
+        // then
+        Assertions.assertEquals("KEY", value);
+        Assertions.assertEquals("KEY", map.get("key"));
+    }
+
+    @Test
+    void shouldNotStoreNullValues() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.bounded(10);
+
+        // when
+        final String value = map.computeIfAbsent("key", key -> null);
+
+        // then
+        Assertions.assertNull(value);
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldRemoveEntries() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.bounded(10);
+        map.put("first", "value");
+        map.put("second", "value");
+
+        // when
+        map.remove("first");
+        map.remove("second", "other");
+
+        // then
+        Assertions.assertFalse(map.containsKey("first"));
+        Assertions.assertTrue(map.containsKey("second"));
+    }
+
+    @Test
+    void shouldReplaceEntries() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.bounded(10);
+        map.put("key", "first");
+
+        // when
+        final boolean replaced = map.replace("key", "first", "second");
+
+        // then
+        Assertions.assertTrue(replaced);
+        Assertions.assertEquals("second", map.get("key"));
+    }
+
+    @Test
+    void shouldClearEntries() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.bounded(10);
+        map.put("key", "value");
+
+        // when
+        map.clear();
+
+        // then
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldRejectNegativeMaximum() {
+        // given
+        final long maximumSize = -1;
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrentMaps.bounded(maximumSize));
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+class CacheStatisticsTest {
+
+    @Test
+    void shouldNotFindStatisticsOfPlainCaches() {
+        // given
+        final ConcurrentHashMap<String, String> cache = new ConcurrentHashMap<>();
+
+        // when
+        // then
+        Assertions.assertTrue(CacheStatistics.of(cache).isEmpty());
+    }
+
+    @Test
+    void shouldFindStatisticsOfMemoizers() {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>()));
+
+        // when
+        memoizer.get("key");
+        memoizer.get("key");
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(memoizer).orElseThrow();
+        Assertions.assertEquals(1, statistics.hitCount());
+        Assertions.assertEquals(1, statistics.missCount());
+    }
+
+    @Test
+    void shouldFindStatisticsOfDecoratedCaches() {
+        // given
+        final ConcurrentMap<String, String> cache = ConcurrentMaps.singleFlight(
+                ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>()));
+
+        // when
+        final Optional<CacheStatistics> statistics = CacheStatistics.of(cache);
+
+        // then
+        Assertions.assertTrue(statistics.isPresent());
+    }
+
+    @Test
+    void shouldCalculateRatesWithoutRequests() {
+        // given
+        final CacheStatistics statistics = new StatisticsRecorder().snapshot();
+
+        // when
+        // then
+        Assertions.assertEquals(1.0, statistics.hitRate());
+        Assertions.assertEquals(0.0, statistics.missRate());
+        Assertions.assertEquals(Duration.ZERO, statistics.averageLoadPenalty());
+        Assertions.assertEquals(Duration.ZERO, statistics.loadTimePercentile(99.0));
+    }
+
+    @Test
+    void shouldCalculateAverageLoadPenalty() {
+        // given
+        final StatisticsRecorder recorder = new StatisticsRecorder();
+        recorder.recordLoadSuccess(100L);
+        recorder.recordLoadFailure(300L);
+
+        // when
+        final CacheStatistics statistics = recorder.snapshot();
+
+        // then
+        Assertions.assertEquals(Duration.ofNanos(400L), statistics.totalLoadTime());
+        Assertions.assertEquals(Duration.ofNanos(200L), statistics.averageLoadPenalty());
+    }
+
+    @Test
+    void shouldEstimateLoadTimePercentiles() {
+        // given
+        final StatisticsRecorder recorder = new StatisticsRecorder();
+        for (int load = 0; load < 99; load++) {
+            recorder.recordLoadSuccess(100L);
+        }
+        recorder.recordLoadSuccess(1_000_000L);
+
+        // when
+        final CacheStatistics statistics = recorder.snapshot();
+
+        // then
+        Assertions.assertEquals(Duration.ofNanos(127L), statistics.loadTimePercentile(50.0));
+        Assertions.assertEquals(Duration.ofNanos(127L), statistics.loadTimePercentile(99.0));
+        Assertions.assertEquals(Duration.ofNanos(1_048_575L), statistics.loadTimePercentile(100.0));
+    }
+
+    @Test
+    void shouldRejectInvalidPercentiles() {
+        // given
+        final CacheStatistics statistics = new StatisticsRecorder().snapshot();
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> statistics.loadTimePercentile(101.0));
+    }
+
+    @Test
+    void shouldCopyHistogram() {
+        // given
+        final StatisticsRecorder recorder = new StatisticsRecorder();
+        recorder.recordLoadSuccess(0L);
+        final CacheStatistics statistics = recorder.snapshot();
+
+        // when
+        statistics.loadTimeHistogram()[0] = 42L;
+
+        // then
+        Assertions.assertEquals(1L, statistics.loadTimeHistogram()[0]);
+    }
+
+    private static final class TestMemoizer extends AbstractMemoizer<String, String> {
+
+        private TestMemoizer(final ConcurrentMap<String, String> cache) {
+            super(cache);
+        }
+
+        private String get(final String key) {
+            return computeIfAbsent(key, String::toUpperCase);
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CompositeKeyTest {
+
+    @Test
+    void shouldBeEqualForEqualValues() {
+        // given
+        final CompositeKey first = MemoizationDefaults.compositeKey("a", 1, 2.0D);
+        final CompositeKey second = MemoizationDefaults.compositeKey("a", 1, 2.0D);
+
+        // when
+        final boolean equal = first.equals(second);
+
+        // then
+        Assertions.assertTrue(equal);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void shouldNotBeEqualForCollidingHashCodes() {
+        // given
+        final CompositeKey first = MemoizationDefaults.compositeKey("Aa", "BB");
+        final CompositeKey second = MemoizationDefaults.compositeKey("BB", "Aa");
+
+        // when
+        final boolean equal = first.equals(second);
+
+        // then
+        Assertions.assertFalse(equal);
+        Assertions.assertEquals(MemoizationDefaults.hashCodes("Aa", "BB"), MemoizationDefaults.hashCodes("BB", "Aa"));
+    }
+
+    @Test
+    void shouldNotBeEqualForDifferentArity() {
+        // given
+        final CompositeKey first = MemoizationDefaults.compositeKey("a", "b");
+        final CompositeKey second = MemoizationDefaults.compositeKey("a", "b", null);
+
+        // when
+        final boolean equal = first.equals(second);
+
+        // then
+        Assertions.assertFalse(equal);
+    }
+
+    @Test
+    void shouldSupportNullValues() {
+        // given
+        final CompositeKey first = MemoizationDefaults.compositeKey(null, null, null, null);
+        final CompositeKey second = MemoizationDefaults.compositeKey(null, null, null, null);
+
+        // when
+        final boolean equal = first.equals(second);
+
+        // then
+        Assertions.assertTrue(equal);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void shouldUseSameHashCodeAsArrays() {
+        // given
+        final CompositeKey key = MemoizationDefaults.compositeKey(
+                1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
+
+        // when
+        final int hashCode = key.hashCode();
+
+        // then
+        Assertions.assertEquals(
+                MemoizationDefaults.hashCodes(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16), hashCode);
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConcurrentLongTableTest {
+
+    @Test
+    void shouldComputeMissingValue() {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+
+        // when
+        final long value = table.computeIfAbsent(123L, key -> key * 2);
+
+        // then
+        Assertions.assertEquals(246L, value);
+        Assertions.assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldReuseExistingValue() {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final long first = table.computeIfAbsent(5L, key -> calls.incrementAndGet());
+        final long second = table.computeIfAbsent(5L, key -> calls.incrementAndGet());
+
+        // then
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldDistinguishKeyPairs() {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+
+        // when
+        final long first = table.computeIfAbsent(1L, 2L, Long::sum);
+        final long second = table.computeIfAbsent(2L, 1L, (left, right) -> left - right);
+        final long single = table.computeIfAbsent(1L, key -> -key);
+
+        // then
+        Assertions.assertEquals(3L, first);
+        Assertions.assertEquals(1L, second);
+        Assertions.assertEquals(-1L, single);
+        Assertions.assertEquals(3, table.size());
+    }
+
+    @Test
+    void shouldKeepValuesWhileGrowing() {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+
+        // when
+        for (long key = 0; key < 10_000; key++) {
+            Assertions.assertEquals(key * 3, table.computeIfAbsent(key, value -> value * 3));
+        }
+
+        // then
+        Assertions.assertEquals(10_000, table.size());
+        for (long key = 0; key < 10_000; key++) {
+            Assertions.assertEquals(key * 3, table.computeIfAbsent(key, value -> -1L));
+        }
+    }
+
+    @Test
+    void shouldRetryFailedComputation() {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> table.computeIfAbsent(7L, key -> {
+            throw new IllegalStateException("test");
+        }));
+        final long value = table.computeIfAbsent(7L, key -> 42L);
+
+        // then
+        Assertions.assertEquals(42L, value);
+        Assertions.assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldCompactSlotsOfFailedComputations() {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+        for (long key = 0; key < 1_000; key++) {
+            final long failing = key;
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> table.computeIfAbsent(0L, failing, (first, second) -> {
+                        throw new IllegalStateException("test");
+                    }));
+        }
+
+        // when
+        for (long key = 0; key < 1_000; key++) {
+            Assertions.assertEquals(key, table.computeIfAbsent(0L, key, (first, second) -> second));
+        }
+
+        // then
+        Assertions.assertEquals(1_000, table.size());
+    }
+
+    @Test
+    void shouldComputeOnceForConcurrentCallers() throws InterruptedException {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        final long[] results = new long[8];
+
+        // when
+        for (int index = 0; index < results.length; index++) {
+            final int slot = index;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                for (long key = 0; key < 1_000; key++) {
+                    results[slot] += table.computeIfAbsent(key, value -> {
+                        calls.incrementAndGet();
+                        return value + 1;
+                    });
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        Assertions.assertEquals(1_000, calls.get());
+        for (final long result : results) {
+            Assertions.assertEquals(500_500L, result);
+        }
+    }
+
+    @Test
+    void shouldBlockWaitersUntilValueIsPublished() throws InterruptedException {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable();
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread loader = new Thread(() -> table.computeIfAbsent(7L, key -> {
+            computing.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return 42L;
+        }));
+        final long[] result = new long[1];
+        final Thread waiter = new Thread(() -> result[0] = table.computeIfAbsent(7L, key -> 0L));
+
+        // when
+        loader.start();
+        computing.await();
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        loader.join();
+        waiter.join();
+
+        // then
+        Assertions.assertEquals(42L, result[0]);
+    }
+
+}
@@ -43,6 +43,33 @@ class ConcurrentMapsTest {
         Assertions.assertSame(map, concurrentMap);
     }
 
+    @Test
+    void shouldComputeDefaultCacheValuesOutsideLocks() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.defaultCache();
+
+        // when
+        final String value = map.computeIfAbsent("Aa", key -> map.computeIfAbsent("BB", String::toLowerCase));
+
+        // then
+        Assertions.assertEquals("Aa".hashCode(), "BB".hashCode());
+        Assertions.assertEquals("bb", value);
+        Assertions.assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldComputeBoundedCacheValuesOutsideLocks() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.bounded(10);
+
+        // when
+        final String value = map.computeIfAbsent("Aa", key -> map.computeIfAbsent("BB", String::toLowerCase));
+
+        // then
+        Assertions.assertEquals("bb", value);
+        Assertions.assertEquals(2, map.size());
+    }
+
     @Test
     void shouldDeclarePrivateConstructor()
             throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DenseBooleanTableTest {
+
+    @Test
+    void shouldStoreBothValues() {
+        // given
+        final DenseBooleanTable table = new DenseBooleanTable(0L, 100L);
+
+        // when
+        for (long key = 0; key < 100; key++) {
+            table.computeIfAbsent(key, value -> value % 3 == 0);
+        }
+
+        // then
+        Assertions.assertEquals(100, table.size());
+        for (long key = 0; key < 100; key++) {
+            Assertions.assertEquals(key % 3 == 0, table.computeIfAbsent(key, value -> value % 3 != 0));
+        }
+    }
+
+    @Test
+    void shouldReuseExistingValue() {
+        // given
+        final DenseBooleanTable table = new DenseBooleanTable(0L, 64L);
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final boolean first = table.computeIfAbsent(31L, key -> calls.incrementAndGet() == 1);
+        final boolean second = table.computeIfAbsent(31L, key -> calls.incrementAndGet() == 1);
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertTrue(second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldKnowItsRange() {
+        // given
+        final DenseBooleanTable table = new DenseBooleanTable(Long.MAX_VALUE - 10, Long.MAX_VALUE);
+
+        // when
+        // then
+        Assertions.assertFalse(table.contains(Long.MAX_VALUE - 11));
+        Assertions.assertTrue(table.contains(Long.MAX_VALUE - 10));
+        Assertions.assertTrue(table.contains(Long.MAX_VALUE - 1));
+        Assertions.assertFalse(table.contains(Long.MAX_VALUE));
+        Assertions.assertFalse(table.contains(Long.MIN_VALUE));
+    }
+
+    @Test
+    void shouldRejectOversizedRange() {
+        // given
+        final long fromInclusive = 0L;
+        final long toExclusive = Integer.MAX_VALUE + 1L;
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DenseBooleanTable(fromInclusive, toExclusive));
+    }
+
+    @Test
+    void shouldRetryFailedComputation() {
+        // given
+        final DenseBooleanTable table = new DenseBooleanTable(0L, 16L);
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> table.computeIfAbsent(7L, key -> {
+            throw new IllegalStateException("test");
+        }));
+        final boolean value = table.computeIfAbsent(7L, key -> true);
+
+        // then
+        Assertions.assertTrue(value);
+        Assertions.assertEquals(1, table.size());
+    }
+
+}
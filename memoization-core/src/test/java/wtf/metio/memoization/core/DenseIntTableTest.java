@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DenseIntTableTest {
+
+    @Test
+    void shouldComputeMissingValue() {
+        // given
+        final DenseIntTable table = new DenseIntTable(0, 16);
+
+        // when
+        final int value = table.computeIfAbsent(12, key -> key * 2);
+
+        // then
+        Assertions.assertEquals(24, value);
+        Assertions.assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldReuseExistingValue() {
+        // given
+        final DenseIntTable table = new DenseIntTable(-8, 8);
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final int first = table.computeIfAbsent(-5, key -> calls.incrementAndGet());
+        final int second = table.computeIfAbsent(-5, key -> calls.incrementAndGet());
+
+        // then
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldStoreZero() {
+        // given
+        final DenseIntTable table = new DenseIntTable(0, 4);
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        table.computeIfAbsent(0, key -> calls.incrementAndGet() - 1);
+        final int value = table.computeIfAbsent(0, key -> calls.incrementAndGet());
+
+        // then
+        Assertions.assertEquals(0, value);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldKnowItsRange() {
+        // given
+        final DenseIntTable table = new DenseIntTable(10, 20);
+
+        // when
+        // then
+        Assertions.assertFalse(table.contains(9));
+        Assertions.assertTrue(table.contains(10));
+        Assertions.assertTrue(table.contains(19));
+        Assertions.assertFalse(table.contains(20));
+        Assertions.assertFalse(table.contains(Integer.MIN_VALUE));
+        Assertions.assertFalse(table.contains(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldRejectEmptyRange() {
+        // given
+        final int fromInclusive = 5;
+        final int toExclusive = 5;
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DenseIntTable(fromInclusive, toExclusive));
+    }
+
+    @Test
+    void shouldRejectOversizedRange() {
+        // given
+        final int fromInclusive = Integer.MIN_VALUE;
+        final int toExclusive = Integer.MAX_VALUE;
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DenseIntTable(fromInclusive, toExclusive));
+    }
+
+    @Test
+    void shouldRetryFailedComputation() {
+        // given
+        final DenseIntTable table = new DenseIntTable(0, 16);
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> table.computeIfAbsent(7, key -> {
+            throw new IllegalStateException("test");
+        }));
+        final int value = table.computeIfAbsent(7, key -> 42);
+
+        // then
+        Assertions.assertEquals(42, value);
+        Assertions.assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldComputeOnceForConcurrentCallers() throws InterruptedException {
+        // given
+        final DenseIntTable table = new DenseIntTable(0, 1_000);
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        final long[] results = new long[8];
+
+        // when
+        for (int index = 0; index < results.length; index++) {
+            final int slot = index;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int key = 0; key < 1_000; key++) {
+                    results[slot] += table.computeIfAbsent(key, value -> {
+                        calls.incrementAndGet();
+                        return value + 1;
+                    });
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        Assertions.assertEquals(1_000, calls.get());
+        Assertions.assertEquals(1_000, table.size());
+        for (final long result : results) {
+            Assertions.assertEquals(500_500L, result);
+        }
+    }
+
+    @Test
+    void shouldBlockWaitersUntilValueIsPublished() throws InterruptedException {
+        // given
+        final DenseIntTable table = new DenseIntTable(0, 16);
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread loader = new Thread(() -> table.computeIfAbsent(7, key -> {
+            computing.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return 42;
+        }));
+        final int[] result = new int[1];
+        final Thread waiter = new Thread(() -> result[0] = table.computeIfAbsent(7, key -> 0));
+
+        // when
+        loader.start();
+        computing.await();
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        loader.join();
+        waiter.join();
+
+        // then
+        Assertions.assertEquals(42, result[0]);
+    }
+
+}
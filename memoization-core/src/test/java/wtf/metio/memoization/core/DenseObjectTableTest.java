@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DenseObjectTableTest {
+
+    @Test
+    void shouldComputeMissingValue() {
+        // given
+        final DenseObjectTable<String> table = new DenseObjectTable<>(0, 16);
+
+        // when
+        final String value = table.computeIfAbsent(3, Integer::toString);
+
+        // then
+        Assertions.assertEquals("3", value);
+        Assertions.assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldReuseExistingValue() {
+        // given
+        final DenseObjectTable<String> table = new DenseObjectTable<>(0, 16);
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final String first = table.computeIfAbsent(5, key -> "value" + calls.incrementAndGet());
+        final String second = table.computeIfAbsent(5, key -> "value" + calls.incrementAndGet());
+
+        // then
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldKnowItsRange() {
+        // given
+        final DenseObjectTable<String> table = new DenseObjectTable<>(-4, 4);
+
+        // when
+        // then
+        Assertions.assertFalse(table.contains(-5));
+        Assertions.assertTrue(table.contains(-4));
+        Assertions.assertTrue(table.contains(3));
+        Assertions.assertFalse(table.contains(4));
+    }
+
+    @Test
+    void shouldRetryFailedComputation() {
+        // given
+        final DenseObjectTable<String> table = new DenseObjectTable<>(0, 16);
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> table.computeIfAbsent(7, key -> {
+            throw new IllegalStateException("test");
+        }));
+        final String value = table.computeIfAbsent(7, key -> "value");
+
+        // then
+        Assertions.assertEquals("value", value);
+        Assertions.assertEquals(1, table.size());
+    }
+
+}
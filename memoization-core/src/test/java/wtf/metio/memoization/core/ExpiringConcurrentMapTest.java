@@ -0,0 +1,316 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static wtf.metio.memoization.core.ExpiringConcurrentMap.NEVER;
+
+class ExpiringConcurrentMapTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    void shouldExpireAfterWrite() {
+        // given
+        final ConcurrentMap<String, String> map = new ExpiringConcurrentMap<>(10, NEVER, NEVER, null, ticker::get);
+        map.put("key", "value");
+
+        // when
+        ticker.set(5);
+        final String beforeExpiration = map.get("key");
+        ticker.set(10);
+        final String afterExpiration = map.get("key");
+
+        // then
+        Assertions.assertEquals("value", beforeExpiration);
+        Assertions.assertNull(afterExpiration);
+        Assertions.assertFalse(map.containsKey("key"));
+    }
+
+    @Test
+    void shouldExpireAfterAccess() {
+        // given
+        final ConcurrentMap<String, String> map = new ExpiringConcurrentMap<>(NEVER, 10, NEVER, null, ticker::get);
+        map.put("key", "value");
+
+        // when
+        ticker.set(8);
+        final String firstRead = map.get("key");
+        ticker.set(16);
+        final String secondRead = map.get("key");
+        ticker.set(26);
+        final String thirdRead = map.get("key");
+
+        // then
+        Assertions.assertEquals("value", firstRead);
+        Assertions.assertEquals("value", secondRead);
+        Assertions.assertNull(thirdRead);
+    }
+
+    @Test
+    void shouldRecomputeExpiredEntries() {
+        // given
+        final ConcurrentMap<String, Integer> map = new ExpiringConcurrentMap<>(10, NEVER, NEVER, null, ticker::get);
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final Integer first = map.computeIfAbsent("key", key -> calls.incrementAndGet());
+        final Integer cached = map.computeIfAbsent("key", key -> calls.incrementAndGet());
+        ticker.set(10);
+        final Integer recomputed = map.computeIfAbsent("key", key -> calls.incrementAndGet());
+
+        // then
+        Assertions.assertEquals(1, first);
+        Assertions.assertEquals(1, cached);
+        Assertions.assertEquals(2, recomputed);
+    }
+
+    @Test
+    void shouldRefreshStaleEntriesAsynchronously() {
+        // given
+        final List<Runnable> tasks = new ArrayList<>();
+        final ConcurrentMap<String, Integer> map = new ExpiringConcurrentMap<>(NEVER, NEVER, 10, tasks::add, ticker::get);
+        final AtomicInteger calls = new AtomicInteger();
+        map.computeIfAbsent("key", key -> calls.incrementAndGet());
+
+        // when
+        ticker.set(10);
+        final Integer stale = map.get("key");
+        final Integer stillStale = map.get("key");
+        tasks.forEach(Runnable::run);
+        final Integer refreshed = map.get("key");
+
+        // then
+        Assertions.assertEquals(1, stale);
+        Assertions.assertEquals(1, stillStale);
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertEquals(2, refreshed);
+    }
+
+    @Test
+    void shouldKeepValueWhenRefreshFails() {
+        // given
+        final List<Runnable> tasks = new ArrayList<>();
+        final ConcurrentMap<String, Integer> map = new ExpiringConcurrentMap<>(NEVER, NEVER, 10, tasks::add, ticker::get);
+        final AtomicInteger calls = new AtomicInteger();
+        map.computeIfAbsent("key", key -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IllegalStateException("test");
+            }
+            return 1;
+        });
+
+        // when
+        ticker.set(10);
+        map.get("key");
+        tasks.forEach(Runnable::run);
+        tasks.clear();
+        final Integer value = map.get("key");
+
+        // then
+        Assertions.assertEquals(1, value);
+        Assertions.assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void shouldResetRefreshWhenLoaderThrowsError() {
+        // given
+        final List<Runnable> tasks = new ArrayList<>();
+        final ConcurrentMap<String, Integer> map = new ExpiringConcurrentMap<>(NEVER, NEVER, 10, tasks::add, ticker::get);
+        final AtomicInteger calls = new AtomicInteger();
+        map.computeIfAbsent("key", key -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new AssertionError("test");
+            }
+            return 1;
+        });
+
+        // when
+        ticker.set(10);
+        map.get("key");
+        Assertions.assertThrows(AssertionError.class, () -> tasks.forEach(Runnable::run));
+        tasks.clear();
+        final Integer value = map.get("key");
+
+        // then
+        Assertions.assertEquals(1, value);
+        Assertions.assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void shouldRefreshEntriesComputedBySingleFlight() {
+        // given
+        final List<Runnable> tasks = new ArrayList<>();
+        final ConcurrentMap<String, Integer> map = new SingleFlightConcurrentMap<>(
+                new ExpiringConcurrentMap<>(NEVER, NEVER, 10, tasks::add, ticker::get));
+        final AtomicInteger calls = new AtomicInteger();
+        map.computeIfAbsent("key", key -> calls.incrementAndGet());
+
+        // when
+        ticker.set(10);
+        final Integer stale = map.get("key");
+        tasks.forEach(Runnable::run);
+        final Integer refreshed = map.get("key");
+
+        // then
+        Assertions.assertEquals(1, stale);
+        Assertions.assertEquals(2, refreshed);
+    }
+
+    @Test
+    void shouldComputeOtherKeysFromWithinMappingFunction() {
+        // given
+        final ConcurrentMap<String, Integer> map = new ExpiringConcurrentMap<>(100, NEVER, NEVER, null, ticker::get);
+
+        // when
+        final Integer value = map.computeIfAbsent("outer", key -> map.computeIfAbsent("inner", other -> 1) + 1);
+
+        // then
+        Assertions.assertEquals(2, value);
+        Assertions.assertEquals(1, map.get("inner"));
+    }
+
+    @Test
+    void shouldNotRefreshEntriesWithoutMappingFunction() {
+        // given
+        final List<Runnable> tasks = new ArrayList<>();
+        final ConcurrentMap<String, String> map = new ExpiringConcurrentMap<>(NEVER, NEVER, 10, tasks::add, ticker::get);
+        map.put("key", "value");
+
+        // when
+        ticker.set(10);
+        final String value = map.get("key");
+
+        // then
+        Assertions.assertEquals("value", value);
+        Assertions.assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void shouldSweepExpiredEntriesOnWrite() {
+        // given
+        final ConcurrentMap<String, String> map = new ExpiringConcurrentMap<>(10, NEVER, NEVER, null, ticker::get);
+        map.put("first", "value");
+
+        // when
+        ticker.set(10);
+        map.put("second", "value");
+
+        // then
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldReplaceExpiredEntriesWithPutIfAbsent() {
+        // given
+        final ConcurrentMap<String, String> map = new ExpiringConcurrentMap<>(10, NEVER, NEVER, null, ticker::get);
+        map.put("key", "first");
+
+        // when
+        ticker.set(10);
+        final String previous = map.putIfAbsent("key", "second");
+
+        // then
+        Assertions.assertNull(previous);
+        Assertions.assertEquals("second", map.get("key"));
+    }
+
+    @Test
+    void shouldNotCountExpiredEntries() {
+        // given
+        final ConcurrentMap<String, String> map = new ExpiringConcurrentMap<>(10, NEVER, NEVER, null, ticker::get);
+        map.put("first", "value");
+        ticker.set(5);
+        map.put("second", "other");
+
+        // when
+        ticker.set(10);
+
+        // then
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertFalse(map.isEmpty());
+        Assertions.assertFalse(map.containsValue("value"));
+        Assertions.assertTrue(map.containsValue("other"));
+        Assertions.assertEquals(Set.of("second"), map.keySet());
+        Assertions.assertEquals(1, map.keySet().size());
+        Assertions.assertEquals(1, map.values().size());
+        Assertions.assertEquals(1, map.entrySet().size());
+    }
+
+    @Test
+    void shouldExpireEntriesWhoseRefreshKeepsFailing() {
+        // given
+        final List<Runnable> tasks = new ArrayList<>();
+        final ConcurrentMap<String, Integer> map = new ExpiringConcurrentMap<>(20, NEVER, 10, tasks::add, ticker::get);
+        final AtomicInteger calls = new AtomicInteger();
+        map.computeIfAbsent("key", key -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("test");
+            }
+            return calls.get();
+        });
+
+        // when
+        ticker.set(10);
+        final Integer stale = map.get("key");
+        tasks.forEach(Runnable::run);
+        ticker.set(20);
+        final Integer expired = map.get("key");
+
+        // then
+        Assertions.assertEquals(1, stale);
+        Assertions.assertNull(expired);
+        Assertions.assertEquals(3, map.computeIfAbsent("key", key -> calls.incrementAndGet()));
+    }
+
+    @Test
+    void shouldRejectRefreshIntervalsNotShorterThanTimeToLive() {
+        // given
+        final Duration duration = Duration.ofMinutes(1);
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ConcurrentMaps.refreshAfterWrite(duration, duration, Runnable::run));
+    }
+
+    @Test
+    void shouldCreateMapsWithFactories() {
+        // given
+        final Duration duration = Duration.ofMinutes(1);
+
+        // when
+        final ConcurrentMap<String, String> afterWrite = ConcurrentMaps.expireAfterWrite(duration);
+        final ConcurrentMap<String, String> afterAccess = ConcurrentMaps.expireAfterAccess(duration);
+        final ConcurrentMap<String, String> refreshing = ConcurrentMaps.refreshAfterWrite(duration,
+                duration.multipliedBy(2), Runnable::run);
+
+        // then
+        Assertions.assertNotNull(afterWrite);
+        Assertions.assertNotNull(afterAccess);
+        Assertions.assertNotNull(refreshing);
+    }
+
+    @Test
+    void shouldRejectNonPositiveDurations() {
+        // given
+        final Duration duration = Duration.ZERO;
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrentMaps.expireAfterWrite(duration));
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecordLoads() throws IOException {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(new ConcurrentHashMap<>());
+
+        // when
+        final List<RecordedEvent> events = record(LoadEvent.NAME, () -> {
+            memoizer.get("key", String::toUpperCase);
+            memoizer.get("key", String::toUpperCase);
+        });
+
+        // then
+        Assertions.assertEquals(1, events.size());
+        final RecordedEvent event = events.get(0);
+        Assertions.assertEquals(TestMemoizer.class.getName(), event.getClass("memoizer").getName());
+        Assertions.assertEquals(String.class.getName(), event.getClass("keyType").getName());
+        Assertions.assertFalse(event.getBoolean("failed"));
+    }
+
+    @Test
+    void shouldRecordFailedLoads() throws IOException {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(new ConcurrentHashMap<>());
+
+        // when
+        final List<RecordedEvent> events = record(LoadEvent.NAME, () -> Assertions.assertThrows(
+                IllegalStateException.class, () -> memoizer.get("key", key -> {
+                    throw new IllegalStateException();
+                })));
+
+        // then
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertTrue(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    void shouldNotMarkMissingValuesAsFailed() throws IOException {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(new ConcurrentHashMap<>());
+
+        // when
+        final List<RecordedEvent> events = record(LoadEvent.NAME, () -> memoizer.get("key", key -> null));
+
+        // then
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertFalse(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    void shouldRecordEachCallOfKeptMappingFunctions() throws IOException {
+        // given
+        final List<Function<? super String, ? extends String>> kept = new ArrayList<>();
+        final TestMemoizer memoizer = new TestMemoizer(new ConcurrentHashMap<>() {
+            @Override
+            public String computeIfAbsent(
+                    final String key,
+                    final Function<? super String, ? extends String> mappingFunction) {
+                kept.add(mappingFunction);
+                return super.computeIfAbsent(key, mappingFunction);
+            }
+        });
+
+        // when
+        final List<RecordedEvent> events = record(LoadEvent.NAME, () -> {
+            memoizer.get("key", String::toUpperCase);
+            // refreshing caches call the kept function again
+            kept.get(0).apply("key");
+        });
+
+        // then
+        Assertions.assertEquals(2, events.size());
+    }
+
+    @Test
+    void shouldRecordLoadsOfPrimitiveTables() throws IOException {
+        // given
+        final ConcurrentLongTable table = new ConcurrentLongTable(TestMemoizer.class);
+
+        // when
+        final List<RecordedEvent> events = record(LoadEvent.NAME, () -> {
+            Assertions.assertEquals(2L, table.computeIfAbsent(1L, key -> key + 1));
+            Assertions.assertEquals(2L, table.computeIfAbsent(1L, key -> key + 1));
+        });
+
+        // then
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(TestMemoizer.class.getName(), events.get(0).getClass("memoizer").getName());
+        Assertions.assertEquals(ConcurrentLongTable.class.getName(), events.get(0).getClass("cacheType").getName());
+    }
+
+    @Test
+    void shouldRecordEvictions() throws IOException {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(ConcurrentMaps.bounded(1));
+
+        // when
+        final List<RecordedEvent> events = record(EvictionEvent.NAME, () -> {
+            memoizer.get("first", String::toUpperCase);
+            memoizer.get("second", String::toUpperCase);
+        });
+
+        // then
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(TestMemoizer.class.getName(), events.get(0).getClass("memoizer").getName());
+    }
+
+    @Test
+    void shouldRecordHitRatios() throws IOException {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>()));
+
+        // when
+        final List<RecordedEvent> events = record(HitRatioEvent.NAME, () -> {
+            memoizer.get("key", String::toUpperCase);
+            memoizer.get("key", String::toUpperCase);
+        });
+
+        // then
+        final RecordedEvent event = events.stream()
+                .filter(recorded -> TestMemoizer.class.getName().equals(recorded.getClass("memoizer").getName()))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        Assertions.assertEquals(1L, event.getLong("hitCount"));
+        Assertions.assertEquals(1L, event.getLong("missCount"));
+        Assertions.assertEquals(0.5, event.getDouble("hitRatio"));
+    }
+
+    @Test
+    void shouldRecordHitRatiosOfDecoratedStatistics() throws IOException {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(ConcurrentMaps.singleFlight(
+                ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>())));
+
+        // when
+        final List<RecordedEvent> events = record(HitRatioEvent.NAME, () -> {
+            memoizer.get("key", String::toUpperCase);
+            memoizer.get("key", String::toUpperCase);
+        });
+
+        // then
+        Assertions.assertTrue(events.stream()
+                .anyMatch(recorded -> TestMemoizer.class.getName().equals(recorded.getClass("memoizer").getName())));
+    }
+
+    @Test
+    void shouldNotRecordWithoutRecording() {
+        // given
+        final TestMemoizer memoizer = new TestMemoizer(new ConcurrentHashMap<>());
+
+        // when
+        final String value = memoizer.get("key", String::toUpperCase);
+
+        // then
+        Assertions.assertEquals("KEY", value);
+    }
+
+    private List<RecordedEvent> record(final String eventName, final Runnable action) throws IOException {
+        final Path file = directory.resolve("recording.jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO).with("period", "endChunk");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> eventName.equals(event.getEventType().getName()))
+                .toList();
+    }
+
+    private static final class TestMemoizer extends AbstractMemoizer<String, String> {
+
+        private TestMemoizer(final ConcurrentMap<String, String> cache) {
+            super(cache);
+        }
+
+        private String get(final String key, final Function<String, String> function) {
+            return computeIfAbsent(key, function);
+        }
+
+    }
+
+}
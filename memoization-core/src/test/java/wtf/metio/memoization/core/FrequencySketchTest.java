@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FrequencySketchTest {
+
+    @Test
+    void shouldEstimateFrequency() {
+        // given
+        final FrequencySketch sketch = new FrequencySketch(1_000_000);
+
+        // when
+        sketch.increment("key");
+        sketch.increment("key");
+        sketch.increment("other");
+
+        // then
+        Assertions.assertEquals(2, sketch.frequency("key"));
+        Assertions.assertEquals(1, sketch.frequency("other"));
+    }
+
+    @Test
+    void shouldKeepEstimatesWhenGrowing() {
+        // given
+        final FrequencySketch sketch = new FrequencySketch(1_000_000);
+        for (int round = 0; round < 5; round++) {
+            sketch.increment("hot");
+        }
+
+        // when
+        sketch.ensureCapacity(10_000);
+
+        // then
+        Assertions.assertTrue(sketch.frequency("hot") >= 5);
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class GreedyDualConcurrentMapTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    void shouldStoreValues() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.costAware(10);
+
+        // when
+        map.put("key", "value");
+
+        // then
+        Assertions.assertEquals("value", map.get("key"));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldNotExceedMaximumSize() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = ConcurrentMaps.costAware(100);
+
+        // when
+        for (int key = 0; key < 10_000; key++) {
+            map.computeIfAbsent(key, Integer::valueOf);
+        }
+
+        // then
+        Assertions.assertEquals(100, map.size());
+    }
+
+    @Test
+    void shouldNotExceedMaximumWeight() {
+        // given
+        final ConcurrentMap<Integer, String> map = ConcurrentMaps.costAware(100, (key, value) -> value.length());
+
+        // when
+        for (int key = 0; key < 1_000; key++) {
+            map.put(key, "0123456789");
+        }
+
+        // then
+        Assertions.assertEquals(10, map.size());
+    }
+
+    @Test
+    void shouldKeepExpensiveEntries() {
+        // given
+        final GreedyDualConcurrentMap<Integer, Integer> map = map(10);
+        for (int key = 0; key < 5; key++) {
+            map.computeIfAbsent(key, key1 -> compute(key1, 1_000_000L));
+        }
+
+        // when
+        for (int key = 100; key < 1_000; key++) {
+            map.computeIfAbsent(key, key1 -> compute(key1, 10L));
+        }
+
+        // then
+        for (int key = 0; key < 5; key++) {
+            Assertions.assertEquals(key, map.get(key));
+        }
+        Assertions.assertEquals(10, map.size());
+    }
+
+    @Test
+    void shouldPreferCostPerWeight() {
+        // given
+        final GreedyDualConcurrentMap<Integer, String> map = new GreedyDualConcurrentMap<>(
+                100, (key, value) -> value.length(), ticker::get);
+        map.computeIfAbsent(1, key -> compute("a".repeat(50), 1_000L));
+        map.computeIfAbsent(2, key -> compute("b".repeat(10), 1_000L));
+
+        // when
+        map.computeIfAbsent(3, key -> compute("c".repeat(50), 2_000L));
+
+        // then
+        Assertions.assertNull(map.get(1));
+        Assertions.assertNotNull(map.get(2));
+        Assertions.assertNotNull(map.get(3));
+    }
+
+    @Test
+    void shouldAgeOutUnusedExpensiveEntries() {
+        // given
+        final GreedyDualConcurrentMap<Integer, Integer> map = map(2);
+        map.computeIfAbsent(0, key -> compute(key, 100L));
+
+        // when
+        for (int key = 1; key < 100; key++) {
+            map.computeIfAbsent(key, key1 -> compute(key1, 10L));
+        }
+
+        // then
+        Assertions.assertNull(map.get(0));
+        Assertions.assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldKeepUsedExpensiveEntries() {
+        // given
+        final GreedyDualConcurrentMap<Integer, Integer> map = map(2);
+        map.computeIfAbsent(0, key -> compute(key, 100L));
+
+        // when
+        for (int key = 1; key < 100; key++) {
+            map.computeIfAbsent(key, key1 -> compute(key1, 10L));
+            map.get(0);
+        }
+
+        // then
+        Assertions.assertEquals(0, map.get(0));
+    }
+
+    @Test
+    void shouldEvictEntriesWithoutCostFirst() {
+        // given
+        final GreedyDualConcurrentMap<Integer, Integer> map = map(2);
+        map.computeIfAbsent(1, key -> compute(key, 10L));
+        map.put(2, 2);
+
+        // when
+        map.put(3, 3);
+
+        // then
+        Assertions.assertEquals(1, map.get(1));
+        Assertions.assertNull(map.get(2));
+    }
+
+    @Test
+    void shouldReceiveComputationCostsFromSingleFlight() {
+        // given
+        final GreedyDualConcurrentMap<Integer, Integer> delegate = map(2);
+        final ConcurrentMap<Integer, Integer> map = new SingleFlightConcurrentMap<>(delegate);
+        map.computeIfAbsent(1, key -> sleep(key, 50));
+        map.computeIfAbsent(2, Integer::valueOf);
+
+        // when
+        map.computeIfAbsent(3, Integer::valueOf);
+
+        // then
+        Assertions.assertEquals(1, map.get(1));
+        Assertions.assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldNotifyEvictionListeners() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = ConcurrentMaps.costAware(1);
+        final AtomicInteger evictions = new AtomicInteger();
+        ((EvictionListeners) map).addEvictionListener(evictions::incrementAndGet);
+
+        // when
+        map.put(1, 1);
+        map.put(2, 2);
+
+        // then
+        Assertions.assertEquals(1, evictions.get());
+    }
+
+    @Test
+    void shouldRemoveValues() {
+        // given
+        final GreedyDualConcurrentMap<String, String> map = map(10);
+        map.put("key", "value");
+
+        // when
+        map.remove("key");
+
+        // then
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldReplaceValues() {
+        // given
+        final GreedyDualConcurrentMap<String, String> map = map(10);
+        map.put("key", "value");
+
+        // when
+        final boolean replaced = map.replace("key", "value", "other");
+
+        // then
+        Assertions.assertTrue(replaced);
+        Assertions.assertEquals("other", map.get("key"));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldRemoveEntriesThroughIterator() {
+        // given
+        final GreedyDualConcurrentMap<String, String> map = map(1);
+        map.put("first", "value");
+        final Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+
+        // when
+        iterator.next();
+        iterator.remove();
+        map.put("second", "value");
+
+        // then
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertEquals("value", map.get("second"));
+    }
+
+    @Test
+    void shouldClearAllEntries() {
+        // given
+        final GreedyDualConcurrentMap<String, String> map = map(10);
+        map.put("first", "value");
+        map.put("second", "value");
+
+        // when
+        map.clear();
+
+        // then
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldRejectNegativeMaximum() {
+        // given
+        final long maximumWeight = -1;
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrentMaps.costAware(maximumWeight));
+    }
+
+    @Test
+    void shouldRejectNegativeWeights() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.costAware(10, (key, value) -> -1L);
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.put("key", "value"));
+    }
+
+    private <KEY, VALUE> GreedyDualConcurrentMap<KEY, VALUE> map(final long maximumSize) {
+        return new GreedyDualConcurrentMap<>(maximumSize, (key, value) -> 1L, ticker::get);
+    }
+
+    private <VALUE> VALUE compute(final VALUE value, final long nanos) {
+        ticker.addAndGet(nanos);
+        return value;
+    }
+
+    private static Integer sleep(final Integer value, final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class SingleFlightConcurrentMapTest {
+
+    @Test
+    void shouldComputeAbsentValues() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.singleFlight(new ConcurrentHashMap<>());
+
+        // when
+        final String value = map.computeIfAbsent("key", String::toUpperCase);
+
+        // then
+        Assertions.assertEquals("KEY", value);
+        Assertions.assertEquals("KEY", map.get("key"));
+    }
+
+    @Test
+    void shouldNotBlockCollidingKeys() throws InterruptedException {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.singleFlight(new ConcurrentHashMap<>());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread slow = new Thread(() -> map.computeIfAbsent("Aa", key -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }));
+        slow.start();
+        started.await();
+
+        // when
+        final String value = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> map.computeIfAbsent("BB", key -> "fast"));
+        release.countDown();
+        slow.join();
+
+        // then
+        Assertions.assertEquals("Aa".hashCode(), "BB".hashCode());
+        Assertions.assertEquals("fast", value);
+        Assertions.assertEquals("slow", map.get("Aa"));
+    }
+
+    @Test
+    void shouldComputeOnceForConcurrentCallers() throws InterruptedException {
+        // given
+        final ConcurrentMap<String, Integer> map = ConcurrentMaps.singleFlight(new ConcurrentHashMap<>());
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<Integer> waiterResult = new AtomicReference<>();
+        final Thread owner = new Thread(() -> map.computeIfAbsent("key", key -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return calls.incrementAndGet();
+        }));
+        owner.start();
+        started.await();
+
+        // when
+        final Thread waiter = new Thread(() -> waiterResult.set(map.computeIfAbsent("key",
+                key -> calls.incrementAndGet())));
+        waiter.start();
+        release.countDown();
+        owner.join();
+        waiter.join();
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, waiterResult.get());
+    }
+
+    @Test
+    void shouldAllowReentrantComputationOfOtherKeys() {
+        // given
+        final ConcurrentMap<Integer, Long> map = ConcurrentMaps.singleFlight(new ConcurrentHashMap<>());
+
+        // when
+        final Long value = map.computeIfAbsent(3, key -> map.computeIfAbsent(key - 1, other -> 2L) + 1L);
+
+        // then
+        Assertions.assertEquals(3L, value);
+        Assertions.assertEquals(2L, map.get(2));
+    }
+
+    @Test
+    void shouldDetectRecursiveComputationOfSameKey() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.singleFlight(new ConcurrentHashMap<>());
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> map.computeIfAbsent("key", key -> map.computeIfAbsent(key, String::toUpperCase)));
+    }
+
+    @Test
+    void shouldRetryAfterFailure() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.singleFlight(new ConcurrentHashMap<>());
+
+        // when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.computeIfAbsent("key", key -> {
+            throw new IllegalArgumentException("test");
+        }));
+        final String value = map.computeIfAbsent("key", String::toUpperCase);
+
+        // then
+        Assertions.assertEquals("KEY", value);
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class StatisticsConcurrentMapTest {
+
+    @Test
+    void shouldCountMissesAndLoads() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>());
+
+        // when
+        map.computeIfAbsent("first", String::toUpperCase);
+        map.computeIfAbsent("second", String::toUpperCase);
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(map).orElseThrow();
+        Assertions.assertEquals(0, statistics.hitCount());
+        Assertions.assertEquals(2, statistics.missCount());
+        Assertions.assertEquals(2, statistics.loadSuccessCount());
+        Assertions.assertEquals(2, Arrays.stream(statistics.loadTimeHistogram()).sum());
+    }
+
+    @Test
+    void shouldCountHits() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>());
+        map.computeIfAbsent("key", String::toUpperCase);
+
+        // when
+        map.get("key");
+        map.computeIfAbsent("key", String::toUpperCase);
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(map).orElseThrow();
+        Assertions.assertEquals(2, statistics.hitCount());
+        Assertions.assertEquals(1, statistics.missCount());
+        Assertions.assertEquals(2.0 / 3.0, statistics.hitRate());
+    }
+
+    @Test
+    void shouldNotCountEmptyReads() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>());
+
+        // when
+        map.get("key");
+
+        // then
+        Assertions.assertEquals(0, CacheStatistics.of(map).orElseThrow().requestCount());
+    }
+
+    @Test
+    void shouldCountFailedLoads() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>());
+
+        // when
+        map.computeIfAbsent("null", key -> null);
+        Assertions.assertThrows(IllegalStateException.class, () -> map.computeIfAbsent("exception", key -> {
+            throw new IllegalStateException();
+        }));
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(map).orElseThrow();
+        Assertions.assertEquals(2, statistics.missCount());
+        Assertions.assertEquals(0, statistics.loadSuccessCount());
+        Assertions.assertEquals(2, statistics.loadFailureCount());
+    }
+
+    @Test
+    void shouldCountEvictionsOfBoundedMaps() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = ConcurrentMaps.recordStatistics(ConcurrentMaps.bounded(10));
+
+        // when
+        for (int key = 0; key < 100; key++) {
+            map.computeIfAbsent(key, Integer::valueOf);
+        }
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(map).orElseThrow();
+        Assertions.assertEquals(100 - map.size(), statistics.evictionCount());
+    }
+
+    @Test
+    void shouldCountEvictionsThroughOtherDecorators() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = ConcurrentMaps.recordStatistics(
+                ConcurrentMaps.singleFlight(ConcurrentMaps.bounded(10)));
+
+        // when
+        for (int key = 0; key < 100; key++) {
+            map.computeIfAbsent(key, Integer::valueOf);
+        }
+
+        // then
+        Assertions.assertEquals(100 - map.size(), CacheStatistics.of(map).orElseThrow().evictionCount());
+    }
+
+    @Test
+    void shouldCountRequestsWhenWrappedBySingleFlight() {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.singleFlight(
+                ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>()));
+        map.computeIfAbsent("first", String::toUpperCase);
+        map.computeIfAbsent("null", key -> null);
+        Assertions.assertThrows(IllegalStateException.class, () -> map.computeIfAbsent("exception", key -> {
+            throw new IllegalStateException();
+        }));
+
+        // when
+        map.computeIfAbsent("first", String::toUpperCase);
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(map).orElseThrow();
+        Assertions.assertEquals(1, statistics.hitCount());
+        Assertions.assertEquals(3, statistics.missCount());
+        Assertions.assertEquals(1, statistics.loadSuccessCount());
+        Assertions.assertEquals(2, statistics.loadFailureCount());
+        Assertions.assertEquals(3, Arrays.stream(statistics.loadTimeHistogram()).sum());
+        Assertions.assertEquals(0.25, statistics.hitRate());
+    }
+
+    @Test
+    void shouldCountWaitingCallersAsHitsWhenWrappedBySingleFlight() throws Exception {
+        // given
+        final ConcurrentMap<String, String> map = ConcurrentMaps.singleFlight(
+                ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>()));
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        try {
+            final Future<String> first = executor.submit(() -> map.computeIfAbsent("key", key -> {
+                computing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return key.toUpperCase();
+            }));
+            computing.await(10, TimeUnit.SECONDS);
+            final Thread waiter = new Thread(() -> map.computeIfAbsent("key", String::toUpperCase));
+            waiter.start();
+            while (waiter.getState() != Thread.State.WAITING && waiter.isAlive()) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            waiter.join(10_000L);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(map).orElseThrow();
+        Assertions.assertEquals(1, statistics.hitCount());
+        Assertions.assertEquals(1, statistics.missCount());
+    }
+
+    @Test
+    void shouldCountExpiredEntries() {
+        // given
+        final long[] now = {0L};
+        final ConcurrentMap<String, String> map = new StatisticsConcurrentMap<>(new ExpiringConcurrentMap<>(10L,
+                ExpiringConcurrentMap.NEVER, ExpiringConcurrentMap.NEVER, null, () -> now[0]));
+        map.computeIfAbsent("key", String::toUpperCase);
+
+        // when
+        now[0] = 20L;
+        map.get("key");
+
+        // then
+        Assertions.assertEquals(1, CacheStatistics.of(map).orElseThrow().evictionCount());
+    }
+
+}
@@ -0,0 +1,15 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+/**
+ * The generator module renders the memoizers and factories of functional interfaces that only differ in their arity.
+ */
+@org.jspecify.annotations.NullMarked
+module wtf.metio.memoization.generator {
+
+    requires org.jspecify;
+
+    exports wtf.metio.memoization.generator;
+
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.generator;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The modules whose memoizers are generated. Each family lists the functional interfaces that only differ in their
+ * arity and optionally names the facade that is generated for them as well.
+ */
+public enum Family {
+
+    JOOL {
+        @Override
+        String packageName() {
+            return "wtf.metio.memoization.jool";
+        }
+
+        @Override
+        String facade() {
+            return "MemoizeJool";
+        }
+
+        @Override
+        List<Shape> shapes() {
+            return Stream.concat(
+                    IntStream.rangeClosed(0, 16).mapToObj(arity -> new Shape(
+                            "org.jooq.lambda.function.Consumer" + arity, arity, true, "accept", false,
+                            keyType(arity), "consumer" + arity, "identity()")),
+                    IntStream.rangeClosed(0, 16).mapToObj(arity -> new Shape(
+                            "org.jooq.lambda.function.Function" + arity, arity, false, arity == 0 ? "get" : "apply",
+                            false, keyType(arity), "function" + arity, "identity()")))
+                    .toList();
+        }
+
+        private static String keyType(final int arity) {
+            return switch (arity) {
+                case 0 -> "java.util.function.Supplier";
+                case 1 -> "java.util.function.Function";
+                case 2 -> "java.util.function.BiFunction";
+                default -> "org.jooq.lambda.function.Function" + arity;
+            };
+        }
+    },
+
+    LAMBDA {
+        @Override
+        String packageName() {
+            return "wtf.metio.memoization.lambda";
+        }
+
+        @Override
+        String facade() {
+            return "MemoizeLambda";
+        }
+
+        @Override
+        List<Shape> shapes() {
+            return IntStream.rangeClosed(0, 8).mapToObj(arity -> new Shape(
+                            "com.jnape.palatable.lambda.functions.Fn" + arity, arity, false, "checkedApply", true,
+                            arity == 0 ? "java.util.function.Supplier" : "com.jnape.palatable.lambda.functions.Fn" + arity,
+                            "fn" + arity, "id()"))
+                    .toList();
+        }
+    },
+
+    RXJAVA {
+        @Override
+        String packageName() {
+            return "wtf.metio.memoization.rxjava";
+        }
+
+        @Override
+        String facade() {
+            // MemoizeRx covers many more interfaces than those generated here, thus it is written by hand
+            return "";
+        }
+
+        @Override
+        List<Shape> shapes() {
+            return IntStream.rangeClosed(3, 9).mapToObj(arity -> new Shape(
+                            "io.reactivex.rxjava3.functions.Function" + arity, arity, false, "apply", true,
+                            "io.reactivex.rxjava3.functions.Function" + arity, "function" + arity, ""))
+                    .toList();
+        }
+    };
+
+    /**
+     * @return The package of the generated sources.
+     */
+    abstract String packageName();
+
+    /**
+     * @return The name of the generated facade or an empty string in case no facade is generated.
+     */
+    abstract String facade();
+
+    /**
+     * @return The functional interfaces to memoize in the order their factory methods appear in the facade.
+     */
+    abstract List<Shape> shapes();
+
+}
@@ -0,0 +1,238 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.generator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Generates the memoizers of functional interfaces that only differ in their arity, as well as the facades that
+ * create them. All memoizers share the templates of this package, thus changes to their hot path land in every module
+ * at once.
+ * </p>
+ * <p>
+ * Modules run the generator during the {@code generate-sources} phase of their build with their {@link Family} and
+ * the directory to write the sources to as arguments.
+ * </p>
+ */
+public final class Generator {
+
+    private static final int LINE_LENGTH = 120;
+
+    private final Template memoizer = Template.load("Memoizer.java.template");
+    private final Template functionBody = Template.load("FunctionBody.template");
+    private final Template checkedFunctionBody = Template.load("CheckedFunctionBody.template");
+    private final Template consumerBody = Template.load("ConsumerBody.template");
+    private final Template factory = Template.load("Factory.template");
+
+    /**
+     * Generates all sources of a single family.
+     *
+     * @param arguments The name of the family and the directory to write the sources to.
+     * @throws IOException In case the sources cannot be written.
+     */
+    public static void main(final String[] arguments) throws IOException {
+        if (arguments.length != 2) {
+            throw new IllegalArgumentException(
+                    "Cannot generate sources without a family and an output directory - use e.g. 'jool target/gen'.");
+        }
+        new Generator().generate(Family.valueOf(arguments[0].toUpperCase(Locale.ROOT)), Path.of(arguments[1]));
+    }
+
+    /**
+     * Generates all sources of the given family.
+     *
+     * @param family          The family to generate.
+     * @param outputDirectory The source root to write the sources to.
+     * @return The written source files.
+     * @throws IOException In case the sources cannot be written.
+     */
+    public List<Path> generate(final Family family, final Path outputDirectory) throws IOException {
+        requireNonNull(family, "Provide a family to generate.");
+        final Path packageDirectory = outputDirectory.resolve(family.packageName().replace('.', '/'));
+        Files.createDirectories(packageDirectory);
+        final List<Path> files = new ArrayList<>();
+        for (final Shape shape : family.shapes()) {
+            files.add(write(packageDirectory.resolve(shape.memoizer() + ".java"), memoizer(family, shape)));
+        }
+        if (!family.facade().isEmpty()) {
+            files.add(write(packageDirectory.resolve(family.facade() + ".java"), facade(family)));
+        }
+        return files;
+    }
+
+    String memoizer(final Family family, final Shape shape) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        values.put("package", family.packageName());
+        values.put("imports", imports(shape));
+        values.put("memoizer", shape.memoizer());
+        values.put("memoizerTypes", "KEY" + (shape.typeParameters().isEmpty() ? ""
+                : ", " + String.join(", ", shape.typeParameters())));
+        values.put("value", shape.value());
+        values.put("type", shape.type());
+        values.put("keyType", shape.keyType());
+        values.put("keyName", shape.keyName());
+        values.put("keyMessage", shape.arity() == 0
+                ? "Provide a key supplier, might just be 'MemoizationDefaults.staticKey()'."
+                : "Provide a key function.");
+        values.put("name", shape.name());
+        values.put("interface", shape.interfaceName());
+        values.put("returnType", shape.consumer() ? "void" : "OUTPUT");
+        values.put("method", shape.method());
+        values.put("parameters", shape.parameters());
+        values.put("throws", shape.checked() ? " throws Throwable" : "");
+        values.put("keyCall", shape.keyCall());
+        values.put("arguments", shape.arguments());
+        final Template body = shape.consumer() ? consumerBody
+                : shape.checked() ? checkedFunctionBody : functionBody;
+        values.put("body", body.render(values).stripTrailing());
+        return memoizer.render(values);
+    }
+
+    String facade(final Family family) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        values.put("package", family.packageName());
+        values.put("see", family.shapes().stream()
+                .map(shape -> " * @see " + shape.interfaceName())
+                .collect(Collectors.joining("\n")));
+        values.put("factories", family.shapes().stream()
+                .map(this::factories)
+                .collect(Collectors.joining()));
+        return Template.load(family.facade() + ".java.template").render(values);
+    }
+
+    private String factories(final Shape shape) {
+        final String name = shape.name();
+        final String cacheValue = shape.consumer() ? shape.defaultKeyType() : "OUTPUT";
+        final Parameter memoized = new Parameter(shape.type(), name,
+                "The {@link " + shape.interfaceName() + "} to memoize.");
+        final Parameter key = new Parameter(shape.keyType(), shape.keyName(), shape.arity() == 0
+                ? "The {@link Supplier} to get the cache key."
+                : "The {@link " + shape.keyTypeName() + "} to compute the cache key.");
+        final StringBuilder builder = new StringBuilder();
+        builder.append(factory(shape, "Default cache", "Default cache key", false, List.of(memoized),
+                shape.factory() + "(" + name + ", defaultCache())"));
+        builder.append(factory(shape, "Custom cache", "Default cache key", false,
+                List.of(memoized, new Parameter("Map<" + shape.defaultKeyType() + ", " + cacheValue + ">", "cache",
+                        "The {@link Map} based cache to use.")),
+                shape.factory() + "(" + name + ", " + shape.defaultKey() + ", cache)"));
+        if (shape.arity() > 0) {
+            builder.append(factory(shape, "Bounded cache", "Default cache key", false,
+                    List.of(memoized, new Parameter("long", "maximumSize",
+                            "The maximum number of entries to keep in the cache.")),
+                    shape.factory() + "(" + name + ", bounded(maximumSize))"));
+        }
+        builder.append(factory(shape, "Default cache", "Custom cache key", true, List.of(memoized, key),
+                shape.factory() + "(" + name + ", " + shape.keyName() + ", defaultCache())"));
+        builder.append(factory(shape, "Custom cache", "Custom cache key", true,
+                List.of(memoized, key, new Parameter("Map<KEY, " + shape.value() + ">", "cache",
+                        "The {@link Map} based cache to use.")),
+                "new " + shape.memoizer() + "<>(asConcurrentMap(cache), " + shape.keyName() + ", " + name + ")"));
+        return builder.toString();
+    }
+
+    private String factory(
+            final Shape shape,
+            final String cacheFeature,
+            final String keyFeature,
+            final boolean customKey,
+            final List<Parameter> parameters,
+            final String delegate) {
+        final List<String> typeParameters = new ArrayList<>();
+        if (customKey) {
+            typeParameters.add("KEY");
+        }
+        typeParameters.addAll(shape.typeParameters());
+
+        final Map<String, String> docs = new LinkedHashMap<>();
+        for (final String typeParameter : typeParameters) {
+            docs.put("<" + typeParameter + ">", typeParameterDoc(typeParameter));
+        }
+        for (final Parameter parameter : parameters) {
+            docs.put(parameter.name(), parameter.doc());
+        }
+        final int width = docs.keySet().stream().mapToInt(String::length).max().orElse(0);
+
+        final Map<String, String> values = new LinkedHashMap<>();
+        values.put("interface", shape.interfaceName());
+        values.put("bounded", "Bounded cache".equals(cacheFeature) ? "bounded " : "");
+        values.put("cacheFeature", cacheFeature);
+        values.put("keyFeature", keyFeature);
+        values.put("parameterDocs", docs.entrySet().stream()
+                .map(doc -> String.format("     * @param %-" + width + "s %s", doc.getKey(), doc.getValue()))
+                .collect(Collectors.joining("\n")));
+        values.put("signature", signature(shape, typeParameters, parameters));
+        values.put("delegate", delegate);
+        return factory.render(values);
+    }
+
+    private static String signature(
+            final Shape shape,
+            final List<String> typeParameters,
+            final List<Parameter> parameters) {
+        final String generics = typeParameters.isEmpty() ? "" : Shape.generics(typeParameters) + " ";
+        final String prefix = "public static " + generics + shape.type() + " " + shape.factory() + "(";
+        final List<String> declarations = parameters.stream()
+                .map(parameter -> "final " + parameter.type() + " " + parameter.name())
+                .toList();
+        final String singleLine = prefix + declarations.get(0) + ")";
+        if (declarations.size() == 1 && 4 + singleLine.length() + 2 <= LINE_LENGTH) {
+            return singleLine;
+        }
+        return prefix + declarations.stream()
+                .map(declaration -> "\n            " + declaration)
+                .collect(Collectors.joining(",")) + ")";
+    }
+
+    private static String typeParameterDoc(final String typeParameter) {
+        if ("KEY".equals(typeParameter)) {
+            return "The type of the cache key.";
+        }
+        if ("OUTPUT".equals(typeParameter)) {
+            return "The type of the output/cache value.";
+        }
+        return "The type of the " + Shape.ordinal(Integer.parseInt(typeParameter.substring(4))) + " parameter.";
+    }
+
+    private static String imports(final Shape shape) {
+        final TreeSet<String> external = new TreeSet<>();
+        final TreeSet<String> jdk = new TreeSet<>();
+        external.add(shape.qualifiedInterface());
+        external.add("wtf.metio.memoization.core.AbstractMemoizer");
+        if (shape.checked()) {
+            external.add("wtf.metio.memoization.core.WrappedThrowable");
+        }
+        jdk.add("java.util.concurrent.ConcurrentMap");
+        (shape.qualifiedKeyType().startsWith("java.") ? jdk : external).add(shape.qualifiedKeyType());
+        return external.stream().map(type -> "import " + type + ";").collect(Collectors.joining("\n"))
+                + "\n\n"
+                + jdk.stream().map(type -> "import " + type + ";").collect(Collectors.joining("\n"))
+                + "\n\nimport static java.util.Objects.requireNonNull;";
+    }
+
+    private static Path write(final Path file, final String content) throws IOException {
+        // keep unchanged files untouched, thus incremental compilation does not recompile them
+        if (Files.exists(file) && content.equals(Files.readString(file, StandardCharsets.UTF_8))) {
+            return file;
+        }
+        return Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private record Parameter(String type, String name, String doc) {
+    }
+
+}
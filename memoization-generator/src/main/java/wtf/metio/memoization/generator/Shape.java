@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A functional interface of a certain arity and everything the generator needs to know to memoize it.
+ *
+ * @param qualifiedInterface The fully qualified name of the functional interface, e.g. {@code Function3}.
+ * @param arity              The number of parameters of the functional interface.
+ * @param consumer           Whether the functional interface returns nothing.
+ * @param method             The name of the functional method.
+ * @param checked            Whether the functional method throws checked exceptions.
+ * @param qualifiedKeyType   The fully qualified name of the functional interface that computes cache keys.
+ * @param factory            The name of the factory methods in the facade.
+ * @param identity           The expression to use as cache key of functions with a single parameter.
+ */
+record Shape(
+        String qualifiedInterface,
+        int arity,
+        boolean consumer,
+        String method,
+        boolean checked,
+        String qualifiedKeyType,
+        String factory,
+        String identity) {
+
+    private static final String[] ORDINALS = {"first", "second", "third", "fourth", "fifth", "sixth", "seventh",
+            "eighth", "ninth", "tenth", "eleventh", "twelfth", "thirteenth", "fourteenth", "fifteenth", "sixteenth"};
+
+    Shape {
+        if (arity < 0 || arity > ORDINALS.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot generate memoizers for %d parameters - use between 0 and %d.", arity, ORDINALS.length));
+        }
+    }
+
+    String interfaceName() {
+        return simpleName(qualifiedInterface);
+    }
+
+    String memoizer() {
+        return interfaceName() + "Memoizer";
+    }
+
+    /**
+     * @return The name of the memoized parameter, e.g. {@code function}.
+     */
+    String name() {
+        return consumer ? "consumer" : "function";
+    }
+
+    /**
+     * @return The type of the cached values.
+     */
+    String value() {
+        return consumer ? "KEY" : "OUTPUT";
+    }
+
+    List<String> parameterTypes() {
+        return IntStream.rangeClosed(1, arity).mapToObj(index -> "TYPE" + index).toList();
+    }
+
+    /**
+     * @return The type parameters of the functional interface, e.g. {@code TYPE1, TYPE2, OUTPUT}.
+     */
+    List<String> typeParameters() {
+        final List<String> types = new ArrayList<>(parameterTypes());
+        if (!consumer) {
+            types.add("OUTPUT");
+        }
+        return types;
+    }
+
+    /**
+     * @return The parameterized functional interface, e.g. {@code Function2<TYPE1, TYPE2, OUTPUT>}.
+     */
+    String type() {
+        return interfaceName() + generics(typeParameters());
+    }
+
+    /**
+     * @return The parameterized key function, e.g. {@code BiFunction<TYPE1, TYPE2, KEY>}.
+     */
+    String keyType() {
+        final List<String> types = new ArrayList<>(parameterTypes());
+        types.add("KEY");
+        return simpleName(qualifiedKeyType) + generics(types);
+    }
+
+    String keyTypeName() {
+        return simpleName(qualifiedKeyType);
+    }
+
+    String keyName() {
+        return arity == 0 ? "keySupplier" : "keyFunction";
+    }
+
+    String keyCall() {
+        return arity == 0 ? "keySupplier.get()" : "keyFunction.apply(" + arguments() + ")";
+    }
+
+    /**
+     * @return The parameters of the functional method, e.g. {@code final TYPE1 v1, final TYPE2 v2}.
+     */
+    String parameters() {
+        return IntStream.rangeClosed(1, arity)
+                .mapToObj(index -> "final TYPE" + index + " v" + index)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * @return The arguments to call the functional method with, e.g. {@code v1, v2}.
+     */
+    String arguments() {
+        return IntStream.rangeClosed(1, arity)
+                .mapToObj(index -> "v" + index)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * @return The expression that computes cache keys in case no key function was given.
+     */
+    String defaultKey() {
+        return switch (arity) {
+            case 0 -> "staticKey()";
+            case 1 -> identity;
+            default -> "MemoizationDefaults::compositeKey";
+        };
+    }
+
+    /**
+     * @return The type of the cache keys computed by {@link #defaultKey()}.
+     */
+    String defaultKeyType() {
+        return switch (arity) {
+            case 0 -> "Integer";
+            case 1 -> "TYPE1";
+            default -> "CompositeKey";
+        };
+    }
+
+    static String ordinal(final int index) {
+        return ORDINALS[index - 1];
+    }
+
+    static String generics(final List<String> types) {
+        return types.isEmpty() ? "" : "<" + String.join(", ", types) + ">";
+    }
+
+    static String simpleName(final String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+
+}
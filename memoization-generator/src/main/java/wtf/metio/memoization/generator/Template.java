@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Text with <code>${name}</code> placeholders that are replaced by the values given to {@link #render(Map)}.
+ */
+final class Template {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([a-zA-Z]+)}");
+
+    private final String name;
+    private final String text;
+
+    Template(final String name, final String text) {
+        this.name = requireNonNull(name, "Provide a name for the template.");
+        this.text = requireNonNull(text, "Provide the text of the template.");
+    }
+
+    /**
+     * Loads a template from the resources of this package.
+     *
+     * @param name The file name of the template.
+     * @return The loaded template.
+     */
+    static Template load(final String name) {
+        try (final InputStream stream = Template.class.getResourceAsStream(name)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Cannot find template '" + name + "' - check its file name.");
+            }
+            return new Template(name, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Replaces all placeholders of this template.
+     *
+     * @param values The values to use for each placeholder.
+     * @return The rendered text.
+     */
+    String render(final Map<String, String> values) {
+        final Matcher matcher = PLACEHOLDER.matcher(text);
+        final StringBuilder builder = new StringBuilder(text.length() * 2);
+        while (matcher.find()) {
+            final String value = values.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Cannot render template '%s' without a value for '%s' - provide all placeholders.",
+                        name, matcher.group(1)));
+            }
+            matcher.appendReplacement(builder, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(builder);
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,8 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+/**
+ * Build time source generator for arity based memoizers.
+ */
+package wtf.metio.memoization.generator;
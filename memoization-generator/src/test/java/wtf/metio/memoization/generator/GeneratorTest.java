@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class GeneratorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldGenerateMemoizersAndFacade() throws IOException {
+        // given
+        final Generator generator = new Generator();
+
+        // when
+        final List<Path> files = generator.generate(Family.JOOL, directory);
+
+        // then
+        Assertions.assertEquals(35, files.size());
+        Assertions.assertTrue(Files.exists(directory.resolve("wtf/metio/memoization/jool/Function16Memoizer.java")));
+        Assertions.assertTrue(Files.exists(directory.resolve("wtf/metio/memoization/jool/MemoizeJool.java")));
+    }
+
+    @Test
+    void shouldSkipFacadeOfHandWrittenFamilies() throws IOException {
+        // given
+        final Generator generator = new Generator();
+
+        // when
+        final List<Path> files = generator.generate(Family.RXJAVA, directory);
+
+        // then
+        Assertions.assertEquals(7, files.size());
+        Assertions.assertFalse(Files.exists(directory.resolve("wtf/metio/memoization/rxjava/MemoizeRx.java")));
+    }
+
+    @Test
+    void shouldLookupBeforeComputingValues() {
+        // given
+        final Generator generator = new Generator();
+        final Shape shape = Family.JOOL.shapes().get(20);
+
+        // when
+        final String source = generator.memoizer(Family.JOOL, shape);
+
+        // then
+        Assertions.assertTrue(source.contains("final class Function3Memoizer<KEY, TYPE1, TYPE2, TYPE3, OUTPUT>"));
+        Assertions.assertTrue(source.contains("final OUTPUT value = lookup(key);"));
+        Assertions.assertTrue(source.contains("return computeIfAbsent(key, ignored -> function.apply(v1, v2, v3));"));
+    }
+
+    @Test
+    void shouldWrapThrowablesOfCheckedFunctions() {
+        // given
+        final Generator generator = new Generator();
+        final Shape shape = Family.LAMBDA.shapes().get(2);
+
+        // when
+        final String source = generator.memoizer(Family.LAMBDA, shape);
+
+        // then
+        Assertions.assertTrue(source.contains("public OUTPUT checkedApply(final TYPE1 v1, final TYPE2 v2) throws Throwable"));
+        Assertions.assertTrue(source.contains("WrappedThrowable"));
+    }
+
+    @Test
+    void shouldGenerateAllOverloadsOfFacade() {
+        // given
+        final Generator generator = new Generator();
+
+        // when
+        final String source = generator.facade(Family.LAMBDA);
+
+        // then
+        Assertions.assertTrue(source.contains("public final class MemoizeLambda"));
+        Assertions.assertTrue(source.contains("fn0(final Fn0<OUTPUT> function)"));
+        Assertions.assertTrue(source.contains("final long maximumSize)"));
+        Assertions.assertFalse(source.contains("${"));
+    }
+
+    @Test
+    void shouldKeepUnchangedFiles() throws IOException {
+        // given
+        final Generator generator = new Generator();
+        final Path file = generator.generate(Family.LAMBDA, directory).get(0);
+        final var modified = Files.getLastModifiedTime(file);
+
+        // when
+        generator.generate(Family.LAMBDA, directory);
+
+        // then
+        Assertions.assertEquals(modified, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    void shouldRejectMissingArguments() {
+        // given
+        final String[] arguments = {"jool"};
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Generator.main(arguments));
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class TemplateTest {
+
+    @Test
+    void shouldReplacePlaceholders() {
+        // given
+        final Template template = new Template("test", "${first} and ${second}");
+
+        // when
+        final String text = template.render(Map.of("first", "a", "second", "$b"));
+
+        // then
+        Assertions.assertEquals("a and $b", text);
+    }
+
+    @Test
+    void shouldRejectMissingValues() {
+        // given
+        final Template template = new Template("test", "${first} and ${second}");
+        final Map<String, String> values = Map.of("first", "a");
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> template.render(values));
+    }
+
+    @Test
+    void shouldRejectUnknownTemplates() {
+        // given
+        final String name = "Unknown.template";
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Template.load(name));
+    }
+
+}
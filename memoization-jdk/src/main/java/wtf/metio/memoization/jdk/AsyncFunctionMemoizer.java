@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+final class AsyncFunctionMemoizer<INPUT, KEY, OUTPUT>
+        extends AsyncMemoizer<KEY, OUTPUT>
+        implements Function<INPUT, CompletableFuture<OUTPUT>> {
+
+    private final Function<INPUT, KEY> keyFunction;
+    private final Function<INPUT, CompletableFuture<OUTPUT>> function;
+
+    AsyncFunctionMemoizer(
+            final ConcurrentMap<KEY, CompletableFuture<OUTPUT>> cache,
+            final Function<INPUT, KEY> keyFunction,
+            final Function<INPUT, CompletableFuture<OUTPUT>> function) {
+        super(cache);
+        this.keyFunction = requireNonNull(keyFunction, "Provide a key function.");
+        this.function = requireNonNull(function,
+                "Cannot memoize a NULL Function - provide an actual Function to fix this.");
+    }
+
+    @Override
+    public CompletableFuture<OUTPUT> apply(final INPUT input) {
+        return load(keyFunction.apply(input), () -> function.apply(input));
+    }
+
+}
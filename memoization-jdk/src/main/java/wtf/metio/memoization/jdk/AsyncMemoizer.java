@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import org.jspecify.annotations.Nullable;
+import wtf.metio.memoization.core.AbstractMemoizer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base class of memoizers for asynchronous computations. The cache holds one future per key, thus concurrent callers
+ * share a single in-flight computation. Futures that complete exceptionally are removed from the cache once they
+ * complete, thus the next caller starts a new computation. No method ever waits for a future to complete.
+ *
+ * @param <KEY>   The type of the cache key.
+ * @param <VALUE> The type of the values computed by the cached futures.
+ */
+abstract class AsyncMemoizer<KEY, VALUE> extends AbstractMemoizer<KEY, CompletableFuture<VALUE>> {
+
+    AsyncMemoizer(final ConcurrentMap<KEY, CompletableFuture<VALUE>> cache) {
+        super(cache);
+    }
+
+    /**
+     * @param key    The cache key.
+     * @param loader Starts the computation for the given key, in case no computation is cached yet.
+     * @return A copy of the cached future, thus callers cannot complete or cancel the shared future.
+     */
+    final CompletableFuture<VALUE> load(final KEY key, final Supplier<CompletableFuture<VALUE>> loader) {
+        final Load<KEY, VALUE> load = new Load<>(loader);
+        final CompletableFuture<VALUE> future = computeIfAbsent(key, load);
+        if (future == load.created) {
+            // registered outside the cache, since an already failed future removes itself right away
+            future.whenComplete((value, error) -> {
+                if (error != null) {
+                    invalidate(key, future);
+                }
+            });
+        }
+        return future.copy();
+    }
+
+    private static final class Load<KEY, VALUE> implements Function<KEY, CompletableFuture<VALUE>> {
+
+        private final Supplier<CompletableFuture<VALUE>> loader;
+        private @Nullable CompletableFuture<VALUE> created;
+
+        private Load(final Supplier<CompletableFuture<VALUE>> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public CompletableFuture<VALUE> apply(final KEY key) {
+            final CompletableFuture<VALUE> future = requireNonNull(loader.get(),
+                    "Cannot memoize a NULL future - return an actual CompletableFuture to fix this.");
+            created = future;
+            return future;
+        }
+
+    }
+
+}
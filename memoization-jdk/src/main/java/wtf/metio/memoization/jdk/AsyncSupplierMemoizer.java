@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+final class AsyncSupplierMemoizer<KEY, VALUE>
+        extends AsyncMemoizer<KEY, VALUE>
+        implements Supplier<CompletableFuture<VALUE>> {
+
+    private final Supplier<KEY> keySupplier;
+    private final Supplier<CompletableFuture<VALUE>> supplier;
+
+    AsyncSupplierMemoizer(
+            final ConcurrentMap<KEY, CompletableFuture<VALUE>> cache,
+            final Supplier<KEY> keySupplier,
+            final Supplier<CompletableFuture<VALUE>> supplier) {
+        super(cache);
+        this.keySupplier = requireNonNull(keySupplier,
+                "Provide a key supplier, might just be 'MemoizationDefaults.staticKey()'.");
+        this.supplier = requireNonNull(supplier,
+                "Cannot memoize a NULL Supplier - provide an actual Supplier to fix this.");
+    }
+
+    @Override
+    public CompletableFuture<VALUE> get() {
+        return load(keySupplier.get(), supplier);
+    }
+
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Looks up the values of many keys at once. Memoized batch functions are created by
+ * {@link Memoize#batchFunction(java.util.function.Function)} and send all keys that are not yet cached to a single
+ * call of their loader.
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+@FunctionalInterface
+public interface BatchFunction<KEY, VALUE> {
+
+    /**
+     * @param keys The keys to look up.
+     * @return The values of all given keys that have a value, in the iteration order of the given keys.
+     */
+    Map<KEY, VALUE> getAll(Collection<? extends KEY> keys);
+
+}
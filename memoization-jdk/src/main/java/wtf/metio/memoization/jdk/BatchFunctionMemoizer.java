@@ -0,0 +1,138 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import org.jspecify.annotations.Nullable;
+import wtf.metio.memoization.core.AbstractMemoizer;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Memoizes a loader that accepts many keys at once. Each call of {@link #getAll(Collection)} reads all hits from the
+ * cache and sends the remaining keys to a single call of the loader. Keys that another call is currently loading are
+ * not loaded again, instead the current call waits for their result once it loaded its own keys. Since every call
+ * loads its own keys before it waits for others, concurrent calls never wait on each other in a cycle.
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class BatchFunctionMemoizer<KEY, VALUE>
+        extends AbstractMemoizer<KEY, VALUE>
+        implements BatchFunction<KEY, VALUE> {
+
+    private final ConcurrentMap<KEY, CompletableFuture<@Nullable VALUE>> inFlight = new ConcurrentHashMap<>();
+    private final Function<Set<KEY>, Map<KEY, VALUE>> loader;
+
+    BatchFunctionMemoizer(
+            final ConcurrentMap<KEY, VALUE> cache,
+            final Function<Set<KEY>, Map<KEY, VALUE>> loader) {
+        super(cache);
+        this.loader = requireNonNull(loader,
+                "Cannot memoize a NULL Function - provide an actual Function to fix this.");
+    }
+
+    @Override
+    public Map<KEY, VALUE> getAll(final Collection<? extends KEY> keys) {
+        final Map<KEY, VALUE> values = new HashMap<>();
+        final Map<KEY, CompletableFuture<@Nullable VALUE>> claimed = new LinkedHashMap<>();
+        final Map<KEY, CompletableFuture<@Nullable VALUE>> awaited = new HashMap<>();
+        for (final KEY key : keys) {
+            if (values.containsKey(key) || claimed.containsKey(key) || awaited.containsKey(key)) {
+                continue;
+            }
+            final VALUE value = lookup(key);
+            if (value != null) {
+                values.put(key, value);
+                continue;
+            }
+            final CompletableFuture<@Nullable VALUE> created = new CompletableFuture<>();
+            final CompletableFuture<@Nullable VALUE> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                awaited.put(key, existing);
+                continue;
+            }
+            // another call might have stored the key right before it released its claim
+            final VALUE stored = lookup(key);
+            if (stored != null) {
+                inFlight.remove(key, created);
+                created.complete(stored);
+                values.put(key, stored);
+            } else {
+                claimed.put(key, created);
+            }
+        }
+        if (!claimed.isEmpty()) {
+            load(claimed, values);
+        }
+        awaited.forEach((key, future) -> {
+            final VALUE value = await(future);
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        final Map<KEY, VALUE> result = new LinkedHashMap<>();
+        for (final KEY key : keys) {
+            final VALUE value = values.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private void load(final Map<KEY, CompletableFuture<@Nullable VALUE>> claimed, final Map<KEY, VALUE> values) {
+        Throwable failure = null;
+        try {
+            final Map<KEY, VALUE> loaded = requireNonNull(loader.apply(Collections.unmodifiableSet(claimed.keySet())),
+                    "Cannot memoize a NULL Map - return an actual Map to fix this.");
+            claimed.forEach((key, future) -> {
+                final VALUE value = loaded.get(key);
+                final VALUE current = value != null ? store(key, value) : null;
+                if (current != null) {
+                    values.put(key, current);
+                }
+                inFlight.remove(key, future);
+                future.complete(current);
+            });
+        } catch (final RuntimeException | Error exception) {
+            failure = exception;
+            throw exception;
+        } finally {
+            // the loader or the cache failed, thus release all keys that were not completed yet since concurrent calls
+            // wait for them
+            final Throwable cause = failure != null ? failure
+                    : new IllegalStateException("Cannot load keys - the batch was aborted.");
+            claimed.forEach((key, future) -> {
+                if (!future.isDone()) {
+                    inFlight.remove(key, future);
+                    future.completeExceptionally(cause);
+                }
+            });
+        }
+    }
+
+    private static <VALUE> @Nullable VALUE await(final CompletableFuture<@Nullable VALUE> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+
+}
@@ -24,7 +24,7 @@ final class BiFunctionMemoizer<FIRST, SECOND, KEY, VALUE>
             final BiFunction<FIRST, SECOND, VALUE> biFunction) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults::hashCodes'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.biFunction = requireNonNull(biFunction,
                 "Cannot memoize a NULL BiFunction - provide an actual BiFunction to fix this.");
     }
@@ -25,7 +25,7 @@ final class BiPredicateMemoizer<FIRST, SECOND, KEY>
             final BiPredicate<FIRST, SECOND> biPredicate) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults::hashCodes'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.biPredicate = requireNonNull(biPredicate,
                 "Cannot memoize a NULL BiPredicate - provide an actual BiPredicate to fix this.");
     }
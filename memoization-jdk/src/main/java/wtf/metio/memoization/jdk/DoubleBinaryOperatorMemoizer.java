@@ -24,7 +24,7 @@ final class DoubleBinaryOperatorMemoizer<KEY>
             final DoubleBinaryOperator operator) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults.doubleBinaryOperatorHashCodeKeyFunction()'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.operator = requireNonNull(operator,
                 "Cannot memoize a NULL DoubleBinaryOperator - provide an actual DoubleBinaryOperator to fix this.");
     }
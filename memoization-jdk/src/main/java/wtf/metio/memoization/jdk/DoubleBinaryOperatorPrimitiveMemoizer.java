@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class DoubleBinaryOperatorPrimitiveMemoizer implements DoubleBinaryOperator {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(DoubleBinaryOperatorPrimitiveMemoizer.class);
+    private final LongBinaryOperator loader;
+
+    DoubleBinaryOperatorPrimitiveMemoizer(final DoubleBinaryOperator operator) {
+        requireNonNull(operator,
+                "Cannot memoize a NULL DoubleBinaryOperator - provide an actual DoubleBinaryOperator to fix this.");
+        this.loader = (first, second) -> doubleToRawLongBits(
+                operator.applyAsDouble(longBitsToDouble(first), longBitsToDouble(second)));
+    }
+
+    @Override
+    public double applyAsDouble(final double left, final double right) {
+        return longBitsToDouble(table.computeIfAbsent(doubleToLongBits(left), doubleToLongBits(right), loader));
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.LongUnaryOperator;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class DoubleConsumerPrimitiveMemoizer implements DoubleConsumer {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(DoubleConsumerPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    DoubleConsumerPrimitiveMemoizer(final DoubleConsumer consumer) {
+        requireNonNull(consumer,
+                "Cannot memoize a NULL Consumer - provide an actual Consumer to fix this.");
+        this.loader = key -> {
+            consumer.accept(longBitsToDouble(key));
+            return 0L;
+        };
+    }
+
+    @Override
+    public void accept(final double value) {
+        table.computeIfAbsent(doubleToLongBits(value), loader);
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.DoublePredicate;
+import java.util.function.LongUnaryOperator;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class DoublePredicatePrimitiveMemoizer implements DoublePredicate {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(DoublePredicatePrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    DoublePredicatePrimitiveMemoizer(final DoublePredicate predicate) {
+        requireNonNull(predicate,
+                "Cannot memoize a NULL Predicate - provide an actual Predicate to fix this.");
+        this.loader = key -> predicate.test(longBitsToDouble(key)) ? 1L : 0L;
+    }
+
+    @Override
+    public boolean test(final double value) {
+        return table.computeIfAbsent(doubleToLongBits(value), loader) != 0L;
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.DoubleToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class DoubleToIntFunctionPrimitiveMemoizer implements DoubleToIntFunction {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(DoubleToIntFunctionPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    DoubleToIntFunctionPrimitiveMemoizer(final DoubleToIntFunction function) {
+        requireNonNull(function,
+                "Cannot memoize a NULL DoubleToIntFunction - provide an actual DoubleToIntFunction to fix this.");
+        this.loader = key -> function.applyAsInt(longBitsToDouble(key));
+    }
+
+    @Override
+    public int applyAsInt(final double value) {
+        return (int) table.computeIfAbsent(doubleToLongBits(value), loader);
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.DoubleToLongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class DoubleToLongFunctionPrimitiveMemoizer implements DoubleToLongFunction {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(DoubleToLongFunctionPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    DoubleToLongFunctionPrimitiveMemoizer(final DoubleToLongFunction function) {
+        requireNonNull(function,
+                "Cannot memoize a NULL DoubleToLongFunction - provide an actual DoubleToLongFunction to fix this.");
+        this.loader = key -> function.applyAsLong(longBitsToDouble(key));
+    }
+
+    @Override
+    public long applyAsLong(final double value) {
+        return table.computeIfAbsent(doubleToLongBits(value), loader);
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class DoubleUnaryOperatorPrimitiveMemoizer implements DoubleUnaryOperator {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(DoubleUnaryOperatorPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    DoubleUnaryOperatorPrimitiveMemoizer(final DoubleUnaryOperator operator) {
+        requireNonNull(operator,
+                "Cannot memoize a NULL DoubleUnaryOperator - provide an actual DoubleUnaryOperator to fix this.");
+        this.loader = key -> doubleToRawLongBits(operator.applyAsDouble(longBitsToDouble(key)));
+    }
+
+    @Override
+    public double applyAsDouble(final double operand) {
+        return longBitsToDouble(table.computeIfAbsent(doubleToLongBits(operand), loader));
+    }
+
+}
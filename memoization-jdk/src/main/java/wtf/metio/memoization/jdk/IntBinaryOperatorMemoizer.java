@@ -24,7 +24,7 @@ final class IntBinaryOperatorMemoizer<KEY>
             final IntBinaryOperator operator) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults.intBinaryOperatorHashCodeKeyFunction()'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.operator = requireNonNull(operator,
                 "Cannot memoize a NULL IntBinaryOperator - provide an actual IntBinaryOperator to fix this.");
     }
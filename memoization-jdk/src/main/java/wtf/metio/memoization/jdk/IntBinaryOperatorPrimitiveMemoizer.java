@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntBinaryOperatorPrimitiveMemoizer implements IntBinaryOperator {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(IntBinaryOperatorPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    IntBinaryOperatorPrimitiveMemoizer(final IntBinaryOperator operator) {
+        requireNonNull(operator,
+                "Cannot memoize a NULL IntBinaryOperator - provide an actual IntBinaryOperator to fix this.");
+        this.loader = key -> operator.applyAsInt((int) (key >>> 32), (int) key);
+    }
+
+    @Override
+    public int applyAsInt(final int left, final int right) {
+        return (int) table.computeIfAbsent((long) left << 32 | right & 0xFFFFFFFFL, loader);
+    }
+
+}
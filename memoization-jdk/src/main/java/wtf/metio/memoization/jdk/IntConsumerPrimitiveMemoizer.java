@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntConsumerPrimitiveMemoizer implements IntConsumer {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(IntConsumerPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    IntConsumerPrimitiveMemoizer(final IntConsumer consumer) {
+        requireNonNull(consumer,
+                "Cannot memoize a NULL Consumer - provide an actual Consumer to fix this.");
+        this.loader = key -> {
+            consumer.accept((int) key);
+            return 0L;
+        };
+    }
+
+    @Override
+    public void accept(final int value) {
+        table.computeIfAbsent(value, loader);
+    }
+
+}
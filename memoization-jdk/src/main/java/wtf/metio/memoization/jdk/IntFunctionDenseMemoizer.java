@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.DenseObjectTable;
+
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntFunctionDenseMemoizer<OUTPUT> implements IntFunction<OUTPUT> {
+
+    private final DenseObjectTable<OUTPUT> table;
+    private final IntFunction<OUTPUT> function;
+    private final IntFunction<OUTPUT> fallback;
+
+    IntFunctionDenseMemoizer(
+            final IntFunction<OUTPUT> function,
+            final IntFunction<OUTPUT> fallback,
+            final int fromInclusive,
+            final int toExclusive) {
+        this.function = requireNonNull(function,
+                "Cannot memoize a NULL IntFunction - provide an actual IntFunction to fix this.");
+        this.fallback = requireNonNull(fallback, "Provide a fallback for keys outside the dense range.");
+        this.table = new DenseObjectTable<>(fromInclusive, toExclusive);
+    }
+
+    @Override
+    public OUTPUT apply(final int value) {
+        return table.contains(value) ? table.computeIfAbsent(value, function) : fallback.apply(value);
+    }
+
+}
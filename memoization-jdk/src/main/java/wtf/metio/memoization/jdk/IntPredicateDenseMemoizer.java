@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.DenseBooleanTable;
+
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntPredicateDenseMemoizer implements IntPredicate {
+
+    private final DenseBooleanTable table;
+    private final LongPredicate loader;
+    private final IntPredicate fallback;
+
+    IntPredicateDenseMemoizer(
+            final IntPredicate predicate,
+            final IntPredicate fallback,
+            final int fromInclusive,
+            final int toExclusive) {
+        requireNonNull(predicate,
+                "Cannot memoize a NULL IntPredicate - provide an actual IntPredicate to fix this.");
+        this.loader = key -> predicate.test((int) key);
+        this.fallback = requireNonNull(fallback, "Provide a fallback for keys outside the dense range.");
+        this.table = new DenseBooleanTable(fromInclusive, toExclusive);
+    }
+
+    @Override
+    public boolean test(final int value) {
+        return table.contains(value) ? table.computeIfAbsent(value, loader) : fallback.test(value);
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.IntPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntPredicatePrimitiveMemoizer implements IntPredicate {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(IntPredicatePrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    IntPredicatePrimitiveMemoizer(final IntPredicate predicate) {
+        requireNonNull(predicate,
+                "Cannot memoize a NULL Predicate - provide an actual Predicate to fix this.");
+        this.loader = key -> predicate.test((int) key) ? 1L : 0L;
+    }
+
+    @Override
+    public boolean test(final int value) {
+        return table.computeIfAbsent(value, loader) != 0L;
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.IntToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class IntToDoubleFunctionPrimitiveMemoizer implements IntToDoubleFunction {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(IntToDoubleFunctionPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    IntToDoubleFunctionPrimitiveMemoizer(final IntToDoubleFunction function) {
+        requireNonNull(function,
+                "Cannot memoize a NULL IntToDoubleFunction - provide an actual IntToDoubleFunction to fix this.");
+        this.loader = key -> doubleToRawLongBits(function.applyAsDouble((int) key));
+    }
+
+    @Override
+    public double applyAsDouble(final int value) {
+        return longBitsToDouble(table.computeIfAbsent(value, loader));
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.IntToLongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntToLongFunctionPrimitiveMemoizer implements IntToLongFunction {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(IntToLongFunctionPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    IntToLongFunctionPrimitiveMemoizer(final IntToLongFunction function) {
+        requireNonNull(function,
+                "Cannot memoize a NULL IntToLongFunction - provide an actual IntToLongFunction to fix this.");
+        this.loader = key -> function.applyAsLong((int) key);
+    }
+
+    @Override
+    public long applyAsLong(final int value) {
+        return table.computeIfAbsent(value, loader);
+    }
+
+}
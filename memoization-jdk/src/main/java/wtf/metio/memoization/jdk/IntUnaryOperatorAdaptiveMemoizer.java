@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.AbstractMemoizer;
+import wtf.metio.memoization.core.AdaptiveBypass;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntUnaryOperatorAdaptiveMemoizer<KEY>
+        extends AbstractMemoizer<KEY, Integer>
+        implements IntUnaryOperator {
+
+    private final IntFunction<KEY> keyFunction;
+    private final IntUnaryOperator operator;
+    private final AdaptiveBypass bypass;
+
+    IntUnaryOperatorAdaptiveMemoizer(
+            final ConcurrentMap<KEY, Integer> cache,
+            final IntFunction<KEY> keyFunction,
+            final IntUnaryOperator operator) {
+        super(cache);
+        this.keyFunction = requireNonNull(keyFunction, "Provide a key function.");
+        this.operator = requireNonNull(operator,
+                "Cannot memoize a NULL IntUnaryOperator - provide an actual IntUnaryOperator to fix this.");
+        this.bypass = new AdaptiveBypass(cache);
+    }
+
+    @Override
+    public int applyAsInt(final int operand) {
+        final AdaptiveBypass.Sample sample = bypass.sample();
+        if (sample == null) {
+            if (bypass.bypassing()) {
+                return operator.applyAsInt(operand);
+            }
+            return computeIfAbsent(keyFunction.apply(operand), key -> operator.applyAsInt(operand));
+        }
+        final int value = computeIfAbsent(keyFunction.apply(operand),
+                key -> sample.compute(() -> operator.applyAsInt(operand)));
+        sample.finish();
+        return value;
+    }
+
+}
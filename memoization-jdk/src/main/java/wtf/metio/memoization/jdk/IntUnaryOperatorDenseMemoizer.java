@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.DenseIntTable;
+
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntUnaryOperatorDenseMemoizer implements IntUnaryOperator {
+
+    private final DenseIntTable table;
+    private final IntUnaryOperator operator;
+    private final IntUnaryOperator fallback;
+
+    IntUnaryOperatorDenseMemoizer(
+            final IntUnaryOperator operator,
+            final IntUnaryOperator fallback,
+            final int fromInclusive,
+            final int toExclusive) {
+        this.operator = requireNonNull(operator,
+                "Cannot memoize a NULL IntUnaryOperator - provide an actual IntUnaryOperator to fix this.");
+        this.fallback = requireNonNull(fallback, "Provide a fallback for keys outside the dense range.");
+        this.table = new DenseIntTable(fromInclusive, toExclusive);
+    }
+
+    @Override
+    public int applyAsInt(final int value) {
+        return table.contains(value) ? table.computeIfAbsent(value, operator) : fallback.applyAsInt(value);
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class IntUnaryOperatorPrimitiveMemoizer implements IntUnaryOperator {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(IntUnaryOperatorPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    IntUnaryOperatorPrimitiveMemoizer(final IntUnaryOperator operator) {
+        requireNonNull(operator,
+                "Cannot memoize a NULL IntUnaryOperator - provide an actual IntUnaryOperator to fix this.");
+        this.loader = key -> operator.applyAsInt((int) key);
+    }
+
+    @Override
+    public int applyAsInt(final int operand) {
+        return (int) table.computeIfAbsent(operand, loader);
+    }
+
+}
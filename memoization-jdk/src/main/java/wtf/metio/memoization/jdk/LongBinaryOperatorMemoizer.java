@@ -24,7 +24,7 @@ final class LongBinaryOperatorMemoizer<KEY>
             final LongBinaryOperator operator) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults.longBinaryOperatorHashCodeKeyFunction()'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.operator = requireNonNull(operator,
                 "Cannot memoize a NULL LongBinaryOperator - provide an actual LongBinaryOperator to fix this.");
     }
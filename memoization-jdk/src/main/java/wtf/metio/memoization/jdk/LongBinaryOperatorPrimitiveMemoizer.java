@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.LongBinaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class LongBinaryOperatorPrimitiveMemoizer implements LongBinaryOperator {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(LongBinaryOperatorPrimitiveMemoizer.class);
+    private final LongBinaryOperator loader;
+
+    LongBinaryOperatorPrimitiveMemoizer(final LongBinaryOperator operator) {
+        requireNonNull(operator,
+                "Cannot memoize a NULL LongBinaryOperator - provide an actual LongBinaryOperator to fix this.");
+        this.loader = (first, second) -> operator.applyAsLong(first, second);
+    }
+
+    @Override
+    public long applyAsLong(final long left, final long right) {
+        return table.computeIfAbsent(left, right, loader);
+    }
+
+}
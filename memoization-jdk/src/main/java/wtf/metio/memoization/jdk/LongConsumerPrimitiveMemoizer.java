@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class LongConsumerPrimitiveMemoizer implements LongConsumer {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(LongConsumerPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    LongConsumerPrimitiveMemoizer(final LongConsumer consumer) {
+        requireNonNull(consumer,
+                "Cannot memoize a NULL LongConsumer - provide an actual LongConsumer to fix this.");
+        this.loader = key -> {
+            consumer.accept(key);
+            return 0L;
+        };
+    }
+
+    @Override
+    public void accept(final long value) {
+        table.computeIfAbsent(value, loader);
+    }
+
+}
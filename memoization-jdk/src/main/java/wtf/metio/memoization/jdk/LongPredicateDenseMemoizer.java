@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.DenseBooleanTable;
+
+import java.util.function.LongPredicate;
+
+import static java.util.Objects.requireNonNull;
+
+final class LongPredicateDenseMemoizer implements LongPredicate {
+
+    private final DenseBooleanTable table;
+    private final LongPredicate predicate;
+    private final LongPredicate fallback;
+
+    LongPredicateDenseMemoizer(
+            final LongPredicate predicate,
+            final LongPredicate fallback,
+            final long fromInclusive,
+            final long toExclusive) {
+        this.predicate = requireNonNull(predicate,
+                "Cannot memoize a NULL LongPredicate - provide an actual LongPredicate to fix this.");
+        this.fallback = requireNonNull(fallback, "Provide a fallback for keys outside the dense range.");
+        this.table = new DenseBooleanTable(fromInclusive, toExclusive);
+    }
+
+    @Override
+    public boolean test(final long value) {
+        return table.contains(value) ? table.computeIfAbsent(value, predicate) : fallback.test(value);
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class LongPredicatePrimitiveMemoizer implements LongPredicate {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(LongPredicatePrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    LongPredicatePrimitiveMemoizer(final LongPredicate predicate) {
+        requireNonNull(predicate,
+                "Cannot memoize a NULL Predicate - provide an actual Predicate to fix this.");
+        this.loader = key -> predicate.test(key) ? 1L : 0L;
+    }
+
+    @Override
+    public boolean test(final long value) {
+        return table.computeIfAbsent(value, loader) != 0L;
+    }
+
+}
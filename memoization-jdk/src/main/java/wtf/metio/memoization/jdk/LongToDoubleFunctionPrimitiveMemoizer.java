@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+final class LongToDoubleFunctionPrimitiveMemoizer implements LongToDoubleFunction {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(LongToDoubleFunctionPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    LongToDoubleFunctionPrimitiveMemoizer(final LongToDoubleFunction function) {
+        requireNonNull(function,
+                "Cannot memoize a NULL LongToDoubleFunction - provide an actual LongToDoubleFunction to fix this.");
+        this.loader = key -> doubleToRawLongBits(function.applyAsDouble(key));
+    }
+
+    @Override
+    public double applyAsDouble(final long value) {
+        return longBitsToDouble(table.computeIfAbsent(value, loader));
+    }
+
+}
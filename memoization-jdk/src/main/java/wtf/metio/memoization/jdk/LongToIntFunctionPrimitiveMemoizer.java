@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class LongToIntFunctionPrimitiveMemoizer implements LongToIntFunction {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(LongToIntFunctionPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    LongToIntFunctionPrimitiveMemoizer(final LongToIntFunction function) {
+        requireNonNull(function,
+                "Cannot memoize a NULL LongToIntFunction - provide an actual LongToIntFunction to fix this.");
+        this.loader = key -> function.applyAsInt(key);
+    }
+
+    @Override
+    public int applyAsInt(final long value) {
+        return (int) table.computeIfAbsent(value, loader);
+    }
+
+}
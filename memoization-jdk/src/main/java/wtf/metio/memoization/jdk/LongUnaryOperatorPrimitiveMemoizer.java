@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentLongTable;
+
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+final class LongUnaryOperatorPrimitiveMemoizer implements LongUnaryOperator {
+
+    private final ConcurrentLongTable table = new ConcurrentLongTable(LongUnaryOperatorPrimitiveMemoizer.class);
+    private final LongUnaryOperator loader;
+
+    LongUnaryOperatorPrimitiveMemoizer(final LongUnaryOperator operator) {
+        requireNonNull(operator,
+                "Cannot memoize a NULL LongUnaryOperator - provide an actual LongUnaryOperator to fix this.");
+        this.loader = key -> operator.applyAsLong(key);
+    }
+
+    @Override
+    public long applyAsLong(final long operand) {
+        return table.computeIfAbsent(operand, loader);
+    }
+
+}
@@ -5,15 +5,19 @@
 package wtf.metio.memoization.jdk;
 
 import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+import wtf.metio.memoization.core.CompositeKey;
 import wtf.metio.memoization.core.MemoizationDefaults;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.*;
 
-import static java.util.Collections.emptyMap;
 import static java.util.function.Function.identity;
 import static wtf.metio.memoization.core.ConcurrentMaps.asConcurrentMap;
+import static wtf.metio.memoization.core.ConcurrentMaps.bounded;
+import static wtf.metio.memoization.core.ConcurrentMaps.defaultCache;
 import static wtf.metio.memoization.core.MemoizationDefaults.staticKey;
 
 /**
@@ -24,7 +28,14 @@ import static wtf.metio.memoization.core.MemoizationDefaults.staticKey;
  * <strong>Default cache</strong>
  * <p>
  * The memoizer uses the default cache of this factory. Current implementation creates a new
- * {@link java.util.concurrent.ConcurrentMap} per memoizer.
+ * {@link java.util.concurrent.ConcurrentMap} per memoizer that computes values outside any lock, thus memoized
+ * functions may block without pinning the carrier thread of a virtual thread, see
+ * {@link wtf.metio.memoization.core.ConcurrentMaps#defaultCache()}. Interfaces that only accept and return primitive
+ * values (e.g. {@link IntUnaryOperator}) are memoized in a {@link wtf.metio.memoization.core.ConcurrentLongTable}
+ * instead in case they use the default cache key as well, which stores keys and values without boxing them. Their
+ * computations emit the same flight recorder events as misses of other memoizers. Just like the default cache, the
+ * table records no {@link wtf.metio.memoization.core.CacheStatistics} - provide a custom cache created by
+ * {@link wtf.metio.memoization.core.ConcurrentMaps#recordStatistics(Map)} to record them.
  * </p>
  * <strong>Default cache key</strong>
  * <p>
@@ -43,12 +54,28 @@ import static wtf.metio.memoization.core.MemoizationDefaults.staticKey;
  * The memoizer uses a user-defined {@link BiFunction} or {@link Supplier} to calculate the cache key for each call.
  * Take a look at {@link MemoizationDefaults} for a possible key functions and suppliers.
  * </p>
+ * <strong>Bounded cache</strong>
+ * <p>
+ * The memoizer uses a new {@link java.util.concurrent.ConcurrentMap} that holds at most the given number of entries
+ * and evicts the entries that were used least frequently recently once full. Take a look at
+ * {@link wtf.metio.memoization.core.ConcurrentMaps#bounded(long)} to create such a map for use as a custom cache.
+ * </p>
+ * <strong>Dense cache</strong>
+ * <p>
+ * The memoizer stores the results for every key of a small, known range (e.g. {@code 0..65535} or the ordinals of an
+ * enum) in a flat array indexed by the key itself, see {@link wtf.metio.memoization.core.DenseIntTable}. Lookups are a
+ * single array load without hashing or boxing. Predicates need two bits per key only. Keys outside the range use the
+ * default cache instead. Keys within the range bypass the {@link java.util.concurrent.ConcurrentMap} layer, thus they
+ * neither record {@link wtf.metio.memoization.core.CacheStatistics} nor emit flight recorder events.
+ * </p>
  *
+ * @see BatchFunction
  * @see BiConsumer
  * @see BiFunction
  * @see BiPredicate
  * @see BooleanSupplier
  * @see Callable
+ * @see CompletableFuture
  * @see Consumer
  * @see DoubleBinaryOperator
  * @see DoubleConsumer
@@ -111,7 +138,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <OUTPUT> Callable<OUTPUT> callable(final Callable<OUTPUT> callable) {
-        return callable(callable, emptyMap());
+        return callable(callable, defaultCache());
     }
 
     /**
@@ -156,7 +183,7 @@ public final class Memoize {
     public static <KEY, OUTPUT> Callable<OUTPUT> callable(
             final Callable<OUTPUT> callable,
             final Supplier<KEY> keySupplier) {
-        return callable(callable, keySupplier, emptyMap());
+        return callable(callable, keySupplier, defaultCache());
     }
 
     /**
@@ -199,7 +226,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static Runnable runnable(final Runnable runnable) {
-        return runnable(runnable, emptyMap());
+        return runnable(runnable, defaultCache());
     }
 
     /**
@@ -242,7 +269,7 @@ public final class Memoize {
     public static <KEY> Runnable runnable(
             final Runnable runnable,
             final Supplier<KEY> keySupplier) {
-        return runnable(runnable, keySupplier, emptyMap());
+        return runnable(runnable, keySupplier, defaultCache());
     }
 
     /**
@@ -286,7 +313,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <FIRST, SECOND> BiConsumer<FIRST, SECOND> biConsumer(final BiConsumer<FIRST, SECOND> biConsumer) {
-        return biConsumer(biConsumer, emptyMap());
+        return biConsumer(biConsumer, defaultCache());
     }
 
     /**
@@ -310,7 +337,7 @@ public final class Memoize {
     public static <FIRST, SECOND, KEY> BiConsumer<FIRST, SECOND> biConsumer(
             final BiConsumer<FIRST, SECOND> biConsumer,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return biConsumer(biConsumer, keyFunction, emptyMap());
+        return biConsumer(biConsumer, keyFunction, defaultCache());
     }
 
     /**
@@ -332,8 +359,31 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> BiConsumer<FIRST, SECOND> biConsumer(
             final BiConsumer<FIRST, SECOND> biConsumer,
-            final Map<Integer, Integer> cache) {
-        return biConsumer(biConsumer, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, CompositeKey> cache) {
+        return biConsumer(biConsumer, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link BiConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param biConsumer  The {@link BiConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link BiConsumer}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND> BiConsumer<FIRST, SECOND> biConsumer(
+            final BiConsumer<FIRST, SECOND> biConsumer,
+            final long maximumSize) {
+        return biConsumer(biConsumer, bounded(maximumSize));
     }
 
     /**
@@ -381,7 +431,7 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
             final BiFunction<FIRST, SECOND, OUTPUT> biFunction) {
-        return biFunction(biFunction, emptyMap());
+        return biFunction(biFunction, defaultCache());
     }
 
     /**
@@ -406,7 +456,7 @@ public final class Memoize {
     public static <KEY, FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
             final BiFunction<FIRST, SECOND, OUTPUT> biFunction,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return biFunction(biFunction, keyFunction, emptyMap());
+        return biFunction(biFunction, keyFunction, defaultCache());
     }
 
     /**
@@ -429,8 +479,32 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
             final BiFunction<FIRST, SECOND, OUTPUT> biFunction,
-            final Map<Integer, OUTPUT> cache) {
-        return biFunction(biFunction, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return biFunction(biFunction, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link BiFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param biFunction  The {@link BiFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link BiFunction}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
+            final BiFunction<FIRST, SECOND, OUTPUT> biFunction,
+            final long maximumSize) {
+        return biFunction(biFunction, bounded(maximumSize));
     }
 
     /**
@@ -477,7 +551,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(final BiPredicate<FIRST, SECOND> predicate) {
-        return biPredicate(predicate, emptyMap());
+        return biPredicate(predicate, defaultCache());
     }
 
     /**
@@ -501,7 +575,7 @@ public final class Memoize {
     public static <KEY, FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(
             final BiPredicate<FIRST, SECOND> predicate,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return biPredicate(predicate, keyFunction, emptyMap());
+        return biPredicate(predicate, keyFunction, defaultCache());
     }
 
     /**
@@ -523,8 +597,31 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(
             final BiPredicate<FIRST, SECOND> predicate,
-            final Map<Integer, Boolean> cache) {
-        return biPredicate(predicate, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Boolean> cache) {
+        return biPredicate(predicate, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link BiPredicate} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param predicate   The {@link BiPredicate} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link BiPredicate}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(
+            final BiPredicate<FIRST, SECOND> predicate,
+            final long maximumSize) {
+        return biPredicate(predicate, bounded(maximumSize));
     }
 
     /**
@@ -568,7 +665,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static BooleanSupplier booleanSupplier(final BooleanSupplier supplier) {
-        return booleanSupplier(supplier, emptyMap());
+        return booleanSupplier(supplier, defaultCache());
     }
 
     /**
@@ -611,7 +708,7 @@ public final class Memoize {
     public static <KEY> BooleanSupplier booleanSupplier(
             final BooleanSupplier supplier,
             final Supplier<KEY> keySupplier) {
-        return booleanSupplier(supplier, keySupplier, emptyMap());
+        return booleanSupplier(supplier, keySupplier, defaultCache());
     }
 
     /**
@@ -654,7 +751,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> Consumer<INPUT> consumer(final Consumer<INPUT> consumer) {
-        return consumer(consumer, emptyMap());
+        return consumer(consumer, defaultCache());
     }
 
     /**
@@ -677,7 +774,7 @@ public final class Memoize {
     public static <KEY, INPUT> Consumer<INPUT> consumer(
             final Consumer<INPUT> consumer,
             final Function<INPUT, KEY> keyFunction) {
-        return consumer(consumer, keyFunction, emptyMap());
+        return consumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -702,6 +799,28 @@ public final class Memoize {
         return consumer(consumer, identity(), cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link Consumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param consumer    The {@link Consumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Consumer}.
+     */
+    @CheckReturnValue
+    public static <INPUT> Consumer<INPUT> consumer(
+            final Consumer<INPUT> consumer,
+            final long maximumSize) {
+        return consumer(consumer, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link Consumer} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -742,7 +861,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static DoubleBinaryOperator doubleBinaryOperator(final DoubleBinaryOperator operator) {
-        return doubleBinaryOperator(operator, emptyMap());
+        return new DoubleBinaryOperatorPrimitiveMemoizer(operator);
     }
 
     /**
@@ -764,7 +883,7 @@ public final class Memoize {
     public static <KEY> DoubleBinaryOperator doubleBinaryOperator(
             final DoubleBinaryOperator operator,
             final DoubleBinaryFunction<KEY> keyFunction) {
-        return doubleBinaryOperator(operator, keyFunction, emptyMap());
+        return doubleBinaryOperator(operator, keyFunction, defaultCache());
     }
 
     /**
@@ -808,8 +927,29 @@ public final class Memoize {
     @CheckReturnValue
     public static DoubleBinaryOperator doubleBinaryOperator(
             final DoubleBinaryOperator operator,
-            final Map<Integer, Double> cache) {
-        return doubleBinaryOperator(operator, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Double> cache) {
+        return doubleBinaryOperator(operator, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link DoubleBinaryOperator} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator    The {@link DoubleBinaryOperator} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link DoubleBinaryOperator}.
+     */
+    @CheckReturnValue
+    public static DoubleBinaryOperator doubleBinaryOperator(
+            final DoubleBinaryOperator operator,
+            final long maximumSize) {
+        return doubleBinaryOperator(operator, bounded(maximumSize));
     }
 
     /**
@@ -827,7 +967,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static DoubleConsumer doubleConsumer(final DoubleConsumer consumer) {
-        return doubleConsumer(consumer, emptyMap());
+        return new DoubleConsumerPrimitiveMemoizer(consumer);
     }
 
     /**
@@ -849,7 +989,7 @@ public final class Memoize {
     public static <KEY> DoubleConsumer doubleConsumer(
             final DoubleConsumer consumer,
             final DoubleFunction<KEY> keyFunction) {
-        return doubleConsumer(consumer, keyFunction, emptyMap());
+        return doubleConsumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -897,6 +1037,27 @@ public final class Memoize {
         return doubleConsumer(consumer, Double::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link DoubleConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param consumer    The {@link DoubleConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link DoubleConsumer}.
+     */
+    @CheckReturnValue
+    public static DoubleConsumer doubleConsumer(
+            final DoubleConsumer consumer,
+            final long maximumSize) {
+        return doubleConsumer(consumer, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link DoubleFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -913,7 +1074,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <OUTPUT> DoubleFunction<OUTPUT> doubleFunction(final DoubleFunction<OUTPUT> function) {
-        return doubleFunction(function, emptyMap());
+        return doubleFunction(function, defaultCache());
     }
 
     /**
@@ -936,7 +1097,7 @@ public final class Memoize {
     public static <KEY, OUTPUT> DoubleFunction<OUTPUT> doubleFunction(
             final DoubleFunction<OUTPUT> function,
             final DoubleFunction<KEY> keyFunction) {
-        return doubleFunction(function, keyFunction, emptyMap());
+        return doubleFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -986,6 +1147,28 @@ public final class Memoize {
         return doubleFunction(function, Double::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link DoubleFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <OUTPUT>    The type of the output.
+     * @param function    The {@link DoubleFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link DoubleFunction}.
+     */
+    @CheckReturnValue
+    public static <OUTPUT> DoubleFunction<OUTPUT> doubleFunction(
+            final DoubleFunction<OUTPUT> function,
+            final long maximumSize) {
+        return doubleFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link DoublePredicate} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1001,7 +1184,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static DoublePredicate doublePredicate(final DoublePredicate predicate) {
-        return doublePredicate(predicate, emptyMap());
+        return new DoublePredicatePrimitiveMemoizer(predicate);
     }
 
     /**
@@ -1023,7 +1206,7 @@ public final class Memoize {
     public static <KEY> DoublePredicate doublePredicate(
             final DoublePredicate predicate,
             final DoubleFunction<KEY> keyFunction) {
-        return doublePredicate(predicate, keyFunction, emptyMap());
+        return doublePredicate(predicate, keyFunction, defaultCache());
     }
 
     /**
@@ -1071,6 +1254,27 @@ public final class Memoize {
         return doublePredicate(predicate, Double::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link DoublePredicate} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param predicate   The {@link DoublePredicate} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link DoublePredicate}.
+     */
+    @CheckReturnValue
+    public static DoublePredicate doublePredicate(
+            final DoublePredicate predicate,
+            final long maximumSize) {
+        return doublePredicate(predicate, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link DoubleSupplier} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1086,7 +1290,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static DoubleSupplier doubleSupplier(final DoubleSupplier supplier) {
-        return doubleSupplier(supplier, emptyMap());
+        return doubleSupplier(supplier, defaultCache());
     }
 
     /**
@@ -1129,7 +1333,7 @@ public final class Memoize {
     public static <KEY> DoubleSupplier doubleSupplier(
             final DoubleSupplier supplier,
             final Supplier<KEY> keySupplier) {
-        return doubleSupplier(supplier, keySupplier, emptyMap());
+        return doubleSupplier(supplier, keySupplier, defaultCache());
     }
 
     /**
@@ -1171,7 +1375,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static DoubleToIntFunction doubleToIntFunction(final DoubleToIntFunction function) {
-        return doubleToIntFunction(function, emptyMap());
+        return new DoubleToIntFunctionPrimitiveMemoizer(function);
     }
 
     /**
@@ -1193,7 +1397,7 @@ public final class Memoize {
     public static <KEY> DoubleToIntFunction doubleToIntFunction(
             final DoubleToIntFunction function,
             final DoubleFunction<KEY> keyFunction) {
-        return doubleToIntFunction(function, keyFunction, emptyMap());
+        return doubleToIntFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1241,6 +1445,27 @@ public final class Memoize {
         return doubleToIntFunction(function, Double::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link DoubleToIntFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param function    The {@link DoubleToIntFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link DoubleToIntFunction}.
+     */
+    @CheckReturnValue
+    public static DoubleToIntFunction doubleToIntFunction(
+            final DoubleToIntFunction function,
+            final long maximumSize) {
+        return doubleToIntFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link DoubleToLongFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1256,7 +1481,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static DoubleToLongFunction doubleToLongFunction(final DoubleToLongFunction function) {
-        return doubleToLongFunction(function, emptyMap());
+        return new DoubleToLongFunctionPrimitiveMemoizer(function);
     }
 
     /**
@@ -1278,7 +1503,7 @@ public final class Memoize {
     public static <KEY> DoubleToLongFunction doubleToLongFunction(
             final DoubleToLongFunction function,
             final DoubleFunction<KEY> keyFunction) {
-        return doubleToLongFunction(function, keyFunction, emptyMap());
+        return doubleToLongFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1326,6 +1551,27 @@ public final class Memoize {
         return doubleToLongFunction(function, Double::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link DoubleToLongFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param function    The {@link DoubleToLongFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link DoubleToLongFunction}.
+     */
+    @CheckReturnValue
+    public static DoubleToLongFunction doubleToLongFunction(
+            final DoubleToLongFunction function,
+            final long maximumSize) {
+        return doubleToLongFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link DoubleUnaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1341,7 +1587,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static DoubleUnaryOperator doubleUnaryOperator(final DoubleUnaryOperator operator) {
-        return doubleUnaryOperator(operator, emptyMap());
+        return new DoubleUnaryOperatorPrimitiveMemoizer(operator);
     }
 
     /**
@@ -1363,7 +1609,7 @@ public final class Memoize {
     public static <KEY> DoubleUnaryOperator doubleUnaryOperator(
             final DoubleUnaryOperator operator,
             final DoubleFunction<KEY> keyFunction) {
-        return doubleUnaryOperator(operator, keyFunction, emptyMap());
+        return doubleUnaryOperator(operator, keyFunction, defaultCache());
     }
 
     /**
@@ -1411,6 +1657,27 @@ public final class Memoize {
         return doubleUnaryOperator(operator, Double::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link DoubleUnaryOperator} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator    The {@link DoubleUnaryOperator} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link DoubleUnaryOperator}.
+     */
+    @CheckReturnValue
+    public static DoubleUnaryOperator doubleUnaryOperator(
+            final DoubleUnaryOperator operator,
+            final long maximumSize) {
+        return doubleUnaryOperator(operator, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link Function} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1428,7 +1695,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT, OUTPUT> Function<INPUT, OUTPUT> function(final Function<INPUT, OUTPUT> function) {
-        return function(function, emptyMap());
+        return function(function, defaultCache());
     }
 
     /**
@@ -1452,7 +1719,7 @@ public final class Memoize {
     public static <INPUT, KEY, OUTPUT> Function<INPUT, OUTPUT> function(
             final Function<INPUT, OUTPUT> function,
             final Function<INPUT, KEY> keyFunction) {
-        return function(function, keyFunction, emptyMap());
+        return function(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1478,6 +1745,29 @@ public final class Memoize {
         return function(function, identity(), cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link Function} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, OUTPUT> function(
+            final Function<INPUT, OUTPUT> function,
+            final long maximumSize) {
+        return function(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link Function} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1506,7 +1796,15 @@ public final class Memoize {
 
     /**
      * <p>
-     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * Memoizes a recursive {@link Function} in a {@link java.util.concurrent.ConcurrentMap}. The given
+     * {@link BiFunction} receives the memoized function itself as its first argument and must use it for all of its
+     * recursive calls, e.g. {@code (self, n) -> n < 2 ? n : self.apply(n - 1) + self.apply(n - 2)}.
+     * </p>
+     * <p>
+     * Recursive calls neither update the cache from within another update nor grow the call stack without limit, thus
+     * deep recurrences (e.g. in dynamic programming) are safe. Once the recursion gets too deep, pending calls are
+     * suspended and started again later, therefore the given function must be free of side effects and must not catch
+     * {@link Error}s.
      * </p>
      *
      * <ul>
@@ -1514,69 +1812,335 @@ public final class Memoize {
      * <li>Default cache key</li>
      * </ul>
      *
-     * @param operator The {@link IntBinaryOperator} to memoize.
-     * @return The wrapped {@link IntBinaryOperator}.
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the output/cache value.
+     * @param function The recursive {@link BiFunction} to memoize.
+     * @return The wrapped {@link Function}.
      */
     @CheckReturnValue
-    public static IntBinaryOperator intBinaryOperator(final IntBinaryOperator operator) {
-        return intBinaryOperator(operator, emptyMap());
+    public static <INPUT, OUTPUT> Function<INPUT, OUTPUT> recursiveFunction(
+            final BiFunction<Function<INPUT, OUTPUT>, INPUT, OUTPUT> function) {
+        return recursiveFunction(function, defaultCache());
     }
 
     /**
      * <p>
-     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * Memoizes a recursive {@link Function} in a {@link java.util.concurrent.ConcurrentMap}.
      * </p>
      *
      * <ul>
      * <li>Custom cache</li>
-     * <li>Custom cache key</li>
+     * <li>Default cache key</li>
      * </ul>
      *
-     * @param <KEY>       The type of the cache key.
-     * @param operator    The {@link IntBinaryOperator} to memoize.
-     * @param keyFunction The {@link IntBinaryFunction} to compute the cache key.
-     * @return The wrapped {@link IntBinaryOperator}.
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the output/cache value.
+     * @param function The recursive {@link BiFunction} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #recursiveFunction(BiFunction)
      */
     @CheckReturnValue
-    public static <KEY> IntBinaryOperator intBinaryOperator(
-            final IntBinaryOperator operator,
-            final IntBinaryFunction<KEY> keyFunction) {
-        return intBinaryOperator(operator, keyFunction, emptyMap());
+    public static <INPUT, OUTPUT> Function<INPUT, OUTPUT> recursiveFunction(
+            final BiFunction<Function<INPUT, OUTPUT>, INPUT, OUTPUT> function,
+            final Map<INPUT, OUTPUT> cache) {
+        return new RecursiveFunctionMemoizer<>(asConcurrentMap(cache), function);
     }
 
     /**
      * <p>
-     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * Memoizes a recursive {@link Function} in a bounded {@link java.util.concurrent.ConcurrentMap}.
      * </p>
      *
      * <ul>
-     * <li>Custom cache</li>
-     * <li>Custom cache key</li>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
      * </ul>
      *
-     * @param <KEY>       The type of the cache key.
-     * @param operator    The {@link IntBinaryOperator} to memoize.
-     * @param keyFunction The {@link IntBinaryFunction} to compute the cache key.
-     * @param cache       The {@link Map} based cache to use.
-     * @return The wrapped {@link IntBinaryOperator}.
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The recursive {@link BiFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function}.
+     * @see #recursiveFunction(BiFunction)
      */
     @CheckReturnValue
-    public static <KEY> IntBinaryOperator intBinaryOperator(
-            final IntBinaryOperator operator,
-            final IntBinaryFunction<KEY> keyFunction,
-            final Map<KEY, Integer> cache) {
-        return new IntBinaryOperatorMemoizer<>(asConcurrentMap(cache), keyFunction, operator);
+    public static <INPUT, OUTPUT> Function<INPUT, OUTPUT> recursiveFunction(
+            final BiFunction<Function<INPUT, OUTPUT>, INPUT, OUTPUT> function,
+            final long maximumSize) {
+        return recursiveFunction(function, bounded(maximumSize));
     }
 
     /**
      * <p>
-     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * Memoizes an asynchronous {@link Function} in a {@link java.util.concurrent.ConcurrentMap}. Concurrent calls for
+     * the same input share one in-flight {@link CompletableFuture}. Futures that complete exceptionally are removed from
+     * the cache, thus the next call for the same input starts a new computation. Callers receive a copy of the cached
+     * future, thus cancelling it does not affect other callers.
      * </p>
      *
      * <ul>
-     * <li>Custom cache</li>
-     * <li>Custom cache key</li>
-     * </ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the output.
+     * @param function The asynchronous {@link Function} to memoize.
+     * @return The wrapped {@link Function}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, CompletableFuture<OUTPUT>> asyncFunction(
+            final Function<INPUT, CompletableFuture<OUTPUT>> function) {
+        return asyncFunction(function, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Function} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the output.
+     * @param function    The asynchronous {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @return The wrapped {@link Function}.
+     * @see #asyncFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, CompletableFuture<OUTPUT>> asyncFunction(
+            final Function<INPUT, CompletableFuture<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction) {
+        return asyncFunction(function, keyFunction, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Function} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the output.
+     * @param function The asynchronous {@link Function} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #asyncFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, CompletableFuture<OUTPUT>> asyncFunction(
+            final Function<INPUT, CompletableFuture<OUTPUT>> function,
+            final Map<INPUT, CompletableFuture<OUTPUT>> cache) {
+        return asyncFunction(function, identity(), cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Function} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the output.
+     * @param function    The asynchronous {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function}.
+     * @see #asyncFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, CompletableFuture<OUTPUT>> asyncFunction(
+            final Function<INPUT, CompletableFuture<OUTPUT>> function,
+            final long maximumSize) {
+        return asyncFunction(function, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Function} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the output.
+     * @param function    The asynchronous {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @param cache       The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #asyncFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, CompletableFuture<OUTPUT>> asyncFunction(
+            final Function<INPUT, CompletableFuture<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction,
+            final Map<KEY, CompletableFuture<OUTPUT>> cache) {
+        return new AsyncFunctionMemoizer<>(asConcurrentMap(cache), keyFunction, function);
+    }
+
+    /**
+     * <p>
+     * Memoizes a batch loader in a {@link java.util.concurrent.ConcurrentMap}. Each call of
+     * {@link BatchFunction#getAll(java.util.Collection)} reads all cached keys from the cache and sends the remaining
+     * keys to a single call of the loader. Keys that a concurrent call is loading already are not loaded again, instead
+     * their result is shared. Keys that the loader does not return a value for are neither cached nor part of the
+     * result. In case the loader throws, nothing is cached and the next call tries again.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <KEY>   The type of the keys.
+     * @param <VALUE> The type of the values.
+     * @param loader  The {@link Function} to load the values of many keys at once.
+     * @return The memoized {@link BatchFunction}.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> BatchFunction<KEY, VALUE> batchFunction(
+            final Function<Set<KEY>, Map<KEY, VALUE>> loader) {
+        return batchFunction(loader, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a batch loader in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <KEY>   The type of the keys.
+     * @param <VALUE> The type of the values.
+     * @param loader  The {@link Function} to load the values of many keys at once.
+     * @param cache   The {@link Map} based cache to use.
+     * @return The memoized {@link BatchFunction}.
+     * @see #batchFunction(Function)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> BatchFunction<KEY, VALUE> batchFunction(
+            final Function<Set<KEY>, Map<KEY, VALUE>> loader,
+            final Map<KEY, VALUE> cache) {
+        return new BatchFunctionMemoizer<>(asConcurrentMap(cache), loader);
+    }
+
+    /**
+     * <p>
+     * Memoizes a batch loader in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <KEY>       The type of the keys.
+     * @param <VALUE>     The type of the values.
+     * @param loader      The {@link Function} to load the values of many keys at once.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The memoized {@link BatchFunction}.
+     * @see #batchFunction(Function)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> BatchFunction<KEY, VALUE> batchFunction(
+            final Function<Set<KEY>, Map<KEY, VALUE>> loader,
+            final long maximumSize) {
+        return batchFunction(loader, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator The {@link IntBinaryOperator} to memoize.
+     * @return The wrapped {@link IntBinaryOperator}.
+     */
+    @CheckReturnValue
+    public static IntBinaryOperator intBinaryOperator(final IntBinaryOperator operator) {
+        return new IntBinaryOperatorPrimitiveMemoizer(operator);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <KEY>       The type of the cache key.
+     * @param operator    The {@link IntBinaryOperator} to memoize.
+     * @param keyFunction The {@link IntBinaryFunction} to compute the cache key.
+     * @return The wrapped {@link IntBinaryOperator}.
+     */
+    @CheckReturnValue
+    public static <KEY> IntBinaryOperator intBinaryOperator(
+            final IntBinaryOperator operator,
+            final IntBinaryFunction<KEY> keyFunction) {
+        return intBinaryOperator(operator, keyFunction, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <KEY>       The type of the cache key.
+     * @param operator    The {@link IntBinaryOperator} to memoize.
+     * @param keyFunction The {@link IntBinaryFunction} to compute the cache key.
+     * @param cache       The {@link Map} based cache to use.
+     * @return The wrapped {@link IntBinaryOperator}.
+     */
+    @CheckReturnValue
+    public static <KEY> IntBinaryOperator intBinaryOperator(
+            final IntBinaryOperator operator,
+            final IntBinaryFunction<KEY> keyFunction,
+            final Map<KEY, Integer> cache) {
+        return new IntBinaryOperatorMemoizer<>(asConcurrentMap(cache), keyFunction, operator);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
      *
      * @param operator The {@link IntBinaryOperator} to memoize.
      * @param cache    The {@link Map} based cache to use.
@@ -1585,8 +2149,29 @@ public final class Memoize {
     @CheckReturnValue
     public static IntBinaryOperator intBinaryOperator(
             final IntBinaryOperator operator,
-            final Map<Integer, Integer> cache) {
-        return intBinaryOperator(operator, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Integer> cache) {
+        return intBinaryOperator(operator, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntBinaryOperator} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator    The {@link IntBinaryOperator} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link IntBinaryOperator}.
+     */
+    @CheckReturnValue
+    public static IntBinaryOperator intBinaryOperator(
+            final IntBinaryOperator operator,
+            final long maximumSize) {
+        return intBinaryOperator(operator, bounded(maximumSize));
     }
 
     /**
@@ -1604,7 +2189,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static IntConsumer intConsumer(final IntConsumer consumer) {
-        return intConsumer(consumer, emptyMap());
+        return new IntConsumerPrimitiveMemoizer(consumer);
     }
 
     /**
@@ -1626,7 +2211,7 @@ public final class Memoize {
     public static <KEY> IntConsumer intConsumer(
             final IntConsumer consumer,
             final IntFunction<KEY> keyFunction) {
-        return intConsumer(consumer, keyFunction, emptyMap());
+        return intConsumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -1674,6 +2259,27 @@ public final class Memoize {
         return intConsumer(consumer, Integer::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param consumer    The {@link IntConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link IntConsumer}.
+     */
+    @CheckReturnValue
+    public static IntConsumer intConsumer(
+            final IntConsumer consumer,
+            final long maximumSize) {
+        return intConsumer(consumer, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1690,7 +2296,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <OUTPUT> IntFunction<OUTPUT> intFunction(final IntFunction<OUTPUT> function) {
-        return intFunction(function, emptyMap());
+        return intFunction(function, defaultCache());
     }
 
     /**
@@ -1713,7 +2319,7 @@ public final class Memoize {
     public static <KEY, OUTPUT> IntFunction<OUTPUT> intFunction(
             final IntFunction<OUTPUT> function,
             final IntFunction<KEY> keyFunction) {
-        return intFunction(function, keyFunction, emptyMap());
+        return intFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1738,6 +2344,28 @@ public final class Memoize {
         return intFunction(function, Integer::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link IntFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link IntFunction}.
+     */
+    @CheckReturnValue
+    public static <OUTPUT> IntFunction<OUTPUT> intFunction(
+            final IntFunction<OUTPUT> function,
+            final long maximumSize) {
+        return intFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1763,6 +2391,30 @@ public final class Memoize {
         return new IntFunctionMemoizer<>(asConcurrentMap(cache), keyFunction, function);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntFunction} in a flat array that covers every key of the given range.
+     * </p>
+     *
+     * <ul>
+     * <li>Dense cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <OUTPUT>      The type of the output/cache value.
+     * @param function      The {@link IntFunction} to memoize.
+     * @param fromInclusive The smallest key to store in the array.
+     * @param toExclusive   The first key after the largest key to store in the array.
+     * @return The wrapped {@link IntFunction}.
+     */
+    @CheckReturnValue
+    public static <OUTPUT> IntFunction<OUTPUT> intFunction(
+            final IntFunction<OUTPUT> function,
+            final int fromInclusive,
+            final int toExclusive) {
+        return new IntFunctionDenseMemoizer<>(function, intFunction(function), fromInclusive, toExclusive);
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntPredicate} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1778,7 +2430,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static IntPredicate intPredicate(final IntPredicate predicate) {
-        return intPredicate(predicate, emptyMap());
+        return new IntPredicatePrimitiveMemoizer(predicate);
     }
 
     /**
@@ -1800,7 +2452,7 @@ public final class Memoize {
     public static <KEY> IntPredicate intPredicate(
             final IntPredicate predicate,
             final IntFunction<KEY> keyFunction) {
-        return intPredicate(predicate, keyFunction, emptyMap());
+        return intPredicate(predicate, keyFunction, defaultCache());
     }
 
     /**
@@ -1827,6 +2479,29 @@ public final class Memoize {
         return new IntPredicateMemoizer<>(asConcurrentMap(cache), keyFunction, predicate);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntPredicate} in a flat array that covers every key of the given range.
+     * </p>
+     *
+     * <ul>
+     * <li>Dense cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param predicate     The {@link IntPredicate} to memoize.
+     * @param fromInclusive The smallest key to store in the array.
+     * @param toExclusive   The first key after the largest key to store in the array.
+     * @return The wrapped {@link IntPredicate}.
+     */
+    @CheckReturnValue
+    public static IntPredicate intPredicate(
+            final IntPredicate predicate,
+            final int fromInclusive,
+            final int toExclusive) {
+        return new IntPredicateDenseMemoizer(predicate, intPredicate(predicate), fromInclusive, toExclusive);
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntPredicate} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1848,6 +2523,27 @@ public final class Memoize {
         return intPredicate(predicate, Integer::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntPredicate} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param predicate   The {@link IntPredicate} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link IntPredicate}.
+     */
+    @CheckReturnValue
+    public static IntPredicate intPredicate(
+            final IntPredicate predicate,
+            final long maximumSize) {
+        return intPredicate(predicate, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntSupplier} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1863,7 +2559,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static IntSupplier intSupplier(final IntSupplier supplier) {
-        return intSupplier(supplier, emptyMap());
+        return intSupplier(supplier, defaultCache());
     }
 
     /**
@@ -1906,7 +2602,7 @@ public final class Memoize {
     public static <KEY> IntSupplier intSupplier(
             final IntSupplier supplier,
             final Supplier<KEY> keySupplier) {
-        return intSupplier(supplier, keySupplier, emptyMap());
+        return intSupplier(supplier, keySupplier, defaultCache());
     }
 
     /**
@@ -1948,7 +2644,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static IntToDoubleFunction intToDoubleFunction(final IntToDoubleFunction function) {
-        return intToDoubleFunction(function, emptyMap());
+        return new IntToDoubleFunctionPrimitiveMemoizer(function);
     }
 
     /**
@@ -1970,7 +2666,7 @@ public final class Memoize {
     public static <KEY> IntToDoubleFunction intToDoubleFunction(
             final IntToDoubleFunction function,
             final IntFunction<KEY> keyFunction) {
-        return intToDoubleFunction(function, keyFunction, emptyMap());
+        return intToDoubleFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1999,23 +2695,44 @@ public final class Memoize {
 
     /**
      * <p>
-     * Memoizes a {@link IntToDoubleFunction} in a {@link java.util.concurrent.ConcurrentMap}.
+     * Memoizes a {@link IntToDoubleFunction} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param function The {@link IntToDoubleFunction} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link IntToDoubleFunction}.
+     */
+    @CheckReturnValue
+    public static IntToDoubleFunction intToDoubleFunction(
+            final IntToDoubleFunction function,
+            final Map<Integer, Double> cache) {
+        return intToDoubleFunction(function, Integer::valueOf, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntToDoubleFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
      * </p>
      *
      * <ul>
-     * <li>Custom cache</li>
+     * <li>Bounded cache</li>
      * <li>Default cache key</li>
      * </ul>
      *
-     * @param function The {@link IntToDoubleFunction} to memoize.
-     * @param cache    The {@link Map} based cache to use.
+     * @param function    The {@link IntToDoubleFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
      * @return The wrapped {@link IntToDoubleFunction}.
      */
     @CheckReturnValue
     public static IntToDoubleFunction intToDoubleFunction(
             final IntToDoubleFunction function,
-            final Map<Integer, Double> cache) {
-        return intToDoubleFunction(function, Integer::valueOf, cache);
+            final long maximumSize) {
+        return intToDoubleFunction(function, bounded(maximumSize));
     }
 
     /**
@@ -2033,7 +2750,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static IntToLongFunction intToLongFunction(final IntToLongFunction function) {
-        return intToLongFunction(function, emptyMap());
+        return new IntToLongFunctionPrimitiveMemoizer(function);
     }
 
     /**
@@ -2055,7 +2772,7 @@ public final class Memoize {
     public static <KEY> IntToLongFunction intToLongFunction(
             final IntToLongFunction function,
             final IntFunction<KEY> keyFunction) {
-        return intToLongFunction(function, keyFunction, emptyMap());
+        return intToLongFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -2103,6 +2820,27 @@ public final class Memoize {
         return intToLongFunction(function, Integer::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntToLongFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param function    The {@link IntToLongFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link IntToLongFunction}.
+     */
+    @CheckReturnValue
+    public static IntToLongFunction intToLongFunction(
+            final IntToLongFunction function,
+            final long maximumSize) {
+        return intToLongFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntUnaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2118,7 +2856,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static IntUnaryOperator intUnaryOperator(final IntUnaryOperator operator) {
-        return intUnaryOperator(operator, emptyMap());
+        return new IntUnaryOperatorPrimitiveMemoizer(operator);
     }
 
     /**
@@ -2140,7 +2878,7 @@ public final class Memoize {
     public static <KEY> IntUnaryOperator intUnaryOperator(
             final IntUnaryOperator operator,
             final IntFunction<KEY> keyFunction) {
-        return intUnaryOperator(operator, keyFunction, emptyMap());
+        return intUnaryOperator(operator, keyFunction, defaultCache());
     }
 
     /**
@@ -2167,6 +2905,29 @@ public final class Memoize {
         return new IntUnaryOperatorMemoizer<>(asConcurrentMap(cache), keyFunction, operator);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntUnaryOperator} in a flat array that covers every key of the given range.
+     * </p>
+     *
+     * <ul>
+     * <li>Dense cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator      The {@link IntUnaryOperator} to memoize.
+     * @param fromInclusive The smallest key to store in the array.
+     * @param toExclusive   The first key after the largest key to store in the array.
+     * @return The wrapped {@link IntUnaryOperator}.
+     */
+    @CheckReturnValue
+    public static IntUnaryOperator intUnaryOperator(
+            final IntUnaryOperator operator,
+            final int fromInclusive,
+            final int toExclusive) {
+        return new IntUnaryOperatorDenseMemoizer(operator, intUnaryOperator(operator), fromInclusive, toExclusive);
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntUnaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2188,6 +2949,72 @@ public final class Memoize {
         return intUnaryOperator(operator, Integer::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntUnaryOperator} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator    The {@link IntUnaryOperator} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link IntUnaryOperator}.
+     */
+    @CheckReturnValue
+    public static IntUnaryOperator intUnaryOperator(
+            final IntUnaryOperator operator,
+            final long maximumSize) {
+        return intUnaryOperator(operator, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntUnaryOperator} in a {@link java.util.concurrent.ConcurrentMap} as long as that pays off.
+     * The memoizer samples its own requests and calls the given operator directly once creating the cache key and
+     * looking it up cost more time than they save, e.g. because the operator is cheap or the hit ratio is low. It
+     * switches back to its cache once memoizing saves time again, see {@link wtf.metio.memoization.core.AdaptiveBypass}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator The {@link IntUnaryOperator} to memoize.
+     * @return The wrapped {@link IntUnaryOperator}.
+     */
+    @CheckReturnValue
+    public static IntUnaryOperator adaptiveIntUnaryOperator(final IntUnaryOperator operator) {
+        return adaptiveIntUnaryOperator(operator, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link IntUnaryOperator} in a {@link java.util.concurrent.ConcurrentMap} as long as that pays off.
+     * Switches between both modes are reported in case the given cache was created by
+     * {@link wtf.metio.memoization.core.ConcurrentMaps#recordStatistics(Map)}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator The {@link IntUnaryOperator} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link IntUnaryOperator}.
+     * @see #adaptiveIntUnaryOperator(IntUnaryOperator)
+     */
+    @CheckReturnValue
+    public static IntUnaryOperator adaptiveIntUnaryOperator(
+            final IntUnaryOperator operator,
+            final Map<Integer, Integer> cache) {
+        return new IntUnaryOperatorAdaptiveMemoizer<>(asConcurrentMap(cache), Integer::valueOf, operator);
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongBinaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2203,7 +3030,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static LongBinaryOperator longBinaryOperator(final LongBinaryOperator operator) {
-        return longBinaryOperator(operator, emptyMap());
+        return new LongBinaryOperatorPrimitiveMemoizer(operator);
     }
 
     /**
@@ -2225,7 +3052,7 @@ public final class Memoize {
     public static <KEY> LongBinaryOperator longBinaryOperator(
             final LongBinaryOperator operator,
             final LongBinaryFunction<KEY> keyFunction) {
-        return longBinaryOperator(operator, keyFunction, emptyMap());
+        return longBinaryOperator(operator, keyFunction, defaultCache());
     }
 
     /**
@@ -2269,8 +3096,29 @@ public final class Memoize {
     @CheckReturnValue
     public static LongBinaryOperator longBinaryOperator(
             final LongBinaryOperator operator,
-            final Map<Integer, Long> cache) {
-        return longBinaryOperator(operator, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Long> cache) {
+        return longBinaryOperator(operator, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link LongBinaryOperator} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator    The {@link LongBinaryOperator} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongBinaryOperator}.
+     */
+    @CheckReturnValue
+    public static LongBinaryOperator longBinaryOperator(
+            final LongBinaryOperator operator,
+            final long maximumSize) {
+        return longBinaryOperator(operator, bounded(maximumSize));
     }
 
     /**
@@ -2288,7 +3136,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static LongConsumer longConsumer(final LongConsumer consumer) {
-        return longConsumer(consumer, emptyMap());
+        return new LongConsumerPrimitiveMemoizer(consumer);
     }
 
     /**
@@ -2310,7 +3158,7 @@ public final class Memoize {
     public static <KEY> LongConsumer longConsumer(
             final LongConsumer consumer,
             final LongFunction<KEY> keyFunction) {
-        return longConsumer(consumer, keyFunction, emptyMap());
+        return longConsumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -2334,6 +3182,27 @@ public final class Memoize {
         return longConsumer(consumer, Long::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param consumer    The {@link LongConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongConsumer}.
+     */
+    @CheckReturnValue
+    public static LongConsumer longConsumer(
+            final LongConsumer consumer,
+            final long maximumSize) {
+        return longConsumer(consumer, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongConsumer} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2374,7 +3243,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <OUTPUT> LongFunction<OUTPUT> longFunction(final LongFunction<OUTPUT> function) {
-        return longFunction(function, emptyMap());
+        return longFunction(function, defaultCache());
     }
 
     /**
@@ -2397,7 +3266,7 @@ public final class Memoize {
     public static <KEY, OUTPUT> LongFunction<OUTPUT> longFunction(
             final LongFunction<OUTPUT> function,
             final LongFunction<KEY> keyFunction) {
-        return longFunction(function, keyFunction, emptyMap());
+        return longFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -2447,6 +3316,28 @@ public final class Memoize {
         return longFunction(function, Long::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link LongFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongFunction}.
+     */
+    @CheckReturnValue
+    public static <OUTPUT> LongFunction<OUTPUT> longFunction(
+            final LongFunction<OUTPUT> function,
+            final long maximumSize) {
+        return longFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongPredicate} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2462,7 +3353,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static LongPredicate longPredicate(final LongPredicate predicate) {
-        return longPredicate(predicate, emptyMap());
+        return new LongPredicatePrimitiveMemoizer(predicate);
     }
 
     /**
@@ -2484,7 +3375,7 @@ public final class Memoize {
     public static <KEY> LongPredicate longPredicate(
             final LongPredicate predicate,
             final LongFunction<KEY> keyFunction) {
-        return longPredicate(predicate, keyFunction, emptyMap());
+        return longPredicate(predicate, keyFunction, defaultCache());
     }
 
     /**
@@ -2511,6 +3402,29 @@ public final class Memoize {
         return new LongPredicateMemoizer<>(asConcurrentMap(cache), keyFunction, predicate);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongPredicate} in a flat array that covers every key of the given range.
+     * </p>
+     *
+     * <ul>
+     * <li>Dense cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param predicate     The {@link LongPredicate} to memoize.
+     * @param fromInclusive The smallest key to store in the array.
+     * @param toExclusive   The first key after the largest key to store in the array.
+     * @return The wrapped {@link LongPredicate}.
+     */
+    @CheckReturnValue
+    public static LongPredicate longPredicate(
+            final LongPredicate predicate,
+            final long fromInclusive,
+            final long toExclusive) {
+        return new LongPredicateDenseMemoizer(predicate, longPredicate(predicate), fromInclusive, toExclusive);
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongPredicate} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2532,6 +3446,27 @@ public final class Memoize {
         return longPredicate(predicate, Long::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongPredicate} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param predicate   The {@link LongPredicate} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongPredicate}.
+     */
+    @CheckReturnValue
+    public static LongPredicate longPredicate(
+            final LongPredicate predicate,
+            final long maximumSize) {
+        return longPredicate(predicate, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongSupplier} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2547,7 +3482,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static LongSupplier longSupplier(final LongSupplier supplier) {
-        return longSupplier(supplier, emptyMap());
+        return longSupplier(supplier, defaultCache());
     }
 
     /**
@@ -2590,7 +3525,7 @@ public final class Memoize {
     public static <KEY> LongSupplier longSupplier(
             final LongSupplier supplier,
             final Supplier<KEY> keySupplier) {
-        return longSupplier(supplier, keySupplier, emptyMap());
+        return longSupplier(supplier, keySupplier, defaultCache());
     }
 
     /**
@@ -2632,7 +3567,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static LongToDoubleFunction longToDoubleFunction(final LongToDoubleFunction function) {
-        return longToDoubleFunction(function, emptyMap());
+        return new LongToDoubleFunctionPrimitiveMemoizer(function);
     }
 
     /**
@@ -2654,7 +3589,7 @@ public final class Memoize {
     public static <KEY> LongToDoubleFunction longToDoubleFunction(
             final LongToDoubleFunction function,
             final LongFunction<KEY> keyFunction) {
-        return longToDoubleFunction(function, keyFunction, emptyMap());
+        return longToDoubleFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -2702,6 +3637,27 @@ public final class Memoize {
         return longToDoubleFunction(function, Long::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongToDoubleFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param function    The {@link LongToDoubleFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongToDoubleFunction}.
+     */
+    @CheckReturnValue
+    public static LongToDoubleFunction longToDoubleFunction(
+            final LongToDoubleFunction function,
+            final long maximumSize) {
+        return longToDoubleFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongToIntFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2717,7 +3673,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static LongToIntFunction longToIntFunction(final LongToIntFunction function) {
-        return longToIntFunction(function, emptyMap());
+        return new LongToIntFunctionPrimitiveMemoizer(function);
     }
 
     /**
@@ -2739,7 +3695,7 @@ public final class Memoize {
     public static <KEY> LongToIntFunction longToIntFunction(
             final LongToIntFunction function,
             final LongFunction<KEY> keyFunction) {
-        return longToIntFunction(function, keyFunction, emptyMap());
+        return longToIntFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -2787,6 +3743,27 @@ public final class Memoize {
         return longToIntFunction(function, Long::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongToIntFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param function    The {@link LongToIntFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongToIntFunction}.
+     */
+    @CheckReturnValue
+    public static LongToIntFunction longToIntFunction(
+            final LongToIntFunction function,
+            final long maximumSize) {
+        return longToIntFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongUnaryOperator} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2802,7 +3779,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static LongUnaryOperator longUnaryOperator(final LongUnaryOperator operator) {
-        return longUnaryOperator(operator, emptyMap());
+        return new LongUnaryOperatorPrimitiveMemoizer(operator);
     }
 
     /**
@@ -2824,7 +3801,7 @@ public final class Memoize {
     public static <KEY> LongUnaryOperator longUnaryOperator(
             final LongUnaryOperator operator,
             final LongFunction<KEY> keyFunction) {
-        return longUnaryOperator(operator, keyFunction, emptyMap());
+        return longUnaryOperator(operator, keyFunction, defaultCache());
     }
 
     /**
@@ -2872,6 +3849,27 @@ public final class Memoize {
         return longUnaryOperator(operator, Long::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongUnaryOperator} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param operator    The {@link LongUnaryOperator} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongUnaryOperator}.
+     */
+    @CheckReturnValue
+    public static LongUnaryOperator longUnaryOperator(
+            final LongUnaryOperator operator,
+            final long maximumSize) {
+        return longUnaryOperator(operator, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link ObjDoubleConsumer} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -2888,7 +3886,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> ObjDoubleConsumer<INPUT> objDoubleConsumer(final ObjDoubleConsumer<INPUT> consumer) {
-        return objDoubleConsumer(consumer, emptyMap());
+        return objDoubleConsumer(consumer, defaultCache());
     }
 
     /**
@@ -2909,8 +3907,30 @@ public final class Memoize {
     @CheckReturnValue
     public static <INPUT> ObjDoubleConsumer<INPUT> objDoubleConsumer(
             final ObjDoubleConsumer<INPUT> consumer,
-            final Map<Integer, Integer> cache) {
-        return objDoubleConsumer(consumer, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, CompositeKey> cache) {
+        return objDoubleConsumer(consumer, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ObjDoubleConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param consumer    The {@link ObjDoubleConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ObjDoubleConsumer}.
+     */
+    @CheckReturnValue
+    public static <INPUT> ObjDoubleConsumer<INPUT> objDoubleConsumer(
+            final ObjDoubleConsumer<INPUT> consumer,
+            final long maximumSize) {
+        return objDoubleConsumer(consumer, bounded(maximumSize));
     }
 
     /**
@@ -2933,7 +3953,7 @@ public final class Memoize {
     public static <KEY, INPUT> ObjDoubleConsumer<INPUT> objDoubleConsumer(
             final ObjDoubleConsumer<INPUT> consumer,
             final ObjDoubleFunction<INPUT, KEY> keyFunction) {
-        return objDoubleConsumer(consumer, keyFunction, emptyMap());
+        return objDoubleConsumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -2977,29 +3997,51 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> ObjIntConsumer<INPUT> objIntConsumer(final ObjIntConsumer<INPUT> consumer) {
-        return objIntConsumer(consumer, emptyMap());
+        return objIntConsumer(consumer, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ObjIntConsumer} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param consumer The {@link ObjIntConsumer} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link ObjIntConsumer}.
+     */
+    @CheckReturnValue
+    public static <INPUT> ObjIntConsumer<INPUT> objIntConsumer(
+            final ObjIntConsumer<INPUT> consumer,
+            final Map<CompositeKey, CompositeKey> cache) {
+        return objIntConsumer(consumer, MemoizationDefaults::compositeKey, cache);
     }
 
     /**
      * <p>
-     * Memoizes a {@link ObjIntConsumer} in a {@link java.util.concurrent.ConcurrentMap}.
+     * Memoizes a {@link ObjIntConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
      * </p>
      *
      * <ul>
-     * <li>Custom cache</li>
+     * <li>Bounded cache</li>
      * <li>Default cache key</li>
      * </ul>
      *
-     * @param <INPUT>  The type of the input.
-     * @param consumer The {@link ObjIntConsumer} to memoize.
-     * @param cache    The {@link Map} based cache to use.
+     * @param <INPUT>     The type of the input.
+     * @param consumer    The {@link ObjIntConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
      * @return The wrapped {@link ObjIntConsumer}.
      */
     @CheckReturnValue
     public static <INPUT> ObjIntConsumer<INPUT> objIntConsumer(
             final ObjIntConsumer<INPUT> consumer,
-            final Map<Integer, Integer> cache) {
-        return objIntConsumer(consumer, MemoizationDefaults::hashCodes, cache);
+            final long maximumSize) {
+        return objIntConsumer(consumer, bounded(maximumSize));
     }
 
     /**
@@ -3022,7 +4064,7 @@ public final class Memoize {
     public static <KEY, INPUT> ObjIntConsumer<INPUT> objIntConsumer(
             final ObjIntConsumer<INPUT> consumer,
             final ObjIntFunction<INPUT, KEY> keyFunction) {
-        return objIntConsumer(consumer, keyFunction, emptyMap());
+        return objIntConsumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -3066,7 +4108,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> ObjLongConsumer<INPUT> objLongConsumer(final ObjLongConsumer<INPUT> consumer) {
-        return objLongConsumer(consumer, emptyMap());
+        return objLongConsumer(consumer, defaultCache());
     }
 
     /**
@@ -3087,8 +4129,30 @@ public final class Memoize {
     @CheckReturnValue
     public static <INPUT> ObjLongConsumer<INPUT> objLongConsumer(
             final ObjLongConsumer<INPUT> consumer,
-            final Map<Integer, Integer> cache) {
-        return objLongConsumer(consumer, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, CompositeKey> cache) {
+        return objLongConsumer(consumer, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ObjLongConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param consumer    The {@link ObjLongConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ObjLongConsumer}.
+     */
+    @CheckReturnValue
+    public static <INPUT> ObjLongConsumer<INPUT> objLongConsumer(
+            final ObjLongConsumer<INPUT> consumer,
+            final long maximumSize) {
+        return objLongConsumer(consumer, bounded(maximumSize));
     }
 
     /**
@@ -3111,7 +4175,7 @@ public final class Memoize {
     public static <KEY, INPUT> ObjLongConsumer<INPUT> objLongConsumer(
             final ObjLongConsumer<INPUT> consumer,
             final ObjLongFunction<INPUT, KEY> keyFunction) {
-        return objLongConsumer(consumer, keyFunction, emptyMap());
+        return objLongConsumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -3155,7 +4219,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> Predicate<INPUT> predicate(final Predicate<INPUT> predicate) {
-        return predicate(predicate, emptyMap());
+        return predicate(predicate, defaultCache());
     }
 
     /**
@@ -3178,7 +4242,7 @@ public final class Memoize {
     public static <KEY, INPUT> Predicate<INPUT> predicate(
             final Predicate<INPUT> predicate,
             final Function<INPUT, KEY> keyFunction) {
-        return predicate(predicate, keyFunction, emptyMap());
+        return predicate(predicate, keyFunction, defaultCache());
     }
 
     /**
@@ -3228,6 +4292,28 @@ public final class Memoize {
         return predicate(predicate, identity(), cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link Predicate} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param predicate   The {@link Predicate} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Predicate}.
+     */
+    @CheckReturnValue
+    public static <INPUT> Predicate<INPUT> predicate(
+            final Predicate<INPUT> predicate,
+            final long maximumSize) {
+        return predicate(predicate, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link Supplier} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -3244,7 +4330,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <OUTPUT> Supplier<OUTPUT> supplier(final Supplier<OUTPUT> supplier) {
-        return supplier(supplier, emptyMap());
+        return supplier(supplier, defaultCache());
     }
 
     /**
@@ -3289,7 +4375,7 @@ public final class Memoize {
     public static <KEY, OUTPUT> Supplier<OUTPUT> supplier(
             final Supplier<OUTPUT> supplier,
             final Supplier<KEY> keySupplier) {
-        return supplier(supplier, keySupplier, emptyMap());
+        return supplier(supplier, keySupplier, defaultCache());
     }
 
     /**
@@ -3317,6 +4403,102 @@ public final class Memoize {
         return new SupplierMemoizer<>(asConcurrentMap(cache), keySupplier, supplier);
     }
 
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Supplier} in a {@link java.util.concurrent.ConcurrentMap}. Concurrent calls share
+     * one in-flight {@link CompletableFuture}. Futures that complete exceptionally are removed from the cache, thus the
+     * next call starts a new computation. Callers receive a copy of the cached future, thus cancelling it does not
+     * affect other callers.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <OUTPUT> The type of the output.
+     * @param supplier The asynchronous {@link Supplier} to memoize.
+     * @return The wrapped {@link Supplier}.
+     */
+    @CheckReturnValue
+    public static <OUTPUT> Supplier<CompletableFuture<OUTPUT>> asyncSupplier(
+            final Supplier<CompletableFuture<OUTPUT>> supplier) {
+        return asyncSupplier(supplier, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Supplier} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <OUTPUT> The type of the output.
+     * @param supplier The asynchronous {@link Supplier} to memoize.
+     * @param cache    {@link Map} of already computed values.
+     * @return The wrapped {@link Supplier}.
+     * @see #asyncSupplier(Supplier)
+     */
+    @CheckReturnValue
+    public static <OUTPUT> Supplier<CompletableFuture<OUTPUT>> asyncSupplier(
+            final Supplier<CompletableFuture<OUTPUT>> supplier,
+            final Map<Integer, CompletableFuture<OUTPUT>> cache) {
+        return asyncSupplier(supplier, staticKey(), cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Supplier} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the output.
+     * @param supplier    The asynchronous {@link Supplier} to memoize.
+     * @param keySupplier The {@link Supplier} for the cache key.
+     * @return The wrapped {@link Supplier}.
+     * @see #asyncSupplier(Supplier)
+     */
+    @CheckReturnValue
+    public static <KEY, OUTPUT> Supplier<CompletableFuture<OUTPUT>> asyncSupplier(
+            final Supplier<CompletableFuture<OUTPUT>> supplier,
+            final Supplier<KEY> keySupplier) {
+        return asyncSupplier(supplier, keySupplier, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes an asynchronous {@link Supplier} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache key</li>
+     * <li>Custom cache</li>
+     * </ul>
+     *
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the output.
+     * @param supplier    The asynchronous {@link Supplier} to memoize.
+     * @param keySupplier The {@link Supplier} for the cache key.
+     * @param cache       The {@link Map} based cache to use.
+     * @return The wrapped {@link Supplier}.
+     * @see #asyncSupplier(Supplier)
+     */
+    @CheckReturnValue
+    public static <KEY, OUTPUT> Supplier<CompletableFuture<OUTPUT>> asyncSupplier(
+            final Supplier<CompletableFuture<OUTPUT>> supplier,
+            final Supplier<KEY> keySupplier,
+            final Map<KEY, CompletableFuture<OUTPUT>> cache) {
+        return new AsyncSupplierMemoizer<>(asConcurrentMap(cache), keySupplier, supplier);
+    }
+
     /**
      * <p>
      * Memoizes a {@link ToDoubleBiFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -3335,7 +4517,7 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> ToDoubleBiFunction<FIRST, SECOND> toDoubleBiFunction(
             final ToDoubleBiFunction<FIRST, SECOND> function) {
-        return toDoubleBiFunction(function, emptyMap());
+        return toDoubleBiFunction(function, defaultCache());
     }
 
     /**
@@ -3359,7 +4541,7 @@ public final class Memoize {
     public static <FIRST, SECOND, KEY> ToDoubleBiFunction<FIRST, SECOND> toDoubleBiFunction(
             final ToDoubleBiFunction<FIRST, SECOND> function,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return toDoubleBiFunction(function, keyFunction, emptyMap());
+        return toDoubleBiFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -3407,8 +4589,31 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> ToDoubleBiFunction<FIRST, SECOND> toDoubleBiFunction(
             final ToDoubleBiFunction<FIRST, SECOND> function,
-            final Map<Integer, Double> cache) {
-        return toDoubleBiFunction(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Double> cache) {
+        return toDoubleBiFunction(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ToDoubleBiFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param function    The {@link ToDoubleBiFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ToDoubleBiFunction}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND> ToDoubleBiFunction<FIRST, SECOND> toDoubleBiFunction(
+            final ToDoubleBiFunction<FIRST, SECOND> function,
+            final long maximumSize) {
+        return toDoubleBiFunction(function, bounded(maximumSize));
     }
 
     /**
@@ -3427,7 +4632,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> ToDoubleFunction<INPUT> toDoubleFunction(final ToDoubleFunction<INPUT> function) {
-        return toDoubleFunction(function, emptyMap());
+        return toDoubleFunction(function, defaultCache());
     }
 
     /**
@@ -3450,7 +4655,7 @@ public final class Memoize {
     public static <KEY, INPUT> ToDoubleFunction<INPUT> toDoubleFunction(
             final ToDoubleFunction<INPUT> function,
             final Function<INPUT, KEY> keyFunction) {
-        return toDoubleFunction(function, keyFunction, emptyMap());
+        return toDoubleFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -3500,6 +4705,28 @@ public final class Memoize {
         return toDoubleFunction(function, identity(), cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link ToDoubleFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param function    The {@link ToDoubleFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ToDoubleFunction}.
+     */
+    @CheckReturnValue
+    public static <INPUT> ToDoubleFunction<INPUT> toDoubleFunction(
+            final ToDoubleFunction<INPUT> function,
+            final long maximumSize) {
+        return toDoubleFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link ToIntBiFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -3518,7 +4745,7 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> ToIntBiFunction<FIRST, SECOND> toIntBiFunction(
             final ToIntBiFunction<FIRST, SECOND> function) {
-        return toIntBiFunction(function, emptyMap());
+        return toIntBiFunction(function, defaultCache());
     }
 
     /**
@@ -3542,7 +4769,7 @@ public final class Memoize {
     public static <FIRST, SECOND, KEY> ToIntBiFunction<FIRST, SECOND> toIntBiFunction(
             final ToIntBiFunction<FIRST, SECOND> function,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return toIntBiFunction(function, keyFunction, emptyMap());
+        return toIntBiFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -3590,8 +4817,31 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> ToIntBiFunction<FIRST, SECOND> toIntBiFunction(
             final ToIntBiFunction<FIRST, SECOND> function,
-            final Map<Integer, Integer> cache) {
-        return toIntBiFunction(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Integer> cache) {
+        return toIntBiFunction(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ToIntBiFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param function    The {@link ToIntBiFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ToIntBiFunction}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND> ToIntBiFunction<FIRST, SECOND> toIntBiFunction(
+            final ToIntBiFunction<FIRST, SECOND> function,
+            final long maximumSize) {
+        return toIntBiFunction(function, bounded(maximumSize));
     }
 
     /**
@@ -3614,7 +4864,7 @@ public final class Memoize {
     public static <KEY, INPUT> ToIntFunction<INPUT> toIntFunction(
             final ToIntFunction<INPUT> function,
             final Function<INPUT, KEY> keyFunction) {
-        return toIntFunction(function, keyFunction, emptyMap());
+        return toIntFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -3664,6 +4914,75 @@ public final class Memoize {
         return toIntFunction(function, identity(), cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link ToIntFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param function    The {@link ToIntFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ToIntFunction}.
+     */
+    @CheckReturnValue
+    public static <INPUT> ToIntFunction<INPUT> toIntFunction(
+            final ToIntFunction<INPUT> function,
+            final long maximumSize) {
+        return toIntFunction(function, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ToIntFunction} in a {@link java.util.concurrent.ConcurrentMap} as long as that pays off. The
+     * memoizer samples its own requests and calls the given function directly once looking up the cache costs more
+     * time than it saves, e.g. because the function is cheap or the hit ratio is low. It switches back to its cache
+     * once memoizing saves time again, see {@link wtf.metio.memoization.core.AdaptiveBypass}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param function The {@link ToIntFunction} to memoize.
+     * @return The wrapped {@link ToIntFunction}.
+     */
+    @CheckReturnValue
+    public static <INPUT> ToIntFunction<INPUT> adaptiveToIntFunction(final ToIntFunction<INPUT> function) {
+        return adaptiveToIntFunction(function, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ToIntFunction} in a {@link java.util.concurrent.ConcurrentMap} as long as that pays off.
+     * Switches between both modes are reported in case the given cache was created by
+     * {@link wtf.metio.memoization.core.ConcurrentMaps#recordStatistics(Map)}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param function The {@link ToIntFunction} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link ToIntFunction}.
+     * @see #adaptiveToIntFunction(ToIntFunction)
+     */
+    @CheckReturnValue
+    public static <INPUT> ToIntFunction<INPUT> adaptiveToIntFunction(
+            final ToIntFunction<INPUT> function,
+            final Map<INPUT, Integer> cache) {
+        return new ToIntFunctionAdaptiveMemoizer<>(asConcurrentMap(cache), identity(), function);
+    }
+
     /**
      * <p>
      * Memoizes a {@link ToIntFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -3680,7 +4999,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> ToIntFunction<INPUT> toIntFunction(final ToIntFunction<INPUT> function) {
-        return toIntFunction(function, emptyMap());
+        return toIntFunction(function, defaultCache());
     }
 
     /**
@@ -3701,7 +5020,7 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> ToLongBiFunction<FIRST, SECOND> toLongBiFunction(
             final ToLongBiFunction<FIRST, SECOND> function) {
-        return toLongBiFunction(function, emptyMap());
+        return toLongBiFunction(function, defaultCache());
     }
 
     /**
@@ -3725,7 +5044,7 @@ public final class Memoize {
     public static <FIRST, SECOND, KEY> ToLongBiFunction<FIRST, SECOND> toLongBiFunction(
             final ToLongBiFunction<FIRST, SECOND> function,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return toLongBiFunction(function, keyFunction, emptyMap());
+        return toLongBiFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -3773,8 +5092,31 @@ public final class Memoize {
     @CheckReturnValue
     public static <FIRST, SECOND> ToLongBiFunction<FIRST, SECOND> toLongBiFunction(
             final ToLongBiFunction<FIRST, SECOND> function,
-            final Map<Integer, Long> cache) {
-        return toLongBiFunction(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Long> cache) {
+        return toLongBiFunction(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link ToLongBiFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param function    The {@link ToLongBiFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ToLongBiFunction}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND> ToLongBiFunction<FIRST, SECOND> toLongBiFunction(
+            final ToLongBiFunction<FIRST, SECOND> function,
+            final long maximumSize) {
+        return toLongBiFunction(function, bounded(maximumSize));
     }
 
     /**
@@ -3797,7 +5139,7 @@ public final class Memoize {
     public static <KEY, INPUT> ToLongFunction<INPUT> toLongFunction(
             final ToLongFunction<INPUT> function,
             final Function<INPUT, KEY> keyFunction) {
-        return toLongFunction(function, keyFunction, emptyMap());
+        return toLongFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -3847,6 +5189,28 @@ public final class Memoize {
         return toLongFunction(function, identity(), cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link ToLongFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param function    The {@link ToLongFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link ToLongFunction}.
+     */
+    @CheckReturnValue
+    public static <INPUT> ToLongFunction<INPUT> toLongFunction(
+            final ToLongFunction<INPUT> function,
+            final long maximumSize) {
+        return toLongFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link ToLongFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -3863,7 +5227,7 @@ public final class Memoize {
      */
     @CheckReturnValue
     public static <INPUT> ToLongFunction<INPUT> toLongFunction(final ToLongFunction<INPUT> function) {
-        return toLongFunction(function, emptyMap());
+        return toLongFunction(function, defaultCache());
     }
 
 }
@@ -24,7 +24,7 @@ final class ObjDoubleConsumerMemoizer<INPUT, KEY>
             final ObjDoubleConsumer<INPUT> consumer) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults.objDoubleConsumerHashCodeKeyFunction()'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.consumer = requireNonNull(consumer,
                 "Cannot memoize a NULL Consumer - provide an actual Consumer to fix this.");
     }
@@ -24,7 +24,7 @@ final class ObjIntConsumerMemoizer<INPUT, KEY>
             final ObjIntConsumer<INPUT> consumer) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults.objIntConsumerHashCodeKeyFunction()'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.consumer = requireNonNull(consumer,
                 "Cannot memoize a NULL Consumer - provide an actual Consumer to fix this.");
     }
@@ -0,0 +1,163 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import org.jspecify.annotations.Nullable;
+import wtf.metio.memoization.core.AbstractMemoizer;
+
+import java.io.Serial;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Memoizes self-referential functions. Recursive calls go through {@link Evaluation#apply(Object)} which looks up and
+ * stores values with {@link ConcurrentMap#get} and {@link ConcurrentMap#putIfAbsent}, thus the cache is never updated
+ * from within one of its own computations. The outermost call of each evaluation is recorded like the misses of other
+ * memoizers, recursive calls within it read and write the cache directly. Once the recursion gets deeper than {@link #MAXIMUM_DEPTH}, the innermost
+ * call is suspended and evaluated from an explicit work stack instead, after which the suspended computations are
+ * started again. Their intermediate results are known by then, thus each restart quickly reaches the point where it
+ * was suspended. Apart from the cache, an evaluation only remembers the results of suspended calls until the call that
+ * waited for them completes as well, thus its memory is bounded by the number of pending calls. Memoized functions that
+ * swallow a suspension, e.g. by catching {@link Throwable}, would compute wrong results, thus the evaluation fails with
+ * an {@link IllegalStateException} once a suspended call does not unwind.
+ */
+final class RecursiveFunctionMemoizer<INPUT, OUTPUT>
+        extends AbstractMemoizer<INPUT, OUTPUT>
+        implements Function<INPUT, OUTPUT> {
+
+    static final int MAXIMUM_DEPTH = 256;
+
+    private final BiFunction<Function<INPUT, OUTPUT>, INPUT, OUTPUT> function;
+
+    RecursiveFunctionMemoizer(
+            final ConcurrentMap<INPUT, OUTPUT> cache,
+            final BiFunction<Function<INPUT, OUTPUT>, INPUT, OUTPUT> function) {
+        super(cache);
+        this.function = requireNonNull(function,
+                "Cannot memoize a NULL BiFunction - provide an actual BiFunction to fix this.");
+    }
+
+    @Override
+    public OUTPUT apply(final INPUT input) {
+        final OUTPUT value = lookup(input);
+        if (value != null) {
+            return value;
+        }
+        return load(input, key -> new Evaluation().evaluate(key));
+    }
+
+    private final class Evaluation implements Function<INPUT, OUTPUT> {
+
+        private final Deque<INPUT> pending = new ArrayDeque<>();
+        private final Set<INPUT> suspended = new HashSet<>();
+        private final Map<INPUT, OUTPUT> resolved = new HashMap<>();
+        private final Map<INPUT, List<INPUT>> dependencies = new HashMap<>();
+        private @Nullable Suspension suspension;
+        private int depth;
+
+        private OUTPUT evaluate(final INPUT input) {
+            pending.push(input);
+            while (true) {
+                final INPUT next = pending.peek();
+                try {
+                    depth = 0;
+                    final OUTPUT value = apply(next);
+                    unwound();
+                    pending.pop();
+                    suspended.remove(next);
+                    forget(next);
+                    if (pending.isEmpty()) {
+                        return value;
+                    }
+                    // the restarted call must find this value even if it was evicted or cannot be cached at all
+                    resolved.put(next, value);
+                    dependencies.computeIfAbsent(pending.peek(), ignored -> new ArrayList<>()).add(next);
+                } catch (final Suspension unwinding) {
+                    suspension = null;
+                    @SuppressWarnings("unchecked") final INPUT key = (INPUT) unwinding.key;
+                    if (!suspended.add(key)) {
+                        throw new IllegalStateException("Recursive computation of the same input - the value of '"
+                                + key + "' depends on itself.");
+                    }
+                    pending.push(key);
+                }
+            }
+        }
+
+        private void forget(final INPUT completed) {
+            final List<INPUT> inputs = dependencies.remove(completed);
+            if (inputs != null) {
+                inputs.forEach(resolved::remove);
+            }
+        }
+
+        private void unwound() {
+            if (suspension != null) {
+                throw new IllegalStateException("The memoized function caught the suspension of its recursion - "
+                        + "do not catch Throwable or Error within memoized functions to fix this.");
+            }
+        }
+
+        @Override
+        public OUTPUT apply(final INPUT input) {
+            unwound();
+            final OUTPUT cached = lookup(input);
+            if (cached != null) {
+                return cached;
+            }
+            if (resolved.containsKey(input)) {
+                return resolved.get(input);
+            }
+            if (depth >= MAXIMUM_DEPTH) {
+                suspension = new Suspension(input);
+                throw suspension;
+            }
+            depth++;
+            final OUTPUT value;
+            try {
+                value = function.apply(this, input);
+            } finally {
+                depth--;
+            }
+            unwound();
+            if (value == null) {
+                return null;
+            }
+            return store(input, value);
+        }
+
+    }
+
+    /**
+     * Unwinds the stack up to the enclosing {@link Evaluation}. Memoized functions must not catch it, which they
+     * usually do not since it is neither checked nor a subclass of {@link RuntimeException}. Evaluations detect
+     * suspensions that were caught anyway and fail instead of returning wrong results.
+     */
+    private static final class Suspension extends Error {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object key;
+
+        private Suspension(final Object key) {
+            super(null, null, false, false);
+            this.key = key;
+        }
+
+    }
+
+}
@@ -25,7 +25,7 @@ final class ToDoubleBiFunctionMemoizer<FIRST, SECOND, KEY>
             final ToDoubleBiFunction<FIRST, SECOND> function) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults::hashCodes'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.function = requireNonNull(function,
                 "Cannot memoize a NULL ToDoubleBiFunction - provide an actual ToDoubleBiFunction to fix this.");
     }
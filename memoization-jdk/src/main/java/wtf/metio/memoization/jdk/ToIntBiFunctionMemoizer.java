@@ -25,7 +25,7 @@ final class ToIntBiFunctionMemoizer<FIRST, SECOND, KEY>
             final ToIntBiFunction<FIRST, SECOND> function) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults::hashCodes'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.function = requireNonNull(function,
                 "Cannot memoize a NULL ToIntBiFunction - provide an actual ToIntBiFunction to fix this.");
     }
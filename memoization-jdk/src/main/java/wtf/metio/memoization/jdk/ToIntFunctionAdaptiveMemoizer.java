@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.AbstractMemoizer;
+import wtf.metio.memoization.core.AdaptiveBypass;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+final class ToIntFunctionAdaptiveMemoizer<INPUT, KEY>
+        extends AbstractMemoizer<KEY, Integer>
+        implements ToIntFunction<INPUT> {
+
+    private final Function<INPUT, KEY> keyFunction;
+    private final ToIntFunction<INPUT> function;
+    private final AdaptiveBypass bypass;
+
+    ToIntFunctionAdaptiveMemoizer(
+            final ConcurrentMap<KEY, Integer> cache,
+            final Function<INPUT, KEY> keyFunction,
+            final ToIntFunction<INPUT> function) {
+        super(cache);
+        this.keyFunction = requireNonNull(keyFunction, "Provide a key function.");
+        this.function = requireNonNull(function,
+                "Cannot memoize a NULL ToIntFunction - provide an actual ToIntFunction to fix this.");
+        this.bypass = new AdaptiveBypass(cache);
+    }
+
+    @Override
+    public int applyAsInt(final INPUT input) {
+        final AdaptiveBypass.Sample sample = bypass.sample();
+        if (sample == null) {
+            if (bypass.bypassing()) {
+                return function.applyAsInt(input);
+            }
+            return computeIfAbsent(keyFunction.apply(input), key -> function.applyAsInt(input));
+        }
+        final int value = computeIfAbsent(keyFunction.apply(input),
+                key -> sample.compute(() -> function.applyAsInt(input)));
+        sample.finish();
+        return value;
+    }
+
+}
@@ -25,7 +25,7 @@ final class ToLongBiFunctionMemoizer<FIRST, SECOND, KEY>
             final ToLongBiFunction<FIRST, SECOND> function) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults::hashCodes'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.function = requireNonNull(function,
                 "Cannot memoize a NULL ToLongBiFunction - provide an actual ToLongBiFunction to fix this.");
     }
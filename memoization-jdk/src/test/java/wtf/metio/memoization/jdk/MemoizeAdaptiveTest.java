@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import wtf.metio.memoization.core.CacheStatistics;
+import wtf.metio.memoization.core.ConcurrentMaps;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+class MemoizeAdaptiveTest {
+
+    @Test
+    void shouldMemoizeIntUnaryOperator() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final IntUnaryOperator memoized = Memoize.adaptiveIntUnaryOperator(operand -> {
+            calls.incrementAndGet();
+            return operand * 2;
+        });
+
+        // when
+        final int first = memoized.applyAsInt(123);
+        final int second = memoized.applyAsInt(123);
+
+        // then
+        Assertions.assertEquals(246, first);
+        Assertions.assertEquals(246, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldMemoizeToIntFunction() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final ToIntFunction<String> memoized = Memoize.adaptiveToIntFunction(input -> {
+            calls.incrementAndGet();
+            return input.length();
+        });
+
+        // when
+        final int first = memoized.applyAsInt("test");
+        final int second = memoized.applyAsInt("test");
+
+        // then
+        Assertions.assertEquals(4, first);
+        Assertions.assertEquals(4, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldUseCustomCache() {
+        // given
+        final ConcurrentMap<String, Integer> cache = new ConcurrentHashMap<>();
+        final ToIntFunction<String> memoized = Memoize.adaptiveToIntFunction(String::length, cache);
+
+        // when
+        memoized.applyAsInt("test");
+
+        // then
+        Assertions.assertEquals(4, cache.get("test"));
+    }
+
+    @Test
+    void shouldReturnCorrectValuesWhileAdapting() {
+        // given
+        final IntUnaryOperator memoized = Memoize.adaptiveIntUnaryOperator(operand -> operand + 1);
+
+        // when
+        // then
+        for (int operand = 0; operand < 100_000; operand++) {
+            Assertions.assertEquals(operand + 1, memoized.applyAsInt(operand));
+        }
+    }
+
+    @Test
+    void shouldBypassCheapUniqueComputations() {
+        // given
+        final ConcurrentMap<Integer, Integer> cache = ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>());
+        final IntUnaryOperator memoized = Memoize.adaptiveIntUnaryOperator(operand -> operand + 1, cache);
+
+        // when
+        for (int operand = 0; operand < 100_000; operand++) {
+            memoized.applyAsInt(operand);
+        }
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(memoized).orElseThrow();
+        Assertions.assertEquals(1, statistics.bypassEnabledCount());
+        Assertions.assertTrue(cache.size() < 100_000);
+    }
+
+}
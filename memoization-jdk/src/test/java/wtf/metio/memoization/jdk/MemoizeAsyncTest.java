@@ -0,0 +1,236 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+class MemoizeAsyncTest {
+
+    @Test
+    void shouldShareInFlightFuture() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> remote = new CompletableFuture<>();
+        final Function<String, CompletableFuture<String>> memoized = Memoize.asyncFunction(input -> {
+            calls.incrementAndGet();
+            return remote;
+        });
+
+        // when
+        final CompletableFuture<String> first = memoized.apply("key");
+        final CompletableFuture<String> second = memoized.apply("key");
+        remote.complete("value");
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals("value", first.join());
+        Assertions.assertEquals("value", second.join());
+    }
+
+    @Test
+    void shouldNotBlockWhileInFlight() {
+        // given
+        final Function<String, CompletableFuture<String>> memoized =
+                Memoize.asyncFunction(input -> new CompletableFuture<>());
+
+        // when
+        final CompletableFuture<String> future = memoized.apply("key");
+
+        // then
+        Assertions.assertFalse(future.isDone());
+    }
+
+    @Test
+    void shouldCacheSuccessfulFutures() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, CompletableFuture<String>> memoized = Memoize.asyncFunction(input -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(input.toUpperCase());
+        });
+
+        // when
+        memoized.apply("key");
+        final String value = memoized.apply("key").join();
+
+        // then
+        Assertions.assertEquals("KEY", value);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldEvictFailedFutures() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Map<String, CompletableFuture<String>> cache = new ConcurrentHashMap<>();
+        final CompletableFuture<String> remote = new CompletableFuture<>();
+        final Function<String, CompletableFuture<String>> memoized = Memoize.asyncFunction(input -> {
+            calls.incrementAndGet();
+            return calls.get() == 1 ? remote : CompletableFuture.completedFuture("retry");
+        }, cache);
+
+        // when
+        final CompletableFuture<String> failed = memoized.apply("key");
+        remote.completeExceptionally(new IllegalStateException("remote failure"));
+        final CompletableFuture<String> retried = memoized.apply("key");
+
+        // then
+        Assertions.assertTrue(failed.isCompletedExceptionally());
+        Assertions.assertEquals("retry", retried.join());
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldEvictAlreadyFailedFutures() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, CompletableFuture<String>> memoized = Memoize.asyncFunction(input -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("remote failure"));
+        });
+
+        // when
+        memoized.apply("key");
+        memoized.apply("key");
+
+        // then
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldIsolateCallersFromEachOther() {
+        // given
+        final CompletableFuture<String> remote = new CompletableFuture<>();
+        final Function<String, CompletableFuture<String>> memoized = Memoize.asyncFunction(input -> remote);
+
+        // when
+        memoized.apply("key").cancel(true);
+        final CompletableFuture<String> other = memoized.apply("key");
+        remote.complete("value");
+
+        // then
+        Assertions.assertFalse(remote.isCancelled());
+        Assertions.assertEquals("value", other.join());
+    }
+
+    @Test
+    void shouldUseCustomKeyFunction() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, CompletableFuture<Integer>> memoized = Memoize.asyncFunction(input -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(input.length());
+        }, String::length);
+
+        // when
+        memoized.apply("abc");
+        final Integer value = memoized.apply("xyz").join();
+
+        // then
+        Assertions.assertEquals(3, value);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldUseBoundedCache() {
+        // given
+        final Function<Integer, CompletableFuture<Integer>> memoized = Memoize.asyncFunction(
+                input -> CompletableFuture.completedFuture(input * 2), 10);
+
+        // when
+        Integer value = 0;
+        for (int input = 0; input < 100; input++) {
+            value = memoized.apply(input).join();
+        }
+
+        // then
+        Assertions.assertEquals(198, value);
+    }
+
+    @Test
+    void shouldPropagateSynchronousFailures() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, CompletableFuture<String>> memoized = Memoize.asyncFunction(input -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("cannot start");
+            }
+            return CompletableFuture.completedFuture(input);
+        });
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> memoized.apply("key"));
+        final String value = memoized.apply("key").join();
+
+        // then
+        Assertions.assertEquals("key", value);
+    }
+
+    @Test
+    void shouldShareInFlightSupplierFuture() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> remote = new CompletableFuture<>();
+        final Supplier<CompletableFuture<String>> memoized = Memoize.asyncSupplier(() -> {
+            calls.incrementAndGet();
+            return remote;
+        });
+
+        // when
+        final CompletableFuture<String> first = memoized.get();
+        final CompletableFuture<String> second = memoized.get();
+        remote.complete("value");
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals("value", first.join());
+        Assertions.assertEquals("value", second.join());
+    }
+
+    @Test
+    void shouldEvictFailedSupplierFutures() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<CompletableFuture<String>> memoized = Memoize.asyncSupplier(() -> calls.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new IllegalStateException("remote failure"))
+                : CompletableFuture.completedFuture("retry"));
+
+        // when
+        final CompletableFuture<String> failed = memoized.get();
+        final CompletableFuture<String> retried = memoized.get();
+
+        // then
+        Assertions.assertTrue(failed.isCompletedExceptionally());
+        Assertions.assertEquals("retry", retried.join());
+    }
+
+    @Test
+    void shouldUseCustomKeySupplier() {
+        // given
+        final AtomicInteger key = new AtomicInteger();
+        final Map<Integer, CompletableFuture<Integer>> cache = new ConcurrentHashMap<>();
+        final Supplier<CompletableFuture<Integer>> memoized = Memoize.asyncSupplier(
+                () -> CompletableFuture.completedFuture(key.get()), key::get, cache);
+
+        // when
+        memoized.get();
+        key.incrementAndGet();
+        memoized.get();
+
+        // then
+        Assertions.assertEquals(2, cache.size());
+    }
+
+}
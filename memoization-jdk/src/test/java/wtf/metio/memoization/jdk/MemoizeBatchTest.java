@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class MemoizeBatchTest {
+
+    @Test
+    void shouldLoadAllMissesInOneCall() {
+        // given
+        final List<Set<Integer>> calls = new CopyOnWriteArrayList<>();
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(keys -> {
+            calls.add(Set.copyOf(keys));
+            return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+        });
+
+        // when
+        final Map<Integer, String> values = memoized.getAll(List.of(1, 2, 3));
+
+        // then
+        Assertions.assertEquals(Map.of(1, "1", 2, "2", 3, "3"), values);
+        Assertions.assertEquals(List.of(Set.of(1, 2, 3)), calls);
+    }
+
+    @Test
+    void shouldOnlyLoadMisses() {
+        // given
+        final List<Set<Integer>> calls = new CopyOnWriteArrayList<>();
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(keys -> {
+            calls.add(Set.copyOf(keys));
+            return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+        });
+
+        // when
+        memoized.getAll(List.of(1, 2));
+        final Map<Integer, String> values = memoized.getAll(List.of(2, 3, 1, 4));
+
+        // then
+        Assertions.assertEquals(List.of(2, 3, 1, 4), List.copyOf(values.keySet()));
+        Assertions.assertEquals(List.of(Set.of(1, 2), Set.of(3, 4)), calls);
+    }
+
+    @Test
+    void shouldNotCallLoaderForHits() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Map<Integer, String> cache = new ConcurrentHashMap<>(Map.of(1, "one"));
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(keys -> {
+            calls.incrementAndGet();
+            return Map.of();
+        }, cache);
+
+        // when
+        final Map<Integer, String> values = memoized.getAll(List.of(1, 1));
+
+        // then
+        Assertions.assertEquals(Map.of(1, "one"), values);
+        Assertions.assertEquals(0, calls.get());
+    }
+
+    @Test
+    void shouldSkipKeysWithoutValue() {
+        // given
+        final Map<Integer, String> cache = new ConcurrentHashMap<>();
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(keys -> Map.of(1, "1"), cache);
+
+        // when
+        final Map<Integer, String> values = memoized.getAll(List.of(1, 2));
+
+        // then
+        Assertions.assertEquals(Map.of(1, "1"), values);
+        Assertions.assertEquals(Map.of(1, "1"), cache);
+    }
+
+    @Test
+    void shouldRetryAfterFailure() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(keys -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("test");
+            }
+            return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+        });
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> memoized.getAll(List.of(1)));
+        final Map<Integer, String> values = memoized.getAll(List.of(1));
+
+        // then
+        Assertions.assertEquals(Map.of(1, "1"), values);
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldReleaseKeysWhenCacheFails() {
+        // given
+        final ConcurrentMap<Integer, String> cache = new ConcurrentHashMap<>() {
+            @Override
+            public String putIfAbsent(final Integer key, final String value) {
+                if (key == 1) {
+                    throw new IllegalStateException("test");
+                }
+                return super.putIfAbsent(key, value);
+            }
+        };
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(
+                keys -> keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf)), cache);
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> memoized.getAll(List.of(1, 2)));
+        final Map<Integer, String> values = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> memoized.getAll(List.of(2)));
+
+        // then
+        Assertions.assertEquals(Map.of(2, "2"), values);
+    }
+
+    @Test
+    void shouldUseBoundedCache() {
+        // given
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(
+                keys -> keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf)), 10);
+
+        // when
+        final Map<Integer, String> values = memoized.getAll(List.of(1, 2));
+
+        // then
+        Assertions.assertEquals(Map.of(1, "1", 2, "2"), values);
+    }
+
+    @Test
+    void shouldMergeConcurrentBatches() throws Exception {
+        // given
+        final List<Set<Integer>> calls = new CopyOnWriteArrayList<>();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final BatchFunction<Integer, String> memoized = Memoize.batchFunction(keys -> {
+            calls.add(Set.copyOf(keys));
+            if (keys.contains(1)) {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            final Future<Map<Integer, String>> first = executor.submit(() -> memoized.getAll(List.of(1, 2)));
+            loading.await();
+            final Future<Map<Integer, String>> second = executor.submit(() -> memoized.getAll(List.of(2, 3)));
+            while (calls.size() < 2) {
+                Thread.onSpinWait();
+            }
+            Assertions.assertFalse(second.isDone());
+            release.countDown();
+
+            // then
+            Assertions.assertEquals(Map.of(1, "1", 2, "2"), first.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(Map.of(2, "2", 3, "3"), second.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(List.of(Set.of(1, 2), Set.of(3)), calls);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
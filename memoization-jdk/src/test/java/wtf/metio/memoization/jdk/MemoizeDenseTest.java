@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import wtf.metio.memoization.tck.ConcurrencyTCK;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.UnaryOperator;
+
+class MemoizeDenseTest extends ConcurrencyTCK {
+
+    // half of the raced keys fall back to the default cache
+    private static final int RANGE = 32;
+
+    @Override
+    protected Map<String, UnaryOperator<IntUnaryOperator>> memoizers() {
+        final Map<String, UnaryOperator<IntUnaryOperator>> memoizers = new LinkedHashMap<>();
+        memoizers.put("IntUnaryOperator", operator -> Memoize.intUnaryOperator(operator, 0, RANGE));
+        memoizers.put("IntFunction", operator -> {
+            final IntFunction<Integer> memoized = Memoize.intFunction(operator::applyAsInt, 0, RANGE);
+            return memoized::apply;
+        });
+        return memoizers;
+    }
+
+    @Override
+    protected Map<String, UnaryOperator<IntPredicate>> predicates() {
+        final Map<String, UnaryOperator<IntPredicate>> predicates = new LinkedHashMap<>();
+        predicates.put("IntPredicate", predicate -> Memoize.intPredicate(predicate, 0, RANGE));
+        predicates.put("LongPredicate", predicate -> {
+            final LongPredicate memoized = Memoize.longPredicate(value -> predicate.test((int) value), 0L, RANGE);
+            return memoized::test;
+        });
+        return predicates;
+    }
+
+    @Test
+    void shouldMemoizeIntUnaryOperatorInRange() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final IntUnaryOperator memoized = Memoize.intUnaryOperator(operand -> {
+            calls.incrementAndGet();
+            return operand * 2;
+        }, 0, 65_536);
+
+        // when
+        final int first = memoized.applyAsInt(123);
+        final int second = memoized.applyAsInt(123);
+
+        // then
+        Assertions.assertEquals(246, first);
+        Assertions.assertEquals(246, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldMemoizeIntUnaryOperatorOutsideRange() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final IntUnaryOperator memoized = Memoize.intUnaryOperator(operand -> {
+            calls.incrementAndGet();
+            return operand * 2;
+        }, 0, 16);
+
+        // when
+        final int first = memoized.applyAsInt(-100);
+        final int second = memoized.applyAsInt(-100);
+
+        // then
+        Assertions.assertEquals(-200, first);
+        Assertions.assertEquals(-200, second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldMemoizeIntPredicateInRange() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final IntPredicate memoized = Memoize.intPredicate(value -> {
+            calls.incrementAndGet();
+            return value % 2 == 0;
+        }, 0, 100);
+
+        // when
+        for (int round = 0; round < 2; round++) {
+            for (int value = 0; value < 100; value++) {
+                Assertions.assertEquals(value % 2 == 0, memoized.test(value));
+            }
+        }
+
+        // then
+        Assertions.assertEquals(100, calls.get());
+    }
+
+    @Test
+    void shouldMemoizeIntPredicateOutsideRange() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final IntPredicate memoized = Memoize.intPredicate(value -> {
+            calls.incrementAndGet();
+            return value > 0;
+        }, 0, 16);
+
+        // when
+        final boolean first = memoized.test(1_000);
+        final boolean second = memoized.test(1_000);
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertTrue(second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldMemoizeLongPredicateInRange() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final LongPredicate memoized = Memoize.longPredicate(value -> {
+            calls.incrementAndGet();
+            return value < 0L;
+        }, -10L, 10L);
+
+        // when
+        final boolean first = memoized.test(-5L);
+        final boolean second = memoized.test(-5L);
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertTrue(second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldMemoizeIntFunctionInRange() {
+        // given
+        final IntFunction<Object> memoized = Memoize.intFunction(value -> new Object(), 0, 8);
+
+        // when
+        final Object first = memoized.apply(3);
+        final Object second = memoized.apply(3);
+
+        // then
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void shouldMemoizeIntFunctionOutsideRange() {
+        // given
+        final IntFunction<Object> memoized = Memoize.intFunction(value -> new Object(), 0, 8);
+
+        // when
+        final Object first = memoized.apply(8);
+        final Object second = memoized.apply(8);
+
+        // then
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void shouldRejectEmptyRange() {
+        // given
+        final IntUnaryOperator operator = operand -> operand;
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Memoize.intUnaryOperator(operator, 10, 0));
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import wtf.metio.memoization.core.CacheStatistics;
+import wtf.metio.memoization.core.ConcurrentMaps;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class MemoizeRecursiveFunctionTest {
+
+    @Test
+    void shouldMemoizeRecursiveFunction() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Long> fibonacci = Memoize.recursiveFunction((self, n) -> {
+            calls.incrementAndGet();
+            return n < 2 ? n : self.apply(n - 1) + self.apply(n - 2);
+        });
+
+        // when
+        final Long value = fibonacci.apply(90);
+
+        // then
+        Assertions.assertEquals(2880067194370816120L, value);
+        Assertions.assertEquals(91, calls.get());
+    }
+
+    @Test
+    void shouldNotOverflowStackForDeepRecursion() {
+        // given
+        final Function<Integer, BigInteger> fibonacci = Memoize.recursiveFunction((self, n) ->
+                n < 2 ? BigInteger.valueOf(n) : self.apply(n - 1).add(self.apply(n - 2)));
+
+        // when
+        final BigInteger value = fibonacci.apply(100_000);
+
+        // then
+        Assertions.assertEquals(69_424, value.bitLength());
+    }
+
+    @Test
+    void shouldComputeEachValueOnceForDeepRecursion() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Long> sum = Memoize.recursiveFunction((self, n) -> {
+            calls.incrementAndGet();
+            return n == 0 ? 0L : n + self.apply(n - 1);
+        });
+
+        // when
+        final Long value = sum.apply(10_000);
+
+        // then
+        Assertions.assertEquals(50_005_000L, value);
+        Assertions.assertTrue(calls.get() < 2 * 10_001);
+    }
+
+    @Test
+    void shouldUseCustomCache() {
+        // given
+        final Map<Integer, Long> cache = new ConcurrentHashMap<>();
+        final Function<Integer, Long> factorial = Memoize.recursiveFunction((self, n) ->
+                n < 2 ? 1L : n * self.apply(n - 1), cache);
+
+        // when
+        final Long value = factorial.apply(20);
+
+        // then
+        Assertions.assertEquals(2432902008176640000L, value);
+        Assertions.assertEquals(20, cache.size());
+    }
+
+    @Test
+    void shouldUseBoundedCache() {
+        // given
+        final Function<Integer, Long> sum = Memoize.recursiveFunction((self, n) ->
+                n == 0 ? 0L : n + self.apply(n - 1), 10);
+
+        // when
+        final Long value = sum.apply(5_000);
+
+        // then
+        Assertions.assertEquals(12_502_500L, value);
+    }
+
+    @Test
+    void shouldComputeDeepRecursionWithCacheThatStoresNothing() {
+        // given
+        final Map<Integer, Long> cache = new ConcurrentHashMap<>() {
+            @Override
+            public Long putIfAbsent(final Integer key, final Long value) {
+                return null;
+            }
+        };
+        final Function<Integer, Long> sum = Memoize.recursiveFunction((self, n) ->
+                n == 0 ? 0L : n + self.apply(n - 1), cache);
+
+        // when
+        final Long value = sum.apply(5_000);
+
+        // then
+        Assertions.assertEquals(12_502_500L, value);
+        Assertions.assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    void shouldDetectSelfDependency() {
+        // given
+        final Function<Integer, Integer> function = Memoize.recursiveFunction((self, n) -> self.apply(n));
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalStateException.class, () -> function.apply(1));
+    }
+
+    @Test
+    void shouldFailWhenFunctionSwallowsSuspension() {
+        // given
+        final Function<Integer, Long> sum = Memoize.recursiveFunction((self, n) -> {
+            try {
+                return n == 0 ? 0L : n + self.apply(n - 1);
+            } catch (final Throwable throwable) {
+                return -1L;
+            }
+        });
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalStateException.class, () -> sum.apply(5_000));
+    }
+
+    @Test
+    void shouldRecordStatistics() {
+        // given
+        final Map<Integer, Long> cache = ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>());
+        final Function<Integer, Long> factorial = Memoize.recursiveFunction((self, n) ->
+                n < 2 ? 1L : n * self.apply(n - 1), cache);
+
+        // when
+        factorial.apply(20);
+        factorial.apply(20);
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(factorial).orElseThrow();
+        Assertions.assertEquals(1, statistics.hitCount());
+        Assertions.assertEquals(1, statistics.missCount());
+        Assertions.assertEquals(1, statistics.loadSuccessCount());
+    }
+
+}
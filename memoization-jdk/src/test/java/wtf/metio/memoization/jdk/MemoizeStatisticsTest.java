@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import wtf.metio.memoization.core.CacheStatistics;
+import wtf.metio.memoization.core.ConcurrentMaps;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+class MemoizeStatisticsTest {
+
+    @Test
+    void shouldRecordStatisticsOfFunction() {
+        // given
+        final Function<String, String> memoized = Memoize.function(String::toUpperCase,
+                ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>()));
+
+        // when
+        memoized.apply("first");
+        memoized.apply("first");
+        memoized.apply("second");
+
+        // then
+        final CacheStatistics statistics = CacheStatistics.of(memoized).orElseThrow();
+        Assertions.assertEquals(1, statistics.hitCount());
+        Assertions.assertEquals(2, statistics.missCount());
+        Assertions.assertEquals(2, statistics.loadSuccessCount());
+    }
+
+    @Test
+    void shouldRecordStatisticsOfBiFunction() {
+        // given
+        final BiFunction<String, String, String> memoized = Memoize.biFunction(String::concat,
+                ConcurrentMaps.recordStatistics(new ConcurrentHashMap<>()));
+
+        // when
+        memoized.apply("first", "second");
+        memoized.apply("first", "second");
+
+        // then
+        Assertions.assertEquals(0.5, CacheStatistics.of(memoized).orElseThrow().hitRate());
+    }
+
+    @Test
+    void shouldNotRecordStatisticsByDefault() {
+        // given
+        final Function<String, String> memoized = Memoize.function(String::toUpperCase);
+
+        // when
+        memoized.apply("first");
+
+        // then
+        Assertions.assertTrue(CacheStatistics.of(memoized).isEmpty());
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import wtf.metio.memoization.offheap.OffHeapMaps;
+import wtf.metio.memoization.offheap.Serializers;
+import wtf.metio.memoization.offheap.SharedMap;
+
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class MemoizeUsingSharedCacheTest extends MemoizeUsingCustomCacheTCK {
+
+    private static final ObjectInputFilter FILTER =
+            ObjectInputFilter.Config.createFilter("java.lang.*;wtf.metio.memoization.core.*;!*");
+
+    @TempDir
+    Path directory;
+
+    private final List<SharedMap<?, ?>> maps = new ArrayList<>();
+
+    @AfterEach
+    void closeMaps() {
+        maps.forEach(SharedMap::close);
+    }
+
+    @Override
+    protected <K, V> Map<K, V> cache() {
+        try {
+            final SharedMap<K, V> map = OffHeapMaps.shared(Files.createTempFile(directory, "shared", ".map"), 1024,
+                    1024, Serializers.java(FILTER), Serializers.java(FILTER));
+            maps.add(map);
+            return map;
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import org.junit.jupiter.api.io.TempDir;
+import wtf.metio.memoization.snapshots.Snapshots;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+class MemoizeUsingSnapshotCacheTest extends MemoizeUsingCustomCacheTCK {
+
+    @TempDir
+    Path directory;
+
+    @Override
+    protected <K, V> Map<K, V> cache() {
+        try {
+            final Path file = directory.resolve("cache.snapshot");
+            Snapshots.write(Map.of(), file);
+            return Snapshots.lazy(file);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
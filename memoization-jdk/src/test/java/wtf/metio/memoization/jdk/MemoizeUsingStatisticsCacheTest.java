@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jdk;
+
+import wtf.metio.memoization.core.ConcurrentMaps;
+
+import java.util.Collections;
+import java.util.Map;
+
+class MemoizeUsingStatisticsCacheTest extends MemoizeUsingCustomCacheTCK {
+
+    @Override
+    protected <K, V> Map<K, V> cache() {
+        return ConcurrentMaps.recordStatistics(Collections.emptyMap());
+    }
+
+}
@@ -10,13 +10,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import wtf.metio.memoization.tck.ConcurrencyTCK;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeoutException;
 import java.util.function.*;
 
 import static wtf.metio.memoization.tck.TestSupport.*;
 
-abstract class UsingDefaultsTCK {
+abstract class UsingDefaultsTCK extends ConcurrencyTCK {
 
     private Waiter waiter;
 
@@ -25,10 +29,175 @@ abstract class UsingDefaultsTCK {
         waiter = new Waiter();
     }
 
+    @Override
+    protected final Map<String, UnaryOperator<IntUnaryOperator>> memoizers() {
+        final Map<String, UnaryOperator<IntUnaryOperator>> memoizers = new LinkedHashMap<>();
+        memoizers.put("Function", operator -> {
+            final Function<Integer, Integer> memoized = function(operator::applyAsInt);
+            return memoized::apply;
+        });
+        memoizers.put("BiFunction", operator -> {
+            final BiFunction<Integer, Integer, Integer> memoized = biFunction((first, second) -> operator.applyAsInt(first));
+            return key -> memoized.apply(key, key);
+        });
+        memoizers.put("IntFunction", operator -> {
+            final IntFunction<Integer> memoized = intFunction(operator::applyAsInt);
+            return memoized::apply;
+        });
+        memoizers.put("LongFunction", operator -> {
+            final LongFunction<Integer> memoized = longFunction(value -> operator.applyAsInt((int) value));
+            return memoized::apply;
+        });
+        memoizers.put("DoubleFunction", operator -> {
+            final DoubleFunction<Integer> memoized = doubleFunction(value -> operator.applyAsInt((int) value));
+            return memoized::apply;
+        });
+        memoizers.put("DoubleToIntFunction", operator -> {
+            final DoubleToIntFunction memoized = doubleToIntFunction(value -> operator.applyAsInt((int) value));
+            return memoized::applyAsInt;
+        });
+        memoizers.put("DoubleToLongFunction", operator -> {
+            final DoubleToLongFunction memoized = doubleToLongFunction(value -> operator.applyAsInt((int) value));
+            return key -> (int) memoized.applyAsLong(key);
+        });
+        memoizers.put("DoubleUnaryOperator", operator -> {
+            final DoubleUnaryOperator memoized = doubleUnaryOperator(value -> operator.applyAsInt((int) value));
+            return key -> (int) memoized.applyAsDouble(key);
+        });
+        memoizers.put("DoubleBinaryOperator", operator -> {
+            final DoubleBinaryOperator memoized = doubleBinaryOperator(
+                    (first, second) -> operator.applyAsInt((int) first));
+            return key -> (int) memoized.applyAsDouble(key, key);
+        });
+        memoizers.put("IntBinaryOperator", operator -> {
+            final IntBinaryOperator memoized = intBinaryOperator((first, second) -> operator.applyAsInt(first));
+            return key -> memoized.applyAsInt(key, key);
+        });
+        memoizers.put("IntToDoubleFunction", operator -> {
+            final IntToDoubleFunction memoized = intToDoubleFunction(operator::applyAsInt);
+            return key -> (int) memoized.applyAsDouble(key);
+        });
+        memoizers.put("IntToLongFunction", operator -> {
+            final IntToLongFunction memoized = intToLongFunction(operator::applyAsInt);
+            return key -> (int) memoized.applyAsLong(key);
+        });
+        memoizers.put("IntUnaryOperator", this::intUnaryOperator);
+        memoizers.put("LongBinaryOperator", operator -> {
+            final LongBinaryOperator memoized = longBinaryOperator(
+                    (first, second) -> operator.applyAsInt((int) first));
+            return key -> (int) memoized.applyAsLong(key, key);
+        });
+        memoizers.put("LongToDoubleFunction", operator -> {
+            final LongToDoubleFunction memoized = longToDoubleFunction(value -> operator.applyAsInt((int) value));
+            return key -> (int) memoized.applyAsDouble(key);
+        });
+        memoizers.put("LongToIntFunction", operator -> {
+            final LongToIntFunction memoized = longToIntFunction(value -> operator.applyAsInt((int) value));
+            return memoized::applyAsInt;
+        });
+        memoizers.put("LongUnaryOperator", operator -> {
+            final LongUnaryOperator memoized = longUnaryOperator(value -> operator.applyAsInt((int) value));
+            return key -> (int) memoized.applyAsLong(key);
+        });
+        memoizers.put("ToDoubleBiFunction", operator -> {
+            final ToDoubleBiFunction<Integer, Integer> memoized = toDoubleBiFunction(
+                    (first, second) -> operator.applyAsInt(first));
+            return key -> (int) memoized.applyAsDouble(key, key);
+        });
+        memoizers.put("ToIntBiFunction", operator -> {
+            final ToIntBiFunction<Integer, Integer> memoized = toIntBiFunction(
+                    (first, second) -> operator.applyAsInt(first));
+            return key -> memoized.applyAsInt(key, key);
+        });
+        memoizers.put("ToLongBiFunction", operator -> {
+            final ToLongBiFunction<Integer, Integer> memoized = toLongBiFunction(
+                    (first, second) -> operator.applyAsInt(first));
+            return key -> (int) memoized.applyAsLong(key, key);
+        });
+        memoizers.put("ToDoubleFunction", operator -> {
+            final ToDoubleFunction<Integer> memoized = toDoubleFunction(operator::applyAsInt);
+            return key -> (int) memoized.applyAsDouble(key);
+        });
+        memoizers.put("ToIntFunction", operator -> {
+            final ToIntFunction<Integer> memoized = toIntFunction(operator::applyAsInt);
+            return memoized::applyAsInt;
+        });
+        memoizers.put("ToLongFunction", operator -> {
+            final ToLongFunction<Integer> memoized = toLongFunction(operator::applyAsInt);
+            return key -> (int) memoized.applyAsLong(key);
+        });
+        return memoizers;
+    }
+
+    @Override
+    protected final Map<String, UnaryOperator<IntPredicate>> predicates() {
+        final Map<String, UnaryOperator<IntPredicate>> predicates = new LinkedHashMap<>();
+        predicates.put("Predicate", original -> {
+            final Predicate<Integer> memoized = predicate(original::test);
+            return memoized::test;
+        });
+        predicates.put("BiPredicate", original -> {
+            final BiPredicate<Integer, Integer> memoized = biPredicate((first, second) -> original.test(first));
+            return key -> memoized.test(key, key);
+        });
+        predicates.put("IntPredicate", original -> {
+            final IntPredicate memoized = intPredicate(original);
+            return memoized::test;
+        });
+        predicates.put("LongPredicate", original -> {
+            final LongPredicate memoized = longPredicate(value -> original.test((int) value));
+            return memoized::test;
+        });
+        predicates.put("DoublePredicate", original -> {
+            final DoublePredicate memoized = doublePredicate(value -> original.test((int) value));
+            return memoized::test;
+        });
+        return predicates;
+    }
+
+    @Override
+    protected final Map<String, UnaryOperator<IntConsumer>> consumers() {
+        final Map<String, UnaryOperator<IntConsumer>> consumers = new LinkedHashMap<>();
+        consumers.put("Consumer", original -> {
+            final Consumer<Integer> memoized = consumer(original::accept);
+            return memoized::accept;
+        });
+        consumers.put("BiConsumer", original -> {
+            final BiConsumer<Integer, Integer> memoized = biConsumer((first, second) -> original.accept(first));
+            return key -> memoized.accept(key, key);
+        });
+        consumers.put("IntConsumer", original -> {
+            final IntConsumer memoized = intConsumer(original);
+            return memoized::accept;
+        });
+        consumers.put("LongConsumer", original -> {
+            final LongConsumer memoized = longConsumer(value -> original.accept((int) value));
+            return memoized::accept;
+        });
+        consumers.put("DoubleConsumer", original -> {
+            final DoubleConsumer memoized = doubleConsumer(value -> original.accept((int) value));
+            return memoized::accept;
+        });
+        consumers.put("ObjIntConsumer", original -> {
+            final ObjIntConsumer<Integer> memoized = objIntConsumer((first, second) -> original.accept(second));
+            return key -> memoized.accept(key, key);
+        });
+        consumers.put("ObjLongConsumer", original -> {
+            final ObjLongConsumer<Integer> memoized = objLongConsumer((first, second) -> original.accept((int) second));
+            return key -> memoized.accept(key, key);
+        });
+        consumers.put("ObjDoubleConsumer", original -> {
+            final ObjDoubleConsumer<Integer> memoized = objDoubleConsumer(
+                    (first, second) -> original.accept((int) second));
+            return key -> memoized.accept(key, key);
+        });
+        return consumers;
+    }
+
     @Test
     final void shouldMemoizeFunction() throws InterruptedException, TimeoutException {
         // given
-        final Function<String, String> function = Mockito.mock(Function.class);
+        final Function<String, String> function = Mockito.mock();
         Mockito.when(function.apply("something")).thenReturn("test");
 
         // when
@@ -49,7 +218,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntFunction() throws InterruptedException, TimeoutException {
         // given
-        final IntFunction<String> function = Mockito.mock(IntFunction.class);
+        final IntFunction<String> function = Mockito.mock();
         Mockito.when(function.apply(1)).thenReturn("test");
 
         // when
@@ -70,7 +239,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongFunction() throws InterruptedException, TimeoutException {
         // given
-        final LongFunction<String> function = Mockito.mock(LongFunction.class);
+        final LongFunction<String> function = Mockito.mock();
         Mockito.when(function.apply(1L)).thenReturn("test");
 
         // when
@@ -91,7 +260,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoubleFunction() throws InterruptedException, TimeoutException {
         // given
-        final DoubleFunction<String> function = Mockito.mock(DoubleFunction.class);
+        final DoubleFunction<String> function = Mockito.mock();
         Mockito.when(function.apply(1.0D)).thenReturn("test");
 
         // when
@@ -112,7 +281,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoubleToIntFunction() throws InterruptedException, TimeoutException {
         // given
-        final DoubleToIntFunction function = Mockito.mock(DoubleToIntFunction.class);
+        final DoubleToIntFunction function = Mockito.mock();
 
         // when
         final DoubleToIntFunction memoize = doubleToIntFunction(function);
@@ -132,7 +301,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoubleToLongFunction() throws InterruptedException, TimeoutException {
         // given
-        final DoubleToLongFunction function = Mockito.mock(DoubleToLongFunction.class);
+        final DoubleToLongFunction function = Mockito.mock();
 
         // when
         final DoubleToLongFunction memoize = doubleToLongFunction(function);
@@ -152,7 +321,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoubleUnaryOperator() throws InterruptedException, TimeoutException {
         // given
-        final DoubleUnaryOperator function = Mockito.mock(DoubleUnaryOperator.class);
+        final DoubleUnaryOperator function = Mockito.mock();
 
         // when
         final DoubleUnaryOperator memoize = doubleUnaryOperator(function);
@@ -172,7 +341,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoubleBinaryOperator() throws InterruptedException, TimeoutException {
         // given
-        final DoubleBinaryOperator function = Mockito.mock(DoubleBinaryOperator.class);
+        final DoubleBinaryOperator function = Mockito.mock();
 
         // when
         final DoubleBinaryOperator memoize = doubleBinaryOperator(function);
@@ -192,7 +361,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntBinaryOperator() throws InterruptedException, TimeoutException {
         // given
-        final IntBinaryOperator function = Mockito.mock(IntBinaryOperator.class);
+        final IntBinaryOperator function = Mockito.mock();
 
         // when
         final IntBinaryOperator memoize = intBinaryOperator(function);
@@ -212,7 +381,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntToDoubleFunction() throws InterruptedException, TimeoutException {
         // given
-        final IntToDoubleFunction function = Mockito.mock(IntToDoubleFunction.class);
+        final IntToDoubleFunction function = Mockito.mock();
 
         // when
         final IntToDoubleFunction memoize = intToDoubleFunction(function);
@@ -232,7 +401,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntToLongFunction() throws InterruptedException, TimeoutException {
         // given
-        final IntToLongFunction function = Mockito.mock(IntToLongFunction.class);
+        final IntToLongFunction function = Mockito.mock();
 
         // when
         final IntToLongFunction memoize = intToLongFunction(function);
@@ -252,7 +421,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntUnaryOperator() throws InterruptedException, TimeoutException {
         // given
-        final IntUnaryOperator function = Mockito.mock(IntUnaryOperator.class);
+        final IntUnaryOperator function = Mockito.mock();
 
         // when
         final IntUnaryOperator memoize = intUnaryOperator(function);
@@ -272,7 +441,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongBinaryOperator() throws InterruptedException, TimeoutException {
         // given
-        final LongBinaryOperator function = Mockito.mock(LongBinaryOperator.class);
+        final LongBinaryOperator function = Mockito.mock();
 
         // when
         final LongBinaryOperator memoize = longBinaryOperator(function);
@@ -292,7 +461,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongToDoubleFunction() throws InterruptedException, TimeoutException {
         // given
-        final LongToDoubleFunction function = Mockito.mock(LongToDoubleFunction.class);
+        final LongToDoubleFunction function = Mockito.mock();
 
         // when
         final LongToDoubleFunction memoize = longToDoubleFunction(function);
@@ -312,7 +481,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongToIntFunction() throws InterruptedException, TimeoutException {
         // given
-        final LongToIntFunction function = Mockito.mock(LongToIntFunction.class);
+        final LongToIntFunction function = Mockito.mock();
 
         // when
         final LongToIntFunction memoize = longToIntFunction(function);
@@ -332,7 +501,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongUnaryOperator() throws InterruptedException, TimeoutException {
         // given
-        final LongUnaryOperator function = Mockito.mock(LongUnaryOperator.class);
+        final LongUnaryOperator function = Mockito.mock();
 
         // when
         final LongUnaryOperator memoize = longUnaryOperator(function);
@@ -352,7 +521,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeCallable() throws Exception {
         // given
-        final Callable<String> callable = Mockito.mock(Callable.class);
+        final Callable<String> callable = Mockito.mock();
         Mockito.when(callable.call()).thenReturn("test");
 
         // when
@@ -377,7 +546,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeRunnable() throws Exception {
         // given
-        final Runnable runnable = Mockito.mock(Runnable.class);
+        final Runnable runnable = Mockito.mock();
 
         // when
         final Runnable memoize = runnable(runnable);
@@ -397,7 +566,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeSupplier() throws InterruptedException, TimeoutException {
         // given
-        final Supplier<String> supplier = Mockito.mock(Supplier.class);
+        final Supplier<String> supplier = Mockito.mock();
         Mockito.when(supplier.get()).thenReturn("test");
 
         // when
@@ -418,7 +587,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBooleanSupplier() throws InterruptedException, TimeoutException {
         // given
-        final BooleanSupplier supplier = Mockito.mock(BooleanSupplier.class);
+        final BooleanSupplier supplier = Mockito.mock();
 
         // when
         final BooleanSupplier memoize = booleanSupplier(supplier);
@@ -438,7 +607,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoubleSupplier() throws InterruptedException, TimeoutException {
         // given
-        final DoubleSupplier supplier = Mockito.mock(DoubleSupplier.class);
+        final DoubleSupplier supplier = Mockito.mock();
 
         // when
         final DoubleSupplier memoize = doubleSupplier(supplier);
@@ -458,7 +627,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntSupplier() throws InterruptedException, TimeoutException {
         // given
-        final IntSupplier supplier = Mockito.mock(IntSupplier.class);
+        final IntSupplier supplier = Mockito.mock();
 
         // when
         final IntSupplier memoize = intSupplier(supplier);
@@ -478,7 +647,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongSupplier() throws InterruptedException, TimeoutException {
         // given
-        final LongSupplier supplier = Mockito.mock(LongSupplier.class);
+        final LongSupplier supplier = Mockito.mock();
 
         // when
         final LongSupplier memoize = longSupplier(supplier);
@@ -498,7 +667,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeToDoubleBiFunction() throws InterruptedException, TimeoutException {
         // given
-        final ToDoubleBiFunction<Double, Double> function = Mockito.mock(ToDoubleBiFunction.class);
+        final ToDoubleBiFunction<Double, Double> function = Mockito.mock();
 
         // when
         final ToDoubleBiFunction<Double, Double> memoize = toDoubleBiFunction(function);
@@ -519,7 +688,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeToIntBiFunction() throws InterruptedException, TimeoutException {
         // given
-        final ToIntBiFunction<Integer, Integer> function = Mockito.mock(ToIntBiFunction.class);
+        final ToIntBiFunction<Integer, Integer> function = Mockito.mock();
 
         // when
         final ToIntBiFunction<Integer, Integer> memoize = toIntBiFunction(function);
@@ -540,7 +709,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeToLongBiFunction() throws InterruptedException, TimeoutException {
         // given
-        final ToLongBiFunction<Long, Long> function = Mockito.mock(ToLongBiFunction.class);
+        final ToLongBiFunction<Long, Long> function = Mockito.mock();
 
         // when
         final ToLongBiFunction<Long, Long> memoize = toLongBiFunction(function);
@@ -561,7 +730,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeToDoubleFunction() throws InterruptedException, TimeoutException {
         // given
-        final ToDoubleFunction<String> function = Mockito.mock(ToDoubleFunction.class);
+        final ToDoubleFunction<String> function = Mockito.mock();
 
         // when
         final ToDoubleFunction<String> memoize = toDoubleFunction(function);
@@ -581,7 +750,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeToIntFunction() throws InterruptedException, TimeoutException {
         // given
-        final ToIntFunction<String> function = Mockito.mock(ToIntFunction.class);
+        final ToIntFunction<String> function = Mockito.mock();
 
         // when
         final ToIntFunction<String> memoize = toIntFunction(function);
@@ -601,7 +770,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeToLongFunction() throws InterruptedException, TimeoutException {
         // given
-        final ToLongFunction<String> function = Mockito.mock(ToLongFunction.class);
+        final ToLongFunction<String> function = Mockito.mock();
 
         // when
         final ToLongFunction<String> memoize = toLongFunction(function);
@@ -621,7 +790,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizePredicate() throws InterruptedException, TimeoutException {
         // given
-        final Predicate<String> predicate = Mockito.mock(Predicate.class);
+        final Predicate<String> predicate = Mockito.mock();
 
         // when
         final Predicate<String> memoize = predicate(predicate);
@@ -641,7 +810,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongPredicate() throws InterruptedException, TimeoutException {
         // given
-        final LongPredicate predicate = Mockito.mock(LongPredicate.class);
+        final LongPredicate predicate = Mockito.mock();
 
         // when
         final LongPredicate memoize = longPredicate(predicate);
@@ -661,7 +830,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntPredicate() throws InterruptedException, TimeoutException {
         // given
-        final IntPredicate predicate = Mockito.mock(IntPredicate.class);
+        final IntPredicate predicate = Mockito.mock();
 
         // when
         final IntPredicate memoize = intPredicate(predicate);
@@ -681,7 +850,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoublePredicate() throws InterruptedException, TimeoutException {
         // given
-        final DoublePredicate predicate = Mockito.mock(DoublePredicate.class);
+        final DoublePredicate predicate = Mockito.mock();
 
         // when
         final DoublePredicate memoize = doublePredicate(predicate);
@@ -701,7 +870,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer() throws InterruptedException, TimeoutException {
         // given
-        final Consumer<String> consumer = Mockito.mock(Consumer.class);
+        final Consumer<String> consumer = Mockito.mock();
 
         // when
         final Consumer<String> memoize = consumer(consumer);
@@ -721,7 +890,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeDoubleConsumer() throws InterruptedException, TimeoutException {
         // given
-        final DoubleConsumer consumer = Mockito.mock(DoubleConsumer.class);
+        final DoubleConsumer consumer = Mockito.mock();
 
         // when
         final DoubleConsumer memoize = doubleConsumer(consumer);
@@ -741,7 +910,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntConsumer() throws InterruptedException, TimeoutException {
         // given
-        final IntConsumer consumer = Mockito.mock(IntConsumer.class);
+        final IntConsumer consumer = Mockito.mock();
 
         // when
         final IntConsumer memoize = intConsumer(consumer);
@@ -761,7 +930,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongConsumer() throws InterruptedException, TimeoutException {
         // given
-        final LongConsumer consumer = Mockito.mock(LongConsumer.class);
+        final LongConsumer consumer = Mockito.mock();
 
         // when
         final LongConsumer memoize = longConsumer(consumer);
@@ -781,7 +950,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBiPredicate() throws InterruptedException, TimeoutException {
         // given
-        final BiPredicate<Long, Long> biPredicate = Mockito.mock(BiPredicate.class);
+        final BiPredicate<Long, Long> biPredicate = Mockito.mock();
 
         // when
         final BiPredicate<Long, Long> memoize = biPredicate(biPredicate);
@@ -801,7 +970,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBiFunction() throws InterruptedException, TimeoutException {
         // given
-        final BiFunction<Long, Long, String> function = Mockito.mock(BiFunction.class);
+        final BiFunction<Long, Long, String> function = Mockito.mock();
         Mockito.when(function.apply(1L, 2L)).thenReturn("test");
 
         // when
@@ -823,7 +992,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBiConsumer() throws InterruptedException, TimeoutException {
         // given
-        final BiConsumer<Long, Long> consumer = Mockito.mock(BiConsumer.class);
+        final BiConsumer<Long, Long> consumer = Mockito.mock();
 
         // when
         final BiConsumer<Long, Long> memoize = biConsumer(consumer);
@@ -844,7 +1013,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeObjDoubleConsumer() throws InterruptedException, TimeoutException {
         // given
-        final ObjDoubleConsumer<Long> consumer = Mockito.mock(ObjDoubleConsumer.class);
+        final ObjDoubleConsumer<Long> consumer = Mockito.mock();
 
         // when
         final ObjDoubleConsumer<Long> memoize = objDoubleConsumer(consumer);
@@ -864,7 +1033,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeObjIntConsumer() throws InterruptedException, TimeoutException {
         // given
-        final ObjIntConsumer<Long> consumer = Mockito.mock(ObjIntConsumer.class);
+        final ObjIntConsumer<Long> consumer = Mockito.mock();
 
         // when
         final ObjIntConsumer<Long> memoize = objIntConsumer(consumer);
@@ -884,7 +1053,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeObjLongConsumer() throws InterruptedException, TimeoutException {
         // given
-        final ObjLongConsumer<Long> consumer = Mockito.mock(ObjLongConsumer.class);
+        final ObjLongConsumer<Long> consumer = Mockito.mock();
 
         // when
         final ObjLongConsumer<Long> memoize = objLongConsumer(consumer);
@@ -1,41 +0,0 @@
-/*
- * SPDX-FileCopyrightText: The memoization.java Authors
- * SPDX-License-Identifier: 0BSD
- */
-
-package wtf.metio.memoization.jool;
-
-import org.jooq.lambda.function.Consumer10;
-import org.jooq.lambda.function.Function10;
-import wtf.metio.memoization.core.AbstractMemoizer;
-
-import java.util.concurrent.ConcurrentMap;
-
-import static java.util.Objects.requireNonNull;
-
-final class Consumer10Memoizer<KEY, TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, TYPE10>
-        extends AbstractMemoizer<KEY, KEY>
-        implements Consumer10<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, TYPE10> {
-
-    private final Function10<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, TYPE10, KEY> keyFunction;
-    private final Consumer10<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, TYPE10> consumer;
-
-    Consumer10Memoizer(
-            final ConcurrentMap<KEY, KEY> cache,
-            final Function10<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, TYPE10, KEY> keyFunction,
-            final Consumer10<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, TYPE10> consumer) {
-        super(cache);
-        this.keyFunction = requireNonNull(keyFunction, "Provide a key function.");
-        this.consumer = requireNonNull(consumer,
-                "Cannot memoize a NULL Consumer10 - provide an actual Consumer10 to fix this.");
-    }
-
-    @Override
-    public void accept(final TYPE1 v1, final TYPE2 v2, final TYPE3 v3, final TYPE4 v4, final TYPE5 v5, final TYPE6 v6, final TYPE7 v7, final TYPE8 v8, final TYPE9 v9, final TYPE10 v10) {
-        computeIfAbsent(keyFunction.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10), key -> {
-            consumer.accept(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
-            return key;
-        });
-    }
-
-}
@@ -1,37 +0,0 @@
-/*
- * SPDX-FileCopyrightText: The memoization.java Authors
- * SPDX-License-Identifier: 0BSD
- */
-
-package wtf.metio.memoization.jool;
-
-import org.jooq.lambda.function.Function4;
-import wtf.metio.memoization.core.AbstractMemoizer;
-
-import java.util.concurrent.ConcurrentMap;
-
-import static java.util.Objects.requireNonNull;
-
-final class Function4Memoizer<KEY, TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT>
-        extends AbstractMemoizer<KEY, OUTPUT>
-        implements Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> {
-
-    private final Function4<TYPE1, TYPE2, TYPE3, TYPE4, KEY> keyFunction;
-    private final Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function;
-
-    Function4Memoizer(
-            final ConcurrentMap<KEY, OUTPUT> cache,
-            final Function4<TYPE1, TYPE2, TYPE3, TYPE4, KEY> keyFunction,
-            final Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function) {
-        super(cache);
-        this.keyFunction = requireNonNull(keyFunction, "Provide a key function.");
-        this.function = requireNonNull(function,
-                "Cannot memoize a NULL Function4 - provide an actual Function4 to fix this.");
-    }
-
-    @Override
-    public OUTPUT apply(final TYPE1 v1, final TYPE2 v2, final TYPE3 v3, final TYPE4 v4) {
-        return computeIfAbsent(keyFunction.apply(v1, v2, v3, v4), key -> function.apply(v1, v2, v3, v4));
-    }
-
-}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.jool;
+
+import wtf.metio.memoization.core.ConcurrentMaps;
+import wtf.metio.memoization.offheap.OffHeapMaps;
+
+import java.util.Map;
+
+class MemoizeJoolUsingOffHeapCacheTest extends MemoizeJoolUsingCustomCacheTCK {
+
+    @Override
+    protected <K, V> Map<K, V> cache() {
+        // off-heap maps compute values outside their locks, single-flight shares one computation per key
+        return ConcurrentMaps.singleFlight(OffHeapMaps.create());
+    }
+
+}
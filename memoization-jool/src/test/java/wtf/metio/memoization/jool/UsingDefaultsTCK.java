@@ -10,12 +10,18 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import wtf.metio.memoization.tck.ConcurrencyTCK;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
 
 import static wtf.metio.memoization.tck.TestSupport.*;
 
-abstract class UsingDefaultsTCK {
+abstract class UsingDefaultsTCK extends ConcurrencyTCK {
 
     private Waiter waiter;
 
@@ -24,10 +30,150 @@ abstract class UsingDefaultsTCK {
         waiter = new Waiter();
     }
 
+    @Override
+    protected final Map<String, UnaryOperator<IntUnaryOperator>> memoizers() {
+        final Map<String, UnaryOperator<IntUnaryOperator>> memoizers = new LinkedHashMap<>();
+        memoizers.put("Function1", operator -> {
+            final Function1<Integer, Integer> memoized = function1(value1 -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key);
+        });
+        memoizers.put("Function2", operator -> {
+            final Function2<Integer, Integer, Integer> memoized = function2((value1, value2) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key);
+        });
+        memoizers.put("Function3", operator -> {
+            final Function3<Integer, Integer, Integer, Integer> memoized = function3((value1, value2, value3) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key);
+        });
+        memoizers.put("Function4", operator -> {
+            final Function4<Integer, Integer, Integer, Integer, Integer> memoized = function4((value1, value2, value3, value4) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key);
+        });
+        memoizers.put("Function5", operator -> {
+            final Function5<Integer, Integer, Integer, Integer, Integer, Integer> memoized = function5((value1, value2, value3, value4, value5) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key);
+        });
+        memoizers.put("Function6", operator -> {
+            final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function6((value1, value2, value3, value4, value5, value6) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key);
+        });
+        memoizers.put("Function7", operator -> {
+            final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function7((value1, value2, value3, value4, value5, value6, value7) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function8", operator -> {
+            final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function8((value1, value2, value3, value4, value5, value6, value7, value8) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function9", operator -> {
+            final Function9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function9((value1, value2, value3, value4, value5, value6, value7, value8, value9) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function10", operator -> {
+            final Function10<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function10((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function11", operator -> {
+            final Function11<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function11((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function12", operator -> {
+            final Function12<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function12((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function13", operator -> {
+            final Function13<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function13((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function14", operator -> {
+            final Function14<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function14((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13, value14) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function15", operator -> {
+            final Function15<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function15((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13, value14, value15) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        memoizers.put("Function16", operator -> {
+            final Function16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function16((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13, value14, value15, value16) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        return memoizers;
+    }
+
+    @Override
+    protected final Map<String, UnaryOperator<IntConsumer>> consumers() {
+        final Map<String, UnaryOperator<IntConsumer>> consumers = new LinkedHashMap<>();
+        consumers.put("Consumer1", original -> {
+            final Consumer1<Integer> memoized = consumer1(value1 -> original.accept(value1));
+            return key -> memoized.accept(key);
+        });
+        consumers.put("Consumer2", original -> {
+            final Consumer2<Integer, Integer> memoized = consumer2((value1, value2) -> original.accept(value1));
+            return key -> memoized.accept(key, key);
+        });
+        consumers.put("Consumer3", original -> {
+            final Consumer3<Integer, Integer, Integer> memoized = consumer3((value1, value2, value3) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key);
+        });
+        consumers.put("Consumer4", original -> {
+            final Consumer4<Integer, Integer, Integer, Integer> memoized = consumer4((value1, value2, value3, value4) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key);
+        });
+        consumers.put("Consumer5", original -> {
+            final Consumer5<Integer, Integer, Integer, Integer, Integer> memoized = consumer5((value1, value2, value3, value4, value5) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key);
+        });
+        consumers.put("Consumer6", original -> {
+            final Consumer6<Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer6((value1, value2, value3, value4, value5, value6) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key);
+        });
+        consumers.put("Consumer7", original -> {
+            final Consumer7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer7((value1, value2, value3, value4, value5, value6, value7) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer8", original -> {
+            final Consumer8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer8((value1, value2, value3, value4, value5, value6, value7, value8) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer9", original -> {
+            final Consumer9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer9((value1, value2, value3, value4, value5, value6, value7, value8, value9) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer10", original -> {
+            final Consumer10<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer10((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer11", original -> {
+            final Consumer11<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer11((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer12", original -> {
+            final Consumer12<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer12((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer13", original -> {
+            final Consumer13<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer13((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer14", original -> {
+            final Consumer14<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer14((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13, value14) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer15", original -> {
+            final Consumer15<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer15((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13, value14, value15) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        consumers.put("Consumer16", original -> {
+            final Consumer16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = consumer16((value1, value2, value3, value4, value5, value6, value7, value8, value9, value10, value11, value12, value13, value14, value15, value16) -> original.accept(value1));
+            return key -> memoized.accept(key, key, key, key, key, key, key, key, key, key, key, key, key, key, key, key);
+        });
+        return consumers;
+    }
+
     @Test
     final void shouldMemoizeConsumer0() throws InterruptedException, TimeoutException {
         // given
-        final Consumer0 consumer = Mockito.mock(Consumer0.class);
+        final Consumer0 consumer = Mockito.mock();
 
         // when
         final var memoize = consumer0(consumer);
@@ -47,7 +193,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer1() throws InterruptedException, TimeoutException {
         // given
-        final Consumer1<String> consumer = Mockito.mock(Consumer1.class);
+        final Consumer1<String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer1(consumer);
@@ -67,7 +213,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer2() throws InterruptedException, TimeoutException {
         // given
-        final Consumer2<String, String> consumer = Mockito.mock(Consumer2.class);
+        final Consumer2<String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer2(consumer);
@@ -87,7 +233,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer3() throws InterruptedException, TimeoutException {
         // given
-        final Consumer3<String, String, String> consumer = Mockito.mock(Consumer3.class);
+        final Consumer3<String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer3(consumer);
@@ -107,7 +253,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer4() throws InterruptedException, TimeoutException {
         // given
-        final Consumer4<String, String, String, String> consumer = Mockito.mock(Consumer4.class);
+        final Consumer4<String, String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer4(consumer);
@@ -128,7 +274,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer5() throws InterruptedException, TimeoutException {
         // given
-        final Consumer5<String, String, String, String, String> consumer = Mockito.mock(Consumer5.class);
+        final Consumer5<String, String, String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer5(consumer);
@@ -149,7 +295,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer6() throws InterruptedException, TimeoutException {
         // given
-        final Consumer6<String, String, String, String, String, String> consumer = Mockito.mock(Consumer6.class);
+        final Consumer6<String, String, String, String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer6(consumer);
@@ -170,7 +316,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer7() throws InterruptedException, TimeoutException {
         // given
-        final Consumer7<String, String, String, String, String, String, String> consumer = Mockito.mock(Consumer7.class);
+        final Consumer7<String, String, String, String, String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer7(consumer);
@@ -191,7 +337,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer8() throws InterruptedException, TimeoutException {
         // given
-        final Consumer8<String, String, String, String, String, String, String, String> consumer = Mockito.mock(Consumer8.class);
+        final Consumer8<String, String, String, String, String, String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer8(consumer);
@@ -212,7 +358,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer9() throws InterruptedException, TimeoutException {
         // given
-        final Consumer9<String, String, String, String, String, String, String, String, String> consumer = Mockito.mock(Consumer9.class);
+        final Consumer9<String, String, String, String, String, String, String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer9(consumer);
@@ -233,7 +379,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer10() throws InterruptedException, TimeoutException {
         // given
-        final Consumer10<String, String, String, String, String, String, String, String, String, String> consumer = Mockito.mock(Consumer10.class);
+        final Consumer10<String, String, String, String, String, String, String, String, String, String> consumer = Mockito.mock();
 
         // when
         final var memoize = consumer10(consumer);
@@ -255,7 +401,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeConsumer11() throws InterruptedException, TimeoutException {
         // given
         final Consumer11<String, String, String, String, String, String, String, String, String, String, String> consumer =
-                Mockito.mock(Consumer11.class);
+                Mockito.mock();
 
         // when
         final var memoize = consumer11(consumer);
@@ -277,7 +423,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeConsumer12() throws InterruptedException, TimeoutException {
         // given
         final Consumer12<String, String, String, String, String, String, String, String, String, String, String, String> consumer =
-                Mockito.mock(Consumer12.class);
+                Mockito.mock();
 
         // when
         final var memoize = consumer12(consumer);
@@ -299,7 +445,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeConsumer13() throws InterruptedException, TimeoutException {
         // given
         final Consumer13<String, String, String, String, String, String, String, String, String, String, String, String, String> consumer =
-                Mockito.mock(Consumer13.class);
+                Mockito.mock();
 
         // when
         final var memoize = consumer13(consumer);
@@ -321,7 +467,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeConsumer14() throws InterruptedException, TimeoutException {
         // given
         final Consumer14<String, String, String, String, String, String, String, String, String, String, String, String, String, String> consumer =
-                Mockito.mock(Consumer14.class);
+                Mockito.mock();
 
         // when
         final var memoize = consumer14(consumer);
@@ -343,7 +489,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeConsumer15() throws InterruptedException, TimeoutException {
         // given
         final Consumer15<String, String, String, String, String, String, String, String, String, String, String, String, String, String, String> consumer =
-                Mockito.mock(Consumer15.class);
+                Mockito.mock();
 
         // when
         final var memoize = consumer15(consumer);
@@ -365,7 +511,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeConsumer16() throws InterruptedException, TimeoutException {
         // given
         final Consumer16<String, String, String, String, String, String, String, String, String, String, String, String, String, String, String, String> consumer =
-                Mockito.mock(Consumer16.class);
+                Mockito.mock();
 
         // when
         final var memoize = consumer16(consumer);
@@ -386,7 +532,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction0() throws InterruptedException, TimeoutException {
         // given
-        final Function0<String> function = Mockito.mock(Function0.class);
+        final Function0<String> function = Mockito.mock();
         Mockito.when(function.get()).thenReturn("value");
 
         // when
@@ -407,7 +553,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction1() throws InterruptedException, TimeoutException {
         // given
-        final Function1<String, String> function = Mockito.mock(Function1.class);
+        final Function1<String, String> function = Mockito.mock();
         Mockito.when(function.apply("something")).thenReturn("test");
 
         // when
@@ -428,7 +574,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction2() throws InterruptedException, TimeoutException {
         // given
-        final Function2<String, String, String> function = Mockito.mock(Function2.class);
+        final Function2<String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("something", "else")).thenReturn("test");
 
         // when
@@ -449,7 +595,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction3() throws InterruptedException, TimeoutException {
         // given
-        final Function3<String, String, String, String> function = Mockito.mock(Function3.class);
+        final Function3<String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3")).thenReturn("test");
 
         // when
@@ -470,7 +616,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction4() throws InterruptedException, TimeoutException {
         // given
-        final Function4<String, String, String, String, String> function = Mockito.mock(Function4.class);
+        final Function4<String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4")).thenReturn("test");
 
         // when
@@ -492,7 +638,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction5() throws InterruptedException, TimeoutException {
         // given
-        final Function5<String, String, String, String, String, String> function = Mockito.mock(Function5.class);
+        final Function5<String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5")).thenReturn("test");
 
         // when
@@ -514,7 +660,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction6() throws InterruptedException, TimeoutException {
         // given
-        final Function6<String, String, String, String, String, String, String> function = Mockito.mock(Function6.class);
+        final Function6<String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6")).thenReturn("test");
 
         // when
@@ -536,7 +682,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction7() throws InterruptedException, TimeoutException {
         // given
-        final Function7<String, String, String, String, String, String, String, String> function = Mockito.mock(Function7.class);
+        final Function7<String, String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7")).thenReturn("test");
 
         // when
@@ -558,7 +704,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction8() throws InterruptedException, TimeoutException {
         // given
-        final Function8<String, String, String, String, String, String, String, String, String> function = Mockito.mock(Function8.class);
+        final Function8<String, String, String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8")).thenReturn("test");
 
         // when
@@ -581,7 +727,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction9() throws InterruptedException, TimeoutException {
         // given
         final Function9<String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function9.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9")).thenReturn("test");
 
         // when
@@ -604,7 +750,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction10() throws InterruptedException, TimeoutException {
         // given
         final Function10<String, String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function10.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9", "10")).thenReturn("test");
 
         // when
@@ -627,7 +773,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction11() throws InterruptedException, TimeoutException {
         // given
         final Function11<String, String, String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function11.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11")).thenReturn("test");
 
         // when
@@ -650,7 +796,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction12() throws InterruptedException, TimeoutException {
         // given
         final Function12<String, String, String, String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function12.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12")).thenReturn("test");
 
         // when
@@ -673,7 +819,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction13() throws InterruptedException, TimeoutException {
         // given
         final Function13<String, String, String, String, String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function13.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13")).thenReturn("test");
 
         // when
@@ -696,7 +842,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction14() throws InterruptedException, TimeoutException {
         // given
         final Function14<String, String, String, String, String, String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function14.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14")).thenReturn("test");
 
         // when
@@ -719,7 +865,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction15() throws InterruptedException, TimeoutException {
         // given
         final Function15<String, String, String, String, String, String, String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function15.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15")).thenReturn("test");
 
         // when
@@ -742,7 +888,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction16() throws InterruptedException, TimeoutException {
         // given
         final Function16<String, String, String, String, String, String, String, String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function16.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16")).thenReturn("test");
 
         // when
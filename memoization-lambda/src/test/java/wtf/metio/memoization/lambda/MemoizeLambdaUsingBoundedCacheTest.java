@@ -0,0 +1,19 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.lambda;
+
+import wtf.metio.memoization.core.ConcurrentMaps;
+
+import java.util.Map;
+
+class MemoizeLambdaUsingBoundedCacheTest extends MemoizeLambdaUsingCustomCacheTCK {
+
+    @Override
+    protected <K, V> Map<K, V> cache() {
+        return ConcurrentMaps.bounded(100);
+    }
+
+}
@@ -10,10 +10,16 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import wtf.metio.memoization.tck.ConcurrencyTCK;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
 
 import static wtf.metio.memoization.tck.TestSupport.*;
 
-abstract class UsingDefaultsTCK {
+abstract class UsingDefaultsTCK extends ConcurrencyTCK {
 
     private Waiter waiter;
 
@@ -22,10 +28,48 @@ abstract class UsingDefaultsTCK {
         waiter = new Waiter();
     }
 
+    @Override
+    protected final Map<String, UnaryOperator<IntUnaryOperator>> memoizers() {
+        final Map<String, UnaryOperator<IntUnaryOperator>> memoizers = new LinkedHashMap<>();
+        memoizers.put("Fn1", operator -> {
+            final Fn1<Integer, Integer> memoized = function1(value1 -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key);
+        });
+        memoizers.put("Fn2", operator -> {
+            final Fn2<Integer, Integer, Integer> memoized = function2((value1, value2) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key);
+        });
+        memoizers.put("Fn3", operator -> {
+            final Fn3<Integer, Integer, Integer, Integer> memoized = function3((value1, value2, value3) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key);
+        });
+        memoizers.put("Fn4", operator -> {
+            final Fn4<Integer, Integer, Integer, Integer, Integer> memoized = function4((value1, value2, value3, value4) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key);
+        });
+        memoizers.put("Fn5", operator -> {
+            final Fn5<Integer, Integer, Integer, Integer, Integer, Integer> memoized = function5((value1, value2, value3, value4, value5) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key);
+        });
+        memoizers.put("Fn6", operator -> {
+            final Fn6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function6((value1, value2, value3, value4, value5, value6) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key);
+        });
+        memoizers.put("Fn7", operator -> {
+            final Fn7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function7((value1, value2, value3, value4, value5, value6, value7) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key);
+        });
+        memoizers.put("Fn8", operator -> {
+            final Fn8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function8((value1, value2, value3, value4, value5, value6, value7, value8) -> operator.applyAsInt(value1));
+            return key -> memoized.apply(key, key, key, key, key, key, key, key);
+        });
+        return memoizers;
+    }
+
     @Test
     final void shouldMemoizeFn0() throws Throwable {
         // given
-        final Fn0<String> function = Mockito.mock(Fn0.class);
+        final Fn0<String> function = Mockito.mock();
         Mockito.when(function.checkedApply()).thenReturn("value");
 
         // when
@@ -50,7 +94,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn1() throws Throwable {
         // given
-        final Fn1<String, String> function = Mockito.mock(Fn1.class);
+        final Fn1<String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("something")).thenReturn("test");
 
         // when
@@ -75,7 +119,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn2() throws Throwable {
         // given
-        final Fn2<String, String, String> function = Mockito.mock(Fn2.class);
+        final Fn2<String, String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("something", "else")).thenReturn("test");
 
         // when
@@ -100,7 +144,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn3() throws Throwable {
         // given
-        final Fn3<String, String, String, String> function = Mockito.mock(Fn3.class);
+        final Fn3<String, String, String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("1", "2", "3")).thenReturn("test");
 
         // when
@@ -125,7 +169,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn4() throws Throwable {
         // given
-        final Fn4<String, String, String, String, String> function = Mockito.mock(Fn4.class);
+        final Fn4<String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("1", "2", "3", "4")).thenReturn("test");
 
         // when
@@ -151,7 +195,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn5() throws Throwable {
         // given
-        final Fn5<String, String, String, String, String, String> function = Mockito.mock(Fn5.class);
+        final Fn5<String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("1", "2", "3", "4", "5")).thenReturn("test");
 
         // when
@@ -177,7 +221,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn6() throws Throwable {
         // given
-        final Fn6<String, String, String, String, String, String, String> function = Mockito.mock(Fn6.class);
+        final Fn6<String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("1", "2", "3", "4", "5", "6")).thenReturn("test");
 
         // when
@@ -203,7 +247,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn7() throws Throwable {
         // given
-        final Fn7<String, String, String, String, String, String, String, String> function = Mockito.mock(Fn7.class);
+        final Fn7<String, String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("1", "2", "3", "4", "5", "6", "7")).thenReturn("test");
 
         // when
@@ -229,7 +273,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFn8() throws Throwable {
         // given
-        final Fn8<String, String, String, String, String, String, String, String, String> function = Mockito.mock(Fn8.class);
+        final Fn8<String, String, String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.checkedApply("1", "2", "3", "4", "5", "6", "7", "8")).thenReturn("test");
 
         // when
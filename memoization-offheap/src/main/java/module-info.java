@@ -0,0 +1,16 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+/**
+ * The off-heap module contains a cache implementation that stores its entries outside the Java heap.
+ */
+@org.jspecify.annotations.NullMarked
+module wtf.metio.memoization.offheap {
+
+    requires com.github.spotbugs.annotations;
+    requires org.jspecify;
+
+    exports wtf.metio.memoization.offheap;
+
+}
@@ -0,0 +1,551 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} that stores serialized entries in direct {@link ByteBuffer}s. The Java heap only holds a fixed
+ * number of segments and their primitive index arrays, neither of which the garbage collector has to trace, thus GC
+ * pauses do not grow with the number of cached entries.
+ * </p>
+ * <p>
+ * Each segment appends its entries to a log of {@code [key length][value length][key][value]} records and finds them
+ * through an open-addressing index of record offsets. Replaced and removed records stay in the log until the segment
+ * runs out of space, at which point its live records are copied into a new buffer. Written records are never modified
+ * afterwards, thus values are deserialized without holding any lock. Reads share a read lock per segment, writes
+ * exclusively lock their segment.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class OffHeapConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE> implements ConcurrentMap<KEY, VALUE> {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int RECORD_HEADER = 2 * Integer.BYTES;
+
+    private final Serializer<KEY> keySerializer;
+    private final Serializer<VALUE> valueSerializer;
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+
+    OffHeapConcurrentMap(final Serializer<KEY> keySerializer, final Serializer<VALUE> valueSerializer) {
+        this.keySerializer = requireNonNull(keySerializer, "Provide a serializer for the keys of the map.");
+        this.valueSerializer = requireNonNull(valueSerializer, "Provide a serializer for the values of the map.");
+        for (int index = 0; index < segments.length; index++) {
+            segments[index] = new Segment();
+        }
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (final Segment segment : segments) {
+            size += segment.size();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @Nullable VALUE get(final Object key) {
+        final byte[] serializedKey = serializeKey(key);
+        if (serializedKey == null) {
+            return null;
+        }
+        final int hash = hash(serializedKey);
+        return deserializeValue(segment(hash).get(serializedKey, hash));
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(value));
+        final int hash = hash(serializedKey);
+        return deserializeValue(segment(hash).put(serializedKey, hash, serializedValue, Write.ALWAYS, null));
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(value));
+        final int hash = hash(serializedKey);
+        return deserializeValue(segment(hash).put(serializedKey, hash, serializedValue, Write.IF_ABSENT, null));
+    }
+
+    /**
+     * Computes absent values without holding any lock, thus a slow mapping function neither blocks reads nor writes of
+     * other keys and may freely use this map, even for keys of other segments. The computed value is stored only in
+     * case no other thread stored a value for the same key in the meantime, otherwise the stored value is returned.
+     * Concurrent callers may therefore compute the same value more than once. Wrap the map with
+     * {@code ConcurrentMaps.singleFlight} to compute each value at most once.
+     */
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final int hash = hash(serializedKey);
+        final Segment segment = segment(hash);
+        final VALUE existing = deserializeValue(segment.get(serializedKey, hash));
+        if (existing != null) {
+            return existing;
+        }
+        final VALUE value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        final ByteBuffer current = segment.put(serializedKey, hash, valueSerializer.serialize(value), Write.IF_ABSENT,
+                null);
+        return current == null ? value : deserializeValue(current);
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(value));
+        final int hash = hash(serializedKey);
+        return deserializeValue(segment(hash).put(serializedKey, hash, serializedValue, Write.IF_PRESENT, null));
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] expected = valueSerializer.serialize(requireNonNull(oldValue));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(newValue));
+        final int hash = hash(serializedKey);
+        return segment(hash).put(serializedKey, hash, serializedValue, Write.IF_MATCHES, expected) != null;
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        final byte[] serializedKey = serializeKey(key);
+        if (serializedKey == null) {
+            return null;
+        }
+        final int hash = hash(serializedKey);
+        return deserializeValue(segment(hash).remove(serializedKey, hash, null));
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final byte[] serializedKey = serializeKey(key);
+        final byte[] expected = serializeValue(value);
+        if (serializedKey == null || expected == null) {
+            return false;
+        }
+        final int hash = hash(serializedKey);
+        return segment(hash).remove(serializedKey, hash, expected) != null;
+    }
+
+    @Override
+    public void clear() {
+        for (final Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return new EntrySet();
+    }
+
+    private Segment segment(final int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte @Nullable [] serializeKey(final @Nullable Object key) {
+        try {
+            return key == null ? null : keySerializer.serialize((KEY) key);
+        } catch (final ClassCastException exception) {
+            // keys of other types cannot be present in the map
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte @Nullable [] serializeValue(final @Nullable Object value) {
+        try {
+            return value == null ? null : valueSerializer.serialize((VALUE) value);
+        } catch (final ClassCastException exception) {
+            // values of other types cannot be present in the map
+            return null;
+        }
+    }
+
+    private @Nullable VALUE deserializeValue(final @Nullable ByteBuffer bytes) {
+        return bytes == null ? null : valueSerializer.deserialize(bytes);
+    }
+
+    private static int hash(final byte[] serializedKey) {
+        final int hash = Arrays.hashCode(serializedKey) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private enum Write {
+        ALWAYS, IF_ABSENT, IF_PRESENT, IF_MATCHES
+    }
+
+    /**
+     * A log of records in a direct buffer plus a linear-probing index of record offsets. Offsets are stored plus one,
+     * thus zero marks an empty slot.
+     */
+    private static final class Segment {
+
+        private static final int INITIAL_CAPACITY = 1 << 12;
+        private static final int INITIAL_SLOTS = 1 << 4;
+        private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+        private final Lock readLock;
+        private final Lock writeLock;
+
+        // guarded by the lock
+        private ByteBuffer data;
+        private ByteBuffer readOnlyData;
+        private int position;
+        private int deadBytes;
+        private int[] hashes = new int[INITIAL_SLOTS];
+        private int[] offsets = new int[INITIAL_SLOTS];
+        private int size;
+
+        private Segment() {
+            final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+            readLock = lock.readLock();
+            writeLock = lock.writeLock();
+            data = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+            readOnlyData = data.asReadOnlyBuffer();
+        }
+
+        private int size() {
+            readLock.lock();
+            try {
+                return size;
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        private @Nullable ByteBuffer get(final byte[] key, final int hash) {
+            readLock.lock();
+            try {
+                final int slot = find(key, hash);
+                return slot < 0 ? null : value(offsets[slot] - 1);
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        private @Nullable ByteBuffer put(
+                final byte[] key,
+                final int hash,
+                final byte[] value,
+                final Write write,
+                final byte @Nullable [] expected) {
+            writeLock.lock();
+            try {
+                final int slot = find(key, hash);
+                if (slot < 0 && write != Write.ALWAYS && write != Write.IF_ABSENT) {
+                    return null;
+                }
+                if (slot >= 0) {
+                    final int offset = offsets[slot] - 1;
+                    if (write == Write.IF_ABSENT || write == Write.IF_MATCHES && !valueEquals(offset, expected)) {
+                        return write == Write.IF_ABSENT ? value(offset) : null;
+                    }
+                    final ByteBuffer previous = value(offset);
+                    final int length = recordLength(offset);
+                    // appending may relocate all records, but never moves them to another slot
+                    offsets[slot] = append(key, value) + 1;
+                    deadBytes += length;
+                    return previous;
+                }
+                insert(key, hash, value);
+                return null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private @Nullable ByteBuffer remove(final byte[] key, final int hash, final byte @Nullable [] expected) {
+            writeLock.lock();
+            try {
+                final int slot = find(key, hash);
+                if (slot < 0) {
+                    return null;
+                }
+                final int offset = offsets[slot] - 1;
+                if (expected != null && !valueEquals(offset, expected)) {
+                    return null;
+                }
+                final ByteBuffer previous = value(offset);
+                deadBytes += recordLength(offset);
+                deleteSlot(slot);
+                return previous;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private void clear() {
+            writeLock.lock();
+            try {
+                // records handed out before must stay intact, thus the old buffer is left to the garbage collector
+                data = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+                readOnlyData = data.asReadOnlyBuffer();
+                position = 0;
+                deadBytes = 0;
+                hashes = new int[INITIAL_SLOTS];
+                offsets = new int[INITIAL_SLOTS];
+                size = 0;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private List<ByteBuffer[]> records() {
+            readLock.lock();
+            try {
+                final List<ByteBuffer[]> records = new ArrayList<>(size);
+                for (final int offset : offsets) {
+                    if (offset != 0) {
+                        records.add(new ByteBuffer[]{key(offset - 1), value(offset - 1)});
+                    }
+                }
+                return records;
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        private void insert(final byte[] key, final int hash, final byte[] value) {
+            final int offset = append(key, value);
+            if (size + 1 > offsets.length * 3 / 4) {
+                resizeIndex(offsets.length * 2);
+            }
+            final int empty = ~find(key, hash);
+            hashes[empty] = hash;
+            offsets[empty] = offset + 1;
+            size++;
+        }
+
+        /**
+         * @return The slot of the given key, or the bitwise complement of the empty slot where it would be inserted.
+         */
+        private int find(final byte[] key, final int hash) {
+            final int mask = offsets.length - 1;
+            int slot = hash & mask;
+            while (offsets[slot] != 0) {
+                if (hashes[slot] == hash && keyEquals(offsets[slot] - 1, key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return ~slot;
+        }
+
+        /**
+         * Removes the given slot and moves later entries of the same probe sequence back, thus lookups never have to
+         * skip deleted slots.
+         */
+        private void deleteSlot(final int slot) {
+            final int mask = offsets.length - 1;
+            int hole = slot;
+            for (int index = (hole + 1) & mask; offsets[index] != 0; index = (index + 1) & mask) {
+                final int home = hashes[index] & mask;
+                if (((index - home) & mask) >= ((index - hole) & mask)) {
+                    hashes[hole] = hashes[index];
+                    offsets[hole] = offsets[index];
+                    hole = index;
+                }
+            }
+            hashes[hole] = 0;
+            offsets[hole] = 0;
+            size--;
+        }
+
+        private void resizeIndex(final int slots) {
+            final int[] oldHashes = hashes;
+            final int[] oldOffsets = offsets;
+            hashes = new int[slots];
+            offsets = new int[slots];
+            final int mask = slots - 1;
+            for (int index = 0; index < oldOffsets.length; index++) {
+                if (oldOffsets[index] != 0) {
+                    int slot = oldHashes[index] & mask;
+                    while (offsets[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    hashes[slot] = oldHashes[index];
+                    offsets[slot] = oldOffsets[index];
+                }
+            }
+        }
+
+        private int append(final byte[] key, final byte[] value) {
+            final long length = (long) RECORD_HEADER + key.length + value.length;
+            if (position + length > data.capacity()) {
+                relocate(length);
+            }
+            final int offset = position;
+            data.putInt(offset, key.length);
+            data.putInt(offset + Integer.BYTES, value.length);
+            data.put(offset + RECORD_HEADER, key);
+            data.put(offset + RECORD_HEADER + key.length, value);
+            position += (int) length;
+            return offset;
+        }
+
+        /**
+         * Copies all live records into a new buffer that keeps at least half of its capacity free for new records.
+         */
+        private void relocate(final long required) {
+            final long live = (long) position - deadBytes + required;
+            long capacity = Math.max(INITIAL_CAPACITY, data.capacity());
+            while (capacity < 2 * live && capacity < MAXIMUM_CAPACITY) {
+                capacity = Math.min(2 * capacity, MAXIMUM_CAPACITY);
+            }
+            if (live > capacity) {
+                throw new IllegalStateException("Cannot store more than " + MAXIMUM_CAPACITY
+                        + " bytes in a single segment - use smaller keys and values or multiple caches.");
+            }
+            final ByteBuffer target = ByteBuffer.allocateDirect((int) capacity);
+            int targetPosition = 0;
+            for (int slot = 0; slot < offsets.length; slot++) {
+                if (offsets[slot] != 0) {
+                    final int offset = offsets[slot] - 1;
+                    final int length = recordLength(offset);
+                    target.put(targetPosition, data, offset, length);
+                    offsets[slot] = targetPosition + 1;
+                    targetPosition += length;
+                }
+            }
+            data = target;
+            readOnlyData = target.asReadOnlyBuffer();
+            position = targetPosition;
+            deadBytes = 0;
+        }
+
+        private int recordLength(final int offset) {
+            return RECORD_HEADER + data.getInt(offset) + data.getInt(offset + Integer.BYTES);
+        }
+
+        private ByteBuffer key(final int offset) {
+            return readOnlyData.slice(offset + RECORD_HEADER, data.getInt(offset));
+        }
+
+        private ByteBuffer value(final int offset) {
+            final int keyLength = data.getInt(offset);
+            return readOnlyData.slice(offset + RECORD_HEADER + keyLength, data.getInt(offset + Integer.BYTES));
+        }
+
+        private boolean keyEquals(final int offset, final byte[] key) {
+            return data.getInt(offset) == key.length && bytesEqual(offset + RECORD_HEADER, key);
+        }
+
+        private boolean valueEquals(final int offset, final byte @Nullable [] value) {
+            return value != null
+                    && data.getInt(offset + Integer.BYTES) == value.length
+                    && bytesEqual(offset + RECORD_HEADER + data.getInt(offset), value);
+        }
+
+        private boolean bytesEqual(final int offset, final byte[] bytes) {
+            for (int index = 0; index < bytes.length; index++) {
+                if (data.get(offset + index) != bytes[index]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<KEY, VALUE>> {
+
+        @Override
+        public int size() {
+            return OffHeapConcurrentMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            OffHeapConcurrentMap.this.clear();
+        }
+
+        /**
+         * Iterates over a snapshot of one segment at a time, thus the iterator is weakly consistent just like the
+         * ones of {@link java.util.concurrent.ConcurrentHashMap}.
+         */
+        @Override
+        public Iterator<Entry<KEY, VALUE>> iterator() {
+            return new Iterator<>() {
+
+                private int segment;
+                private Iterator<ByteBuffer[]> records = Collections.emptyIterator();
+                private @Nullable KEY current;
+
+                @Override
+                public boolean hasNext() {
+                    while (!records.hasNext() && segment < segments.length) {
+                        records = segments[segment++].records().iterator();
+                    }
+                    return records.hasNext();
+                }
+
+                @Override
+                public Entry<KEY, VALUE> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final ByteBuffer[] record = records.next();
+                    final KEY key = keySerializer.deserialize(record[0]);
+                    current = key;
+                    return new SimpleImmutableEntry<>(key, valueSerializer.deserialize(record[1]));
+                }
+
+                @Override
+                public void remove() {
+                    final KEY key = current;
+                    if (key == null) {
+                        throw new IllegalStateException();
+                    }
+                    current = null;
+                    OffHeapConcurrentMap.this.remove(key);
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Factory for {@link ConcurrentMap}s that store their entries outside the Java heap. Use them as custom caches of any
+ * memoizer, e.g. {@code Memoize.function(function, OffHeapMaps.create(keySerializer, valueSerializer))}. Every read
+ * deserializes a new copy of its value, thus off-heap caches pay off for large numbers of entries whose values are
+ * cheap to deserialize compared to computing them.
+ */
+public final class OffHeapMaps {
+
+    private OffHeapMaps() {
+        // factory class
+    }
+
+    /**
+     * Creates a new off-heap map that uses Java serialization for keys and values. Every key and value must therefore
+     * be {@link java.io.Serializable}. Prefer {@link #create(Serializer, Serializer)} with dedicated serializers in
+     * case the types of keys and values are known, since Java serialization is comparatively slow and verbose.
+     *
+     * @param <KEY>   The key type of the map.
+     * @param <VALUE> The value type of the map.
+     * @return A new off-heap map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> create() {
+        return create(Serializers.java(), Serializers.java());
+    }
+
+    /**
+     * Creates a new off-heap map that uses the given serializers for keys and values.
+     *
+     * @param keySerializer   The serializer for keys. Equal keys must be serialized to equal bytes.
+     * @param valueSerializer The serializer for values.
+     * @param <KEY>           The key type of the map.
+     * @param <VALUE>         The value type of the map.
+     * @return A new off-heap map.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> create(
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) {
+        return new OffHeapConcurrentMap<>(keySerializer, valueSerializer);
+    }
+
+    /**
+     * Maps a shared map from the given file using the default capacity of 65,536 entries of at most 256 bytes each.
+     *
+     * @param file            The file to share the map through. Created in case it does not exist yet.
+     * @param keySerializer   The serializer for keys. Equal keys must be serialized to equal bytes.
+     * @param valueSerializer The serializer for values.
+     * @param <KEY>           The key type of the map.
+     * @param <VALUE>         The value type of the map.
+     * @return A map that shares its entries with every other map of the same file.
+     * @throws IOException In case the file cannot be mapped or was created with a different capacity or entry size.
+     * @see #shared(Path, int, int, Serializer, Serializer)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> SharedMap<KEY, VALUE> shared(
+            final Path file,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        return shared(file, 65_536, 256, keySerializer, valueSerializer);
+    }
+
+    /**
+     * Maps a shared map from the given file. All processes on the same host that map the same file with the same
+     * capacity and entry size share their entries, e.g. to let several JVMs reuse values memoized by each other
+     * without a network hop. The file is allocated in full right away, thus it needs about
+     * {@code 2 * capacity * (maximumEntrySize + 16)} bytes, which must not exceed 2 GiB. Reads never lock, writes claim
+     * their slot with a compare-and-set. Slots of removed entries are reused by later writes. Other processes can
+     * write the file, thus Java serialization is only accepted with a filter, see
+     * {@link Serializers#java(java.io.ObjectInputFilter)}. Close the map once it is no longer needed.
+     *
+     * @param file             The file to share the map through. Created in case it does not exist yet.
+     * @param capacity         The maximum number of entries.
+     * @param maximumEntrySize The maximum number of bytes of a serialized key and value combined.
+     * @param keySerializer    The serializer for keys. Equal keys must be serialized to equal bytes.
+     * @param valueSerializer  The serializer for values.
+     * @param <KEY>            The key type of the map.
+     * @param <VALUE>          The value type of the map.
+     * @return A map that shares its entries with every other map of the same file.
+     * @throws IOException In case the file cannot be mapped or was created with a different capacity or entry size.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> SharedMap<KEY, VALUE> shared(
+            final Path file,
+            final int capacity,
+            final int maximumEntrySize,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        return SharedConcurrentMap.open(file, capacity, maximumEntrySize, keySerializer, valueSerializer);
+    }
+
+}
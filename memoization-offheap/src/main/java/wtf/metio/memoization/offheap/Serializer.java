@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts keys or values from and to the bytes that are stored outside the Java heap. Keys are compared by their
+ * serialized form, thus serializers for keys must produce the same bytes for keys that are equal to each other.
+ *
+ * @param <TYPE> The type of the serialized objects.
+ * @see Serializers
+ */
+public interface Serializer<TYPE> {
+
+    /**
+     * @param object The object to serialize.
+     * @return The serialized form of the given object.
+     */
+    byte[] serialize(TYPE object);
+
+    /**
+     * @param bytes A read-only buffer whose remaining bytes are exactly the ones produced by {@link #serialize(Object)}.
+     * @return The deserialized object.
+     */
+    TYPE deserialize(ByteBuffer bytes);
+
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Factory for common {@link Serializer}s.
+ */
+public final class Serializers {
+
+    private Serializers() {
+        // factory class
+    }
+
+    /**
+     * @return A serializer that stores strings as UTF-8.
+     */
+    @CheckReturnValue
+    public static Serializer<String> strings() {
+        return new Serializer<>() {
+            @Override
+            public byte[] serialize(final String object) {
+                return object.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String deserialize(final ByteBuffer bytes) {
+                return StandardCharsets.UTF_8.decode(bytes).toString();
+            }
+        };
+    }
+
+    /**
+     * @return A serializer that stores integers in four bytes.
+     */
+    @CheckReturnValue
+    public static Serializer<Integer> integers() {
+        return new Serializer<>() {
+            @Override
+            public byte[] serialize(final Integer object) {
+                return ByteBuffer.allocate(Integer.BYTES).putInt(object).array();
+            }
+
+            @Override
+            public Integer deserialize(final ByteBuffer bytes) {
+                return bytes.getInt();
+            }
+        };
+    }
+
+    /**
+     * @return A serializer that stores longs in eight bytes.
+     */
+    @CheckReturnValue
+    public static Serializer<Long> longs() {
+        return new Serializer<>() {
+            @Override
+            public byte[] serialize(final Long object) {
+                return ByteBuffer.allocate(Long.BYTES).putLong(object).array();
+            }
+
+            @Override
+            public Long deserialize(final ByteBuffer bytes) {
+                return bytes.getLong();
+            }
+        };
+    }
+
+    /**
+     * @return A serializer that stores doubles in eight bytes. All NaN values are stored the same way, thus the
+     * serialized form matches {@link Double#equals(Object)}.
+     */
+    @CheckReturnValue
+    public static Serializer<Double> doubles() {
+        return new Serializer<>() {
+            @Override
+            public byte[] serialize(final Double object) {
+                return ByteBuffer.allocate(Double.BYTES).putLong(Double.doubleToLongBits(object)).array();
+            }
+
+            @Override
+            public Double deserialize(final ByteBuffer bytes) {
+                return Double.longBitsToDouble(bytes.getLong());
+            }
+        };
+    }
+
+    /**
+     * Creates a serializer that uses Java serialization. Every object passed to it must therefore be
+     * {@link Serializable}. Equal objects produce equal bytes as long as their serializable fields are equal as well,
+     * which holds for the composite keys used by memoizers as well as for boxed primitives and strings. Object
+     * graphs that reference the same object twice are serialized differently than graphs that reference two equal
+     * objects though, thus such keys might be stored more than once. Deserialization only applies the process-wide
+     * filter of {@link ObjectInputFilter.Config}, thus shared maps reject this serializer unless such a filter is set.
+     *
+     * @param <TYPE> The type of the serialized objects.
+     * @return A serializer that uses Java serialization.
+     * @see #java(ObjectInputFilter)
+     */
+    @CheckReturnValue
+    public static <TYPE> Serializer<TYPE> java() {
+        return new JavaSerializer<>(null);
+    }
+
+    /**
+     * Creates a serializer that uses Java serialization and rejects all stored objects that the given filter does not
+     * allow. Use it for maps whose entries are written by other processes, e.g.
+     * {@code Serializers.java(ObjectInputFilter.Config.createFilter("com.example.*;java.base/*;!*"))}.
+     *
+     * @param filter The filter to apply while deserializing objects.
+     * @param <TYPE> The type of the serialized objects.
+     * @return A serializer that uses filtered Java serialization.
+     * @see #java()
+     */
+    @CheckReturnValue
+    public static <TYPE> Serializer<TYPE> java(final ObjectInputFilter filter) {
+        return new JavaSerializer<>(requireNonNull(filter, "Provide a filter for the deserialized classes."));
+    }
+
+    /**
+     * @return Whether the given serializer deserializes arbitrary classes.
+     */
+    static boolean unfiltered(final Serializer<?> serializer) {
+        return serializer instanceof JavaSerializer<?> java && java.filter == null
+                && ObjectInputFilter.Config.getSerialFilter() == null;
+    }
+
+    private static final class JavaSerializer<TYPE> implements Serializer<TYPE> {
+
+        private final @Nullable ObjectInputFilter filter;
+
+        private JavaSerializer(final @Nullable ObjectInputFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public byte[] serialize(final TYPE object) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(object);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException("Cannot serialize " + object.getClass()
+                        + " - make sure it implements java.io.Serializable or use a custom serializer.",
+                        exception);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public TYPE deserialize(final ByteBuffer bytes) {
+            final byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(copy))) {
+                if (filter != null) {
+                    input.setObjectInputFilter(filter);
+                }
+                return (TYPE) input.readObject();
+            } catch (final IOException exception) {
+                throw new UncheckedIOException("Cannot deserialize stored object - use a custom serializer.",
+                        exception);
+            } catch (final ClassNotFoundException exception) {
+                throw new IllegalStateException("Cannot deserialize stored object - its class is no longer "
+                        + "available.", exception);
+            }
+        }
+
+    }
+
+}
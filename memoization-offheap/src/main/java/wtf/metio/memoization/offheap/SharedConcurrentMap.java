@@ -0,0 +1,904 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import org.jspecify.annotations.Nullable;
+
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} backed by a memory-mapped file, thus all processes on the same host that map the same file
+ * share its entries. The file holds a header followed by a fixed number of equally sized slots, each of which stores
+ * the state, hash, key and value of one entry. Entries are found by linear probing.
+ * </p>
+ * <p>
+ * The state of each slot combines its kind with a generation that grows with every change of the slot. Writers claim
+ * an empty or removed slot with a compare-and-set on its state, fill in key and value and publish the slot with a
+ * releasing write. Readers never lock, they copy key and value of a slot and check afterwards that its state did not
+ * change in the meantime, thus they never see a slot that was reused while they read it. Removed slots are reused by
+ * later writes and turned back into empty slots once the slot after them is empty, thus lookups of absent keys stop
+ * early even after many removals. Slots that stay claimed for too long, e.g. because their writer crashed, are skipped
+ * by readers.
+ * </p>
+ * <p>
+ * Within one JVM, {@link #computeIfAbsent(Object, Function)} lets concurrent callers of the same key wait for the first
+ * one, thus it computes each value at most once per process. Values are computed without holding any lock, thus
+ * computations of other keys never wait for them. Processes do not wait for each other while computing, thus different
+ * processes might compute the same value concurrently. Writers check the probe sequence of their key after publishing
+ * it and remove all but the first copy of it, thus the first one stored wins.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class SharedConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE> implements SharedMap<KEY, VALUE> {
+
+    private static final int MAGIC = 0x4D454D53;
+    private static final int VERSION = 2;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SLOTS_OFFSET = 8;
+    private static final int SLOT_SIZE_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int CAPACITY_OFFSET = 20;
+    private static final int HEADER = 64;
+
+    private static final int STATE = 0;
+    private static final int HASH = 4;
+    private static final int KEY_LENGTH = 8;
+    private static final int VALUE_LENGTH = 12;
+    private static final int DATA = 16;
+
+    // the lowest two bits of a state hold the kind of its slot, all others count the changes of the slot
+    private static final int KIND = 3;
+    private static final int GENERATION = 4;
+    private static final int EMPTY = 0;
+    private static final int WRITING = 1;
+    private static final int READY = 2;
+    private static final int REMOVED = 3;
+
+    private static final int INSERTED = -1;
+    private static final int FULL = -2;
+    private static final int TOO_LARGE = -3;
+    private static final int CUT_OFF = -4;
+
+    private static final int LOCKS = 64;
+    private static final int SPINS = 64;
+    private static final long PARK_NANOS = 10_000L;
+    private static final long STALE_NANOS = 1_000_000_000L;
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+    private final ConcurrentMap<ByteBuffer, InFlight<VALUE>> inFlight = new ConcurrentHashMap<>();
+    private ByteBuffer buffer;
+    private final int slots;
+    private final int slotSize;
+    private final int capacity;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCKS];
+    private final AtomicInteger users = new AtomicInteger();
+    private final Serializer<KEY> keySerializer;
+    private final Serializer<VALUE> valueSerializer;
+
+    private SharedConcurrentMap(
+            final Path file,
+            final ByteBuffer buffer,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) {
+        this.file = file;
+        this.buffer = buffer;
+        this.slots = buffer.getInt(SLOTS_OFFSET);
+        this.slotSize = buffer.getInt(SLOT_SIZE_OFFSET);
+        this.capacity = buffer.getInt(CAPACITY_OFFSET);
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        for (int index = 0; index < locks.length; index++) {
+            locks[index] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Maps the given file, creating and initializing it in case it does not exist yet. Initialization holds an
+     * exclusive lock on the file, thus processes that open the same file concurrently see a fully initialized header.
+     *
+     * @throws IOException In case the file cannot be mapped or was created for a different capacity or entry size.
+     */
+    static <KEY, VALUE> SharedConcurrentMap<KEY, VALUE> open(
+            final Path file,
+            final int capacity,
+            final int maximumEntrySize,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        requireNonNull(file, "Provide a file to share the map through.");
+        requireNonNull(keySerializer, "Provide a serializer for the keys of the map.");
+        requireNonNull(valueSerializer, "Provide a serializer for the values of the map.");
+        if (Serializers.unfiltered(keySerializer) || Serializers.unfiltered(valueSerializer)) {
+            throw new IllegalArgumentException("Cannot share Java serialized objects with other processes without a "
+                    + "filter - use Serializers.java(ObjectInputFilter) to restrict the classes they may store.");
+        }
+        if (capacity <= 0 || maximumEntrySize <= 0) {
+            throw new IllegalArgumentException(
+                    "Cannot create a shared map without space - provide a positive capacity and entry size to fix this.");
+        }
+        final long slots = Long.highestOneBit(2L * capacity - 1) << 1;
+        final long slotSize = (DATA + (long) maximumEntrySize + 7) & ~7L;
+        final long length = HEADER + slots * slotSize;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot map %d entries of %d bytes - the mapped file is limited to %d bytes.",
+                    capacity, maximumEntrySize, Integer.MAX_VALUE));
+        }
+        try (final FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             final FileLock ignored = channel.lock()) {
+            if (channel.size() != 0 && channel.size() != length) {
+                throw mismatch(file);
+            }
+            // the mapping stays valid after its channel was closed
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            if (buffer.getInt(MAGIC_OFFSET) == 0) {
+                buffer.putInt(VERSION_OFFSET, VERSION);
+                buffer.putInt(SLOTS_OFFSET, (int) slots);
+                buffer.putInt(SLOT_SIZE_OFFSET, (int) slotSize);
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+                INTS.setRelease(buffer, SIZE_OFFSET, 0);
+                buffer.putInt(MAGIC_OFFSET, MAGIC);
+            } else if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION
+                    || buffer.getInt(SLOTS_OFFSET) != slots || buffer.getInt(SLOT_SIZE_OFFSET) != slotSize
+                    || buffer.getInt(CAPACITY_OFFSET) != capacity) {
+                throw mismatch(file);
+            }
+            return new SharedConcurrentMap<>(file, buffer, keySerializer, valueSerializer);
+        }
+    }
+
+    @Override
+    public int size() {
+        enter();
+        try {
+            return (int) INTS.getVolatile(buffer, SIZE_OFFSET);
+        } finally {
+            exit();
+        }
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @Nullable VALUE get(final Object key) {
+        final byte[] serializedKey = serializeKey(key);
+        if (serializedKey == null) {
+            return null;
+        }
+        final Snapshot snapshot;
+        enter();
+        try {
+            snapshot = lookup(serializedKey, hash(serializedKey));
+        } finally {
+            exit();
+        }
+        return deserialize(snapshot);
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(value));
+        final int hash = hash(serializedKey);
+        final Snapshot previous;
+        enter();
+        final ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            previous = take(serializedKey, hash, null);
+            store(serializedKey, hash, serializedValue);
+        } finally {
+            lock.unlock();
+            exit();
+        }
+        return deserialize(previous);
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(value));
+        final int hash = hash(serializedKey);
+        final Snapshot existing;
+        enter();
+        final ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            existing = storeIfAbsent(serializedKey, hash, serializedValue, true);
+        } finally {
+            lock.unlock();
+            exit();
+        }
+        return deserialize(existing);
+    }
+
+    /**
+     * Computes absent values outside any lock, while concurrent callers of the same key within this process wait for
+     * the running computation, thus values are computed at most once per process. Values that do not fit into a slot
+     * or into a full map are returned without being stored.
+     */
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final int hash = hash(serializedKey);
+        enter();
+        try {
+            final Snapshot existing = lookup(serializedKey, hash);
+            if (existing != null) {
+                return deserialize(existing);
+            }
+            return compute(key, serializedKey, hash, mappingFunction);
+        } finally {
+            exit();
+        }
+    }
+
+    private @Nullable VALUE compute(
+            final KEY key,
+            final byte[] serializedKey,
+            final int hash,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        final ByteBuffer flightKey = ByteBuffer.wrap(serializedKey);
+        final InFlight<VALUE> flight = new InFlight<>(Thread.currentThread());
+        final InFlight<VALUE> running = inFlight.putIfAbsent(flightKey, flight);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            // the previous computation of this key might have finished between the lookup and the claim above
+            final Snapshot current = lookup(serializedKey, hash);
+            final VALUE value = current != null ? deserialize(current) : publish(serializedKey, hash,
+                    mappingFunction.apply(key));
+            flight.complete(value);
+            return value;
+        } catch (final RuntimeException | Error exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private @Nullable VALUE publish(final byte[] serializedKey, final int hash, final @Nullable VALUE value) {
+        if (value == null) {
+            return null;
+        }
+        final byte[] serializedValue = valueSerializer.serialize(value);
+        final ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            // another process might have stored the same key in the meantime
+            final Snapshot stored = storeIfAbsent(serializedKey, hash, serializedValue, false);
+            return stored == null ? value : deserialize(stored);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(value));
+        final int hash = hash(serializedKey);
+        final Snapshot previous;
+        enter();
+        final ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            previous = take(serializedKey, hash, null);
+            if (previous != null) {
+                store(serializedKey, hash, serializedValue);
+            }
+        } finally {
+            lock.unlock();
+            exit();
+        }
+        return deserialize(previous);
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        final byte[] serializedKey = keySerializer.serialize(requireNonNull(key));
+        final byte[] expected = valueSerializer.serialize(requireNonNull(oldValue));
+        final byte[] serializedValue = valueSerializer.serialize(requireNonNull(newValue));
+        final int hash = hash(serializedKey);
+        enter();
+        final ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            if (take(serializedKey, hash, expected) == null) {
+                return false;
+            }
+            store(serializedKey, hash, serializedValue);
+            return true;
+        } finally {
+            lock.unlock();
+            exit();
+        }
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        final byte[] serializedKey = serializeKey(key);
+        if (serializedKey == null) {
+            return null;
+        }
+        final int hash = hash(serializedKey);
+        final Snapshot previous;
+        enter();
+        final ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            previous = take(serializedKey, hash, null);
+        } finally {
+            lock.unlock();
+            exit();
+        }
+        return deserialize(previous);
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final byte[] serializedKey = serializeKey(key);
+        final byte[] expected = serializeValue(value);
+        if (serializedKey == null || expected == null) {
+            return false;
+        }
+        final int hash = hash(serializedKey);
+        enter();
+        final ReentrantLock lock = lock(hash);
+        lock.lock();
+        try {
+            return take(serializedKey, hash, expected) != null;
+        } finally {
+            lock.unlock();
+            exit();
+        }
+    }
+
+    @Override
+    public void clear() {
+        enter();
+        try {
+            for (int slot = 0; slot < slots; slot++) {
+                final int state = (int) INTS.getAcquire(buffer, offset(slot) + STATE);
+                if (kind(state) == READY) {
+                    retire(slot, state);
+                } else if (kind(state) == REMOVED) {
+                    sweep(slot);
+                }
+            }
+        } finally {
+            exit();
+        }
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public void close() {
+        int current;
+        do {
+            current = users.get();
+            if (current < 0) {
+                return;
+            }
+        } while (!users.compareAndSet(current, current | CLOSED));
+        while (users.get() != CLOSED) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        // the garbage collector unmaps the file once the buffer is no longer reachable
+        buffer = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * @return A consistent copy of the entry of the given key or {@code null} in case it is absent.
+     */
+    private @Nullable Snapshot lookup(final byte[] key, final int hash) {
+        int slot = hash & (slots - 1);
+        for (int probes = 0; probes < slots; ) {
+            final int offset = offset(slot);
+            final int state = await(offset);
+            final byte[] value = kind(state) == READY && matches(offset, key, hash) ? copy(offset, true) : null;
+            if (!unchanged(offset, state)) {
+                // the slot changed while it was read, thus read it again
+                continue;
+            }
+            if (value != null) {
+                return new Snapshot(slot, state, value);
+            }
+            if (kind(state) == EMPTY) {
+                return null;
+            }
+            slot = next(slot);
+            probes++;
+        }
+        return null;
+    }
+
+    /**
+     * Removes the entry of the given key in case its value matches the expected one.
+     *
+     * @return The removed entry or {@code null} in case nothing was removed.
+     */
+    private @Nullable Snapshot take(final byte[] key, final int hash, final byte @Nullable [] expected) {
+        while (true) {
+            final Snapshot snapshot = lookup(key, hash);
+            if (snapshot == null || expected != null && !Arrays.equals(expected, snapshot.value())) {
+                return null;
+            }
+            if (retire(snapshot.slot(), snapshot.state())) {
+                return snapshot;
+            }
+            // another process changed the entry in the meantime, thus look it up again
+        }
+    }
+
+    private void store(final byte[] key, final int hash, final byte[] value) {
+        requireStored(insert(key, hash, value), key, value);
+    }
+
+    private int requireStored(final int slot, final byte[] key, final byte[] value) {
+        if (slot == TOO_LARGE) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot store an entry of %d bytes in shared map %s - its slots hold at most %d bytes.",
+                    key.length + value.length, file, slotSize - DATA));
+        }
+        if (slot == FULL) {
+            throw new IllegalStateException(String.format(
+                    "Cannot store more than %d entries in shared map %s - create it with a larger capacity to fix this.",
+                    capacity, file));
+        }
+        return slot;
+    }
+
+    /**
+     * @param failing Whether entries that cannot be stored fail or are silently dropped.
+     * @return The entry that holds the given key already or {@code null} in case the given entry was inserted or
+     * dropped.
+     */
+    private @Nullable Snapshot storeIfAbsent(
+            final byte[] key,
+            final int hash,
+            final byte[] value,
+            final boolean failing) {
+        while (true) {
+            final int inserted = insert(key, hash, value);
+            final int slot = failing ? requireStored(inserted, key, value) : inserted;
+            if (slot < 0) {
+                return null;
+            }
+            final Snapshot existing = read(slot, key, hash);
+            if (existing != null) {
+                return existing;
+            }
+            // another process removed the existing entry in the meantime, thus try again
+        }
+    }
+
+    /**
+     * @return The slot that holds the given key already or a negative number that tells whether the given entry was
+     * inserted or could not be stored.
+     */
+    private int insert(final byte[] key, final int hash, final byte[] value) {
+        if ((long) DATA + key.length + value.length > slotSize) {
+            return TOO_LARGE;
+        }
+        while (true) {
+            int candidate = -1;
+            int candidateState = EMPTY;
+            int slot = hash & (slots - 1);
+            for (int probes = 0; probes < slots; ) {
+                final int offset = offset(slot);
+                final int state = await(offset);
+                final boolean match = kind(state) == READY && matches(offset, key, hash);
+                if (!unchanged(offset, state)) {
+                    continue;
+                }
+                if (match) {
+                    return slot;
+                }
+                if (candidate < 0 && (kind(state) == EMPTY || kind(state) == REMOVED)) {
+                    candidate = slot;
+                    candidateState = state;
+                }
+                if (kind(state) == EMPTY) {
+                    break;
+                }
+                slot = next(slot);
+                probes++;
+            }
+            if (candidate < 0 || !reserve()) {
+                return FULL;
+            }
+            final int offset = offset(candidate);
+            final int claimed = advance(candidateState, WRITING);
+            if (!INTS.compareAndSet(buffer, offset + STATE, candidateState, claimed)) {
+                // another writer claimed this slot first, thus check whether it wrote the same key
+                INTS.getAndAdd(buffer, SIZE_OFFSET, -1);
+                continue;
+            }
+            buffer.putInt(offset + HASH, hash);
+            buffer.putInt(offset + KEY_LENGTH, key.length);
+            buffer.putInt(offset + VALUE_LENGTH, value.length);
+            buffer.put(offset + DATA, key);
+            buffer.put(offset + DATA + key.length, value);
+            final int ready = advance(claimed, READY);
+            INTS.setRelease(buffer, offset + STATE, ready);
+            final int winner = settle(key, hash, candidate, ready);
+            if (winner != CUT_OFF) {
+                return winner;
+            }
+        }
+    }
+
+    /**
+     * Checks the probe sequence of a freshly inserted entry. Other processes might have stored the same key
+     * concurrently, thus all copies but the first one are removed. Entries that cannot be reached anymore, because the
+     * slot before them was turned into an empty one concurrently, are removed as well, thus they are inserted again.
+     *
+     * @return {@link #INSERTED} in case the inserted entry is the first one, the slot of the first entry in case another
+     * process stored the key first or {@link #CUT_OFF} in case the entry has to be inserted again.
+     */
+    private int settle(final byte[] key, final int hash, final int inserted, final int insertedState) {
+        int first = -1;
+        boolean reached = false;
+        int slot = hash & (slots - 1);
+        for (int probes = 0; probes < slots; ) {
+            final int offset = offset(slot);
+            final int state = await(offset);
+            final boolean match = kind(state) == READY && matches(offset, key, hash);
+            if (!unchanged(offset, state)) {
+                continue;
+            }
+            if (kind(state) == EMPTY) {
+                break;
+            }
+            reached |= slot == inserted;
+            if (match && first < 0) {
+                first = slot;
+            } else if (match) {
+                retire(slot, state);
+            }
+            slot = next(slot);
+            probes++;
+        }
+        if (!reached) {
+            retire(inserted, insertedState);
+        }
+        if (first == inserted) {
+            return INSERTED;
+        }
+        return first < 0 ? CUT_OFF : first;
+    }
+
+    private boolean reserve() {
+        while (true) {
+            final int size = (int) INTS.getVolatile(buffer, SIZE_OFFSET);
+            if (size >= capacity) {
+                return false;
+            }
+            if (INTS.compareAndSet(buffer, SIZE_OFFSET, size, size + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean retire(final int slot, final int state) {
+        if (INTS.compareAndSet(buffer, offset(slot) + STATE, state, advance(state, REMOVED))) {
+            INTS.getAndAdd(buffer, SIZE_OFFSET, -1);
+            sweep(slot);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Turns the given removed slot and all removed slots before it back into empty slots, as long as the slot after
+     * them is empty. Probes stop at that empty slot anyway, thus they stop earlier without missing any entry.
+     */
+    private void sweep(final int removed) {
+        int slot = removed;
+        for (int steps = 0; steps < slots; steps++) {
+            final int offset = offset(slot);
+            final int state = (int) INTS.getAcquire(buffer, offset + STATE);
+            final int following = offset(next(slot)) + STATE;
+            if (kind(state) != REMOVED || kind((int) INTS.getVolatile(buffer, following)) != EMPTY) {
+                return;
+            }
+            final int emptied = advance(state, EMPTY);
+            if (!INTS.compareAndSet(buffer, offset + STATE, state, emptied)) {
+                return;
+            }
+            if (kind((int) INTS.getVolatile(buffer, following)) != EMPTY) {
+                // a writer claimed the following slot in the meantime, thus its probes must not stop here
+                INTS.compareAndSet(buffer, offset + STATE, emptied, advance(emptied, REMOVED));
+                return;
+            }
+            slot = (slot - 1) & (slots - 1);
+        }
+    }
+
+    private @Nullable Snapshot read(final int slot, final byte[] key, final int hash) {
+        final int offset = offset(slot);
+        while (true) {
+            final int state = await(offset);
+            final byte[] value = kind(state) == READY && matches(offset, key, hash) ? copy(offset, true) : null;
+            if (unchanged(offset, state)) {
+                return value == null ? null : new Snapshot(slot, state, value);
+            }
+        }
+    }
+
+    /**
+     * Waits while the given slot is being written and returns its state afterwards. Slots that stay claimed for too
+     * long are reported as claimed, thus callers skip them.
+     */
+    private int await(final int offset) {
+        int state = (int) INTS.getAcquire(buffer, offset + STATE);
+        final long start = kind(state) == WRITING ? System.nanoTime() : 0L;
+        for (int round = 0; kind(state) == WRITING && System.nanoTime() - start < STALE_NANOS; round++) {
+            if (round < SPINS) {
+                Thread.onSpinWait();
+            } else if (round < 2 * SPINS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            state = (int) INTS.getAcquire(buffer, offset + STATE);
+        }
+        return state;
+    }
+
+    /**
+     * @return Whether the given slot still has the given state, thus everything read from it since is consistent.
+     */
+    private boolean unchanged(final int offset, final int state) {
+        VarHandle.acquireFence();
+        return (int) INTS.getVolatile(buffer, offset + STATE) == state;
+    }
+
+    private boolean matches(final int offset, final byte[] key, final int hash) {
+        // slots might be rewritten while they are read, thus lengths are checked before they are used
+        return buffer.getInt(offset + HASH) == hash && buffer.getInt(offset + KEY_LENGTH) == key.length
+                && key.length <= slotSize - DATA
+                && buffer.slice(offset + DATA, key.length).equals(ByteBuffer.wrap(key));
+    }
+
+    /**
+     * @return A copy of the value or key of the given slot or {@code null} in case its lengths are inconsistent,
+     * because the slot is being rewritten.
+     */
+    private byte @Nullable [] copy(final int offset, final boolean value) {
+        final int keyLength = buffer.getInt(offset + KEY_LENGTH);
+        final int valueLength = buffer.getInt(offset + VALUE_LENGTH);
+        if (keyLength < 0 || valueLength < 0 || (long) keyLength + valueLength > slotSize - DATA) {
+            return null;
+        }
+        final byte[] bytes = new byte[value ? valueLength : keyLength];
+        buffer.get(offset + DATA + (value ? keyLength : 0), bytes);
+        return bytes;
+    }
+
+    private @Nullable VALUE deserialize(final @Nullable Snapshot snapshot) {
+        return snapshot == null ? null : valueSerializer.deserialize(ByteBuffer.wrap(snapshot.value()).asReadOnlyBuffer());
+    }
+
+    private void enter() {
+        while (true) {
+            final int current = users.get();
+            if (current < 0) {
+                throw new IllegalStateException(String.format(
+                        "Cannot use shared map %s after it was closed - open it again to fix this.", file));
+            }
+            if (users.compareAndSet(current, current + 1)) {
+                return;
+            }
+        }
+    }
+
+    private void exit() {
+        users.decrementAndGet();
+    }
+
+    private int offset(final int slot) {
+        return HEADER + slot * slotSize;
+    }
+
+    private int next(final int slot) {
+        return (slot + 1) & (slots - 1);
+    }
+
+    private ReentrantLock lock(final int hash) {
+        return locks[hash & (LOCKS - 1)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte @Nullable [] serializeKey(final @Nullable Object key) {
+        try {
+            return key == null ? null : keySerializer.serialize((KEY) key);
+        } catch (final ClassCastException exception) {
+            // keys of other types cannot be present in the map
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte @Nullable [] serializeValue(final @Nullable Object value) {
+        try {
+            return value == null ? null : valueSerializer.serialize((VALUE) value);
+        } catch (final ClassCastException exception) {
+            // values of other types cannot be present in the map
+            return null;
+        }
+    }
+
+    private static int kind(final int state) {
+        return state & KIND;
+    }
+
+    private static int advance(final int state, final int kind) {
+        return (state & ~KIND) + GENERATION | kind;
+    }
+
+    private static <VALUE> @Nullable VALUE join(final InFlight<VALUE> flight) {
+        if (flight.owner == Thread.currentThread()) {
+            throw new IllegalStateException("Recursive computation of the same key - the value depends on itself.");
+        }
+        try {
+            return flight.join();
+        } catch (final CompletionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+
+    private static int hash(final byte[] serializedKey) {
+        final int hash = Arrays.hashCode(serializedKey) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static IOException mismatch(final Path file) {
+        return new IOException(String.format(
+                "File %s is not a shared map of the requested capacity and entry size.", file));
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<KEY, VALUE>> {
+
+        @Override
+        public int size() {
+            return SharedConcurrentMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<KEY, VALUE>> iterator() {
+            return new Iterator<>() {
+
+                private int slot = -1;
+                private @Nullable Entry<KEY, VALUE> next = advance();
+                private @Nullable Entry<KEY, VALUE> last;
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Entry<KEY, VALUE> next() {
+                    final Entry<KEY, VALUE> current = next;
+                    if (current == null) {
+                        throw new NoSuchElementException();
+                    }
+                    last = current;
+                    next = advance();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    final Entry<KEY, VALUE> current = last;
+                    if (current == null) {
+                        throw new IllegalStateException();
+                    }
+                    last = null;
+                    SharedConcurrentMap.this.remove(current.getKey(), current.getValue());
+                }
+
+                private @Nullable Entry<KEY, VALUE> advance() {
+                    enter();
+                    try {
+                        while (++slot < slots) {
+                            final int offset = offset(slot);
+                            final int state = await(offset);
+                            final byte[] key = kind(state) == READY ? copy(offset, false) : null;
+                            final byte[] value = kind(state) == READY ? copy(offset, true) : null;
+                            if (!unchanged(offset, state)) {
+                                // the slot changed while it was read, thus read it again
+                                slot--;
+                            } else if (key != null && value != null) {
+                                return new SimpleImmutableEntry<>(
+                                        keySerializer.deserialize(ByteBuffer.wrap(key).asReadOnlyBuffer()),
+                                        valueSerializer.deserialize(ByteBuffer.wrap(value).asReadOnlyBuffer()));
+                            }
+                        }
+                        return null;
+                    } finally {
+                        exit();
+                    }
+                }
+
+            };
+        }
+
+    }
+
+    /**
+     * A consistent copy of the value of a slot together with the state the slot had while it was copied.
+     */
+    private record Snapshot(int slot, int state, byte[] value) {
+    }
+
+    /**
+     * A running computation of {@link #computeIfAbsent(Object, Function)} together with the thread that runs it.
+     */
+    private static final class InFlight<VALUE> extends CompletableFuture<VALUE> {
+
+        private final Thread owner;
+
+        private InFlight(final Thread owner) {
+            this.owner = owner;
+        }
+
+    }
+
+}
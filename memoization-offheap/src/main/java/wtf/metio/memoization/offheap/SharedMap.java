@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link ConcurrentMap} that shares its entries with other processes through a memory-mapped file.
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ * @see OffHeapMaps#shared(java.nio.file.Path, Serializer, Serializer)
+ */
+public interface SharedMap<KEY, VALUE> extends ConcurrentMap<KEY, VALUE>, AutoCloseable {
+
+    /**
+     * Releases the file of this map once all running operations of this map finished. Later operations fail with an
+     * {@link IllegalStateException}. The garbage collector unmaps the file once the map is no longer reachable. The
+     * entries stay in the file, thus other maps of the same file keep working.
+     */
+    @Override
+    void close();
+
+}
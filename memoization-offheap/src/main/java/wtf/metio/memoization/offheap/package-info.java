@@ -0,0 +1,8 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+/**
+ * Off-heap cache implementation.
+ */
+package wtf.metio.memoization.offheap;
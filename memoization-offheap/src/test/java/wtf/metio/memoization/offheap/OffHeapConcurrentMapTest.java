@@ -0,0 +1,358 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+class OffHeapConcurrentMapTest {
+
+    @Test
+    void shouldStoreAndLoadValues() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+
+        // when
+        map.put("key", "value");
+
+        // then
+        Assertions.assertEquals("value", map.get("key"));
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertTrue(map.containsKey("key"));
+    }
+
+    @Test
+    void shouldReturnNullForMissingKeys() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+
+        // when
+        final String value = map.get("missing");
+
+        // then
+        Assertions.assertNull(value);
+    }
+
+    @Test
+    void shouldReturnNullForKeysOfOtherTypes() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+        map.put("1", "value");
+
+        // when
+        final Object value = ((Map<?, ?>) map).get(1);
+
+        // then
+        Assertions.assertNull(value);
+    }
+
+    @Test
+    void shouldReplaceValues() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+        map.put("key", "first");
+
+        // when
+        final String previous = map.put("key", "second");
+
+        // then
+        Assertions.assertEquals("first", previous);
+        Assertions.assertEquals("second", map.get("key"));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldKeepExistingValuesOnPutIfAbsent() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+        map.put("key", "first");
+
+        // when
+        final String existing = map.putIfAbsent("key", "second");
+
+        // then
+        Assertions.assertEquals("first", existing);
+        Assertions.assertEquals("first", map.get("key"));
+    }
+
+    @Test
+    void shouldComputeAbsentValues() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+
+        // when
+        final String value = map.computeIfAbsent("key", String::toUpperCase);
+
+        // then
+        Assertions.assertEquals("KEY", value);
+        Assertions.assertEquals("KEY", map.get("key"));
+    }
+
+    @Test
+    void shouldComputeValuesRecursively() {
+        // given
+        final ConcurrentMap<Integer, Long> map = OffHeapMaps.create(Serializers.integers(), Serializers.longs());
+        final Function<Integer, Long> sum = new Function<>() {
+            @Override
+            public Long apply(final Integer n) {
+                return map.computeIfAbsent(n, key -> key == 0 ? 0L : key + apply(key - 1));
+            }
+        };
+
+        // when
+        final Long value = sum.apply(100);
+
+        // then
+        Assertions.assertEquals(5050L, value);
+        Assertions.assertEquals(101, map.size());
+    }
+
+    @Test
+    void shouldNotBlockOtherKeysWhileComputing() throws Exception {
+        // given
+        final ConcurrentMap<Integer, Integer> map = OffHeapMaps.create(Serializers.integers(), Serializers.integers());
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> slow = executor.submit(() -> map.computeIfAbsent(1, key -> {
+                computing.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return key;
+            }));
+            computing.await();
+
+            // when
+            for (int key = 2; key < 100; key++) {
+                map.put(key, key);
+            }
+            final int size = map.size();
+            release.countDown();
+
+            // then
+            Assertions.assertEquals(98, size);
+            Assertions.assertEquals(1, slow.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldKeepStoredValueOfConcurrentComputation() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+
+        // when
+        final String value = map.computeIfAbsent("key", key -> {
+            map.put(key, "stored");
+            return "computed";
+        });
+
+        // then
+        Assertions.assertEquals("stored", value);
+        Assertions.assertEquals("stored", map.get("key"));
+    }
+
+    @Test
+    void shouldReplaceOnlyMatchingValues() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+        map.put("key", "first");
+
+        // when
+        final boolean mismatch = map.replace("key", "other", "second");
+        final boolean match = map.replace("key", "first", "third");
+
+        // then
+        Assertions.assertFalse(mismatch);
+        Assertions.assertTrue(match);
+        Assertions.assertEquals("third", map.get("key"));
+    }
+
+    @Test
+    void shouldNotReplaceMissingKeys() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+
+        // when
+        final String previous = map.replace("key", "value");
+
+        // then
+        Assertions.assertNull(previous);
+        Assertions.assertFalse(map.containsKey("key"));
+    }
+
+    @Test
+    void shouldRemoveValues() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+        map.put("key", "value");
+
+        // when
+        final String removed = map.remove("key");
+
+        // then
+        Assertions.assertEquals("value", removed);
+        Assertions.assertNull(map.get("key"));
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldRemoveOnlyMatchingValues() {
+        // given
+        final ConcurrentMap<String, String> map = OffHeapMaps.create(Serializers.strings(), Serializers.strings());
+        map.put("key", "value");
+
+        // when
+        final boolean mismatch = map.remove("key", "other");
+        final boolean match = map.remove("key", "value");
+
+        // then
+        Assertions.assertFalse(mismatch);
+        Assertions.assertTrue(match);
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldMatchHashMapUnderRandomOperations() {
+        // given
+        final ConcurrentMap<Integer, Long> map = OffHeapMaps.create(Serializers.integers(), Serializers.longs());
+        final Map<Integer, Long> expected = new HashMap<>();
+        final Random random = new Random(42L);
+
+        // when
+        for (int operation = 0; operation < 200_000; operation++) {
+            final int key = random.nextInt(5_000);
+            final long value = random.nextLong();
+            switch (random.nextInt(4)) {
+                case 0 -> Assertions.assertEquals(expected.put(key, value), map.put(key, value));
+                case 1 -> Assertions.assertEquals(expected.putIfAbsent(key, value), map.putIfAbsent(key, value));
+                case 2 -> Assertions.assertEquals(expected.remove(key), map.remove(key));
+                default -> Assertions.assertEquals(expected.get(key), map.get(key));
+            }
+        }
+
+        // then
+        Assertions.assertEquals(expected.size(), map.size());
+        Assertions.assertEquals(expected, new HashMap<>(map));
+    }
+
+    @Test
+    void shouldIterateOverEntries() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = OffHeapMaps.create(Serializers.integers(), Serializers.integers());
+        for (int key = 0; key < 100; key++) {
+            map.put(key, key * 2);
+        }
+
+        // when
+        final Map<Integer, Integer> copy = new HashMap<>(map);
+
+        // then
+        Assertions.assertEquals(100, copy.size());
+        copy.forEach((key, value) -> Assertions.assertEquals(key * 2, value));
+    }
+
+    @Test
+    void shouldRemoveEntriesWhileIterating() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = OffHeapMaps.create(Serializers.integers(), Serializers.integers());
+        for (int key = 0; key < 100; key++) {
+            map.put(key, key);
+        }
+
+        // when
+        final Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        Assertions.assertEquals(50, map.size());
+        Assertions.assertFalse(map.containsKey(42));
+        Assertions.assertTrue(map.containsKey(43));
+    }
+
+    @Test
+    void shouldClearAllEntries() {
+        // given
+        final ConcurrentMap<Integer, Integer> map = OffHeapMaps.create(Serializers.integers(), Serializers.integers());
+        for (int key = 0; key < 100; key++) {
+            map.put(key, key);
+        }
+
+        // when
+        map.clear();
+
+        // then
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertNull(map.get(42));
+    }
+
+    @Test
+    void shouldStoreLargeValues() {
+        // given
+        final ConcurrentMap<Integer, String> map = OffHeapMaps.create(Serializers.integers(), Serializers.strings());
+        final String large = "x".repeat(100_000);
+
+        // when
+        for (int key = 0; key < 100; key++) {
+            map.put(key, large);
+        }
+
+        // then
+        Assertions.assertEquals(large, map.get(99));
+        Assertions.assertEquals(100, map.size());
+    }
+
+    @Test
+    void shouldSupportConcurrentWriters() throws Exception {
+        // given
+        final ConcurrentMap<Integer, Integer> map = OffHeapMaps.create(Serializers.integers(), Serializers.integers());
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int thread = 0; thread < 8; thread++) {
+            final int offset = thread * 10_000;
+            futures.add(executor.submit(() -> {
+                for (int key = offset; key < offset + 10_000; key++) {
+                    map.put(key, key);
+                    Assertions.assertEquals(key, map.get(key));
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        Assertions.assertEquals(80_000, map.size());
+    }
+
+}
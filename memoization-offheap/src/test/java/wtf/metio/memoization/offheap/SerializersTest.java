@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+class SerializersTest {
+
+    @Test
+    void shouldSerializeStrings() {
+        // given
+        final Serializer<String> serializer = Serializers.strings();
+
+        // when
+        final String value = roundTrip(serializer, "häßlich");
+
+        // then
+        Assertions.assertEquals("häßlich", value);
+    }
+
+    @Test
+    void shouldSerializeIntegers() {
+        // given
+        final Serializer<Integer> serializer = Serializers.integers();
+
+        // when
+        final Integer value = roundTrip(serializer, -123);
+
+        // then
+        Assertions.assertEquals(-123, value);
+    }
+
+    @Test
+    void shouldSerializeLongs() {
+        // given
+        final Serializer<Long> serializer = Serializers.longs();
+
+        // when
+        final Long value = roundTrip(serializer, Long.MIN_VALUE);
+
+        // then
+        Assertions.assertEquals(Long.MIN_VALUE, value);
+    }
+
+    @Test
+    void shouldSerializeDoubles() {
+        // given
+        final Serializer<Double> serializer = Serializers.doubles();
+
+        // when
+        final Double value = roundTrip(serializer, Math.PI);
+
+        // then
+        Assertions.assertEquals(Math.PI, value);
+    }
+
+    @Test
+    void shouldSerializeAllNaNsEqually() {
+        // given
+        final Serializer<Double> serializer = Serializers.doubles();
+
+        // when
+        final byte[] canonical = serializer.serialize(Double.NaN);
+        final byte[] other = serializer.serialize(Double.longBitsToDouble(0x7ff8000000000001L));
+
+        // then
+        Assertions.assertArrayEquals(canonical, other);
+    }
+
+    @Test
+    void shouldSerializeSerializableObjects() {
+        // given
+        final Serializer<List<String>> serializer = Serializers.java();
+
+        // when
+        final List<String> value = roundTrip(serializer, List.of("first", "second"));
+
+        // then
+        Assertions.assertEquals(List.of("first", "second"), value);
+    }
+
+    @Test
+    void shouldRejectNonSerializableObjects() {
+        // given
+        final Serializer<Object> serializer = Serializers.java();
+
+        // when
+        // then
+        Assertions.assertThrows(UncheckedIOException.class, () -> serializer.serialize(new Object()));
+    }
+
+    private static <TYPE> TYPE roundTrip(final Serializer<TYPE> serializer, final TYPE value) {
+        return serializer.deserialize(ByteBuffer.wrap(serializer.serialize(value)).asReadOnlyBuffer());
+    }
+
+}
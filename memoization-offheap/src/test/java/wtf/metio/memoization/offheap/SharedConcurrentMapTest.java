@@ -0,0 +1,435 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.offheap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SharedConcurrentMapTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<SharedMap<?, ?>> maps = new ArrayList<>();
+
+    @AfterEach
+    void closeMaps() {
+        maps.forEach(SharedMap::close);
+    }
+
+    @Test
+    void shouldStoreAndLoadValues() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+
+        // when
+        map.put("key", "value");
+
+        // then
+        Assertions.assertEquals("value", map.get("key"));
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertTrue(map.containsKey("key"));
+        Assertions.assertNull(map.get("missing"));
+    }
+
+    @Test
+    void shouldShareEntriesThroughFile() throws IOException {
+        // given
+        final ConcurrentMap<String, String> first = shared(16);
+        final ConcurrentMap<String, String> second = shared(16);
+
+        // when
+        first.put("key", "value");
+
+        // then
+        Assertions.assertEquals("value", second.get("key"));
+        Assertions.assertEquals(1, second.size());
+    }
+
+    @Test
+    void shouldKeepEntriesAfterReopening() throws IOException {
+        // given
+        shared(16).put("key", "value");
+
+        // when
+        final ConcurrentMap<String, String> reopened = shared(16);
+
+        // then
+        Assertions.assertEquals("value", reopened.get("key"));
+    }
+
+    @Test
+    void shouldRejectFileOfOtherCapacity() throws IOException {
+        // given
+        shared(16);
+
+        // when
+        // then
+        Assertions.assertThrows(IOException.class, () -> shared(1024));
+    }
+
+    @Test
+    void shouldNotOverwriteOnPutIfAbsent() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        map.put("key", "first");
+
+        // when
+        final String previous = map.putIfAbsent("key", "second");
+
+        // then
+        Assertions.assertEquals("first", previous);
+        Assertions.assertEquals("first", map.get("key"));
+    }
+
+    @Test
+    void shouldReplaceValues() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        map.put("key", "first");
+
+        // when
+        final String previous = map.put("key", "second");
+        final boolean replaced = map.replace("key", "second", "third");
+        final boolean ignored = map.replace("key", "second", "fourth");
+
+        // then
+        Assertions.assertEquals("first", previous);
+        Assertions.assertTrue(replaced);
+        Assertions.assertFalse(ignored);
+        Assertions.assertEquals("third", map.get("key"));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldRemoveEntries() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        map.put("first", "value");
+        map.put("second", "value");
+
+        // when
+        final String removed = map.remove("first");
+        final boolean ignored = map.remove("second", "other");
+
+        // then
+        Assertions.assertEquals("value", removed);
+        Assertions.assertFalse(ignored);
+        Assertions.assertNull(map.get("first"));
+        Assertions.assertEquals(Map.of("second", "value"), Map.copyOf(map));
+    }
+
+    @Test
+    void shouldStoreKeyAgainAfterRemoval() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        map.put("key", "first");
+        map.remove("key");
+
+        // when
+        map.putIfAbsent("key", "second");
+
+        // then
+        Assertions.assertEquals("second", map.get("key"));
+    }
+
+    @Test
+    void shouldClearEntries() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        map.put("first", "value");
+        map.put("second", "value");
+
+        // when
+        map.clear();
+
+        // then
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertNull(map.get("first"));
+    }
+
+    @Test
+    void shouldComputeAbsentValuesOnce() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final String first = map.computeIfAbsent("key", key -> key + calls.incrementAndGet());
+        final String second = map.computeIfAbsent("key", key -> key + calls.incrementAndGet());
+
+        // then
+        Assertions.assertEquals("key1", first);
+        Assertions.assertEquals("key1", second);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldComputeAbsentValuesOnceForConcurrentCallers() throws Exception {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            final Future<String> first = executor.submit(() -> map.computeIfAbsent("key", key -> {
+                computing.countDown();
+                awaitUninterruptibly(release);
+                return key + calls.incrementAndGet();
+            }));
+            computing.await(10, TimeUnit.SECONDS);
+            final Future<String> second = executor.submit(() -> map.computeIfAbsent("key",
+                    key -> key + calls.incrementAndGet()));
+            release.countDown();
+
+            // then
+            Assertions.assertEquals("key1", first.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals("key1", second.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldWriteOtherKeysWhileComputing() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(256);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        try {
+            final String value = map.computeIfAbsent("key", key -> {
+                // writes of other keys share lock stripes with this key, thus they block while the lock is held
+                final Future<?> writes = executor.submit(() -> {
+                    for (int other = 0; other < 128; other++) {
+                        map.put("other" + other, "value");
+                    }
+                });
+                try {
+                    writes.get(10, TimeUnit.SECONDS);
+                } catch (final Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+                return "computed";
+            });
+
+            // then
+            Assertions.assertEquals("computed", value);
+            Assertions.assertEquals(129, map.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReturnOversizedValuesWithoutStoringThem() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(16);
+        final String large = "x".repeat(1024);
+
+        // when
+        final String value = map.computeIfAbsent("key", key -> large);
+
+        // then
+        Assertions.assertEquals(large, value);
+        Assertions.assertNull(map.get("key"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.put("key", large));
+    }
+
+    @Test
+    void shouldRejectEntriesOnceFull() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(2);
+
+        // when
+        map.put("first", "value");
+        map.put("second", "value");
+
+        // then
+        Assertions.assertThrows(IllegalStateException.class, () -> map.put("other", "value"));
+        Assertions.assertEquals("computed", map.computeIfAbsent("other", key -> "computed"));
+        Assertions.assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldReuseSlotsOfRemovedEntries() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(4);
+
+        // when
+        for (int round = 0; round < 1_000; round++) {
+            map.put("key" + round, "value");
+            map.put("key" + round, "replaced");
+            map.remove("key" + round);
+        }
+
+        // then
+        Assertions.assertTrue(map.isEmpty());
+        map.put("key", "value");
+        Assertions.assertEquals("value", map.get("key"));
+    }
+
+    @Test
+    void shouldReuseSlotsAfterClear() throws IOException {
+        // given
+        final ConcurrentMap<String, String> map = shared(4);
+
+        // when
+        for (int round = 0; round < 1_000; round++) {
+            for (int key = 0; key < 4; key++) {
+                map.put("key" + round + "-" + key, "value");
+            }
+            map.clear();
+        }
+
+        // then
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertEquals(List.of(), List.copyOf(map.keySet()));
+    }
+
+    @Test
+    void shouldReadConsistentValuesWhileSlotsAreReused() throws Exception {
+        // given
+        final ConcurrentMap<String, String> writer = shared(4);
+        final ConcurrentMap<String, String> reader = shared(4);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            final Future<?> writes = executor.submit(() -> {
+                for (int round = 0; round < 20_000; round++) {
+                    writer.put("key", "x".repeat(round % 40));
+                    writer.remove("other");
+                    writer.put("other", "y".repeat(round % 40));
+                }
+            });
+            final Future<?> reads = executor.submit(() -> {
+                while (!writes.isDone()) {
+                    final String key = reader.get("key");
+                    final String other = reader.get("other");
+                    // then
+                    Assertions.assertTrue(key == null || key.chars().allMatch(character -> character == 'x'));
+                    Assertions.assertTrue(other == null || other.chars().allMatch(character -> character == 'y'));
+                }
+            });
+            writes.get(30, TimeUnit.SECONDS);
+            reads.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectUseAfterClose() throws IOException {
+        // given
+        final SharedMap<String, String> first = shared(16);
+        final SharedMap<String, String> second = shared(16);
+        first.put("key", "value");
+
+        // when
+        first.close();
+
+        // then
+        Assertions.assertThrows(IllegalStateException.class, () -> first.get("key"));
+        Assertions.assertEquals("value", second.get("key"));
+    }
+
+    @Test
+    void shouldRejectUnfilteredJavaSerialization() {
+        // given
+        final Path file = directory.resolve("java.map");
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> OffHeapMaps.shared(file, Serializers.strings(), Serializers.java()));
+    }
+
+    @Test
+    void shouldApplyFilterOfJavaSerialization() throws IOException {
+        // given
+        final ObjectInputFilter filter = ObjectInputFilter.Config.createFilter("java.lang.Integer;java.lang.Number;!*");
+        final SharedMap<String, Object> map = OffHeapMaps.shared(directory.resolve("java.map"),
+                Serializers.strings(), Serializers.java(filter));
+        maps.add(map);
+
+        // when
+        map.put("allowed", 123);
+        map.put("rejected", new ArrayList<>(List.of(1)));
+
+        // then
+        Assertions.assertEquals(123, map.get("allowed"));
+        Assertions.assertThrows(UncheckedIOException.class, () -> map.get("rejected"));
+    }
+
+    @Test
+    void shouldStoreEachKeyOnceForConcurrentWriters() throws Exception {
+        // given
+        final ConcurrentMap<String, String> first = shared(1024);
+        final ConcurrentMap<String, String> second = shared(1024);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int thread = 0; thread < 4; thread++) {
+                final ConcurrentMap<String, String> map = thread % 2 == 0 ? first : second;
+                final String prefix = "thread" + thread;
+                futures.add(executor.submit(() -> {
+                    for (int key = 0; key < 500; key++) {
+                        map.putIfAbsent("key" + key, prefix);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        Assertions.assertEquals(500, first.size());
+        Assertions.assertEquals(500, Map.copyOf(first).size());
+        Assertions.assertEquals(Map.copyOf(first), Map.copyOf(second));
+    }
+
+    private SharedMap<String, String> shared(final int capacity) throws IOException {
+        final SharedMap<String, String> map = OffHeapMaps.shared(directory.resolve("shared.map"), capacity, 64,
+                Serializers.strings(), Serializers.strings());
+        maps.add(map);
+        return map;
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
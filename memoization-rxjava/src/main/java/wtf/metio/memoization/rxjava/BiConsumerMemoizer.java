@@ -26,7 +26,7 @@ final class BiConsumerMemoizer<FIRST, SECOND, KEY>
             final BiConsumer<FIRST, SECOND> biConsumer) {
         super(cache);
         this.keyFunction = requireNonNull(keyFunction,
-                "Provide a key function, might just be 'MemoizationDefaults::hashCodes'.");
+                "Provide a key function, might just be 'MemoizationDefaults::compositeKey'.");
         this.biConsumer = requireNonNull(biConsumer,
                 "Cannot memoize a NULL BiConsumer - provide an actual BiConsumer to fix this.");
     }
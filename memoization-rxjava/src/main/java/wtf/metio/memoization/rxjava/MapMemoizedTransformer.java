@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.rxjava;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.functions.Function;
+import org.reactivestreams.Publisher;
+
+import static java.util.Objects.requireNonNull;
+
+final class MapMemoizedTransformer<INPUT, OUTPUT> implements FlowableTransformer<INPUT, OUTPUT> {
+
+    private final Function<INPUT, Single<OUTPUT>> memoized;
+    private final int maxConcurrency;
+
+    MapMemoizedTransformer(final Function<INPUT, Single<OUTPUT>> memoized, final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Cannot map with a non-positive concurrency - use at least 1.");
+        }
+        this.memoized = requireNonNull(memoized, "Provide a memoized function.");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public Publisher<OUTPUT> apply(final Flowable<INPUT> upstream) {
+        // each inner source emits exactly one value, thus prefetching more than that is pointless
+        return upstream.concatMapEager(input -> memoized.apply(input).toFlowable(), maxConcurrency, 1);
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.rxjava;
+
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.functions.Function;
+import wtf.metio.memoization.core.AbstractMemoizer;
+import wtf.metio.memoization.core.WrappedThrowable;
+
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+final class MaybeFunctionMemoizer<INPUT, KEY, OUTPUT>
+        extends AbstractMemoizer<KEY, Maybe<OUTPUT>>
+        implements Function<INPUT, Maybe<OUTPUT>> {
+
+    private final Function<INPUT, KEY> keyFunction;
+    private final Function<INPUT, Maybe<OUTPUT>> function;
+
+    MaybeFunctionMemoizer(
+            final ConcurrentMap<KEY, Maybe<OUTPUT>> cache,
+            final Function<INPUT, KEY> keyFunction,
+            final Function<INPUT, Maybe<OUTPUT>> function) {
+        super(cache);
+        this.keyFunction = requireNonNull(keyFunction, "Provide a key function.");
+        this.function = requireNonNull(function,
+                "Cannot memoize a NULL Function - provide an actual Function to fix this.");
+    }
+
+    @Override
+    public Maybe<OUTPUT> apply(final INPUT input) throws Throwable {
+        final KEY key = keyFunction.apply(input);
+        final Maybe<OUTPUT> cached;
+        try {
+            // the cached source subscribes upstream once and replays its result to every subscriber
+            cached = computeIfAbsent(key, ignored -> {
+                try {
+                    return requireNonNull(function.apply(input), "The memoized Function returned NULL.").cache();
+                } catch (final Throwable exception) {
+                    throw new WrappedThrowable(exception);
+                }
+            });
+        } catch (final WrappedThrowable exception) {
+            throw exception.wrappedThrowable();
+        }
+        return cached.doOnError(error -> invalidate(key, cached));
+    }
+
+}
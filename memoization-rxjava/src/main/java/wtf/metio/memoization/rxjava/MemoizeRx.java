@@ -6,14 +6,23 @@
 package wtf.metio.memoization.rxjava;
 
 import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.*;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import wtf.metio.memoization.core.CompositeKey;
 import wtf.metio.memoization.core.MemoizationDefaults;
 
 import java.util.Map;
 import java.util.function.LongFunction;
 
-import static java.util.Collections.emptyMap;
 import static wtf.metio.memoization.core.ConcurrentMaps.asConcurrentMap;
+import static wtf.metio.memoization.core.ConcurrentMaps.bounded;
+import static wtf.metio.memoization.core.ConcurrentMaps.defaultCache;
 
 /**
  * <p>
@@ -23,7 +32,9 @@ import static wtf.metio.memoization.core.ConcurrentMaps.asConcurrentMap;
  * <strong>Default cache</strong>
  * <p>
  * The memoizer uses the default cache of this factory. Current implementation creates a new
- * {@link java.util.concurrent.ConcurrentMap} per memoizer.
+ * {@link java.util.concurrent.ConcurrentMap} per memoizer that computes values outside any lock, thus memoized
+ * functions may block without pinning the carrier thread of a virtual thread, see
+ * {@link wtf.metio.memoization.core.ConcurrentMaps#defaultCache()}.
  * </p>
  * <strong>Default cache key</strong>
  * <p>
@@ -42,6 +53,12 @@ import static wtf.metio.memoization.core.ConcurrentMaps.asConcurrentMap;
  * The memoizer uses a user-defined function or {@link Supplier} to calculate the cache key for each call.
  * Take a look at {@link MemoizationDefaults} for a possible key functions and suppliers.
  * </p>
+ * <strong>Bounded cache</strong>
+ * <p>
+ * The memoizer uses a new {@link java.util.concurrent.ConcurrentMap} that holds at most the given number of entries
+ * and evicts the entries that were used least frequently recently once full. Take a look at
+ * {@link wtf.metio.memoization.core.ConcurrentMaps#bounded(long)} to create such a map for use as a custom cache.
+ * </p>
  *
  * @see Action
  * @see BiConsumer
@@ -50,6 +67,7 @@ import static wtf.metio.memoization.core.ConcurrentMaps.asConcurrentMap;
  * @see BooleanSupplier
  * @see Cancellable
  * @see Consumer
+ * @see Flowable
  * @see Function3
  * @see Function4
  * @see Function5
@@ -60,7 +78,11 @@ import static wtf.metio.memoization.core.ConcurrentMaps.asConcurrentMap;
  * @see Function
  * @see IntFunction
  * @see LongConsumer
+ * @see Maybe
+ * @see Observable
  * @see Predicate
+ * @see Scheduler
+ * @see Single
  * @see Supplier
  * @see <a href="https://en.wikipedia.org/wiki/Memoization">Wikipedia: Memoization</a>
  */
@@ -85,7 +107,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static Action action(final Action action) {
-        return action(action, emptyMap());
+        return action(action, defaultCache());
     }
 
     /**
@@ -128,7 +150,7 @@ public final class MemoizeRx {
     public static <KEY> Action action(
             final Action action,
             final Supplier<KEY> keySupplier) {
-        return action(action, keySupplier, emptyMap());
+        return action(action, keySupplier, defaultCache());
     }
 
     /**
@@ -170,7 +192,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static Cancellable cancellable(final Cancellable cancellable) {
-        return cancellable(cancellable, emptyMap());
+        return cancellable(cancellable, defaultCache());
     }
 
     /**
@@ -213,7 +235,7 @@ public final class MemoizeRx {
     public static <KEY> Cancellable cancellable(
             final Cancellable cancellable,
             final Supplier<KEY> keySupplier) {
-        return cancellable(cancellable, keySupplier, emptyMap());
+        return cancellable(cancellable, keySupplier, defaultCache());
     }
 
     /**
@@ -255,7 +277,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static LongConsumer longConsumer(final LongConsumer consumer) {
-        return longConsumer(consumer, emptyMap());
+        return longConsumer(consumer, defaultCache());
     }
 
     /**
@@ -277,7 +299,7 @@ public final class MemoizeRx {
     public static <KEY> LongConsumer longConsumer(
             final LongConsumer consumer,
             final LongFunction<KEY> keyFunction) {
-        return longConsumer(consumer, keyFunction, emptyMap());
+        return longConsumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -301,6 +323,27 @@ public final class MemoizeRx {
         return longConsumer(consumer, Long::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link LongConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param consumer    The {@link LongConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link LongConsumer}.
+     */
+    @CheckReturnValue
+    public static LongConsumer longConsumer(
+            final LongConsumer consumer,
+            final long maximumSize) {
+        return longConsumer(consumer, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link LongConsumer} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -340,7 +383,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static BooleanSupplier booleanSupplier(final BooleanSupplier supplier) {
-        return booleanSupplier(supplier, emptyMap());
+        return booleanSupplier(supplier, defaultCache());
     }
 
     /**
@@ -383,7 +426,7 @@ public final class MemoizeRx {
     public static <KEY> BooleanSupplier booleanSupplier(
             final BooleanSupplier supplier,
             final Supplier<KEY> keySupplier) {
-        return booleanSupplier(supplier, keySupplier, emptyMap());
+        return booleanSupplier(supplier, keySupplier, defaultCache());
     }
 
     /**
@@ -427,7 +470,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static <INPUT, OUTPUT> Function<INPUT, OUTPUT> function(final Function<INPUT, OUTPUT> function) {
-        return function(function, emptyMap());
+        return function(function, defaultCache());
     }
 
     /**
@@ -451,7 +494,7 @@ public final class MemoizeRx {
     public static <INPUT, KEY, OUTPUT> Function<INPUT, OUTPUT> function(
             final Function<INPUT, OUTPUT> function,
             final Function<INPUT, KEY> keyFunction) {
-        return function(function, keyFunction, emptyMap());
+        return function(function, keyFunction, defaultCache());
     }
 
     /**
@@ -477,6 +520,29 @@ public final class MemoizeRx {
         return function(function, input -> input, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link Function} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, OUTPUT> function(
+            final Function<INPUT, OUTPUT> function,
+            final long maximumSize) {
+        return function(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link Function} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -523,7 +589,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, OUTPUT> Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function3(
             final Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function) {
-        return function3(function, emptyMap());
+        return function3(function, defaultCache());
     }
 
     /**
@@ -547,8 +613,33 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, OUTPUT> Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function3(
             final Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function,
-            final Map<Integer, OUTPUT> cache) {
-        return function3(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return function3(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function3} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <TYPE1>     The type of the first parameter.
+     * @param <TYPE2>     The type of the second parameter.
+     * @param <TYPE3>     The type of the third parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function3} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function3}.
+     */
+    @CheckReturnValue
+    public static <TYPE1, TYPE2, TYPE3, OUTPUT> Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function3(
+            final Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function,
+            final long maximumSize) {
+        return function3(function, bounded(maximumSize));
     }
 
     /**
@@ -574,7 +665,7 @@ public final class MemoizeRx {
     public static <KEY, TYPE1, TYPE2, TYPE3, OUTPUT> Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function3(
             final Function3<TYPE1, TYPE2, TYPE3, OUTPUT> function,
             final Function3<TYPE1, TYPE2, TYPE3, KEY> keyFunction) {
-        return function3(function, keyFunction, emptyMap());
+        return function3(function, keyFunction, defaultCache());
     }
 
     /**
@@ -626,7 +717,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function4(
             final Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function) {
-        return function4(function, emptyMap());
+        return function4(function, defaultCache());
     }
 
     /**
@@ -651,8 +742,34 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function4(
             final Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function,
-            final Map<Integer, OUTPUT> cache) {
-        return function4(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return function4(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function4} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <TYPE1>     The type of the first parameter.
+     * @param <TYPE2>     The type of the second parameter.
+     * @param <TYPE3>     The type of the third parameter.
+     * @param <TYPE4>     The type of the forth parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function4} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function4}.
+     */
+    @CheckReturnValue
+    public static <TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function4(
+            final Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function,
+            final long maximumSize) {
+        return function4(function, bounded(maximumSize));
     }
 
     /**
@@ -679,7 +796,7 @@ public final class MemoizeRx {
     public static <KEY, TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function4(
             final Function4<TYPE1, TYPE2, TYPE3, TYPE4, OUTPUT> function,
             final Function4<TYPE1, TYPE2, TYPE3, TYPE4, KEY> keyFunction) {
-        return function4(function, keyFunction, emptyMap());
+        return function4(function, keyFunction, defaultCache());
     }
 
     /**
@@ -733,7 +850,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function5(
             final Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function) {
-        return function5(function, emptyMap());
+        return function5(function, defaultCache());
     }
 
     /**
@@ -759,8 +876,35 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function5(
             final Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function,
-            final Map<Integer, OUTPUT> cache) {
-        return function5(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return function5(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function5} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <TYPE1>     The type of the first parameter.
+     * @param <TYPE2>     The type of the second parameter.
+     * @param <TYPE3>     The type of the third parameter.
+     * @param <TYPE4>     The type of the forth parameter.
+     * @param <TYPE5>     The type of the fifth parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function5} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function5}.
+     */
+    @CheckReturnValue
+    public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function5(
+            final Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function,
+            final long maximumSize) {
+        return function5(function, bounded(maximumSize));
     }
 
     /**
@@ -788,7 +932,7 @@ public final class MemoizeRx {
     public static <KEY, TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function5(
             final Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, OUTPUT> function,
             final Function5<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, KEY> keyFunction) {
-        return function5(function, keyFunction, emptyMap());
+        return function5(function, keyFunction, defaultCache());
     }
 
     /**
@@ -844,7 +988,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function6(
             final Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function) {
-        return function6(function, emptyMap());
+        return function6(function, defaultCache());
     }
 
     /**
@@ -871,8 +1015,36 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function6(
             final Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function,
-            final Map<Integer, OUTPUT> cache) {
-        return function6(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return function6(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function6} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <TYPE1>     The type of the first parameter.
+     * @param <TYPE2>     The type of the second parameter.
+     * @param <TYPE3>     The type of the third parameter.
+     * @param <TYPE4>     The type of the forth parameter.
+     * @param <TYPE5>     The type of the fifth parameter.
+     * @param <TYPE6>     The type of the sixth parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function6} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function6}.
+     */
+    @CheckReturnValue
+    public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function6(
+            final Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function,
+            final long maximumSize) {
+        return function6(function, bounded(maximumSize));
     }
 
     /**
@@ -901,7 +1073,7 @@ public final class MemoizeRx {
     public static <KEY, TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function6(
             final Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, OUTPUT> function,
             final Function6<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, KEY> keyFunction) {
-        return function6(function, keyFunction, emptyMap());
+        return function6(function, keyFunction, defaultCache());
     }
 
     /**
@@ -959,7 +1131,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function7(
             final Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function) {
-        return function7(function, emptyMap());
+        return function7(function, defaultCache());
     }
 
     /**
@@ -987,8 +1159,37 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function7(
             final Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function,
-            final Map<Integer, OUTPUT> cache) {
-        return function7(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return function7(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function7} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <TYPE1>     The type of the first parameter.
+     * @param <TYPE2>     The type of the second parameter.
+     * @param <TYPE3>     The type of the third parameter.
+     * @param <TYPE4>     The type of the forth parameter.
+     * @param <TYPE5>     The type of the fifth parameter.
+     * @param <TYPE6>     The type of the sixth parameter.
+     * @param <TYPE7>     The type of the seventh parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function7} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function7}.
+     */
+    @CheckReturnValue
+    public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function7(
+            final Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function,
+            final long maximumSize) {
+        return function7(function, bounded(maximumSize));
     }
 
     /**
@@ -1018,7 +1219,7 @@ public final class MemoizeRx {
     public static <KEY, TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function7(
             final Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, OUTPUT> function,
             final Function7<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, KEY> keyFunction) {
-        return function7(function, keyFunction, emptyMap());
+        return function7(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1078,7 +1279,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function8(
             final Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function) {
-        return function8(function, emptyMap());
+        return function8(function, defaultCache());
     }
 
     /**
@@ -1107,8 +1308,38 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function8(
             final Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function,
-            final Map<Integer, OUTPUT> cache) {
-        return function8(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return function8(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function8} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <TYPE1>     The type of the first parameter.
+     * @param <TYPE2>     The type of the second parameter.
+     * @param <TYPE3>     The type of the third parameter.
+     * @param <TYPE4>     The type of the forth parameter.
+     * @param <TYPE5>     The type of the fifth parameter.
+     * @param <TYPE6>     The type of the sixth parameter.
+     * @param <TYPE7>     The type of the seventh parameter.
+     * @param <TYPE8>     The type of the eight parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function8} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function8}.
+     */
+    @CheckReturnValue
+    public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function8(
+            final Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function,
+            final long maximumSize) {
+        return function8(function, bounded(maximumSize));
     }
 
     /**
@@ -1139,7 +1370,7 @@ public final class MemoizeRx {
     public static <KEY, TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function8(
             final Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, OUTPUT> function,
             final Function8<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, KEY> keyFunction) {
-        return function8(function, keyFunction, emptyMap());
+        return function8(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1201,7 +1432,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function9(
             final Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function) {
-        return function9(function, emptyMap());
+        return function9(function, defaultCache());
     }
 
     /**
@@ -1231,8 +1462,39 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function9(
             final Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function,
-            final Map<Integer, OUTPUT> cache) {
-        return function9(function, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return function9(function, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function9} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <TYPE1>     The type of the first parameter.
+     * @param <TYPE2>     The type of the second parameter.
+     * @param <TYPE3>     The type of the third parameter.
+     * @param <TYPE4>     The type of the forth parameter.
+     * @param <TYPE5>     The type of the fifth parameter.
+     * @param <TYPE6>     The type of the sixth parameter.
+     * @param <TYPE7>     The type of the seventh parameter.
+     * @param <TYPE8>     The type of the eight parameter.
+     * @param <TYPE9>     The type of the ninth parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function9} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function9}.
+     */
+    @CheckReturnValue
+    public static <TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function9(
+            final Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function,
+            final long maximumSize) {
+        return function9(function, bounded(maximumSize));
     }
 
     /**
@@ -1264,7 +1526,7 @@ public final class MemoizeRx {
     public static <KEY, TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function9(
             final Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, OUTPUT> function,
             final Function9<TYPE1, TYPE2, TYPE3, TYPE4, TYPE5, TYPE6, TYPE7, TYPE8, TYPE9, KEY> keyFunction) {
-        return function9(function, keyFunction, emptyMap());
+        return function9(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1317,7 +1579,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static <OUTPUT> IntFunction<OUTPUT> intFunction(final IntFunction<OUTPUT> function) {
-        return intFunction(function, emptyMap());
+        return intFunction(function, defaultCache());
     }
 
     /**
@@ -1340,7 +1602,7 @@ public final class MemoizeRx {
     public static <KEY, OUTPUT> IntFunction<OUTPUT> intFunction(
             final IntFunction<OUTPUT> function,
             final IntFunction<KEY> keyFunction) {
-        return intFunction(function, keyFunction, emptyMap());
+        return intFunction(function, keyFunction, defaultCache());
     }
 
     /**
@@ -1365,6 +1627,28 @@ public final class MemoizeRx {
         return intFunction(function, Integer::valueOf, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link IntFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link IntFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link IntFunction}.
+     */
+    @CheckReturnValue
+    public static <OUTPUT> IntFunction<OUTPUT> intFunction(
+            final IntFunction<OUTPUT> function,
+            final long maximumSize) {
+        return intFunction(function, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link IntFunction} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1406,7 +1690,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static <INPUT> Predicate<INPUT> predicate(final Predicate<INPUT> predicate) {
-        return predicate(predicate, emptyMap());
+        return predicate(predicate, defaultCache());
     }
 
     /**
@@ -1429,7 +1713,7 @@ public final class MemoizeRx {
     public static <KEY, INPUT> Predicate<INPUT> predicate(
             final Predicate<INPUT> predicate,
             final Function<INPUT, KEY> keyFunction) {
-        return predicate(predicate, keyFunction, emptyMap());
+        return predicate(predicate, keyFunction, defaultCache());
     }
 
     /**
@@ -1479,6 +1763,28 @@ public final class MemoizeRx {
         return predicate(predicate, input -> input, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link Predicate} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param predicate   The {@link Predicate} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Predicate}.
+     */
+    @CheckReturnValue
+    public static <INPUT> Predicate<INPUT> predicate(
+            final Predicate<INPUT> predicate,
+            final long maximumSize) {
+        return predicate(predicate, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link Supplier} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1495,7 +1801,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static <OUTPUT> Supplier<OUTPUT> supplier(final Supplier<OUTPUT> supplier) {
-        return supplier(supplier, emptyMap());
+        return supplier(supplier, defaultCache());
     }
 
     /**
@@ -1540,7 +1846,7 @@ public final class MemoizeRx {
     public static <KEY, OUTPUT> Supplier<OUTPUT> supplier(
             final Supplier<OUTPUT> supplier,
             final Supplier<KEY> keySupplier) {
-        return supplier(supplier, keySupplier, emptyMap());
+        return supplier(supplier, keySupplier, defaultCache());
     }
 
     /**
@@ -1584,7 +1890,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static <INPUT> Consumer<INPUT> consumer(final Consumer<INPUT> consumer) {
-        return consumer(consumer, emptyMap());
+        return consumer(consumer, defaultCache());
     }
 
     /**
@@ -1607,7 +1913,7 @@ public final class MemoizeRx {
     public static <KEY, INPUT> Consumer<INPUT> consumer(
             final Consumer<INPUT> consumer,
             final Function<INPUT, KEY> keyFunction) {
-        return consumer(consumer, keyFunction, emptyMap());
+        return consumer(consumer, keyFunction, defaultCache());
     }
 
     /**
@@ -1632,6 +1938,28 @@ public final class MemoizeRx {
         return consumer(consumer, input -> input, cache);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link Consumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param consumer    The {@link Consumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Consumer}.
+     */
+    @CheckReturnValue
+    public static <INPUT> Consumer<INPUT> consumer(
+            final Consumer<INPUT> consumer,
+            final long maximumSize) {
+        return consumer(consumer, bounded(maximumSize));
+    }
+
     /**
      * <p>
      * Memoizes a {@link Consumer} in a {@link java.util.concurrent.ConcurrentMap}.
@@ -1674,7 +2002,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static <FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(final BiPredicate<FIRST, SECOND> predicate) {
-        return biPredicate(predicate, emptyMap());
+        return biPredicate(predicate, defaultCache());
     }
 
     /**
@@ -1698,7 +2026,7 @@ public final class MemoizeRx {
     public static <KEY, FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(
             final BiPredicate<FIRST, SECOND> predicate,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return biPredicate(predicate, keyFunction, emptyMap());
+        return biPredicate(predicate, keyFunction, defaultCache());
     }
 
     /**
@@ -1720,8 +2048,31 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(
             final BiPredicate<FIRST, SECOND> predicate,
-            final Map<Integer, Boolean> cache) {
-        return biPredicate(predicate, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, Boolean> cache) {
+        return biPredicate(predicate, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link BiPredicate} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param predicate   The {@link BiPredicate} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link BiPredicate}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND> BiPredicate<FIRST, SECOND> biPredicate(
+            final BiPredicate<FIRST, SECOND> predicate,
+            final long maximumSize) {
+        return biPredicate(predicate, bounded(maximumSize));
     }
 
     /**
@@ -1769,7 +2120,7 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
             final BiFunction<FIRST, SECOND, OUTPUT> biFunction) {
-        return biFunction(biFunction, emptyMap());
+        return biFunction(biFunction, defaultCache());
     }
 
     /**
@@ -1794,7 +2145,7 @@ public final class MemoizeRx {
     public static <KEY, FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
             final BiFunction<FIRST, SECOND, OUTPUT> biFunction,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return biFunction(biFunction, keyFunction, emptyMap());
+        return biFunction(biFunction, keyFunction, defaultCache());
     }
 
     /**
@@ -1817,8 +2168,32 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
             final BiFunction<FIRST, SECOND, OUTPUT> biFunction,
-            final Map<Integer, OUTPUT> cache) {
-        return biFunction(biFunction, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, OUTPUT> cache) {
+        return biFunction(biFunction, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link BiFunction} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param biFunction  The {@link BiFunction} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link BiFunction}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND, OUTPUT> BiFunction<FIRST, SECOND, OUTPUT> biFunction(
+            final BiFunction<FIRST, SECOND, OUTPUT> biFunction,
+            final long maximumSize) {
+        return biFunction(biFunction, bounded(maximumSize));
     }
 
     /**
@@ -1865,7 +2240,7 @@ public final class MemoizeRx {
      */
     @CheckReturnValue
     public static <FIRST, SECOND> BiConsumer<FIRST, SECOND> biConsumer(final BiConsumer<FIRST, SECOND> biConsumer) {
-        return biConsumer(biConsumer, emptyMap());
+        return biConsumer(biConsumer, defaultCache());
     }
 
     /**
@@ -1889,7 +2264,7 @@ public final class MemoizeRx {
     public static <FIRST, SECOND, KEY> BiConsumer<FIRST, SECOND> biConsumer(
             final BiConsumer<FIRST, SECOND> biConsumer,
             final BiFunction<FIRST, SECOND, KEY> keyFunction) {
-        return biConsumer(biConsumer, keyFunction, emptyMap());
+        return biConsumer(biConsumer, keyFunction, defaultCache());
     }
 
     /**
@@ -1911,8 +2286,31 @@ public final class MemoizeRx {
     @CheckReturnValue
     public static <FIRST, SECOND> BiConsumer<FIRST, SECOND> biConsumer(
             final BiConsumer<FIRST, SECOND> biConsumer,
-            final Map<Integer, Integer> cache) {
-        return biConsumer(biConsumer, MemoizationDefaults::hashCodes, cache);
+            final Map<CompositeKey, CompositeKey> cache) {
+        return biConsumer(biConsumer, MemoizationDefaults::compositeKey, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link BiConsumer} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <FIRST>     The type of the first parameter.
+     * @param <SECOND>    The type of the second parameter.
+     * @param biConsumer  The {@link BiConsumer} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link BiConsumer}.
+     */
+    @CheckReturnValue
+    public static <FIRST, SECOND> BiConsumer<FIRST, SECOND> biConsumer(
+            final BiConsumer<FIRST, SECOND> biConsumer,
+            final long maximumSize) {
+        return biConsumer(biConsumer, bounded(maximumSize));
     }
 
     /**
@@ -1941,4 +2339,652 @@ public final class MemoizeRx {
         return new BiConsumerMemoizer<>(asConcurrentMap(cache), keyFunction, biConsumer);
     }
 
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Single} in a {@link java.util.concurrent.ConcurrentMap}. Concurrent subscribers for the same input share one
+     * upstream subscription and every later subscriber receives the cached value. A {@link Single} that signals an error
+     * is removed from the cache, thus the next call for the same input subscribes upstream again.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the emitted values.
+     * @param function The {@link Function} to memoize.
+     * @return The wrapped {@link Function}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Single<OUTPUT>> singleFunction(
+            final Function<INPUT, Single<OUTPUT>> function) {
+        return singleFunction(function, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Single} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @return The wrapped {@link Function}.
+     * @see #singleFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Single<OUTPUT>> singleFunction(
+            final Function<INPUT, Single<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction) {
+        return singleFunction(function, keyFunction, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Single} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the emitted values.
+     * @param function The {@link Function} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #singleFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Single<OUTPUT>> singleFunction(
+            final Function<INPUT, Single<OUTPUT>> function,
+            final Map<INPUT, Single<OUTPUT>> cache) {
+        return singleFunction(function, input -> input, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Single} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function}.
+     * @see #singleFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Single<OUTPUT>> singleFunction(
+            final Function<INPUT, Single<OUTPUT>> function,
+            final long maximumSize) {
+        return singleFunction(function, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Single} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @param cache       The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #singleFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Single<OUTPUT>> singleFunction(
+            final Function<INPUT, Single<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction,
+            final Map<KEY, Single<OUTPUT>> cache) {
+        return new SingleFunctionMemoizer<>(asConcurrentMap(cache), keyFunction, function);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Maybe} in a {@link java.util.concurrent.ConcurrentMap}. Concurrent subscribers for the same input share one
+     * upstream subscription and every later subscriber receives the cached value or completion. A {@link Maybe} that
+     * signals an error is removed from the cache, thus the next call for the same input subscribes upstream again.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the emitted values.
+     * @param function The {@link Function} to memoize.
+     * @return The wrapped {@link Function}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Maybe<OUTPUT>> maybeFunction(
+            final Function<INPUT, Maybe<OUTPUT>> function) {
+        return maybeFunction(function, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Maybe} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @return The wrapped {@link Function}.
+     * @see #maybeFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Maybe<OUTPUT>> maybeFunction(
+            final Function<INPUT, Maybe<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction) {
+        return maybeFunction(function, keyFunction, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Maybe} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the emitted values.
+     * @param function The {@link Function} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #maybeFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Maybe<OUTPUT>> maybeFunction(
+            final Function<INPUT, Maybe<OUTPUT>> function,
+            final Map<INPUT, Maybe<OUTPUT>> cache) {
+        return maybeFunction(function, input -> input, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Maybe} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function}.
+     * @see #maybeFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Maybe<OUTPUT>> maybeFunction(
+            final Function<INPUT, Maybe<OUTPUT>> function,
+            final long maximumSize) {
+        return maybeFunction(function, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Maybe} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @param cache       The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #maybeFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Maybe<OUTPUT>> maybeFunction(
+            final Function<INPUT, Maybe<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction,
+            final Map<KEY, Maybe<OUTPUT>> cache) {
+        return new MaybeFunctionMemoizer<>(asConcurrentMap(cache), keyFunction, function);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Observable} in a {@link java.util.concurrent.ConcurrentMap}. Concurrent subscribers for the same input share one
+     * upstream subscription and every later subscriber receives all cached items. An {@link Observable} that signals an
+     * error is removed from the cache, thus the next call for the same input subscribes upstream again. Since all items
+     * are kept, only memoize functions that return finite {@link Observable}s.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the emitted values.
+     * @param function The {@link Function} to memoize.
+     * @return The wrapped {@link Function}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Observable<OUTPUT>> observableFunction(
+            final Function<INPUT, Observable<OUTPUT>> function) {
+        return observableFunction(function, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Observable} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @return The wrapped {@link Function}.
+     * @see #observableFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Observable<OUTPUT>> observableFunction(
+            final Function<INPUT, Observable<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction) {
+        return observableFunction(function, keyFunction, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Observable} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input.
+     * @param <OUTPUT> The type of the emitted values.
+     * @param function The {@link Function} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #observableFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Observable<OUTPUT>> observableFunction(
+            final Function<INPUT, Observable<OUTPUT>> function,
+            final Map<INPUT, Observable<OUTPUT>> cache) {
+        return observableFunction(function, input -> input, cache);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Observable} in a bounded {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The wrapped {@link Function}.
+     * @see #observableFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Observable<OUTPUT>> observableFunction(
+            final Function<INPUT, Observable<OUTPUT>> function,
+            final long maximumSize) {
+        return observableFunction(function, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} returning a {@link Observable} in a {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the emitted values.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @param cache       The {@link Map} based cache to use.
+     * @return The wrapped {@link Function}.
+     * @see #observableFunction(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Observable<OUTPUT>> observableFunction(
+            final Function<INPUT, Observable<OUTPUT>> function,
+            final Function<INPUT, KEY> keyFunction,
+            final Map<KEY, Observable<OUTPUT>> cache) {
+        return new ObservableFunctionMemoizer<>(asConcurrentMap(cache), keyFunction, function);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} in a {@link java.util.concurrent.ConcurrentMap} and computes missing values on the
+     * given {@link Scheduler}. Cached values are emitted right away on the subscribing thread, while missing values are
+     * computed on the given {@link Scheduler}, thus blocking functions can be moved off e.g. the computation scheduler
+     * by using {@link io.reactivex.rxjava3.schedulers.Schedulers#io()}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>   The type of the input.
+     * @param <OUTPUT>  The type of the output/cache value.
+     * @param function  The {@link Function} to memoize.
+     * @param scheduler The {@link Scheduler} to compute missing values on.
+     * @return The wrapped {@link Function}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Single<OUTPUT>> scheduledFunction(
+            final Function<INPUT, OUTPUT> function,
+            final Scheduler scheduler) {
+        return scheduledFunction(function, defaultCache(), scheduler);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} in a {@link java.util.concurrent.ConcurrentMap} and computes missing values on the
+     * given {@link Scheduler}.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @param scheduler   The {@link Scheduler} to compute missing values on.
+     * @return The wrapped {@link Function}.
+     * @see #scheduledFunction(Function, Scheduler)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Single<OUTPUT>> scheduledFunction(
+            final Function<INPUT, OUTPUT> function,
+            final Function<INPUT, KEY> keyFunction,
+            final Scheduler scheduler) {
+        return scheduledFunction(function, keyFunction, defaultCache(), scheduler);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} in a {@link java.util.concurrent.ConcurrentMap} and computes missing values on the
+     * given {@link Scheduler}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>   The type of the input.
+     * @param <OUTPUT>  The type of the output/cache value.
+     * @param function  The {@link Function} to memoize.
+     * @param cache     The {@link Map} based cache to use.
+     * @param scheduler The {@link Scheduler} to compute missing values on.
+     * @return The wrapped {@link Function}.
+     * @see #scheduledFunction(Function, Scheduler)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Single<OUTPUT>> scheduledFunction(
+            final Function<INPUT, OUTPUT> function,
+            final Map<INPUT, OUTPUT> cache,
+            final Scheduler scheduler) {
+        return scheduledFunction(function, input -> input, cache, scheduler);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} in a bounded {@link java.util.concurrent.ConcurrentMap} and computes missing values
+     * on the given {@link Scheduler}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @param scheduler   The {@link Scheduler} to compute missing values on.
+     * @return The wrapped {@link Function}.
+     * @see #scheduledFunction(Function, Scheduler)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> Function<INPUT, Single<OUTPUT>> scheduledFunction(
+            final Function<INPUT, OUTPUT> function,
+            final long maximumSize,
+            final Scheduler scheduler) {
+        return scheduledFunction(function, bounded(maximumSize), scheduler);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} in a {@link java.util.concurrent.ConcurrentMap} and computes missing values on the
+     * given {@link Scheduler}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input.
+     * @param <KEY>       The type of the cache key.
+     * @param <OUTPUT>    The type of the output/cache value.
+     * @param function    The {@link Function} to memoize.
+     * @param keyFunction The {@link Function} to compute the cache key.
+     * @param cache       The {@link Map} based cache to use.
+     * @param scheduler   The {@link Scheduler} to compute missing values on.
+     * @return The wrapped {@link Function}.
+     * @see #scheduledFunction(Function, Scheduler)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> Function<INPUT, Single<OUTPUT>> scheduledFunction(
+            final Function<INPUT, OUTPUT> function,
+            final Function<INPUT, KEY> keyFunction,
+            final Map<KEY, OUTPUT> cache,
+            final Scheduler scheduler) {
+        return new ScheduledFunctionMemoizer<>(asConcurrentMap(cache), keyFunction, function, scheduler);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} that maps each element of a {@link Flowable} in a
+     * {@link java.util.concurrent.ConcurrentMap}. Cached values are emitted right away, while missing values are
+     * computed on {@link io.reactivex.rxjava3.schedulers.Schedulers#computation()} with up to
+     * {@link Flowable#bufferSize()} computations at once. The mapped elements keep the order of their inputs and honor
+     * the backpressure of downstream subscribers, similar to {@link Flowable#concatMapEager(Function)}. Elements with
+     * the same key that are computed concurrently share a single computation.
+     * </p>
+     *
+     * <ul>
+     * <li>Default cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input elements.
+     * @param <OUTPUT> The type of the output elements/cache values.
+     * @param function The {@link Function} to memoize.
+     * @return The {@link FlowableTransformer} to use with {@link Flowable#compose(FlowableTransformer)}.
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> FlowableTransformer<INPUT, OUTPUT> mapMemoized(
+            final Function<INPUT, OUTPUT> function) {
+        return mapMemoized(function, defaultCache());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} that maps each element of a {@link Flowable} in a
+     * {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>  The type of the input elements.
+     * @param <OUTPUT> The type of the output elements/cache values.
+     * @param function The {@link Function} to memoize.
+     * @param cache    The {@link Map} based cache to use.
+     * @return The {@link FlowableTransformer} to use with {@link Flowable#compose(FlowableTransformer)}.
+     * @see #mapMemoized(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> FlowableTransformer<INPUT, OUTPUT> mapMemoized(
+            final Function<INPUT, OUTPUT> function,
+            final Map<INPUT, OUTPUT> cache) {
+        return mapMemoized(function, cache, Schedulers.computation(), Flowable.bufferSize());
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} that maps each element of a {@link Flowable} in a bounded
+     * {@link java.util.concurrent.ConcurrentMap}.
+     * </p>
+     *
+     * <ul>
+     * <li>Bounded cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>     The type of the input elements.
+     * @param <OUTPUT>    The type of the output elements/cache values.
+     * @param function    The {@link Function} to memoize.
+     * @param maximumSize The maximum number of entries to keep in the cache.
+     * @return The {@link FlowableTransformer} to use with {@link Flowable#compose(FlowableTransformer)}.
+     * @see #mapMemoized(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> FlowableTransformer<INPUT, OUTPUT> mapMemoized(
+            final Function<INPUT, OUTPUT> function,
+            final long maximumSize) {
+        return mapMemoized(function, bounded(maximumSize));
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} that maps each element of a {@link Flowable} in a
+     * {@link java.util.concurrent.ConcurrentMap} and computes missing values on the given {@link Scheduler} with up to
+     * the given number of computations at once.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Default cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>        The type of the input elements.
+     * @param <OUTPUT>       The type of the output elements/cache values.
+     * @param function       The {@link Function} to memoize.
+     * @param cache          The {@link Map} based cache to use.
+     * @param scheduler      The {@link Scheduler} to compute missing values on.
+     * @param maxConcurrency The maximum number of missing values to compute at once.
+     * @return The {@link FlowableTransformer} to use with {@link Flowable#compose(FlowableTransformer)}.
+     * @see #mapMemoized(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, OUTPUT> FlowableTransformer<INPUT, OUTPUT> mapMemoized(
+            final Function<INPUT, OUTPUT> function,
+            final Map<INPUT, OUTPUT> cache,
+            final Scheduler scheduler,
+            final int maxConcurrency) {
+        return mapMemoized(function, input -> input, cache, scheduler, maxConcurrency);
+    }
+
+    /**
+     * <p>
+     * Memoizes a {@link Function} that maps each element of a {@link Flowable} in a
+     * {@link java.util.concurrent.ConcurrentMap} and computes missing values on the given {@link Scheduler} with up to
+     * the given number of computations at once.
+     * </p>
+     *
+     * <ul>
+     * <li>Custom cache</li>
+     * <li>Custom cache key</li>
+     * </ul>
+     *
+     * @param <INPUT>        The type of the input elements.
+     * @param <KEY>          The type of the cache key.
+     * @param <OUTPUT>       The type of the output elements/cache values.
+     * @param function       The {@link Function} to memoize.
+     * @param keyFunction    The {@link Function} to compute the cache key.
+     * @param cache          The {@link Map} based cache to use.
+     * @param scheduler      The {@link Scheduler} to compute missing values on.
+     * @param maxConcurrency The maximum number of missing values to compute at once.
+     * @return The {@link FlowableTransformer} to use with {@link Flowable#compose(FlowableTransformer)}.
+     * @see #mapMemoized(Function)
+     */
+    @CheckReturnValue
+    public static <INPUT, KEY, OUTPUT> FlowableTransformer<INPUT, OUTPUT> mapMemoized(
+            final Function<INPUT, OUTPUT> function,
+            final Function<INPUT, KEY> keyFunction,
+            final Map<KEY, OUTPUT> cache,
+            final Scheduler scheduler,
+            final int maxConcurrency) {
+        return new MapMemoizedTransformer<>(
+                scheduledFunction(function, keyFunction, cache, scheduler), maxConcurrency);
+    }
+
 }
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.rxjava;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.functions.Function;
+import wtf.metio.memoization.core.AbstractMemoizer;
+import wtf.metio.memoization.core.WrappedThrowable;
+
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+final class ScheduledFunctionMemoizer<INPUT, KEY, OUTPUT>
+        extends AbstractMemoizer<KEY, OUTPUT>
+        implements Function<INPUT, Single<OUTPUT>> {
+
+    private final Function<INPUT, KEY> keyFunction;
+    private final Function<INPUT, OUTPUT> function;
+    private final Scheduler scheduler;
+
+    ScheduledFunctionMemoizer(
+            final ConcurrentMap<KEY, OUTPUT> cache,
+            final Function<INPUT, KEY> keyFunction,
+            final Function<INPUT, OUTPUT> function,
+            final Scheduler scheduler) {
+        super(cache);
+        this.keyFunction = requireNonNull(keyFunction, "Provide a key function.");
+        this.function = requireNonNull(function,
+                "Cannot memoize a NULL Function - provide an actual Function to fix this.");
+        this.scheduler = requireNonNull(scheduler, "Provide a scheduler to compute missing values on.");
+    }
+
+    @Override
+    public Single<OUTPUT> apply(final INPUT input) throws Throwable {
+        final KEY key = keyFunction.apply(input);
+        final OUTPUT value = lookup(key);
+        if (value != null) {
+            return Single.just(value);
+        }
+        return Single.defer(() -> Single.just(load(key, input))).subscribeOn(scheduler);
+    }
+
+    private OUTPUT load(final KEY key, final INPUT input) throws Throwable {
+        try {
+            return computeIfAbsent(key, ignored -> {
+                try {
+                    return function.apply(input);
+                } catch (final Throwable exception) {
+                    throw new WrappedThrowable(exception);
+                }
+            });
+        } catch (final WrappedThrowable exception) {
+            throw exception.wrappedThrowable();
+        }
+    }
+
+}
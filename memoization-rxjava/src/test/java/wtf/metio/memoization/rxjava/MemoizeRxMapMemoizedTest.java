@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.rxjava;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MemoizeRxMapMemoizedTest {
+
+    @Test
+    void shouldKeepOrder() {
+        // given
+        final FlowableTransformer<Integer, String> transformer = MemoizeRx.mapMemoized(String::valueOf);
+
+        // when
+        final List<String> values = Flowable.just(3, 1, 3, 2, 1)
+                .compose(transformer)
+                .toList()
+                .blockingGet();
+
+        // then
+        Assertions.assertEquals(List.of("3", "1", "3", "2", "1"), values);
+    }
+
+    @Test
+    void shouldComputeEachElementOnce() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final FlowableTransformer<Integer, Integer> transformer = MemoizeRx.mapMemoized(input -> {
+            calls.incrementAndGet();
+            return input * 2;
+        }, new ConcurrentHashMap<>(), Schedulers.io(), 16);
+
+        // when
+        final List<Integer> values = Flowable.range(0, 1_000)
+                .map(input -> input % 10)
+                .compose(transformer)
+                .toList()
+                .blockingGet();
+
+        // then
+        Assertions.assertEquals(1_000, values.size());
+        Assertions.assertEquals(10, calls.get());
+        for (int index = 0; index < values.size(); index++) {
+            Assertions.assertEquals(index % 10 * 2, values.get(index));
+        }
+    }
+
+    @Test
+    void shouldHonorBackpressure() {
+        // given
+        final FlowableTransformer<Integer, Integer> transformer = MemoizeRx.mapMemoized(input -> input);
+
+        // when
+        final var subscriber = Flowable.range(0, 100)
+                .compose(transformer)
+                .test(0);
+        subscriber.requestMore(2);
+
+        // then
+        subscriber.awaitCount(2);
+        subscriber.assertValues(0, 1);
+        subscriber.assertNotComplete();
+        subscriber.cancel();
+    }
+
+    @Test
+    void shouldShareCacheAcrossSubscriptions() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Map<Integer, Integer> cache = new ConcurrentHashMap<>();
+        final Flowable<Integer> flowable = Flowable.range(0, 10)
+                .compose(MemoizeRx.mapMemoized(input -> {
+                    calls.incrementAndGet();
+                    return input;
+                }, cache));
+
+        // when
+        flowable.blockingSubscribe();
+        flowable.blockingSubscribe();
+
+        // then
+        Assertions.assertEquals(10, calls.get());
+        Assertions.assertEquals(10, cache.size());
+    }
+
+    @Test
+    void shouldUseCustomKeys() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final FlowableTransformer<String, Integer> transformer = MemoizeRx.mapMemoized(input -> {
+            calls.incrementAndGet();
+            return input.length();
+        }, String::length, new HashMap<>(), Schedulers.computation(), 4);
+
+        // when
+        final List<Integer> values = Flowable.just("abc", "xyz", "a")
+                .compose(transformer)
+                .toList()
+                .blockingGet();
+
+        // then
+        Assertions.assertEquals(List.of(3, 3, 1), values);
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldSignalErrors() {
+        // given
+        final FlowableTransformer<Integer, Integer> transformer = MemoizeRx.mapMemoized(input -> {
+            if (input == 2) {
+                throw new IllegalStateException("test");
+            }
+            return input;
+        });
+
+        // when
+        // then
+        Flowable.range(0, 5)
+                .compose(transformer)
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertError(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectNonPositiveConcurrency() {
+        // given
+        final Map<Integer, Integer> cache = new HashMap<>();
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> MemoizeRx.mapMemoized(input -> input, cache, Schedulers.computation(), 0));
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.rxjava;
+
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MemoizeRxReactiveTest {
+
+    @Test
+    void shouldShareSingleSubscription() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final SingleSubject<String> remote = SingleSubject.create();
+        final Function<String, Single<String>> memoized = MemoizeRx.singleFunction(
+                input -> remote.doOnSubscribe(disposable -> subscriptions.incrementAndGet()));
+
+        // when
+        final var first = memoized.apply("key").test();
+        final var second = memoized.apply("key").test();
+        remote.onSuccess("value");
+
+        // then
+        Assertions.assertEquals(1, subscriptions.get());
+        first.assertValue("value");
+        second.assertValue("value");
+    }
+
+    @Test
+    void shouldNotSubscribeUntilSubscribed() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Function<String, Single<String>> memoized = MemoizeRx.singleFunction(
+                input -> Single.fromCallable(() -> {
+                    subscriptions.incrementAndGet();
+                    return input;
+                }));
+
+        // when
+        memoized.apply("key");
+
+        // then
+        Assertions.assertEquals(0, subscriptions.get());
+    }
+
+    @Test
+    void shouldCacheSingleValue() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Function<String, Single<String>> memoized = MemoizeRx.singleFunction(
+                input -> Single.fromCallable(() -> {
+                    subscriptions.incrementAndGet();
+                    return input.toUpperCase();
+                }));
+
+        // when
+        memoized.apply("key").blockingGet();
+        final String value = memoized.apply("key").blockingGet();
+
+        // then
+        Assertions.assertEquals("KEY", value);
+        Assertions.assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    void shouldDropFailedSingle() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Map<String, Single<String>> cache = new ConcurrentHashMap<>();
+        final Function<String, Single<String>> memoized = MemoizeRx.singleFunction(
+                input -> Single.defer(() -> subscriptions.incrementAndGet() == 1
+                        ? Single.error(new IllegalStateException("test"))
+                        : Single.just("retry")), cache);
+
+        // when
+        memoized.apply("key").test().assertError(IllegalStateException.class);
+        final String value = memoized.apply("key").blockingGet();
+
+        // then
+        Assertions.assertEquals("retry", value);
+        Assertions.assertEquals(2, subscriptions.get());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldCacheEmptyMaybe() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Function<String, Maybe<String>> memoized = MemoizeRx.maybeFunction(
+                input -> Maybe.<String>empty().doOnSubscribe(disposable -> subscriptions.incrementAndGet()));
+
+        // when
+        memoized.apply("key").test().assertComplete().assertNoValues();
+        memoized.apply("key").test().assertComplete().assertNoValues();
+
+        // then
+        Assertions.assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    void shouldDropFailedMaybe() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Function<String, Maybe<String>> memoized = MemoizeRx.maybeFunction(
+                input -> Maybe.defer(() -> subscriptions.incrementAndGet() == 1
+                        ? Maybe.error(new IllegalStateException("test"))
+                        : Maybe.just("retry")));
+
+        // when
+        memoized.apply("key").test().assertError(IllegalStateException.class);
+        final String value = memoized.apply("key").blockingGet();
+
+        // then
+        Assertions.assertEquals("retry", value);
+        Assertions.assertEquals(2, subscriptions.get());
+    }
+
+    @Test
+    void shouldReplayObservableItems() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Function<String, Observable<String>> memoized = MemoizeRx.observableFunction(
+                input -> Observable.just(input, input.toUpperCase())
+                        .doOnSubscribe(disposable -> subscriptions.incrementAndGet()));
+
+        // when
+        memoized.apply("key").blockingSubscribe();
+        final List<String> values = memoized.apply("key").toList().blockingGet();
+
+        // then
+        Assertions.assertEquals(List.of("key", "KEY"), values);
+        Assertions.assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    void shouldDropFailedObservable() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Function<String, Observable<String>> memoized = MemoizeRx.observableFunction(
+                input -> Observable.defer(() -> subscriptions.incrementAndGet() == 1
+                        ? Observable.error(new IllegalStateException("test"))
+                        : Observable.just("retry")));
+
+        // when
+        memoized.apply("key").test().assertError(IllegalStateException.class);
+        final List<String> values = memoized.apply("key").toList().blockingGet();
+
+        // then
+        Assertions.assertEquals(List.of("retry"), values);
+        Assertions.assertEquals(2, subscriptions.get());
+    }
+
+    @Test
+    void shouldUseCustomKeys() throws Throwable {
+        // given
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Function<String, Single<Integer>> memoized = MemoizeRx.singleFunction(
+                input -> Single.fromCallable(() -> {
+                    subscriptions.incrementAndGet();
+                    return input.length();
+                }), String::length);
+
+        // when
+        memoized.apply("abc").blockingGet();
+        final Integer value = memoized.apply("xyz").blockingGet();
+
+        // then
+        Assertions.assertEquals(3, value);
+        Assertions.assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    void shouldRethrowExceptionsOfFunction() {
+        // given
+        final Function<String, Single<String>> memoized = MemoizeRx.singleFunction(input -> {
+            throw new IllegalArgumentException("test");
+        });
+
+        // when
+        // then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> memoized.apply("key"));
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+
+package wtf.metio.memoization.rxjava;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class MemoizeRxScheduledTest {
+
+    private ExecutorService executor;
+    private Scheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "loader"));
+        scheduler = Schedulers.from(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldComputeMissesOnScheduler() throws Throwable {
+        // given
+        final AtomicReference<String> thread = new AtomicReference<>();
+        final Function<String, Single<String>> memoized = MemoizeRx.scheduledFunction(input -> {
+            thread.set(Thread.currentThread().getName());
+            return input;
+        }, scheduler);
+
+        // when
+        final String value = memoized.apply("key").blockingGet();
+
+        // then
+        Assertions.assertEquals("key", value);
+        Assertions.assertEquals("loader", thread.get());
+    }
+
+    @Test
+    void shouldEmitHitsSynchronously() throws Throwable {
+        // given
+        final Function<String, Single<String>> memoized = MemoizeRx.scheduledFunction(input -> input, scheduler);
+        memoized.apply("key").blockingGet();
+        executor.shutdown();
+
+        // when
+        final var observer = memoized.apply("key").test();
+
+        // then
+        observer.assertValue("key");
+    }
+
+    @Test
+    void shouldNotComputeUntilSubscribed() throws Throwable {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, Single<String>> memoized = MemoizeRx.scheduledFunction(input -> {
+            calls.incrementAndGet();
+            return input;
+        }, scheduler);
+
+        // when
+        memoized.apply("key");
+
+        // then
+        Assertions.assertEquals(0, calls.get());
+    }
+
+    @Test
+    void shouldComputeOnceForRepeatedMisses() throws Throwable {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, Single<String>> memoized = MemoizeRx.scheduledFunction(input -> {
+            calls.incrementAndGet();
+            return input;
+        }, scheduler);
+
+        // when
+        final Single<String> first = memoized.apply("key");
+        final Single<String> second = memoized.apply("key");
+        first.blockingGet();
+        second.blockingGet();
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldNotCacheErrors() throws Throwable {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Map<String, String> cache = new ConcurrentHashMap<>();
+        final Function<String, Single<String>> memoized = MemoizeRx.scheduledFunction(input -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("test");
+            }
+            return input;
+        }, cache, scheduler);
+
+        // when
+        memoized.apply("key").test().awaitDone(5, TimeUnit.SECONDS)
+                .assertError(IllegalStateException.class);
+        final String value = memoized.apply("key").blockingGet();
+
+        // then
+        Assertions.assertEquals("key", value);
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(Map.of("key", "key"), cache);
+    }
+
+    @Test
+    void shouldUseCustomKeys() throws Throwable {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, Single<Integer>> memoized = MemoizeRx.scheduledFunction(input -> {
+            calls.incrementAndGet();
+            return input.length();
+        }, String::length, scheduler);
+
+        // when
+        memoized.apply("abc").blockingGet();
+        final Integer value = memoized.apply("xyz").blockingGet();
+
+        // then
+        Assertions.assertEquals(3, value);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+}
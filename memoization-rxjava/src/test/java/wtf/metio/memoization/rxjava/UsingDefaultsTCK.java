@@ -10,10 +10,18 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import wtf.metio.memoization.tck.ConcurrencyTCK;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
 
 import static wtf.metio.memoization.tck.TestSupport.*;
 
-abstract class UsingDefaultsTCK {
+abstract class UsingDefaultsTCK extends ConcurrencyTCK {
 
     private Waiter waiter;
 
@@ -22,10 +30,147 @@ abstract class UsingDefaultsTCK {
         waiter = new Waiter();
     }
 
+    @Override
+    protected final Map<String, UnaryOperator<IntUnaryOperator>> memoizers() {
+        final Map<String, UnaryOperator<IntUnaryOperator>> memoizers = new LinkedHashMap<>();
+        memoizers.put("Function", operator -> {
+            final Function<Integer, Integer> memoized = function(operator::applyAsInt);
+            return unchecked(memoized::apply);
+        });
+        memoizers.put("BiFunction", operator -> {
+            final BiFunction<Integer, Integer, Integer> memoized = biFunction(
+                    (value1, value2) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key));
+        });
+        memoizers.put("Function3", operator -> {
+            final Function3<Integer, Integer, Integer, Integer> memoized = function3(
+                    (value1, value2, value3) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key, key));
+        });
+        memoizers.put("Function4", operator -> {
+            final Function4<Integer, Integer, Integer, Integer, Integer> memoized = function4(
+                    (value1, value2, value3, value4) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key, key, key));
+        });
+        memoizers.put("Function5", operator -> {
+            final Function5<Integer, Integer, Integer, Integer, Integer, Integer> memoized = function5(
+                    (value1, value2, value3, value4, value5) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key, key, key, key));
+        });
+        memoizers.put("Function6", operator -> {
+            final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function6(
+                    (value1, value2, value3, value4, value5, value6) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key, key, key, key, key));
+        });
+        memoizers.put("Function7", operator -> {
+            final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function7(
+                    (value1, value2, value3, value4, value5, value6, value7) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key, key, key, key, key, key));
+        });
+        memoizers.put("Function8", operator -> {
+            final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function8(
+                    (value1, value2, value3, value4, value5, value6, value7, value8) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key, key, key, key, key, key, key));
+        });
+        memoizers.put("Function9", operator -> {
+            final Function9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized = function9(
+                    (value1, value2, value3, value4, value5, value6, value7, value8, value9) -> operator.applyAsInt(value1));
+            return unchecked(key -> memoized.apply(key, key, key, key, key, key, key, key, key));
+        });
+        memoizers.put("IntFunction", operator -> {
+            final IntFunction<Integer> memoized = intFunction(operator::applyAsInt);
+            return unchecked(memoized::apply);
+        });
+        return memoizers;
+    }
+
+    @Override
+    protected final Map<String, UnaryOperator<IntPredicate>> predicates() {
+        final Map<String, UnaryOperator<IntPredicate>> predicates = new LinkedHashMap<>();
+        predicates.put("Predicate", original -> {
+            final Predicate<Integer> memoized = predicate(original::test);
+            return uncheckedPredicate(memoized::test);
+        });
+        predicates.put("BiPredicate", original -> {
+            final BiPredicate<Integer, Integer> memoized = biPredicate((value1, value2) -> original.test(value1));
+            return uncheckedPredicate(key -> memoized.test(key, key));
+        });
+        return predicates;
+    }
+
+    @Override
+    protected final Map<String, UnaryOperator<IntConsumer>> consumers() {
+        final Map<String, UnaryOperator<IntConsumer>> consumers = new LinkedHashMap<>();
+        consumers.put("Consumer", original -> {
+            final Consumer<Integer> memoized = consumer(original::accept);
+            return uncheckedConsumer(memoized::accept);
+        });
+        consumers.put("BiConsumer", original -> {
+            final BiConsumer<Integer, Integer> memoized = biConsumer((value1, value2) -> original.accept(value1));
+            return uncheckedConsumer(key -> memoized.accept(key, key));
+        });
+        consumers.put("LongConsumer", original -> {
+            final LongConsumer memoized = longConsumer(value -> original.accept((int) value));
+            return uncheckedConsumer(memoized::accept);
+        });
+        return consumers;
+    }
+
+    private static IntUnaryOperator unchecked(final ThrowingIntUnaryOperator operator) {
+        return key -> {
+            try {
+                return operator.applyAsInt(key);
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingIntUnaryOperator {
+
+        int applyAsInt(int key) throws Throwable;
+
+    }
+
+    private static IntPredicate uncheckedPredicate(final ThrowingIntPredicate predicate) {
+        return key -> {
+            try {
+                return predicate.test(key);
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingIntPredicate {
+
+        boolean test(int key) throws Throwable;
+
+    }
+
+    private static IntConsumer uncheckedConsumer(final ThrowingIntConsumer consumer) {
+        return key -> {
+            try {
+                consumer.accept(key);
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingIntConsumer {
+
+        void accept(int key) throws Throwable;
+
+    }
+
     @Test
     final void shouldMemoizeAction() throws Throwable {
         // given
-        final Action action = Mockito.mock(Action.class);
+        final Action action = Mockito.mock();
 
         // when
         final var memoize = action(action);
@@ -49,7 +194,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeCancellable() throws Throwable {
         // given
-        final Cancellable cancellable = Mockito.mock(Cancellable.class);
+        final Cancellable cancellable = Mockito.mock();
 
         // when
         final var memoize = cancellable(cancellable);
@@ -73,7 +218,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBooleanSupplier() throws Throwable {
         // given
-        final BooleanSupplier supplier = Mockito.mock(BooleanSupplier.class);
+        final BooleanSupplier supplier = Mockito.mock();
 
         // when
         final BooleanSupplier memoize = booleanSupplier(supplier);
@@ -97,7 +242,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeLongConsumer() throws Throwable {
         // given
-        final LongConsumer consumer = Mockito.mock(LongConsumer.class);
+        final LongConsumer consumer = Mockito.mock();
 
         // when
         final LongConsumer memoize = longConsumer(consumer);
@@ -121,7 +266,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction() throws Throwable {
         // given
-        final Function<String, String> function = Mockito.mock(Function.class);
+        final Function<String, String> function = Mockito.mock();
         Mockito.when(function.apply("1")).thenReturn("test");
 
         // when
@@ -146,7 +291,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction3() throws Throwable {
         // given
-        final Function3<String, String, String, String> function = Mockito.mock(Function3.class);
+        final Function3<String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3")).thenReturn("test");
 
         // when
@@ -171,7 +316,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction4() throws Throwable {
         // given
-        final Function4<String, String, String, String, String> function = Mockito.mock(Function4.class);
+        final Function4<String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4")).thenReturn("test");
 
         // when
@@ -197,7 +342,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction5() throws Throwable {
         // given
-        final Function5<String, String, String, String, String, String> function = Mockito.mock(Function5.class);
+        final Function5<String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5")).thenReturn("test");
 
         // when
@@ -223,7 +368,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction6() throws Throwable {
         // given
-        final Function6<String, String, String, String, String, String, String> function = Mockito.mock(Function6.class);
+        final Function6<String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6")).thenReturn("test");
 
         // when
@@ -249,7 +394,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction7() throws Throwable {
         // given
-        final Function7<String, String, String, String, String, String, String, String> function = Mockito.mock(Function7.class);
+        final Function7<String, String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7")).thenReturn("test");
 
         // when
@@ -275,7 +420,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeFunction8() throws Throwable {
         // given
-        final Function8<String, String, String, String, String, String, String, String, String> function = Mockito.mock(Function8.class);
+        final Function8<String, String, String, String, String, String, String, String, String> function = Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8")).thenReturn("test");
 
         // when
@@ -302,7 +447,7 @@ abstract class UsingDefaultsTCK {
     final void shouldMemoizeFunction9() throws Throwable {
         // given
         final Function9<String, String, String, String, String, String, String, String, String, String> function =
-                Mockito.mock(Function9.class);
+                Mockito.mock();
         Mockito.when(function.apply("1", "2", "3", "4", "5", "6", "7", "8", "9")).thenReturn("test");
 
         // when
@@ -328,7 +473,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizePredicate() throws Throwable {
         // given
-        final Predicate<String> predicate = Mockito.mock(Predicate.class);
+        final Predicate<String> predicate = Mockito.mock();
 
         // when
         final Predicate<String> memoize = predicate(predicate);
@@ -352,7 +497,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBiPredicate() throws Throwable {
         // given
-        final BiPredicate<Long, Long> biPredicate = Mockito.mock(BiPredicate.class);
+        final BiPredicate<Long, Long> biPredicate = Mockito.mock();
 
         // when
         final BiPredicate<Long, Long> memoize = biPredicate(biPredicate);
@@ -376,7 +521,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBiFunction() throws Throwable {
         // given
-        final BiFunction<Long, Long, String> function = Mockito.mock(BiFunction.class);
+        final BiFunction<Long, Long, String> function = Mockito.mock();
         Mockito.when(function.apply(1L, 2L)).thenReturn("test");
 
         // when
@@ -402,7 +547,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeConsumer() throws Throwable {
         // given
-        final Consumer<String> consumer = Mockito.mock(Consumer.class);
+        final Consumer<String> consumer = Mockito.mock();
 
         // when
         final Consumer<String> memoize = consumer(consumer);
@@ -426,7 +571,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeBiConsumer() throws Throwable {
         // given
-        final BiConsumer<Long, Long> consumer = Mockito.mock(BiConsumer.class);
+        final BiConsumer<Long, Long> consumer = Mockito.mock();
 
         // when
         final BiConsumer<Long, Long> memoize = biConsumer(consumer);
@@ -451,7 +596,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeIntFunction() throws Throwable {
         // given
-        final IntFunction<String> function = Mockito.mock(IntFunction.class);
+        final IntFunction<String> function = Mockito.mock();
         Mockito.when(function.apply(1)).thenReturn("test");
 
         // when
@@ -476,7 +621,7 @@ abstract class UsingDefaultsTCK {
     @Test
     final void shouldMemoizeSupplier() throws Throwable {
         // given
-        final Supplier<String> supplier = Mockito.mock(Supplier.class);
+        final Supplier<String> supplier = Mockito.mock();
         Mockito.when(supplier.get()).thenReturn("test");
 
         // when
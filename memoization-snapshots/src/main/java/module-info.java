@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+/**
+ * The snapshots module writes the contents of caches to files and restores them after a restart.
+ */
+@org.jspecify.annotations.NullMarked
+module wtf.metio.memoization.snapshots {
+
+    requires wtf.metio.memoization.offheap;
+    requires com.github.spotbugs.annotations;
+    requires org.jspecify;
+
+    exports wtf.metio.memoization.snapshots;
+
+}
@@ -0,0 +1,196 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.snapshots;
+
+import org.jspecify.annotations.Nullable;
+import wtf.metio.memoization.offheap.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * {@link ConcurrentMap} decorator that falls back to a memory-mapped snapshot for keys that the decorated map does not
+ * contain. Values are deserialized on first access only and then stored in the decorated map, thus restarts do not have
+ * to load a snapshot in full before the first request can be served.
+ * </p>
+ * <p>
+ * Each snapshot entry is used at most once, thus removing or evicting an entry from the decorated map does not bring
+ * back its snapshot value. Restored values are published in the decorated map before their snapshot entry is marked as
+ * used, thus concurrent readers of the same key never miss it. Entries that were not accessed yet are not visible to
+ * bulk operations like {@link #size()} or {@link #entrySet()}, but writing this map with {@link Snapshots} keeps
+ * them. {@link #clear()} discards the snapshot as well.
+ * </p>
+ *
+ * @param <KEY>   The type of the keys.
+ * @param <VALUE> The type of the values.
+ */
+final class SnapshotConcurrentMap<KEY, VALUE> extends AbstractMap<KEY, VALUE> implements ConcurrentMap<KEY, VALUE> {
+
+    private final ConcurrentMap<KEY, VALUE> delegate;
+    private final Serializer<KEY> keySerializer;
+    private final Serializer<VALUE> valueSerializer;
+    private volatile @Nullable SnapshotIndex snapshot;
+
+    SnapshotConcurrentMap(
+            final ConcurrentMap<KEY, VALUE> delegate,
+            final SnapshotIndex snapshot,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) {
+        this.delegate = requireNonNull(delegate, "Provide a map to restore the snapshot into.");
+        this.snapshot = requireNonNull(snapshot, "Provide a snapshot to restore.");
+        this.keySerializer = requireNonNull(keySerializer, "Provide a serializer for keys.");
+        this.valueSerializer = requireNonNull(valueSerializer, "Provide a serializer for values.");
+    }
+
+    @Override
+    public @Nullable VALUE computeIfAbsent(
+            final KEY key,
+            final Function<? super KEY, ? extends VALUE> mappingFunction) {
+        requireNonNull(mappingFunction);
+        final SnapshotIndex current = index();
+        if (current == null) {
+            return delegate.computeIfAbsent(key, mappingFunction);
+        }
+        final byte[] serializedKey = keySerializer.serialize(key);
+        final VALUE value = delegate.computeIfAbsent(key, missing -> {
+            final VALUE restored = restore(current, serializedKey);
+            return restored != null ? restored : mappingFunction.apply(missing);
+        });
+        // the value is published already, thus concurrent readers find it in the decorated map
+        current.take(serializedKey);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable VALUE get(final Object key) {
+        // entries are published before they are taken from the index, thus the index is read first
+        final SnapshotIndex current = index();
+        final VALUE value = delegate.get(key);
+        if (value != null || current == null) {
+            return value;
+        }
+        final byte[] serializedKey;
+        try {
+            serializedKey = keySerializer.serialize((KEY) key);
+        } catch (final ClassCastException exception) {
+            return null;
+        }
+        final VALUE restored = restore(current, serializedKey);
+        if (restored == null) {
+            // another thread might have restored the entry since the decorated map was read
+            return delegate.get(key);
+        }
+        final VALUE existing = delegate.putIfAbsent((KEY) key, restored);
+        // the value is published already, thus concurrent readers find it in the decorated map
+        current.take(serializedKey);
+        return existing != null ? existing : restored;
+    }
+
+    /**
+     * @return The snapshot index or {@code null} in case every entry was restored already.
+     */
+    @Nullable SnapshotIndex index() {
+        final SnapshotIndex current = snapshot;
+        if (current != null && current.remaining() == 0) {
+            // releases the mapping once every entry was restored
+            snapshot = null;
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * @param serializedKey The serialized key of a snapshot entry.
+     * @return Whether the decorated map contains the given key already.
+     */
+    boolean restored(final ByteBuffer serializedKey) {
+        return delegate.containsKey(keySerializer.deserialize(serializedKey));
+    }
+
+    private @Nullable VALUE restore(final SnapshotIndex current, final byte[] serializedKey) {
+        final ByteBuffer value = current.peek(serializedKey);
+        return value != null ? valueSerializer.deserialize(value) : null;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public @Nullable VALUE put(final KEY key, final VALUE value) {
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public @Nullable VALUE putIfAbsent(final KEY key, final VALUE value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public @Nullable VALUE remove(final Object key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        return delegate.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(final KEY key, final VALUE oldValue, final VALUE newValue) {
+        return delegate.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public @Nullable VALUE replace(final KEY key, final VALUE value) {
+        return delegate.replace(key, value);
+    }
+
+    @Override
+    public void clear() {
+        snapshot = null;
+        delegate.clear();
+    }
+
+    @Override
+    public Set<KEY> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Collection<VALUE> values() {
+        return delegate.values();
+    }
+
+    @Override
+    public Set<Entry<KEY, VALUE>> entrySet() {
+        return delegate.entrySet();
+    }
+
+}
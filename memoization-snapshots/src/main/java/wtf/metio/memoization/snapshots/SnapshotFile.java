@@ -0,0 +1,206 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.snapshots;
+
+import wtf.metio.memoization.offheap.Serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * <p>
+ * Binary format of snapshot files. Each file starts with a header of two {@code int}s (magic number and format
+ * version) followed by any number of records until the end of the file. Each record consists of the length of its
+ * serialized key, the length of its serialized value, the key bytes and the value bytes.
+ * </p>
+ * <p>
+ * Snapshots are written through a small direct buffer, thus the cache contents are streamed to disk instead of being
+ * materialized in memory. Files are written next to their target and moved into place once complete, thus readers
+ * never see a partially written snapshot. Snapshots are read through a memory mapping, which limits them to 2 GiB.
+ * </p>
+ */
+final class SnapshotFile {
+
+    static final int RECORD_HEADER = 2 * Integer.BYTES;
+
+    private static final int MAGIC = 0x4D454D4F;
+    private static final int VERSION = 1;
+    private static final int HEADER = 2 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private SnapshotFile() {
+        // utility class
+    }
+
+    static <KEY, VALUE> long write(
+            final Map<KEY, VALUE> cache,
+            final Path file,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        final Path target = file.toAbsolutePath();
+        final Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            final long records;
+            try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                buffer.putInt(MAGIC).putInt(VERSION);
+                long count = 0;
+                if (cache instanceof SnapshotConcurrentMap<?, ?> lazy) {
+                    count += pending(lazy, channel, buffer);
+                }
+                for (final Map.Entry<KEY, VALUE> entry : cache.entrySet()) {
+                    record(channel, buffer, ByteBuffer.wrap(keySerializer.serialize(entry.getKey())),
+                            ByteBuffer.wrap(valueSerializer.serialize(entry.getValue())));
+                    count++;
+                }
+                flush(channel, buffer);
+                channel.force(true);
+                records = count;
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return records;
+        } catch (final IOException | RuntimeException | Error exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+    }
+
+    /**
+     * @param file The snapshot to map.
+     * @return A read-only buffer positioned at the first record of the given snapshot.
+     * @throws IOException In case the file cannot be read or is not a snapshot.
+     */
+    static ByteBuffer map(final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(
+                        "Cannot map snapshot %s of %d bytes - snapshots are limited to %d bytes.",
+                        file, size, Integer.MAX_VALUE));
+            }
+            // the mapping stays valid after its channel was closed
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < HEADER || buffer.getInt() != MAGIC) {
+                throw new IOException(String.format("File %s is not a snapshot.", file));
+            }
+            final int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(
+                        "Snapshot %s uses format version %d - only version %d is supported.", file, version, VERSION));
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * @param snapshot A snapshot positioned at its first record.
+     * @return The offsets of all records in the given snapshot, in the order they were written.
+     * @throws IOException In case a record exceeds the end of the snapshot.
+     */
+    static int[] offsets(final ByteBuffer snapshot) throws IOException {
+        int[] offsets = new int[16];
+        int count = 0;
+        int offset = snapshot.position();
+        while (offset < snapshot.limit()) {
+            if (snapshot.limit() - offset < RECORD_HEADER) {
+                throw truncated(offset);
+            }
+            final int keyLength = snapshot.getInt(offset);
+            final int valueLength = snapshot.getInt(offset + Integer.BYTES);
+            final long end = (long) offset + RECORD_HEADER + keyLength + valueLength;
+            if (keyLength < 0 || valueLength < 0 || end > snapshot.limit()) {
+                throw truncated(offset);
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * count);
+            }
+            offsets[count++] = offset;
+            offset = (int) end;
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    static ByteBuffer key(final ByteBuffer snapshot, final int offset) {
+        return snapshot.slice(offset + RECORD_HEADER, snapshot.getInt(offset));
+    }
+
+    static ByteBuffer value(final ByteBuffer snapshot, final int offset) {
+        final int keyLength = snapshot.getInt(offset);
+        final int valueLength = snapshot.getInt(offset + Integer.BYTES);
+        return snapshot.slice(offset + RECORD_HEADER + keyLength, valueLength);
+    }
+
+    /**
+     * Copies the records of a lazily restored snapshot that were not restored yet, thus writing a cache right after a
+     * restart keeps all entries of its previous snapshot.
+     */
+    private static long pending(
+            final SnapshotConcurrentMap<?, ?> lazy,
+            final FileChannel channel,
+            final ByteBuffer buffer) throws IOException {
+        final SnapshotIndex index = lazy.index();
+        if (index == null) {
+            return 0;
+        }
+        long count = 0;
+        for (final int offset : index.pending()) {
+            final ByteBuffer key = key(index.snapshot(), offset);
+            // keys restored in the meantime are written together with the other entries of the cache
+            if (!lazy.restored(key.duplicate())) {
+                record(channel, buffer, key, value(index.snapshot(), offset));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void record(
+            final FileChannel channel,
+            final ByteBuffer buffer,
+            final ByteBuffer key,
+            final ByteBuffer value) throws IOException {
+        if (buffer.remaining() < RECORD_HEADER) {
+            flush(channel, buffer);
+        }
+        buffer.putInt(key.remaining()).putInt(value.remaining());
+        append(channel, buffer, key);
+        append(channel, buffer, value);
+    }
+
+    private static void append(final FileChannel channel, final ByteBuffer buffer, final ByteBuffer bytes)
+            throws IOException {
+        if (bytes.remaining() > buffer.remaining()) {
+            flush(channel, buffer);
+        }
+        if (bytes.remaining() > buffer.capacity()) {
+            final ByteBuffer large = bytes.duplicate();
+            while (large.hasRemaining()) {
+                channel.write(large);
+            }
+        } else {
+            buffer.put(bytes.duplicate());
+        }
+    }
+
+    private static void flush(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static IOException truncated(final int offset) {
+        return new IOException(String.format("Snapshot is truncated or corrupt at offset %d.", offset));
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.snapshots;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Open-addressing index over the records of a memory-mapped snapshot, keyed by the hash of the serialized key of each
+ * record. Keys and values stay in the mapping until they are {@link #take(byte[]) taken}, which happens at most once per
+ * record. Taken records stay in the index as tombstones so that lookups keep probing past them.
+ */
+final class SnapshotIndex {
+
+    private static final int EMPTY = 0;
+    private static final int TAKEN = -1;
+
+    private final ByteBuffer snapshot;
+    private final int[] hashes;
+    private final AtomicIntegerArray offsets;
+    private final AtomicInteger remaining;
+    private final int mask;
+
+    SnapshotIndex(final ByteBuffer snapshot) throws IOException {
+        final int[] records = SnapshotFile.offsets(snapshot);
+        final int capacity = Integer.highestOneBit(Math.max(2, records.length) * 2 - 1) << 1;
+        this.snapshot = snapshot;
+        this.hashes = new int[capacity];
+        this.offsets = new AtomicIntegerArray(capacity);
+        this.remaining = new AtomicInteger();
+        this.mask = capacity - 1;
+        for (final int offset : records) {
+            insert(offset);
+        }
+    }
+
+    /**
+     * @return The number of records that were not yet taken.
+     */
+    int remaining() {
+        return remaining.get();
+    }
+
+    /**
+     * @return The offsets of all records that were not yet taken.
+     */
+    int[] pending() {
+        final int[] pending = new int[remaining.get()];
+        int count = 0;
+        for (int index = 0; index < offsets.length() && count < pending.length; index++) {
+            final int stored = offsets.get(index);
+            if (stored != EMPTY && stored != TAKEN) {
+                pending[count++] = stored - 1;
+            }
+        }
+        return count == pending.length ? pending : Arrays.copyOf(pending, count);
+    }
+
+    /**
+     * @return The mapped snapshot this index points into.
+     */
+    ByteBuffer snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Looks up the record of the given key without removing it from this index.
+     *
+     * @param key The serialized key to look up.
+     * @return The serialized value of the given key or {@code null} in case there is none or it was taken already.
+     */
+    @Nullable ByteBuffer peek(final byte[] key) {
+        final int index = find(ByteBuffer.wrap(key));
+        if (index < 0) {
+            return null;
+        }
+        final int stored = offsets.get(index);
+        return stored == TAKEN ? null : SnapshotFile.value(snapshot, stored - 1);
+    }
+
+    /**
+     * Removes the record of the given key from this index.
+     *
+     * @param key The serialized key to look up.
+     * @return The serialized value of the given key or {@code null} in case there is none or it was taken already.
+     */
+    @Nullable ByteBuffer take(final byte[] key) {
+        final int index = find(ByteBuffer.wrap(key));
+        if (index < 0) {
+            return null;
+        }
+        final int stored = offsets.get(index);
+        if (stored != TAKEN && offsets.compareAndSet(index, stored, TAKEN)) {
+            remaining.decrementAndGet();
+            return SnapshotFile.value(snapshot, stored - 1);
+        }
+        return null;
+    }
+
+    private int find(final ByteBuffer key) {
+        final int hash = hash(key);
+        for (int index = hash & mask; ; index = (index + 1) & mask) {
+            final int stored = offsets.get(index);
+            if (stored == EMPTY) {
+                return -1;
+            }
+            if (stored != TAKEN && hashes[index] == hash && SnapshotFile.key(snapshot, stored - 1).equals(key)) {
+                return index;
+            }
+        }
+    }
+
+    private void insert(final int offset) {
+        final ByteBuffer key = SnapshotFile.key(snapshot, offset);
+        final int hash = hash(key);
+        for (int index = hash & mask; ; index = (index + 1) & mask) {
+            final int stored = offsets.get(index);
+            if (stored == EMPTY) {
+                hashes[index] = hash;
+                offsets.set(index, offset + 1);
+                remaining.incrementAndGet();
+                return;
+            }
+            if (hashes[index] == hash && SnapshotFile.key(snapshot, stored - 1).equals(key)) {
+                // later records of the same key win
+                offsets.set(index, offset + 1);
+                return;
+            }
+        }
+    }
+
+    private static int hash(final ByteBuffer key) {
+        final int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.snapshots;
+
+import edu.umd.cs.findbugs.annotations.CheckReturnValue;
+import wtf.metio.memoization.offheap.Serializer;
+import wtf.metio.memoization.offheap.Serializers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * Writes the contents of caches to snapshot files and restores them after a restart. Snapshots work with any
+ * {@link Map} used as a custom cache of a memoizer, e.g.
+ * {@code Memoize.function(function, Snapshots.lazy(path, keySerializer, valueSerializer))} at startup and
+ * {@code Snapshots.write(cache, path, keySerializer, valueSerializer)} before shutdown.
+ * </p>
+ * <p>
+ * Writing streams each entry to disk as soon as it is serialized, thus even large caches are never copied in memory.
+ * Snapshots are replaced atomically once fully written. Reading memory-maps the snapshot, which limits snapshots to
+ * 2 GiB. Keys are matched by their serialized form, thus serializers for keys must produce the same bytes for keys that
+ * are equal to each other.
+ * </p>
+ *
+ * @see Serializers
+ */
+public final class Snapshots {
+
+    private Snapshots() {
+        // utility class
+    }
+
+    /**
+     * Writes all entries of the given cache to the given file using Java serialization. Every key and value must
+     * therefore be {@link java.io.Serializable}.
+     *
+     * @param <KEY>   The key type of the cache.
+     * @param <VALUE> The value type of the cache.
+     * @param cache   The cache to write.
+     * @param file    The file to write to. Existing files are replaced.
+     * @return The number of written entries.
+     * @throws IOException In case the file cannot be written.
+     */
+    public static <KEY, VALUE> long write(final Map<KEY, VALUE> cache, final Path file) throws IOException {
+        return write(cache, file, Serializers.java(), Serializers.java());
+    }
+
+    /**
+     * Writes all entries of the given cache to the given file. Caches that are modified while being written produce a
+     * snapshot that contains each entry that was present during the entire write. Caches created by
+     * {@link #lazy(Path, ConcurrentMap, Serializer, Serializer)} also write the entries of their snapshot that were not
+     * requested yet.
+     *
+     * @param <KEY>           The key type of the cache.
+     * @param <VALUE>         The value type of the cache.
+     * @param cache           The cache to write.
+     * @param file            The file to write to. Existing files are replaced.
+     * @param keySerializer   The serializer for keys.
+     * @param valueSerializer The serializer for values.
+     * @return The number of written entries.
+     * @throws IOException In case the file cannot be written.
+     */
+    public static <KEY, VALUE> long write(
+            final Map<KEY, VALUE> cache,
+            final Path file,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        requireNonNull(cache, "Provide a cache to write.");
+        requireNonNull(file, "Provide a file to write to.");
+        requireNonNull(keySerializer, "Provide a serializer for keys.");
+        requireNonNull(valueSerializer, "Provide a serializer for values.");
+        return SnapshotFile.write(cache, file, keySerializer, valueSerializer);
+    }
+
+    /**
+     * Copies all entries of the given snapshot that uses Java serialization into the given cache.
+     *
+     * @param <KEY>   The key type of the cache.
+     * @param <VALUE> The value type of the cache.
+     * @param file    The snapshot to restore.
+     * @param cache   The cache to restore into. Existing entries are kept.
+     * @return The number of restored entries.
+     * @throws IOException In case the snapshot cannot be read.
+     */
+    public static <KEY, VALUE> int restore(final Path file, final Map<KEY, VALUE> cache) throws IOException {
+        return restore(file, cache, Serializers.java(), Serializers.java());
+    }
+
+    /**
+     * Copies all entries of the given snapshot into the given cache right away.
+     *
+     * @param <KEY>           The key type of the cache.
+     * @param <VALUE>         The value type of the cache.
+     * @param file            The snapshot to restore.
+     * @param cache           The cache to restore into. Existing entries are kept.
+     * @param keySerializer   The serializer for keys.
+     * @param valueSerializer The serializer for values.
+     * @return The number of restored entries.
+     * @throws IOException In case the snapshot cannot be read.
+     */
+    public static <KEY, VALUE> int restore(
+            final Path file,
+            final Map<KEY, VALUE> cache,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        requireNonNull(cache, "Provide a cache to restore into.");
+        requireNonNull(keySerializer, "Provide a serializer for keys.");
+        requireNonNull(valueSerializer, "Provide a serializer for values.");
+        final ByteBuffer snapshot = SnapshotFile.map(requireNonNull(file, "Provide a snapshot to restore."));
+        int restored = 0;
+        for (final int offset : SnapshotFile.offsets(snapshot)) {
+            final KEY key = keySerializer.deserialize(SnapshotFile.key(snapshot, offset));
+            final VALUE value = valueSerializer.deserialize(SnapshotFile.value(snapshot, offset));
+            if (cache.putIfAbsent(key, value) == null) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Creates a new cache that restores the entries of the given snapshot, which uses Java serialization, on first
+     * access.
+     *
+     * @param <KEY>   The key type of the cache.
+     * @param <VALUE> The value type of the cache.
+     * @param file    The snapshot to restore.
+     * @return A new cache backed by the given snapshot.
+     * @throws IOException In case the snapshot cannot be read.
+     * @see #lazy(Path, ConcurrentMap, Serializer, Serializer)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> lazy(final Path file) throws IOException {
+        return lazy(file, new ConcurrentHashMap<>(), Serializers.java(), Serializers.java());
+    }
+
+    /**
+     * Creates a new cache that restores the entries of the given snapshot on first access.
+     *
+     * @param <KEY>           The key type of the cache.
+     * @param <VALUE>         The value type of the cache.
+     * @param file            The snapshot to restore.
+     * @param keySerializer   The serializer for keys.
+     * @param valueSerializer The serializer for values.
+     * @return A new cache backed by the given snapshot.
+     * @throws IOException In case the snapshot cannot be read.
+     * @see #lazy(Path, ConcurrentMap, Serializer, Serializer)
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> lazy(
+            final Path file,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        return lazy(file, new ConcurrentHashMap<>(), keySerializer, valueSerializer);
+    }
+
+    /**
+     * Decorates the given cache so that keys it does not contain are looked up in the given snapshot. The snapshot is
+     * memory-mapped and indexed right away, but each value is deserialized only once its key is requested. Restored
+     * values are stored in the given cache, and each snapshot entry is restored at most once. Entries that were not
+     * requested yet are not part of bulk operations like {@link Map#size()}, but writing the returned cache again with
+     * {@link #write(Map, Path, Serializer, Serializer)} keeps them.
+     *
+     * @param <KEY>           The key type of the cache.
+     * @param <VALUE>         The value type of the cache.
+     * @param file            The snapshot to restore.
+     * @param cache           The cache to restore into.
+     * @param keySerializer   The serializer for keys.
+     * @param valueSerializer The serializer for values.
+     * @return The given cache backed by the given snapshot.
+     * @throws IOException In case the snapshot cannot be read.
+     */
+    @CheckReturnValue
+    public static <KEY, VALUE> ConcurrentMap<KEY, VALUE> lazy(
+            final Path file,
+            final ConcurrentMap<KEY, VALUE> cache,
+            final Serializer<KEY> keySerializer,
+            final Serializer<VALUE> valueSerializer) throws IOException {
+        final SnapshotIndex index = new SnapshotIndex(
+                SnapshotFile.map(requireNonNull(file, "Provide a snapshot to restore.")));
+        return new SnapshotConcurrentMap<>(cache, index, keySerializer, valueSerializer);
+    }
+
+}
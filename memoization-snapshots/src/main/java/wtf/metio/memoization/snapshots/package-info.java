@@ -0,0 +1,8 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+/**
+ * Persistent snapshots of caches.
+ */
+package wtf.metio.memoization.snapshots;
@@ -0,0 +1,274 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.snapshots;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import wtf.metio.memoization.offheap.Serializers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SnapshotsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteAndRestoreEntries() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        final Map<Long, String> cache = new ConcurrentHashMap<>(Map.of(1L, "one", 2L, "two", 3L, "three"));
+
+        // when
+        final long written = Snapshots.write(cache, file, Serializers.longs(), Serializers.strings());
+        final Map<Long, String> restored = new ConcurrentHashMap<>();
+        final int count = Snapshots.restore(file, restored, Serializers.longs(), Serializers.strings());
+
+        // then
+        Assertions.assertEquals(3L, written);
+        Assertions.assertEquals(3, count);
+        Assertions.assertEquals(cache, restored);
+    }
+
+    @Test
+    void shouldUseJavaSerializationByDefault() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        final Map<String, Integer> cache = new ConcurrentHashMap<>(Map.of("first", 1, "second", 2));
+
+        // when
+        Snapshots.write(cache, file);
+        final Map<String, Integer> restored = new ConcurrentHashMap<>();
+        Snapshots.restore(file, restored);
+
+        // then
+        Assertions.assertEquals(cache, restored);
+    }
+
+    @Test
+    void shouldKeepExistingEntriesOnRestore() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "old", 2L, "two"), file, Serializers.longs(), Serializers.strings());
+        final Map<Long, String> cache = new ConcurrentHashMap<>(Map.of(1L, "new"));
+
+        // when
+        final int count = Snapshots.restore(file, cache, Serializers.longs(), Serializers.strings());
+
+        // then
+        Assertions.assertEquals(1, count);
+        Assertions.assertEquals(Map.of(1L, "new", 2L, "two"), cache);
+    }
+
+    @Test
+    void shouldStreamLargeEntries() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        final Map<Long, String> cache = new ConcurrentHashMap<>();
+        for (long key = 0; key < 1_000; key++) {
+            cache.put(key, "x".repeat((int) key * 100));
+        }
+
+        // when
+        Snapshots.write(cache, file, Serializers.longs(), Serializers.strings());
+        final Map<Long, String> restored = new ConcurrentHashMap<>();
+        Snapshots.restore(file, restored, Serializers.longs(), Serializers.strings());
+
+        // then
+        Assertions.assertEquals(cache, restored);
+    }
+
+    @Test
+    void shouldReplaceExistingSnapshot() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one"), file, Serializers.longs(), Serializers.strings());
+
+        // when
+        Snapshots.write(Map.of(2L, "two"), file, Serializers.longs(), Serializers.strings());
+        final Map<Long, String> restored = new ConcurrentHashMap<>();
+        Snapshots.restore(file, restored, Serializers.longs(), Serializers.strings());
+
+        // then
+        Assertions.assertEquals(Map.of(2L, "two"), restored);
+        try (final var files = Files.list(directory)) {
+            Assertions.assertEquals(1L, files.count());
+        }
+    }
+
+    @Test
+    void shouldRejectForeignFiles() throws IOException {
+        // given
+        final Path file = directory.resolve("other.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        // when
+        // then
+        Assertions.assertThrows(IOException.class, () -> Snapshots.restore(file, new ConcurrentHashMap<>()));
+    }
+
+    @Test
+    void shouldRejectTruncatedSnapshots() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one"), file, Serializers.longs(), Serializers.strings());
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 1));
+
+        // when
+        // then
+        Assertions.assertThrows(IOException.class,
+                () -> Snapshots.lazy(file, Serializers.longs(), Serializers.strings()));
+    }
+
+    @Test
+    void shouldRestoreLazily() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one", 2L, "two"), file, Serializers.longs(), Serializers.strings());
+
+        // when
+        final ConcurrentMap<Long, String> cache = Snapshots.lazy(file, Serializers.longs(), Serializers.strings());
+
+        // then
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals("one", cache.get(1L));
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertNull(cache.get(3L));
+    }
+
+    @Test
+    void shouldKeepUnrequestedEntriesWhenWritingAgain() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one", 2L, "two", 3L, "three"), file, Serializers.longs(), Serializers.strings());
+        final ConcurrentMap<Long, String> cache = Snapshots.lazy(file, Serializers.longs(), Serializers.strings());
+        cache.get(1L);
+        cache.put(2L, "changed");
+        cache.put(4L, "four");
+
+        // when
+        final long written = Snapshots.write(cache, file, Serializers.longs(), Serializers.strings());
+
+        // then
+        final Map<Long, String> restored = new ConcurrentHashMap<>();
+        Snapshots.restore(file, restored, Serializers.longs(), Serializers.strings());
+        Assertions.assertEquals(4, written);
+        Assertions.assertEquals(Map.of(1L, "one", 2L, "changed", 3L, "three", 4L, "four"), restored);
+    }
+
+    @Test
+    void shouldNotMissEntriesForConcurrentReaders() throws Exception {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        final Map<Long, String> entries = new ConcurrentHashMap<>();
+        for (long key = 0; key < 1_000; key++) {
+            entries.put(key, "value" + key);
+        }
+        Snapshots.write(entries, file, Serializers.longs(), Serializers.strings());
+        final ConcurrentMap<Long, String> cache = Snapshots.lazy(file, Serializers.longs(), Serializers.strings());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Integer>> misses = new ArrayList<>();
+
+        // when
+        try {
+            for (int thread = 0; thread < 4; thread++) {
+                misses.add(executor.submit(() -> {
+                    int count = 0;
+                    for (long key = 0; key < 1_000; key++) {
+                        if (cache.get(key) == null) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+
+            // then
+            for (final Future<Integer> future : misses) {
+                Assertions.assertEquals(0, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPreferSnapshotOverComputation() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one"), file, Serializers.longs(), Serializers.strings());
+        final ConcurrentMap<Long, String> cache = Snapshots.lazy(file, Serializers.longs(), Serializers.strings());
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final String restored = cache.computeIfAbsent(1L, key -> "computed" + calls.incrementAndGet());
+        final String computed = cache.computeIfAbsent(2L, key -> "computed" + calls.incrementAndGet());
+
+        // then
+        Assertions.assertEquals("one", restored);
+        Assertions.assertEquals("computed1", computed);
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldRestoreEachEntryOnce() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one", 2L, "two"), file, Serializers.longs(), Serializers.strings());
+        final ConcurrentMap<Long, String> cache = Snapshots.lazy(file, Serializers.longs(), Serializers.strings());
+
+        // when
+        cache.get(1L);
+        cache.remove(1L);
+
+        // then
+        Assertions.assertNull(cache.get(1L));
+        Assertions.assertEquals("two", cache.get(2L));
+    }
+
+    @Test
+    void shouldDiscardSnapshotOnClear() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one"), file, Serializers.longs(), Serializers.strings());
+        final ConcurrentMap<Long, String> cache = Snapshots.lazy(file, Serializers.longs(), Serializers.strings());
+
+        // when
+        cache.clear();
+
+        // then
+        Assertions.assertNull(cache.get(1L));
+    }
+
+    @Test
+    void shouldRestoreIntoGivenCache() throws IOException {
+        // given
+        final Path file = directory.resolve("cache.snapshot");
+        Snapshots.write(Map.of(1L, "one"), file, Serializers.longs(), Serializers.strings());
+        final ConcurrentMap<Long, String> delegate = new ConcurrentHashMap<>(Map.of(1L, "newer"));
+
+        // when
+        final ConcurrentMap<Long, String> cache = Snapshots.lazy(file, delegate, Serializers.longs(),
+                Serializers.strings());
+
+        // then
+        Assertions.assertEquals("newer", cache.get(1L));
+    }
+
+}
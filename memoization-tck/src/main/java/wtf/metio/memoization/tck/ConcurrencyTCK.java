@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: The memoization.java Authors
+ * SPDX-License-Identifier: 0BSD
+ */
+package wtf.metio.memoization.tck;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Races many threads against each memoizer of a facade and checks what callers can observe afterwards:
+ * </p>
+ * <ul>
+ * <li>each key is computed at most once, no matter how many threads ask for it at the same time,</li>
+ * <li>all callers observe the value of that single computation, including those that did not compute it,</li>
+ * <li>every computed value is stored, thus asking again never computes anything.</li>
+ * </ul>
+ * <p>
+ * Memoizers are adapted to {@link IntUnaryOperator}s, thus a single set of checks covers every memoizer whose values
+ * can carry an {@code int}. Each computation returns a value that includes how often its key was computed before,
+ * therefore callers that observe a second computation of the same key return a different value. Memoized predicates
+ * are adapted to {@link IntPredicate}s that only hold for the first computation of a key, and memoized consumers are
+ * adapted to {@link IntConsumer}s whose calls are counted, thus the same checks cover them as well.
+ * </p>
+ */
+public abstract class ConcurrencyTCK {
+
+    private static final int THREADS = 8;
+    private static final int KEYS = 64;
+    private static final int ROUNDS = 5;
+
+    /**
+     * @return Functions that memoize a given operator, keyed by the name of the memoizer they create. Each call must
+     * return a memoizer with its own, empty cache.
+     */
+    protected abstract Map<String, UnaryOperator<IntUnaryOperator>> memoizers();
+
+    /**
+     * @return Functions that memoize a given predicate, keyed by the name of the memoizer they create. Each call must
+     * return a memoizer with its own, empty cache.
+     */
+    protected Map<String, UnaryOperator<IntPredicate>> predicates() {
+        return Map.of();
+    }
+
+    /**
+     * @return Functions that memoize a given consumer, keyed by the name of the memoizer they create. Each call must
+     * return a memoizer with its own, empty cache.
+     */
+    protected Map<String, UnaryOperator<IntConsumer>> consumers() {
+        return Map.of();
+    }
+
+    @TestFactory
+    final Stream<DynamicTest> shouldComputeEachKeyAtMostOnce() {
+        return tests(memoizer -> {
+            final Race race = race(memoizer);
+
+            for (int key = 0; key < KEYS; key++) {
+                Assertions.assertEquals(1, race.computations.get(key), "computations of key " + key);
+            }
+        });
+    }
+
+    @TestFactory
+    final Stream<DynamicTest> shouldObserveValueOfSingleComputation() {
+        return tests(memoizer -> {
+            final Race race = race(memoizer);
+
+            for (int thread = 0; thread < THREADS; thread++) {
+                for (int key = 0; key < KEYS; key++) {
+                    Assertions.assertEquals(value(key, 0), race.observed[thread][key],
+                            "value of key " + key + " observed by thread " + thread);
+                }
+            }
+        });
+    }
+
+    @TestFactory
+    final Stream<DynamicTest> shouldNotLoseComputedValues() {
+        return tests(memoizer -> {
+            final Race race = race(memoizer);
+            final int[] computations = new int[KEYS];
+            for (int key = 0; key < KEYS; key++) {
+                computations[key] = race.computations.get(key);
+            }
+
+            for (int key = 0; key < KEYS; key++) {
+                final int value = race.memoized.applyAsInt(key);
+
+                Assertions.assertEquals(computations[key], race.computations.get(key), "recomputed key " + key);
+                Assertions.assertEquals(key, value % KEYS, "value of key " + key);
+            }
+        });
+    }
+
+    private Stream<DynamicTest> tests(final MemoizerCheck check) {
+        return allMemoizers().entrySet().stream()
+                .map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        check.verify(entry.getValue());
+                    }
+                }));
+    }
+
+    private Map<String, UnaryOperator<IntUnaryOperator>> allMemoizers() {
+        final Map<String, UnaryOperator<IntUnaryOperator>> memoizers = new LinkedHashMap<>(memoizers());
+        predicates().forEach((name, memoizer) -> memoizers.put(name, operator -> {
+            // only the first computation of a key holds, thus observing a second one yields a different value
+            final IntPredicate memoized = memoizer.apply(key -> operator.applyAsInt(key) == value(key, 0));
+            return key -> memoized.test(key) ? value(key, 0) : value(key, 1);
+        }));
+        consumers().forEach((name, memoizer) -> memoizers.put(name, operator -> {
+            final IntConsumer memoized = memoizer.apply(operator::applyAsInt);
+            return key -> {
+                memoized.accept(key);
+                return value(key, 0);
+            };
+        }));
+        return memoizers;
+    }
+
+    private static Race race(final UnaryOperator<IntUnaryOperator> memoizer) {
+        final AtomicIntegerArray computations = new AtomicIntegerArray(KEYS);
+        final IntUnaryOperator memoized = memoizer.apply(key -> value(key, computations.getAndIncrement(key)));
+        final int[][] observed = new int[THREADS][KEYS];
+
+        TestSupport.threadedRun(THREADS, thread -> {
+            for (int offset = 0; offset < KEYS; offset++) {
+                // each thread starts with another key, thus threads meet on every key in a different order
+                final int key = (thread * (KEYS / THREADS) + offset) % KEYS;
+                observed[thread][key] = memoized.applyAsInt(key);
+            }
+        });
+
+        return new Race(memoized, computations, observed);
+    }
+
+    private static int value(final int key, final int computation) {
+        return computation * KEYS + key;
+    }
+
+    @FunctionalInterface
+    private interface MemoizerCheck {
+
+        void verify(UnaryOperator<IntUnaryOperator> memoizer);
+
+    }
+
+    private record Race(IntUnaryOperator memoized, AtomicIntegerArray computations, int[][] observed) {
+    }
+
+}
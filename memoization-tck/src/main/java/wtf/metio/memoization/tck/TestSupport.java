@@ -5,6 +5,10 @@
 
 package wtf.metio.memoization.tck;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
 public final class TestSupport {
 
     public static final int DEFAULT_RUNS = 5;
@@ -14,16 +18,69 @@ public final class TestSupport {
         // utility class
     }
 
+    /**
+     * Runs the given runnable on the given number of threads at once and waits for all of them to finish.
+     *
+     * @param threadCount The number of threads to start.
+     * @param runnable    The runnable to run on each thread.
+     * @see #threadedRun(int, IntConsumer)
+     */
     public static void threadedRun(final int threadCount, final Runnable runnable) {
-        Thread[] threads = new Thread[threadCount];
+        threadedRun(threadCount, index -> runnable.run());
+    }
+
+    /**
+     * Runs the given task on the given number of threads and waits for all of them to finish. All threads wait for each
+     * other before they start the task, thus they race against each other as much as possible. The first exception or
+     * assertion error thrown by any thread is re-thrown on the calling thread, with the others added as suppressed.
+     *
+     * @param threadCount The number of threads to start.
+     * @param task        The task to run, called with the index of each thread.
+     */
+    public static void threadedRun(final int threadCount, final IntConsumer task) {
+        final CountDownLatch start = new CountDownLatch(threadCount);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] threads = new Thread[threadCount];
 
         for (int i = 0; i < threadCount; i++) {
-            threads[i] = new Thread(runnable);
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                start.countDown();
+                try {
+                    start.await();
+                    task.accept(index);
+                } catch (final Throwable throwable) {
+                    final Throwable first = failure.compareAndExchange(null, throwable);
+                    if (first != null && first != throwable) {
+                        first.addSuppressed(throwable);
+                    }
+                }
+            }, "threaded-run-" + i);
         }
 
         for (int i = 0; i < threadCount; i++) {
             threads[i].start();
         }
+
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                threads[i].join();
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for threads to finish.", exception);
+        }
+
+        final Throwable throwable = failure.get();
+        if (throwable instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        if (throwable != null) {
+            throw new IllegalStateException(throwable);
+        }
     }
 
 }